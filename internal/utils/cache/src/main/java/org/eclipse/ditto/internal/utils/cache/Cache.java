@@ -13,6 +13,7 @@
 package org.eclipse.ditto.internal.utils.cache;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -107,6 +108,17 @@ public interface Cache<K, V> {
      */
     ConcurrentMap<K, V> asMap();
 
+    /**
+     * Returns up to {@code limit} keys of this cache, the most recently accessed keys first if the cache keeps track
+     * of the access order.
+     *
+     * @param limit the maximum number of keys to return.
+     * @return the most recently used keys.
+     */
+    default List<K> getMostRecentlyUsedKeys(final int limit) {
+        return asMap().keySet().stream().limit(limit).toList();
+    }
+
     /**
      * Invalidate a collection of keys.
      *
@@ -24,6 +24,7 @@ import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.internal.utils.cache.config.CacheConfig}.
@@ -74,6 +75,32 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache which notifies a listener about each removed entry.
+     *
+     * @param cacheLoader the cache loader.
+     * @param cacheConfig the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache, also used to notify the removal listener.
+     * @param removalListener notified after an entry was evicted, invalidated or replaced.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor,
+            final RemovalListener<K, V> removalListener) {
+
+        checkNotNull(cacheLoader, "AsyncCacheLoader");
+        checkNotNull(removalListener, "removalListener");
+
+        return CaffeineCache.of(caffeine(cacheConfig, executor).removalListener(removalListener), cacheLoader,
+                cacheName);
+    }
+
     /**
      * Creates a cache with a custom provided expiry policy.
      *
@@ -15,6 +15,7 @@ package org.eclipse.ditto.internal.utils.cache;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -278,4 +279,13 @@ public final class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.asMap();
     }
 
+    @Override
+    public List<K> getMostRecentlyUsedKeys(final int limit) {
+        final Policy<K, V> policy = synchronousCacheView.policy();
+        return policy.expireAfterAccess()
+                .map(expiration -> List.copyOf(expiration.youngest(limit).keySet()))
+                .or(() -> policy.eviction().map(eviction -> List.copyOf(eviction.hottest(limit).keySet())))
+                .orElseGet(() -> Cache.super.getMostRecentlyUsedKeys(limit));
+    }
+
 }
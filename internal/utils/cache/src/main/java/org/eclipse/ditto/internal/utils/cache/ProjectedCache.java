@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.internal.utils.cache;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -85,4 +86,9 @@ final class ProjectedCache<K, U, V> implements Cache<K, U> {
         cache.asMap().forEach((key, value) -> concurrentMap.put(key, project.apply(value)));
         return concurrentMap;
     }
+
+    @Override
+    public List<K> getMostRecentlyUsedKeys(final int limit) {
+        return cache.getMostRecentlyUsedKeys(limit);
+    }
 }
@@ -44,6 +44,18 @@ public interface SnapshotAdapter<T> extends DittoExtensionPoint {
      */
     Object toSnapshotStore(T snapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to the compact Object which is kept in memory while the entity is
+     * hibernated. Other than {@link #toSnapshotStore(Object)}, this does not count as taking a snapshot.
+     * Defaults to {@link #toSnapshotStore(Object)}.
+     *
+     * @param snapshot the domain model type to hibernate.
+     * @return the compact representation readable by {@link #fromSnapshotStore(SnapshotOffer)}.
+     */
+    default Object toHibernatedSnapshot(final T snapshot) {
+        return toSnapshotStore(snapshot);
+    }
+
     /**
      * Converts a "database snapshot" (directly loaded from the database) type to a domain model snapshot type.
      *
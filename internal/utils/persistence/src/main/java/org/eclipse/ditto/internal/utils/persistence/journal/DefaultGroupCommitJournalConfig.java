@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link GroupCommitJournalConfig}.
+ */
+@Immutable
+public final class DefaultGroupCommitJournalConfig implements GroupCommitJournalConfig {
+
+    private final String delegatePluginId;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private DefaultGroupCommitJournalConfig(final ScopedConfig config) {
+        delegatePluginId = config.getString(GroupCommitJournalConfigValue.DELEGATE.getConfigPath());
+        if (delegatePluginId.isEmpty()) {
+            throw new DittoConfigError("The delegate journal plugin ID of the group commit journal must be set.");
+        }
+        window = config.getNonNegativeAndNonZeroDurationOrThrow(GroupCommitJournalConfigValue.WINDOW);
+        maxBatchSize = config.getPositiveIntOrThrow(GroupCommitJournalConfigValue.MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultGroupCommitJournalConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to be the config of the group commit journal plugin.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultGroupCommitJournalConfig of(final Config config) {
+        return new DefaultGroupCommitJournalConfig(
+                ConfigWithFallback.newInstance(config, GroupCommitJournalConfigValue.values()));
+    }
+
+    @Override
+    public String getDelegatePluginId() {
+        return delegatePluginId;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultGroupCommitJournalConfig that = (DefaultGroupCommitJournalConfig) o;
+        return maxBatchSize == that.maxBatchSize &&
+                Objects.equals(delegatePluginId, that.delegatePluginId) &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegatePluginId, window, maxBatchSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegatePluginId=" + delegatePluginId +
+                ", window=" + window +
+                ", maxBatchSize=" + maxBatchSize +
+                "]";
+    }
+
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.JournalProtocol;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.PersistentEnvelope;
+import org.apache.pekko.persistence.PersistentRepr;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoServerException;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Journal plugin which coalesces the writes of many persistence actors of this node into group commits to a delegate
+ * journal plugin, e.g. the MongoDB journal, which then persists each group with a single {@code insertMany}.
+ * <p>
+ * Writes arriving within the configured micro-window are sent to the delegate as one {@code WriteMessages} request;
+ * a group is committed early when it reaches the maximum batch size. The replies of the delegate are relayed
+ * positionally to the persistence actors which issued the writes:
+ * <ul>
+ * <li>The ordering per persistence ID is preserved as at most one write request of each persistence actor is in
+ * flight. Further requests of the same actor, e.g. issued by {@code persistAllAsync}, wait for the next group commit
+ * after the previous request completed.</li>
+ * <li>Rejections of single atomic writes only affect the persistence actor which issued them. If the whole group
+ * fails, each write of the group is retried in isolation so that only the persistence actors whose writes fail
+ * again are notified of the failure.</li>
+ * <li>As the delegate may have stored a part of the failed group, a retried write may fail with a duplicate key
+ * error although it was persisted. Its events are then replayed from the delegate: the write is reported as success
+ * only if every event was stored by the same writer, i.e. by the persistence actor which issued it. Otherwise, e.g.
+ * if another incarnation of the entity wrote the same sequence numbers, the failure is relayed.</li>
+ * </ul>
+ * All other journal requests, e.g. for replaying or deleting events, are forwarded to the delegate. Pending writes
+ * are committed before deletions so that a deletion never overtakes a write.
+ */
+public final class GroupCommitJournal extends AbstractActorWithTimers {
+
+    private static final String METRIC_PREFIX = "journal_group_commit_";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final GroupCommitJournalConfig config;
+    private final ActorRef delegate;
+    private final Histogram batchSizeHistogram;
+    private final PreparedTimer commitTimer;
+    private final List<WriteRequest> pendingRequests;
+    private final Deque<Batch> inFlightBatches;
+    private final Set<ActorRef> actorsWithWritesInFlight;
+    private final Deque<Batch> pendingVerifications;
+    private final Map<Long, String> replayedWriterUuids;
+    private int pendingAtomicWrites;
+    private int nextBatchId;
+
+    /**
+     * Constructs the journal plugin. Called by Pekko Persistence with the config of the plugin.
+     *
+     * @param pluginConfig the config of the journal plugin.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code pluginConfig} is invalid.
+     */
+    @SuppressWarnings("unused")
+    public GroupCommitJournal(final Config pluginConfig) {
+        config = DefaultGroupCommitJournalConfig.of(pluginConfig);
+        delegate = Persistence.get(getContext().getSystem())
+                .journalFor(config.getDelegatePluginId(), ConfigFactory.empty());
+        batchSizeHistogram = DittoMetrics.histogram(METRIC_PREFIX + "batch_size");
+        commitTimer = DittoMetrics.timer(METRIC_PREFIX + "latency");
+        pendingRequests = new ArrayList<>();
+        inFlightBatches = new ArrayDeque<>();
+        actorsWithWritesInFlight = new HashSet<>();
+        pendingVerifications = new ArrayDeque<>();
+        replayedWriterUuids = new HashMap<>();
+    }
+
+    @SuppressWarnings("unused")
+    private GroupCommitJournal(final GroupCommitJournalConfig config, final ActorRef delegate) {
+        this.config = config;
+        this.delegate = delegate;
+        batchSizeHistogram = DittoMetrics.histogram(METRIC_PREFIX + "batch_size");
+        commitTimer = DittoMetrics.timer(METRIC_PREFIX + "latency");
+        pendingRequests = new ArrayList<>();
+        inFlightBatches = new ArrayDeque<>();
+        actorsWithWritesInFlight = new HashSet<>();
+        pendingVerifications = new ArrayDeque<>();
+        replayedWriterUuids = new HashMap<>();
+    }
+
+    /**
+     * Creates the Props of a group commit journal with an explicit delegate.
+     *
+     * @param config the config of the group commit journal.
+     * @param delegate the journal actor the coalesced writes are delegated to.
+     * @return the Props.
+     */
+    static Props props(final GroupCommitJournalConfig config, final ActorRef delegate) {
+        return Props.create(GroupCommitJournal.class, config, delegate);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(JournalProtocol.WriteMessages.class, this::bufferWrite)
+                .matchEquals(Control.COMMIT, commit -> commitPending())
+                .match(JournalProtocol.WriteMessagesSuccessful$.class, successful -> onBatchResult(null))
+                .match(JournalProtocol.WriteMessagesFailed.class, failed -> onBatchResult(failed.cause()))
+                .match(JournalProtocol.WriteMessageSuccess.class, success -> relay(success.actorInstanceId(), null,
+                        (id, persisted) -> new JournalProtocol.WriteMessageSuccess(success.persistent(), id)))
+                .match(JournalProtocol.WriteMessageRejected.class, rejected -> relay(rejected.actorInstanceId(),
+                        rejected.cause(), (id, persisted) -> persisted
+                                ? new JournalProtocol.WriteMessageSuccess(rejected.message(), id)
+                                : new JournalProtocol.WriteMessageRejected(rejected.message(), rejected.cause(), id)))
+                .match(JournalProtocol.WriteMessageFailure.class, failure -> relay(failure.actorInstanceId(),
+                        failure.cause(), (id, persisted) -> persisted
+                                ? new JournalProtocol.WriteMessageSuccess(failure.message(), id)
+                                : new JournalProtocol.WriteMessageFailure(failure.message(), failure.cause(), id)))
+                .match(JournalProtocol.LoopMessageSuccess.class, loop -> relay(loop.actorInstanceId(), null,
+                        (id, persisted) -> new JournalProtocol.LoopMessageSuccess(loop.message(), id)))
+                .match(JournalProtocol.ReplayedMessage.class, replayed -> replayedWriterUuids.put(
+                        replayed.persistent().sequenceNr(), replayed.persistent().writerUuid()))
+                .match(JournalProtocol.RecoverySuccess.class, success -> completeVerification(null))
+                .match(JournalProtocol.ReplayMessagesFailure.class, failure -> completeVerification(failure.cause()))
+                .match(JournalProtocol.DeleteMessagesTo.class, deleteMessagesTo -> {
+                    commitPending();
+                    delegate.forward(deleteMessagesTo, getContext());
+                })
+                .matchAny(message -> delegate.forward(message, getContext()))
+                .build();
+    }
+
+    private void bufferWrite(final JournalProtocol.WriteMessages writeMessages) {
+        final WriteRequest request = WriteRequest.of(writeMessages);
+        pendingRequests.add(request);
+        pendingAtomicWrites += request.atomicWriteCount();
+        if (pendingAtomicWrites >= config.getMaxBatchSize()) {
+            getTimers().cancel(Control.COMMIT);
+            commitPending();
+        } else if (!getTimers().isTimerActive(Control.COMMIT)) {
+            getTimers().startSingleTimer(Control.COMMIT, Control.COMMIT, config.getWindow());
+        }
+    }
+
+    private void commitPending() {
+        final List<WriteRequest> requests = new ArrayList<>();
+        final Iterator<WriteRequest> iterator = pendingRequests.iterator();
+        while (iterator.hasNext()) {
+            final WriteRequest request = iterator.next();
+            // later requests of an actor with a write in flight wait for its completion to preserve the ordering
+            if (actorsWithWritesInFlight.add(request.persistentActor())) {
+                requests.add(request);
+                pendingAtomicWrites -= request.atomicWriteCount();
+                iterator.remove();
+            }
+        }
+        if (!requests.isEmpty()) {
+            commit(requests, true, false);
+        }
+    }
+
+    private void commit(final List<WriteRequest> requests, final boolean isolateFailures, final boolean isRetry) {
+        final int batchId = nextBatchId++;
+        final List<PersistentEnvelope> envelopes = new ArrayList<>();
+        int atomicWrites = 0;
+        for (final WriteRequest request : requests) {
+            envelopes.addAll(request.envelopes());
+            atomicWrites += request.atomicWriteCount();
+        }
+        batchSizeHistogram.record((long) atomicWrites);
+        inFlightBatches.add(new Batch(batchId, requests, isolateFailures && requests.size() > 1, isRetry,
+                commitTimer.start()));
+        delegate.tell(new JournalProtocol.WriteMessages(CollectionConverters.asScala(envelopes).toList(),
+                getSelf(), batchId), getSelf());
+    }
+
+    private void onBatchResult(@Nullable final Throwable error) {
+        final Batch batch = inFlightBatches.peek();
+        if (null == batch || batch.resultReceived) {
+            log.warning("Dropping unexpected write result of delegate journal: <{}>", error);
+            return;
+        }
+        batch.timer.tag("success", null == error).stop();
+        batch.resultReceived = true;
+        if (isPossiblyPersistedByFailedGroup(batch, error)) {
+            // the result is relayed after verifying whether the failed group persisted the write
+            batch.deferredError = error;
+            batch.deferredReplies = new ArrayList<>();
+        } else if (null != error && batch.isolateFailures) {
+            log.info("Group commit of <{}> writes failed, retrying them in isolation: <{}>", batch.requests.size(),
+                    error.toString());
+            batch.retryInIsolation = true;
+        } else {
+            for (final WriteRequest request : batch.requests) {
+                final Object result = null == error
+                        ? JournalProtocol.WriteMessagesSuccessful$.MODULE$
+                        : new JournalProtocol.WriteMessagesFailed(error, request.atomicWriteCount());
+                request.persistentActor().tell(result, getSelf());
+            }
+        }
+        completeIfDone(batch);
+    }
+
+    private void relay(final int batchId, @Nullable final Throwable error, final ReplyFactory replyFactory) {
+        final Batch batch = inFlightBatches.peek();
+        if (null == batch || batch.id != batchId || !batch.resultReceived || batch.isComplete()) {
+            log.warning("Dropping unexpected reply of delegate journal for batch <{}>.", batchId);
+            return;
+        }
+        final WriteRequest request = batch.nextReplyRecipient();
+        if (null == batch.deferredReplies && isPossiblyPersistedByFailedGroup(batch, error)) {
+            batch.deferredReplies = new ArrayList<>();
+        }
+        if (null != batch.deferredReplies) {
+            batch.deferredReplies.add(new DeferredReply(replyFactory, getSender()));
+        } else if (!batch.retryInIsolation) {
+            request.persistentActor().tell(replyFactory.create(request.actorInstanceId(), false), getSender());
+        }
+        completeIfDone(batch);
+    }
+
+    private void completeIfDone(final Batch batch) {
+        if (batch.isComplete()) {
+            inFlightBatches.poll();
+            if (batch.retryInIsolation) {
+                batch.requests.forEach(request -> commit(List.of(request), false, true));
+            } else if (null != batch.deferredReplies) {
+                pendingVerifications.add(batch);
+                if (pendingVerifications.size() == 1) {
+                    startVerification(batch);
+                }
+            } else {
+                releaseWriters(batch);
+            }
+        }
+    }
+
+    private void releaseWriters(final Batch batch) {
+        batch.requests.forEach(request -> actorsWithWritesInFlight.remove(request.persistentActor()));
+        if (!pendingRequests.isEmpty() && !getTimers().isTimerActive(Control.COMMIT)) {
+            getTimers().startSingleTimer(Control.COMMIT, Control.COMMIT, config.getWindow());
+        }
+    }
+
+    /**
+     * Replay the events of the retried write of the given batch in order to verify whether they were stored by the
+     * failed group commit. Replays are performed one after another as their replies do not identify the request.
+     */
+    private void startVerification(final Batch batch) {
+        final List<PersistentRepr> events = batch.requests.get(0).events();
+        replayedWriterUuids.clear();
+        if (events.isEmpty()) {
+            completeVerification(null);
+        } else {
+            final long fromSequenceNr = events.get(0).sequenceNr();
+            final long toSequenceNr = events.get(events.size() - 1).sequenceNr();
+            delegate.tell(new JournalProtocol.ReplayMessages(fromSequenceNr, toSequenceNr,
+                    toSequenceNr - fromSequenceNr + 1, events.get(0).persistenceId(), getSelf()), getSelf());
+        }
+    }
+
+    private void completeVerification(@Nullable final Throwable replayError) {
+        final Batch batch = pendingVerifications.poll();
+        if (null == batch) {
+            log.warning("Dropping unexpected replay result of delegate journal: <{}>", replayError);
+            return;
+        }
+        final WriteRequest request = batch.requests.get(0);
+        final boolean persisted = null == replayError && request.events()
+                .stream()
+                .allMatch(event -> event.writerUuid().equals(replayedWriterUuids.get(event.sequenceNr())));
+        if (persisted) {
+            log.info("Retried write of <{}> was persisted by the failed group commit.", request.persistenceId());
+        } else {
+            log.warning("Retried write of <{}> conflicts with stored events: <{}>", request.persistenceId(),
+                    null != replayError ? replayError : batch.deferredError);
+        }
+        if (null != batch.deferredError) {
+            request.persistentActor().tell(persisted
+                    ? JournalProtocol.WriteMessagesSuccessful$.MODULE$
+                    : new JournalProtocol.WriteMessagesFailed(batch.deferredError, request.atomicWriteCount()),
+                    getSelf());
+        }
+        for (final DeferredReply reply : batch.deferredReplies) {
+            request.persistentActor()
+                    .tell(reply.replyFactory().create(request.actorInstanceId(), persisted), reply.sender());
+        }
+        replayedWriterUuids.clear();
+        releaseWriters(batch);
+        final Batch nextBatch = pendingVerifications.peek();
+        if (null != nextBatch) {
+            startVerification(nextBatch);
+        }
+    }
+
+    /**
+     * Determine whether a write of the given batch may have failed only because it was already persisted. That is
+     * the case for duplicate key errors of writes retried after a failed group commit, since the delegate may have
+     * stored a part of the failed group.
+     */
+    private static boolean isPossiblyPersistedByFailedGroup(final Batch batch, @Nullable final Throwable error) {
+        return batch.isRetry && isDuplicateKeyError(error);
+    }
+
+    private static boolean isDuplicateKeyError(@Nullable final Throwable error) {
+        Throwable throwable = error;
+        while (null != throwable) {
+            if (throwable instanceof MongoBulkWriteException bulkWriteException) {
+                return null == bulkWriteException.getWriteConcernError() &&
+                        !bulkWriteException.getWriteErrors().isEmpty() &&
+                        bulkWriteException.getWriteErrors()
+                                .stream()
+                                .allMatch(writeError -> writeError.getCategory() == ErrorCategory.DUPLICATE_KEY);
+            } else if (throwable instanceof MongoServerException serverException) {
+                return ErrorCategory.fromErrorCode(serverException.getCode()) == ErrorCategory.DUPLICATE_KEY;
+            }
+            throwable = throwable.getCause();
+        }
+        return false;
+    }
+
+    private enum Control {
+        COMMIT
+    }
+
+    /**
+     * Creates the reply relayed to a persistence actor from a reply of the delegate.
+     */
+    @FunctionalInterface
+    private interface ReplyFactory {
+
+        Object create(int actorInstanceId, boolean persistedByFailedGroup);
+    }
+
+    /**
+     * A reply of the delegate held back until it is verified whether the failed group persisted the write.
+     */
+    private record DeferredReply(ReplyFactory replyFactory, ActorRef sender) {}
+
+    /**
+     * A {@code WriteMessages} request of one persistence actor.
+     */
+    private record WriteRequest(List<PersistentEnvelope> envelopes, ActorRef persistentActor, int actorInstanceId,
+                                int atomicWriteCount, int replyCount) {
+
+        private static WriteRequest of(final JournalProtocol.WriteMessages writeMessages) {
+            final List<PersistentEnvelope> envelopes = CollectionConverters.asJava(writeMessages.messages());
+            int atomicWriteCount = 0;
+            int replyCount = 0;
+            for (final PersistentEnvelope envelope : envelopes) {
+                if (envelope instanceof AtomicWrite) {
+                    atomicWriteCount++;
+                }
+                replyCount += envelope.size();
+            }
+            return new WriteRequest(envelopes, writeMessages.persistentActor(), writeMessages.actorInstanceId(),
+                    atomicWriteCount, replyCount);
+        }
+
+        private List<PersistentRepr> events() {
+            final List<PersistentRepr> events = new ArrayList<>();
+            for (final PersistentEnvelope envelope : envelopes) {
+                if (envelope instanceof AtomicWrite atomicWrite) {
+                    events.addAll(CollectionConverters.asJava(atomicWrite.payload()));
+                }
+            }
+            return events;
+        }
+
+        private String persistenceId() {
+            final List<PersistentRepr> events = events();
+            return events.isEmpty() ? String.valueOf(persistentActor) : events.get(0).persistenceId();
+        }
+    }
+
+    /**
+     * A group of write requests committed to the delegate with one {@code WriteMessages} request. The delegate
+     * replies with the result of the whole group followed by one reply per persistent message in the order of the
+     * requests.
+     */
+    private static final class Batch {
+
+        private final int id;
+        private final List<WriteRequest> requests;
+        private final boolean isolateFailures;
+        private final boolean isRetry;
+        private final StartedTimer timer;
+        private boolean resultReceived;
+        private boolean retryInIsolation;
+        @Nullable private Throwable deferredError;
+        @Nullable private List<DeferredReply> deferredReplies;
+        private int requestIndex;
+        private int relayedRepliesOfRequest;
+
+        private Batch(final int id, final List<WriteRequest> requests, final boolean isolateFailures,
+                final boolean isRetry, final StartedTimer timer) {
+            this.id = id;
+            this.requests = requests;
+            this.isolateFailures = isolateFailures;
+            this.isRetry = isRetry;
+            this.timer = timer;
+        }
+
+        private WriteRequest nextReplyRecipient() {
+            skipRepliedRequests();
+            relayedRepliesOfRequest++;
+            return requests.get(requestIndex);
+        }
+
+        private boolean isComplete() {
+            skipRepliedRequests();
+            return resultReceived && requestIndex == requests.size();
+        }
+
+        private void skipRepliedRequests() {
+            while (requestIndex < requests.size() &&
+                    relayedRepliesOfRequest == requests.get(requestIndex).replyCount()) {
+                requestIndex++;
+                relayedRepliesOfRequest = 0;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the {@link GroupCommitJournal}.
+ */
+@Immutable
+public interface GroupCommitJournalConfig {
+
+    /**
+     * Returns the ID of the journal plugin the coalesced writes are delegated to.
+     *
+     * @return the journal plugin ID.
+     */
+    String getDelegatePluginId();
+
+    /**
+     * Returns the micro-window in which writes of different persistence actors are collected into one batch.
+     *
+     * @return the window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of atomic writes of one batch. A batch is committed as soon as it reaches this size
+     * even if its window has not elapsed yet.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitJournalConfig}.
+     */
+    enum GroupCommitJournalConfigValue implements KnownConfigValue {
+
+        /**
+         * The ID of the journal plugin the coalesced writes are delegated to.
+         */
+        DELEGATE("delegate", ""),
+
+        /**
+         * The micro-window in which writes are collected into one batch.
+         */
+        WINDOW("window", Duration.ofMillis(2L)),
+
+        /**
+         * The maximum number of atomic writes of one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 500);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitJournalConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -44,9 +44,22 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final BinarySnapshotPayload.Format snapshotFormat;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, BinarySnapshotPayload.Format.BSON);
+    }
+
+    /**
+     * Constructs a snapshot adapter which writes snapshots in the given format.
+     * Snapshots of all formats are readable regardless of the format used for writing.
+     *
+     * @param logger the logger.
+     * @param snapshotFormat the format in which to write snapshots.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final BinarySnapshotPayload.Format snapshotFormat) {
         this.logger = logger;
+        this.snapshotFormat = checkNotNull(snapshotFormat, "snapshotFormat");
     }
 
     /**
@@ -77,8 +90,13 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return BinarySnapshotPayload.encode(json, snapshotFormat);
+    }
+
+    @Override
+    public Object toHibernatedSnapshot(final T snapshotEntity) {
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+        return BinarySnapshotPayload.encode(json, BinarySnapshotPayload.Format.CBOR_DEFLATE);
     }
 
     /**
@@ -145,7 +163,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     /**
      * Converts the specified BsonDocument to a {@link JsonObject}.
      *
-     * @param bsonValue the BsonDocument to be converted.
+     * @param bsonValue the BsonDocument to be converted, either a plain BSON snapshot or one with a binary payload.
      * @return a JsonObject whose origin is {@code bsonValue}.
      * @throws NullPointerException if {@code bsonValue} is {@code null}.
      * @throws DittoJsonException if {@code bsonValue} cannot be serialized to a
@@ -153,8 +171,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
+        final JsonObject jsonObject = BinarySnapshotPayload.decode(bsonValue);
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Encodes snapshot JSON as a binary CBOR payload, optionally deflate-compressed, stored in a BSON binary field next
+ * to a format marker.
+ * The top-level scalar fields of the snapshot (e.g. revision, policy ID, modified timestamp) are kept as plain BSON
+ * fields so that queries on the snapshot collection keep working.
+ * Documents without the format marker are plain BSON snapshots and can be read side by side with binary ones.
+ */
+@Immutable
+public final class BinarySnapshotPayload {
+
+    /**
+     * Field of the BSON document holding the name of the payload format.
+     */
+    public static final String FORMAT_FIELD = "__payloadFormat";
+
+    /**
+     * Field of the BSON document holding the version of the payload format.
+     */
+    public static final String VERSION_FIELD = "__payloadVersion";
+
+    /**
+     * Field of the BSON document holding the binary payload.
+     */
+    public static final String PAYLOAD_FIELD = "__payload";
+
+    private static final int CURRENT_VERSION = 1;
+
+    private BinarySnapshotPayload() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encodes the given snapshot JSON in the given format.
+     *
+     * @param json the snapshot JSON.
+     * @param format the format to encode the JSON in.
+     * @return the BSON document to store in the snapshot store.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static BsonDocument encode(final JsonObject json, final Format format) {
+        checkNotNull(json, "json");
+        checkNotNull(format, "format");
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        if (format == Format.BSON) {
+            return dittoBsonJson.parse(json);
+        }
+        final JsonObject topLevelScalars = json.stream()
+                .filter(field -> !field.getValue().isObject() && !field.getValue().isArray())
+                .collect(JsonCollectors.fieldsToObject());
+        final BsonDocument document = dittoBsonJson.parse(topLevelScalars);
+        document.put(FORMAT_FIELD, new BsonString(format.getName()));
+        document.put(VERSION_FIELD, new BsonInt32(CURRENT_VERSION));
+        document.put(PAYLOAD_FIELD, new BsonBinary(toBytes(json, format)));
+        return document;
+    }
+
+    /**
+     * Returns whether the given BSON value is a snapshot with a binary payload.
+     *
+     * @param bsonValue the stored snapshot.
+     * @return whether the snapshot has a binary payload.
+     */
+    public static boolean isBinary(final BsonValue bsonValue) {
+        return bsonValue.isDocument() && bsonValue.asDocument().containsKey(FORMAT_FIELD);
+    }
+
+    /**
+     * Decodes the snapshot JSON of a stored snapshot, which may or may not have a binary payload.
+     *
+     * @param bsonValue the stored snapshot.
+     * @return the snapshot JSON.
+     * @throws NullPointerException if {@code bsonValue} is {@code null}.
+     * @throws IllegalArgumentException if the format or version of a binary payload is unknown.
+     */
+    public static JsonObject decode(final BsonValue bsonValue) {
+        checkNotNull(bsonValue, "bsonValue");
+        if (!isBinary(bsonValue)) {
+            return DittoBsonJson.getInstance().serialize(bsonValue).asObject();
+        }
+        final BsonDocument document = bsonValue.asDocument();
+        final String formatName = document.getString(FORMAT_FIELD).getValue();
+        final Format format = Format.forName(formatName)
+                .filter(f -> f != Format.BSON)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        MessageFormat.format("Unknown snapshot payload format <{0}>.", formatName)));
+        final int version = document.getInt32(VERSION_FIELD, new BsonInt32(CURRENT_VERSION)).getValue();
+        if (version != CURRENT_VERSION) {
+            throw new IllegalArgumentException(
+                    MessageFormat.format("Unsupported version <{0}> of snapshot payload format <{1}>.", version,
+                            formatName));
+        }
+        return fromBytes(document.getBinary(PAYLOAD_FIELD).getData(), format);
+    }
+
+    private static byte[] toBytes(final JsonObject json, final Format format) {
+        try {
+            final byte[] cbor = CborFactoryLoader.getInstance().getCborFactoryOrThrow().toByteArray(json);
+            if (format != Format.CBOR_DEFLATE) {
+                return cbor;
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(cbor.length / 2 + 16);
+            try (final DeflaterOutputStream deflater = new DeflaterOutputStream(bytes)) {
+                deflater.write(cbor);
+            }
+            return bytes.toByteArray();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonObject fromBytes(final byte[] payload, final Format format) {
+        final byte[] cbor;
+        if (format == Format.CBOR_DEFLATE) {
+            try (final InputStream inflater = new InflaterInputStream(new ByteArrayInputStream(payload))) {
+                cbor = inflater.readAllBytes();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            cbor = payload;
+        }
+        return CborFactoryLoader.getInstance().getCborFactoryOrThrow().readFrom(cbor).asObject();
+    }
+
+    /**
+     * Formats in which snapshots can be stored.
+     */
+    public enum Format {
+
+        /**
+         * Plain BSON documents converted from the snapshot JSON.
+         */
+        BSON("bson"),
+
+        /**
+         * CBOR-encoded snapshot JSON in a BSON binary field.
+         */
+        CBOR("cbor"),
+
+        /**
+         * Deflate-compressed CBOR-encoded snapshot JSON in a BSON binary field.
+         */
+        CBOR_DEFLATE("cbor-deflate");
+
+        private final String name;
+
+        Format(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return the name of the format as used in configuration and in the format marker.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Looks up a format by its name.
+         *
+         * @param name the name of the format.
+         * @return the format or an empty optional.
+         */
+        public static Optional<Format> forName(final String name) {
+            return Arrays.stream(values()).filter(format -> format.name.equals(name)).findAny();
+        }
+
+    }
+
+}
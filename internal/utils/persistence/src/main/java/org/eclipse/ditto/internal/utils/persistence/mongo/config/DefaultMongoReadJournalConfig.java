@@ -35,6 +35,8 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
     private final boolean createAdditionalSnapshotAggregationIndexPidId;
     private final boolean createAdditionalSnapshotAggregationIndexPidSn;
     private final boolean createAdditionalSnapshotAggregationIndexPidSnId;
+    private final boolean createJournalIndexPidEventTimestamp;
+    private final int persistedEventsBatchSize;
     @Nullable private final String hintNameFilterPidsThatDoesntContainTagInNewestEntry;
     @Nullable private final String hintNameListLatestJournalEntries;
     @Nullable private final String listNewestActiveSnapshotsByBatchPidId;
@@ -51,6 +53,11 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
         createAdditionalSnapshotAggregationIndexPidSnId = config.getBoolean(
                 MongoReadJournalConfigValue.SHOULD_CREATE_ADDITIONAL_SNAPSHOT_AGGREGATION_INDEX_PID_SN_ID.getConfigPath()
         );
+        createJournalIndexPidEventTimestamp = config.getBoolean(
+                MongoReadJournalConfigValue.SHOULD_CREATE_JOURNAL_INDEX_PID_EVENT_TIMESTAMP.getConfigPath()
+        );
+        persistedEventsBatchSize =
+                config.getPositiveIntOrThrow(MongoReadJournalConfigValue.PERSISTED_EVENTS_BATCH_SIZE);
         hintNameFilterPidsThatDoesntContainTagInNewestEntry = getNullableString(config,
                 MongoReadJournalConfigValue.HINT_NAME_FILTER_PIDS_THAT_DOESNT_CONTAIN_TAG_IN_NEWEST_ENTRY);
         hintNameListLatestJournalEntries = getNullableString(config,
@@ -98,6 +105,16 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
         return createAdditionalSnapshotAggregationIndexPidSnId;
     }
 
+    @Override
+    public boolean shouldCreateJournalIndexPidEventTimestamp() {
+        return createJournalIndexPidEventTimestamp;
+    }
+
+    @Override
+    public int getPersistedEventsBatchSize() {
+        return persistedEventsBatchSize;
+    }
+
     @Override
     public Optional<String> getIndexNameHintForFilterPidsThatDoesntContainTagInNewestEntry() {
         return Optional.ofNullable(hintNameFilterPidsThatDoesntContainTagInNewestEntry);
@@ -136,6 +153,8 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
                 createAdditionalSnapshotAggregationIndexPidSn == that.createAdditionalSnapshotAggregationIndexPidSn &&
                 createAdditionalSnapshotAggregationIndexPidSnId ==
                         that.createAdditionalSnapshotAggregationIndexPidSnId &&
+                createJournalIndexPidEventTimestamp == that.createJournalIndexPidEventTimestamp &&
+                persistedEventsBatchSize == that.persistedEventsBatchSize &&
                 Objects.equals(hintNameFilterPidsThatDoesntContainTagInNewestEntry,
                         that.hintNameFilterPidsThatDoesntContainTagInNewestEntry) &&
                 Objects.equals(hintNameListLatestJournalEntries, that.hintNameListLatestJournalEntries) &&
@@ -146,6 +165,7 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
     public int hashCode() {
         return Objects.hash(createAdditionalSnapshotAggregationIndexPidId,
                 createAdditionalSnapshotAggregationIndexPidSn, createAdditionalSnapshotAggregationIndexPidSnId,
+                createJournalIndexPidEventTimestamp, persistedEventsBatchSize,
                 hintNameFilterPidsThatDoesntContainTagInNewestEntry, hintNameListLatestJournalEntries,
                 listNewestActiveSnapshotsByBatchPidId, listNewestActiveSnapshotsByBatchPid,
                 listNewestActiveSnapshotsByBatchId);
@@ -157,6 +177,8 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
                 "createAdditionalSnapshotAggregationIndexPidId=" + createAdditionalSnapshotAggregationIndexPidId +
                 ", createAdditionalSnapshotAggregationIndexPidSn=" + createAdditionalSnapshotAggregationIndexPidSn +
                 ", createAdditionalSnapshotAggregationIndexPidSnId=" + createAdditionalSnapshotAggregationIndexPidSnId +
+                ", createJournalIndexPidEventTimestamp=" + createJournalIndexPidEventTimestamp +
+                ", persistedEventsBatchSize=" + persistedEventsBatchSize +
                 ", hintNameFilterPidsThatDoesntContainTagInNewestEntry=" +
                 hintNameFilterPidsThatDoesntContainTagInNewestEntry +
                 ", hintNameListLatestJournalEntries=" + hintNameListLatestJournalEntries +
@@ -43,6 +43,18 @@ public interface MongoReadJournalConfig {
      */
     boolean shouldCreateAdditionalSnapshotAggregationIndexPidSnId();
 
+    /**
+     * @return whether an index for "pid" + the event timestamps should be created on the journal collection in order
+     * to map timestamps to revisions when streaming persisted events from a historical timestamp.
+     */
+    boolean shouldCreateJournalIndexPidEventTimestamp();
+
+    /**
+     * @return how many journal entries to fetch and buffer ahead at a time when streaming persisted events of an
+     * entity.
+     */
+    int getPersistedEventsBatchSize();
+
     /**
      * @return the optional hint name for aggregation done in {@code filterPidsThatDoesntContainTagInNewestEntry}.
      */
@@ -95,6 +107,17 @@ public interface MongoReadJournalConfig {
          */
         SHOULD_CREATE_ADDITIONAL_SNAPSHOT_AGGREGATION_INDEX_PID_SN_ID("should-create-additional-snapshot-aggregation-index-pid-sn-id", true),
 
+        /**
+         * Whether an index for "pid" + the event timestamps should be created on the journal collection in order to
+         * map timestamps to revisions.
+         */
+        SHOULD_CREATE_JOURNAL_INDEX_PID_EVENT_TIMESTAMP("should-create-journal-index-pid-event-timestamp", false),
+
+        /**
+         * How many journal entries to fetch and buffer ahead at a time when streaming persisted events of an entity.
+         */
+        PERSISTED_EVENTS_BATCH_SIZE("persisted-events-batch-size", 100),
+
         /**
          * Hint name for aggregation done in {@code filterPidsThatDoesntContainTagInNewestEntry}.
          */
@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether passivated entities are hibernated, i.e. whether a compact snapshot of them is kept in the
+     * node-local hibernating snapshot store plugin of the entity in order to recover them without loading their
+     * snapshot from the database.
+     *
+     * @return {@code true} if hibernation is enabled.
+     */
+    boolean isHibernationEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,12 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether passivated entities are hibernated in the hibernating snapshot store plugin.
+         */
+        HIBERNATION_ENABLED("hibernation.enabled", false);
 
         private final String path;
         private final Object defaultValue;
@@ -14,6 +14,8 @@ package org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -32,19 +34,23 @@ public final class MongoEventSourceSettings {
     private final String metadataCollectionName;
     private final String journalCollectionName;
     private final String snapshotCollectionName;
+    private final List<String> additionalSnapshotCollectionNames;
     private final boolean supportsNamespaces;
 
     private MongoEventSourceSettings(final String persistenceIdPrefix,
             final boolean supportsNamespaces,
             final String metadataCollectionName,
             final String journalCollectionName,
-            final String snapshotCollectionName) {
+            final String snapshotCollectionName,
+            final List<String> additionalSnapshotCollectionNames) {
 
         this.persistenceIdPrefix = checkNotNull(persistenceIdPrefix, "persistence ID prefix");
         this.supportsNamespaces = supportsNamespaces;
         this.metadataCollectionName = checkNotNull(metadataCollectionName, "metadata collection name");
         this.journalCollectionName = checkNotNull(journalCollectionName, "journal collection name");
         this.snapshotCollectionName = checkNotNull(snapshotCollectionName, "snapshot collection name");
+        this.additionalSnapshotCollectionNames = List.copyOf(
+                checkNotNull(additionalSnapshotCollectionNames, "additional snapshot collection names"));
     }
 
     /**
@@ -65,7 +71,7 @@ public final class MongoEventSourceSettings {
             final String snapshotCollectionName) {
 
         return new MongoEventSourceSettings(persistenceIdPrefix, supportsNamespaces,
-                metadataCollectionName, journalCollectionName, snapshotCollectionName);
+                metadataCollectionName, journalCollectionName, snapshotCollectionName, List.of());
     }
 
     /**
@@ -85,6 +91,30 @@ public final class MongoEventSourceSettings {
             final String journalPluginId,
             final String snapshotPluginId) {
 
+        return fromConfig(config, persistenceIdPrefix, supportsNamespaces, journalPluginId, snapshotPluginId,
+                List.of());
+    }
+
+    /**
+     * Create a new instance based on a {@link Config} which also covers the snapshot collections of additional
+     * snapshot plugins storing data of the entities, e.g. the base snapshots referenced by delta snapshots.
+     *
+     * @param config the config which contains the configuration of the EventSource
+     * @param persistenceIdPrefix the prefix of the persistence ID.
+     * @param supportsNamespaces whether the underlying EventSource supports namespaces
+     * @param journalPluginId the ID of the journal plugin to be read from the {@code config}
+     * @param snapshotPluginId the ID of the snapshot plugin to be read from the {@code config}
+     * @param additionalSnapshotPluginIds the IDs of the additional snapshot plugins to be read from the {@code config}
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static MongoEventSourceSettings fromConfig(final Config config,
+            final String persistenceIdPrefix,
+            final boolean supportsNamespaces,
+            final String journalPluginId,
+            final String snapshotPluginId,
+            final Collection<String> additionalSnapshotPluginIds) {
+
         checkNotNull(config, "config");
         checkNotNull(journalPluginId, "journal plugin ID");
         checkNotNull(snapshotPluginId, "snapshot plugin ID");
@@ -92,9 +122,13 @@ public final class MongoEventSourceSettings {
         final String metadataCollectionName = getCollectionName(config, journalPluginId, "metadata");
         final String journalCollectionName = getCollectionName(config, journalPluginId, "journal");
         final String snapshotCollectionName = getCollectionName(config, snapshotPluginId, "snaps");
+        final List<String> additionalSnapshotCollectionNames =
+                checkNotNull(additionalSnapshotPluginIds, "additional snapshot plugin IDs").stream()
+                        .map(pluginId -> getCollectionName(config, pluginId, "snaps"))
+                        .toList();
 
         return new MongoEventSourceSettings(persistenceIdPrefix, supportsNamespaces, metadataCollectionName,
-                journalCollectionName, snapshotCollectionName);
+                journalCollectionName, snapshotCollectionName, additionalSnapshotCollectionNames);
     }
 
     /**
@@ -125,6 +159,13 @@ public final class MongoEventSourceSettings {
         return snapshotCollectionName;
     }
 
+    /**
+     * @return the names of the additional snapshot collections
+     */
+    public List<String> getAdditionalSnapshotCollectionNames() {
+        return additionalSnapshotCollectionNames;
+    }
+
     /**
      * @return whether the underlying EventSource supports namespaces
      */
@@ -149,13 +190,14 @@ public final class MongoEventSourceSettings {
                 Objects.equals(persistenceIdPrefix, that.persistenceIdPrefix) &&
                 Objects.equals(metadataCollectionName, that.metadataCollectionName) &&
                 Objects.equals(journalCollectionName, that.journalCollectionName) &&
-                Objects.equals(snapshotCollectionName, that.snapshotCollectionName);
+                Objects.equals(snapshotCollectionName, that.snapshotCollectionName) &&
+                Objects.equals(additionalSnapshotCollectionNames, that.additionalSnapshotCollectionNames);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(persistenceIdPrefix, metadataCollectionName, journalCollectionName, snapshotCollectionName,
-                supportsNamespaces);
+                additionalSnapshotCollectionNames, supportsNamespaces);
     }
 
     @Override
@@ -165,6 +207,7 @@ public final class MongoEventSourceSettings {
                 ", metadataCollectionName='" + metadataCollectionName + '\'' +
                 ", journalCollectionName='" + journalCollectionName + '\'' +
                 ", snapshotCollectionName='" + snapshotCollectionName + '\'' +
+                ", additionalSnapshotCollectionNames=" + additionalSnapshotCollectionNames +
                 ", supportsNamespaces=" + supportsNamespaces +
                 ']';
     }
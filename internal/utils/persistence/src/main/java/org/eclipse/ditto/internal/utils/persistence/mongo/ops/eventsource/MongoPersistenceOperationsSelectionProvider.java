@@ -14,9 +14,11 @@ package org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -64,10 +66,7 @@ final class MongoPersistenceOperationsSelectionProvider {
     public Collection<MongoPersistenceOperationsSelection> selectEntity(final EntityId entityId) {
         checkNotNull(entityId, "entity ID");
 
-        return Collections.unmodifiableList(Arrays.asList(
-                selectEntityByPid(settings.getMetadataCollectionName(), entityId),
-                selectEntityByPid(settings.getJournalCollectionName(), entityId),
-                selectEntityByPid(settings.getSnapshotCollectionName(), entityId)));
+        return selectInAllCollections(collection -> selectEntityByPid(collection, entityId));
     }
 
     /**
@@ -85,10 +84,19 @@ final class MongoPersistenceOperationsSelectionProvider {
             throw new UnsupportedOperationException("Namespaces are not supported!");
         }
 
-        return Collections.unmodifiableList(Arrays.asList(
-                selectNamespaceByPid(settings.getMetadataCollectionName(), namespace),
-                selectNamespaceByPid(settings.getJournalCollectionName(), namespace),
-                selectNamespaceByPid(settings.getSnapshotCollectionName(), namespace)));
+        return selectInAllCollections(collection -> selectNamespaceByPid(collection, namespace));
+    }
+
+    private Collection<MongoPersistenceOperationsSelection> selectInAllCollections(
+            final Function<String, MongoPersistenceOperationsSelection> selectInCollection) {
+
+        final List<MongoPersistenceOperationsSelection> selections = new ArrayList<>();
+        selections.add(selectInCollection.apply(settings.getMetadataCollectionName()));
+        selections.add(selectInCollection.apply(settings.getJournalCollectionName()));
+        selections.add(selectInCollection.apply(settings.getSnapshotCollectionName()));
+        settings.getAdditionalSnapshotCollectionNames()
+                .forEach(collection -> selections.add(selectInCollection.apply(collection)));
+        return Collections.unmodifiableList(selections);
     }
 
     private MongoPersistenceOperationsSelection selectNamespaceByPid(final String collection,
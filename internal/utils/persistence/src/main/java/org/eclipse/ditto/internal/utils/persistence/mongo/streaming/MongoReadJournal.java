@@ -14,6 +14,7 @@ package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,10 +23,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorSystem;
@@ -41,6 +45,7 @@ import org.apache.pekko.persistence.query.javadsl.EventsByTagQuery;
 import org.apache.pekko.persistence.query.javadsl.PersistenceIdsQuery;
 import org.apache.pekko.stream.Attributes;
 import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.OverflowStrategy;
 import org.apache.pekko.stream.RestartSettings;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.RestartSource;
@@ -50,7 +55,9 @@ import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonNull;
+import org.bson.BsonNumber;
 import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
@@ -135,6 +142,11 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
      * Document field of the highest event sequence number in journals.
      */
     private static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+
+    /**
+     * Document field of the lowest event sequence number in journals.
+     */
+    private static final String J_FROM = JournallingFieldNames$.MODULE$.FROM();
     private static final String J_TAGS = JournallingFieldNames$.MODULE$.TAGS();
 
     /**
@@ -164,6 +176,16 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
     public static final String J_EVENT_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
     private static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
 
+    /**
+     * Field of the event payloads within the events of journal entries.
+     */
+    private static final String J_EVENT_PAYLOAD = "p";
+
+    /**
+     * Field of the ISO-8601 timestamps of the event payloads in journals.
+     */
+    private static final String J_EVENT_TIMESTAMP = J_EVENT + "." + J_EVENT_PAYLOAD + "._timestamp";
+
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
     private static final BsonDocument FILTER_PRIORITY_TAGS_EXPR = BsonDocument.parse(
@@ -207,6 +229,9 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
     private static final Index TAG_PID_INDEX =
             IndexFactory.newInstance("ditto_tag_pid", List.of(J_TAGS, J_PROCESSOR_ID), false, true);
 
+    private static final Index JOURNAL_PID_EVENT_TIMESTAMP_INDEX =
+            IndexFactory.newInstance("ditto_pid_event_timestamp", List.of(J_PROCESSOR_ID, J_EVENT_TIMESTAMP), false);
+
     private static final Index SNAPS_PID_ID_INDEX =
             IndexFactory.newInstance("snaps_pid_id_index", List.of(S_PROCESSOR_ID, S_ID), false, false);
 
@@ -300,6 +325,20 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         return indexInitializer.createNonExistingIndices(journalCollection, List.of(TAG_PID_INDEX));
     }
 
+    /**
+     * Ensure a compound index exists for mapping event timestamps of a PID to sequence numbers in the journal.
+     *
+     * @return a future that completes after index creation completes or fails when index creation fails.
+     */
+    public CompletionStage<Done> ensureJournalPidEventTimestampIndex() {
+        if (readJournalConfig.shouldCreateJournalIndexPidEventTimestamp()) {
+            return indexInitializer.createNonExistingIndices(journalCollection,
+                    List.of(JOURNAL_PID_EVENT_TIMESTAMP_INDEX));
+        } else {
+            return CompletableFuture.completedStage(Done.getInstance());
+        }
+    }
+
     /**
      * Ensure a compound index exists for snapshot cleanup aggregation matching/sorting on "pid" and "_id".
      *
@@ -565,6 +604,44 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         )).map(document -> document.getLong(S_SN));
     }
 
+    /**
+     * A Source retrieving a single revision/sequence number of type {@code long} from which on streaming the events of
+     * the passed {@code pid} includes all events after the passed {@code timestamp}.
+     * If the journal index on event timestamps is enabled, the sequence number of the journal entry containing the
+     * last event in a second before the one of {@code timestamp} is determined, falling back to the sequence number
+     * of the last snapshot before {@code timestamp} otherwise.
+     *
+     * @param pid the persistenceId to find out the sequence number for.
+     * @param timestamp the timestamp to find out the sequence number for.
+     * @return a Source of at most one element with the determined sequence number.
+     */
+    public Source<Long, NotUsed> getLastSequenceNumberBeforeTimestamp(final String pid, final Instant timestamp) {
+        if (readJournalConfig.shouldCreateJournalIndexPidEventTimestamp()) {
+            return getLastJournalSequenceNumberBeforeTimestamp(pid, timestamp)
+                    .orElse(getLastSnapshotSequenceNumberBeforeTimestamp(pid, timestamp));
+        } else {
+            return getLastSnapshotSequenceNumberBeforeTimestamp(pid, timestamp);
+        }
+    }
+
+    private Source<Long, NotUsed> getLastJournalSequenceNumberBeforeTimestamp(final String pid,
+            final Instant timestamp) {
+
+        // ISO-8601 timestamps of different precision only compare correctly as strings on whole seconds, so all
+        // events of earlier seconds are selected; the caller filters the streamed events by their exact timestamp
+        final String secondsPrefix = timestamp.truncatedTo(ChronoUnit.SECONDS).toString().replace("Z", "");
+        final Bson filter = Filters.and(
+                Filters.eq(J_PROCESSOR_ID, pid),
+                Filters.lt(J_EVENT_TIMESTAMP, secondsPrefix)
+        );
+        return getJournal().flatMapConcat(journal -> Source.fromPublisher(journal
+                .find(filter)
+                .projection(Projections.include(J_FROM))
+                .sort(Sorts.descending(J_EVENT_TIMESTAMP))
+                .first()
+        )).map(document -> document.getLong(J_FROM));
+    }
+
     /**
      * Retrieve all latest snapshots with unique PIDs in snapshot store above a lower bound.
      * Does not limit database access in any way.
@@ -731,6 +808,82 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
     public Source<EventEnvelope, NotUsed> currentEventsByPersistenceId(final String persistenceId,
             final long fromSequenceNr,
             final long toSequenceNr) {
+        return withEffectiveSequenceNumbers(persistenceId, fromSequenceNr, toSequenceNr,
+                (effectiveFrom, effectiveTo) ->
+                        pekkoReadJournal.currentEventsByPersistenceId(persistenceId, effectiveFrom, effectiveTo));
+    }
+
+    /**
+     * Stream the payloads of the current events of a PID directly from the journal collection, without deserializing
+     * them into {@code EventEnvelope}s first.
+     * Only the sequence numbers and payloads of the events are fetched; the journal entries are read ahead in batches
+     * of the configured {@code persisted-events-batch-size}. Sequence numbers less than 1 are interpreted relative to
+     * the latest sequence number like in {@link #currentEventsByPersistenceId(String, long, long)}.
+     *
+     * @param persistenceId the PID.
+     * @param fromSequenceNr the sequence number to start at (inclusive).
+     * @param toSequenceNr the sequence number to stop at (inclusive).
+     * @param fromTimestamp if set, journal entries of which all events have timestamps in seconds before the one of
+     * {@code fromTimestamp} are skipped by the database. Events without timestamp are never skipped. The streamed
+     * events still have to be filtered for their exact timestamps.
+     * @return source of the event payloads in the order of their sequence numbers.
+     */
+    public Source<BsonDocument, NotUsed> currentEventPayloadsByPersistenceId(final String persistenceId,
+            final long fromSequenceNr,
+            final long toSequenceNr,
+            @Nullable final Instant fromTimestamp) {
+
+        return withEffectiveSequenceNumbers(persistenceId, fromSequenceNr, toSequenceNr,
+                (effectiveFrom, effectiveTo) -> {
+                    final List<Bson> filters = new ArrayList<>(List.of(
+                            Filters.eq(J_PROCESSOR_ID, persistenceId),
+                            Filters.gte(J_TO, effectiveFrom),
+                            Filters.lte(J_FROM, effectiveTo)
+                    ));
+                    if (null != fromTimestamp) {
+                        // same whole-second granularity as getLastJournalSequenceNumberBeforeTimestamp
+                        final String secondsPrefix =
+                                fromTimestamp.truncatedTo(ChronoUnit.SECONDS).toString().replace("Z", "");
+                        filters.add(Filters.or(
+                                Filters.gte(J_EVENT_TIMESTAMP, secondsPrefix),
+                                Filters.exists(J_EVENT_TIMESTAMP, false)
+                        ));
+                    }
+                    final int batchSize = readJournalConfig.getPersistedEventsBatchSize();
+                    return getJournal()
+                            .flatMapConcat(journal -> Source.fromPublisher(journal
+                                    .find(Filters.and(filters), BsonDocument.class)
+                                    .projection(Projections.include(J_EVENT + "." + J_EVENT_SN,
+                                            J_EVENT + "." + J_EVENT_PAYLOAD))
+                                    .sort(Sorts.ascending(J_TO))
+                                    .batchSize(batchSize)
+                            ))
+                            .buffer(batchSize, OverflowStrategy.backpressure())
+                            .mapConcat(journalEntry -> getEventPayloads(journalEntry, effectiveFrom, effectiveTo));
+                });
+    }
+
+    private static List<BsonDocument> getEventPayloads(final BsonDocument journalEntry, final long fromSequenceNr,
+            final long toSequenceNr) {
+
+        final List<BsonDocument> payloads = new ArrayList<>();
+        for (final BsonValue event : journalEntry.getArray(J_EVENT, new BsonArray())) {
+            if (event instanceof BsonDocument eventDocument &&
+                    eventDocument.get(J_EVENT_PAYLOAD) instanceof BsonDocument payload &&
+                    eventDocument.get(J_EVENT_SN) instanceof BsonNumber sequenceNumber &&
+                    sequenceNumber.longValue() >= fromSequenceNr &&
+                    sequenceNumber.longValue() <= toSequenceNr) {
+                payloads.add(payload);
+            }
+        }
+        return payloads;
+    }
+
+    private <T> Source<T, NotUsed> withEffectiveSequenceNumbers(final String persistenceId,
+            final long fromSequenceNr,
+            final long toSequenceNr,
+            final BiFunction<Long, Long, Source<T, NotUsed>> sourceFactory) {
+
         if (fromSequenceNr <= 0 || toSequenceNr <= 0) {
             return getLatestEventSeqNo(persistenceId).flatMapConcat(latestSnOpt -> {
                 final long effectiveTo = toSequenceNr <= 0
@@ -739,10 +892,10 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
                 final long effectiveFrom = fromSequenceNr < 0
                         ? latestSnOpt.map(latest -> latest + fromSequenceNr + 1).orElse(fromSequenceNr)
                         : fromSequenceNr;
-                return pekkoReadJournal.currentEventsByPersistenceId(persistenceId, effectiveFrom, effectiveTo);
+                return sourceFactory.apply(effectiveFrom, effectiveTo);
             });
         } else {
-            return pekkoReadJournal.currentEventsByPersistenceId(persistenceId, fromSequenceNr, toSequenceNr);
+            return sourceFactory.apply(fromSequenceNr, toSequenceNr);
         }
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link DeltaSnapshotStoreConfig}.
+ */
+@Immutable
+public final class DefaultDeltaSnapshotStoreConfig implements DeltaSnapshotStoreConfig {
+
+    private final String delegatePluginId;
+    private final String baseDelegatePluginId;
+    private final boolean writeDeltas;
+    private final long minFullSize;
+    private final double maxDeltaRatio;
+    private final int baseCacheSize;
+    private final Duration askTimeout;
+
+    private DefaultDeltaSnapshotStoreConfig(final ScopedConfig config) {
+        delegatePluginId = getNonEmptyPluginId(config, DeltaSnapshotStoreConfigValue.DELEGATE);
+        baseDelegatePluginId = getNonEmptyPluginId(config, DeltaSnapshotStoreConfigValue.BASE_DELEGATE);
+        writeDeltas = config.getBoolean(DeltaSnapshotStoreConfigValue.WRITE_DELTAS.getConfigPath());
+        minFullSize = config.getNonNegativeBytesOrThrow(DeltaSnapshotStoreConfigValue.MIN_FULL_SIZE);
+        maxDeltaRatio = config.getPositiveDoubleOrThrow(DeltaSnapshotStoreConfigValue.MAX_DELTA_RATIO);
+        baseCacheSize = config.getPositiveIntOrThrow(DeltaSnapshotStoreConfigValue.BASE_CACHE_SIZE);
+        askTimeout = config.getNonNegativeAndNonZeroDurationOrThrow(DeltaSnapshotStoreConfigValue.ASK_TIMEOUT);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultDeltaSnapshotStoreConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to be the config of the delta snapshot store plugin.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultDeltaSnapshotStoreConfig of(final Config config) {
+        return new DefaultDeltaSnapshotStoreConfig(
+                ConfigWithFallback.newInstance(config, DeltaSnapshotStoreConfigValue.values()));
+    }
+
+    private static String getNonEmptyPluginId(final ScopedConfig config,
+            final DeltaSnapshotStoreConfigValue configValue) {
+
+        final String pluginId = config.getString(configValue.getConfigPath());
+        if (pluginId.isEmpty()) {
+            throw new DittoConfigError("The <" + configValue.getConfigPath() +
+                    "> snapshot store plugin ID of the delta snapshot store must be set.");
+        }
+        return pluginId;
+    }
+
+    @Override
+    public String getDelegatePluginId() {
+        return delegatePluginId;
+    }
+
+    @Override
+    public String getBaseDelegatePluginId() {
+        return baseDelegatePluginId;
+    }
+
+    @Override
+    public boolean isWriteDeltas() {
+        return writeDeltas;
+    }
+
+    @Override
+    public long getMinFullSize() {
+        return minFullSize;
+    }
+
+    @Override
+    public double getMaxDeltaRatio() {
+        return maxDeltaRatio;
+    }
+
+    @Override
+    public int getBaseCacheSize() {
+        return baseCacheSize;
+    }
+
+    @Override
+    public Duration getAskTimeout() {
+        return askTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultDeltaSnapshotStoreConfig that = (DefaultDeltaSnapshotStoreConfig) o;
+        return writeDeltas == that.writeDeltas &&
+                minFullSize == that.minFullSize &&
+                Double.compare(maxDeltaRatio, that.maxDeltaRatio) == 0 &&
+                baseCacheSize == that.baseCacheSize &&
+                Objects.equals(delegatePluginId, that.delegatePluginId) &&
+                Objects.equals(baseDelegatePluginId, that.baseDelegatePluginId) &&
+                Objects.equals(askTimeout, that.askTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegatePluginId, baseDelegatePluginId, writeDeltas, minFullSize, maxDeltaRatio,
+                baseCacheSize, askTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegatePluginId=" + delegatePluginId +
+                ", baseDelegatePluginId=" + baseDelegatePluginId +
+                ", writeDeltas=" + writeDeltas +
+                ", minFullSize=" + minFullSize +
+                ", maxDeltaRatio=" + maxDeltaRatio +
+                ", baseCacheSize=" + baseCacheSize +
+                ", askTimeout=" + askTimeout +
+                "]";
+    }
+
+}
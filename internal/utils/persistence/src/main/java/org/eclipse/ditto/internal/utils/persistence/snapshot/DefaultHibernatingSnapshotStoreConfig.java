@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link HibernatingSnapshotStoreConfig}.
+ */
+@Immutable
+public final class DefaultHibernatingSnapshotStoreConfig implements HibernatingSnapshotStoreConfig {
+
+    private final String delegatePluginId;
+    private final String journalPluginId;
+    private final long maxSize;
+    private final Duration askTimeout;
+
+    private DefaultHibernatingSnapshotStoreConfig(final ScopedConfig config) {
+        delegatePluginId = getNonEmptyPluginId(config, HibernatingSnapshotStoreConfigValue.DELEGATE);
+        journalPluginId = getNonEmptyPluginId(config, HibernatingSnapshotStoreConfigValue.JOURNAL);
+        maxSize = config.getNonNegativeBytesOrThrow(HibernatingSnapshotStoreConfigValue.MAX_SIZE);
+        askTimeout = config.getNonNegativeAndNonZeroDurationOrThrow(HibernatingSnapshotStoreConfigValue.ASK_TIMEOUT);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultHibernatingSnapshotStoreConfig} based on the settings of the specified
+     * Config.
+     *
+     * @param config is supposed to be the config of the hibernating snapshot store plugin.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultHibernatingSnapshotStoreConfig of(final Config config) {
+        return new DefaultHibernatingSnapshotStoreConfig(
+                ConfigWithFallback.newInstance(config, HibernatingSnapshotStoreConfigValue.values()));
+    }
+
+    private static String getNonEmptyPluginId(final ScopedConfig config,
+            final HibernatingSnapshotStoreConfigValue configValue) {
+
+        final String pluginId = config.getString(configValue.getConfigPath());
+        if (pluginId.isEmpty()) {
+            throw new DittoConfigError("The <" + configValue.getConfigPath() +
+                    "> plugin ID of the hibernating snapshot store must be set.");
+        }
+        return pluginId;
+    }
+
+    @Override
+    public String getDelegatePluginId() {
+        return delegatePluginId;
+    }
+
+    @Override
+    public String getJournalPluginId() {
+        return journalPluginId;
+    }
+
+    @Override
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public Duration getAskTimeout() {
+        return askTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultHibernatingSnapshotStoreConfig that = (DefaultHibernatingSnapshotStoreConfig) o;
+        return maxSize == that.maxSize &&
+                Objects.equals(delegatePluginId, that.delegatePluginId) &&
+                Objects.equals(journalPluginId, that.journalPluginId) &&
+                Objects.equals(askTimeout, that.askTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegatePluginId, journalPluginId, maxSize, askTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegatePluginId=" + delegatePluginId +
+                ", journalPluginId=" + journalPluginId +
+                ", maxSize=" + maxSize +
+                ", askTimeout=" + askTimeout +
+                "]";
+    }
+
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.SaveSnapshotFailure;
+import org.apache.pekko.persistence.SaveSnapshotSuccess;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BinarySnapshotPayload;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Snapshot store plugin which writes snapshots of large entities as compact deltas to a base snapshot instead of in
+ * full, delegating the actual storage to other snapshot store plugins, e.g. the MongoDB snapshot store:
+ * <ul>
+ * <li>Snapshots smaller than the configured minimum size are written in full to the delegate.</li>
+ * <li>The first snapshot of a large entity is written in full to the delegate and additionally as base snapshot to
+ * the base delegate.</li>
+ * <li>Subsequent snapshots are written as delta to the base snapshot as long as the size of the delta does not exceed
+ * the configured ratio of the full size, otherwise a new base snapshot is written. Deltas always refer to the base
+ * snapshot, so a snapshot is reconstructed from at most two documents.</li>
+ * </ul>
+ * Delta snapshots contain the top-level scalar fields of the full snapshot (e.g. the revision) in order to keep
+ * streaming snapshot metadata from the delegate's collection working. Loading a delta snapshot loads its base snapshot
+ * and offers the reconstructed full snapshot; replaying the remaining events is up to the persistence actor as usual.
+ * <p>
+ * Base snapshots are only deleted together with the snapshots referring to them: deleting the snapshots of an entity
+ * up to a sequence number keeps the youngest base snapshot up to that sequence number, as the remaining delta snapshots
+ * may still refer to it.
+ * <p>
+ * Writing deltas may be disabled, e.g. in order to migrate back to full snapshots: all snapshots are then written in
+ * full, while loading still reconstructs the delta snapshots written before and deleting snapshots still deletes their
+ * base snapshots.
+ * <p>
+ * Base snapshots are kept in memory in order to compute deltas; entities whose base snapshot is not in memory (e.g.
+ * after a restart of the node before their recovery) write a new base snapshot.
+ * All other snapshot store requests are forwarded to the delegate.
+ */
+public final class DeltaSnapshotStore extends AbstractActor {
+
+    private static final String METRIC_NAME = "delta_snapshot_writes";
+    private static final String DELTA_FIELD = "__delta";
+    private static final String DELTA_BASE_FIELD = "base";
+    private static final String DELTA_OPERATIONS_FIELD = "operations";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final DeltaSnapshotStoreConfig config;
+    private final ActorRef delegate;
+    private final ActorRef baseDelegate;
+    private final Map<String, BaseSnapshot> baseSnapshots;
+    private final Counter fullWrites;
+    private final Counter baseWrites;
+    private final Counter deltaWrites;
+
+    /**
+     * Constructs the snapshot store plugin. Called by Pekko Persistence with the config of the plugin.
+     *
+     * @param pluginConfig the config of the snapshot store plugin.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code pluginConfig} is invalid.
+     */
+    @SuppressWarnings("unused")
+    public DeltaSnapshotStore(final Config pluginConfig) {
+        this(DefaultDeltaSnapshotStoreConfig.of(pluginConfig), null, null);
+    }
+
+    @SuppressWarnings("unused")
+    private DeltaSnapshotStore(final DeltaSnapshotStoreConfig config, @Nullable final ActorRef delegate,
+            @Nullable final ActorRef baseDelegate) {
+
+        this.config = config;
+        this.delegate = delegate != null ? delegate : getSnapshotStore(config.getDelegatePluginId());
+        this.baseDelegate = baseDelegate != null ? baseDelegate : getSnapshotStore(config.getBaseDelegatePluginId());
+        baseSnapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, BaseSnapshot> eldest) {
+                return size() > config.getBaseCacheSize();
+            }
+        };
+        fullWrites = DittoMetrics.counter(METRIC_NAME).tag("type", "full");
+        baseWrites = DittoMetrics.counter(METRIC_NAME).tag("type", "base");
+        deltaWrites = DittoMetrics.counter(METRIC_NAME).tag("type", "delta");
+    }
+
+    /**
+     * Creates the Props of a delta snapshot store with explicit delegates.
+     *
+     * @param config the config of the delta snapshot store.
+     * @param delegate the snapshot store actor full and delta snapshots are written to.
+     * @param baseDelegate the snapshot store actor base snapshots are written to.
+     * @return the Props.
+     */
+    static Props props(final DeltaSnapshotStoreConfig config, final ActorRef delegate, final ActorRef baseDelegate) {
+        return Props.create(DeltaSnapshotStore.class, config, delegate, baseDelegate);
+    }
+
+    private ActorRef getSnapshotStore(final String pluginId) {
+        return Persistence.get(getContext().getSystem()).snapshotStoreFor(pluginId, ConfigFactory.empty());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(SnapshotProtocol.SaveSnapshot.class, this::saveSnapshot)
+                .match(SnapshotProtocol.LoadSnapshot.class, this::loadSnapshot)
+                .match(SnapshotProtocol.DeleteSnapshots.class, this::deleteSnapshots)
+                .match(BaseSnapshotUpdate.class, this::updateBaseSnapshot)
+                .matchAny(message -> delegate.forward(message, getContext()))
+                .build();
+    }
+
+    private void saveSnapshot(final SnapshotProtocol.SaveSnapshot saveSnapshot) {
+        final ActorRef sender = getSender();
+        final ActorRef self = getSelf();
+        final SnapshotMetadata metadata = saveSnapshot.metadata();
+        @Nullable final BaseSnapshot baseSnapshot = baseSnapshots.get(metadata.persistenceId());
+        final Executor dispatcher = getContext().getDispatcher();
+
+        CompletableFuture.supplyAsync(() -> prepareWrite(metadata, saveSnapshot.snapshot(), baseSnapshot), dispatcher)
+                .thenCompose(write -> write(metadata, write))
+                .whenComplete((baseSnapshotUpdate, error) -> {
+                    if (error != null) {
+                        final Throwable cause = unwrap(error);
+                        log.warning("Failed to save snapshot <{}>: {}", metadata, cause.toString());
+                        sender.tell(new SaveSnapshotFailure(metadata, cause), self);
+                    } else {
+                        self.tell(baseSnapshotUpdate, ActorRef.noSender());
+                        sender.tell(new SaveSnapshotSuccess(metadata), self);
+                    }
+                });
+    }
+
+    private SnapshotWrite prepareWrite(final SnapshotMetadata metadata, final Object snapshot,
+            @Nullable final BaseSnapshot baseSnapshot) {
+
+        if (!config.isWriteDeltas()) {
+            return new SnapshotWrite(WriteType.FULL, snapshot, null);
+        }
+        if (!(snapshot instanceof BsonDocument bsonDocument) || BinarySnapshotPayload.isBinary(bsonDocument)) {
+            // binary payloads are opaque to deltas
+            return new SnapshotWrite(WriteType.FULL, snapshot, null);
+        }
+        final JsonObject fullJson = DittoBsonJson.getInstance().serialize(bsonDocument);
+        final long fullSize = fullJson.toString().length();
+        if (fullSize < config.getMinFullSize()) {
+            return new SnapshotWrite(WriteType.FULL, snapshot, null);
+        }
+        if (baseSnapshot != null && baseSnapshot.sequenceNr() < metadata.sequenceNr()) {
+            final JsonObject deltaJson = toDeltaJson(fullJson, baseSnapshot.sequenceNr(),
+                    JsonDelta.compute(baseSnapshot.json(), fullJson));
+            if (deltaJson.toString().length() <= config.getMaxDeltaRatio() * fullSize) {
+                return new SnapshotWrite(WriteType.DELTA, DittoBsonJson.getInstance().parse(deltaJson), baseSnapshot);
+            }
+        }
+        return new SnapshotWrite(WriteType.BASE, snapshot, new BaseSnapshot(metadata.sequenceNr(), fullJson));
+    }
+
+    private CompletionStage<BaseSnapshotUpdate> write(final SnapshotMetadata metadata, final SnapshotWrite write) {
+        final String persistenceId = metadata.persistenceId();
+        return switch (write.type()) {
+            case FULL -> {
+                fullWrites.increment();
+                yield askToSave(delegate, metadata, write.snapshot())
+                        // base snapshots of the entity which shrank below the minimum size for deltas are still
+                        // referenced by its older delta snapshots
+                        .thenApply(unused -> new BaseSnapshotUpdate(persistenceId, null));
+            }
+            case DELTA -> {
+                deltaWrites.increment();
+                yield askToSave(delegate, metadata, write.snapshot())
+                        .thenApply(unused -> new BaseSnapshotUpdate(persistenceId, write.baseSnapshot()));
+            }
+            case BASE -> {
+                baseWrites.increment();
+                // the base must be stored before a delta may refer to it
+                yield askToSave(baseDelegate, metadata, write.snapshot())
+                        .thenCompose(unused -> askToSave(delegate, metadata, write.snapshot()))
+                        // previous base snapshots are still referenced by older delta snapshots
+                        .thenApply(unused -> new BaseSnapshotUpdate(persistenceId, write.baseSnapshot()));
+            }
+        };
+    }
+
+    private CompletionStage<Object> askToSave(final ActorRef snapshotStore, final SnapshotMetadata metadata,
+            final Object snapshot) {
+
+        return Patterns.ask(snapshotStore, new SnapshotProtocol.SaveSnapshot(metadata, snapshot),
+                        config.getAskTimeout())
+                .thenApply(response -> {
+                    if (response instanceof SaveSnapshotFailure saveSnapshotFailure) {
+                        throw new CompletionException(saveSnapshotFailure.cause());
+                    }
+                    return response;
+                });
+    }
+
+    private void loadSnapshot(final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+        final ActorRef sender = getSender();
+        final ActorRef self = getSelf();
+        final Executor dispatcher = getContext().getDispatcher();
+
+        Patterns.ask(delegate, loadSnapshot, config.getAskTimeout())
+                .thenCompose(response -> {
+                    if (response instanceof SnapshotProtocol.LoadSnapshotResult result &&
+                            result.snapshot().isDefined()) {
+                        final SelectedSnapshot selectedSnapshot = result.snapshot().get();
+                        final Optional<JsonObject> delta = getDelta(selectedSnapshot.snapshot());
+                        if (delta.isPresent()) {
+                            return reconstruct(selectedSnapshot, delta.get(), dispatcher)
+                                    .thenApply(reconstructed -> {
+                                        self.tell(reconstructed.baseSnapshotUpdate(), ActorRef.noSender());
+                                        return (Object) new SnapshotProtocol.LoadSnapshotResult(
+                                                Option.apply(reconstructed.selectedSnapshot()),
+                                                result.toSequenceNr());
+                                    });
+                        }
+                    }
+                    return CompletableFuture.completedFuture(response);
+                })
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        final Throwable cause = unwrap(error);
+                        log.error(cause, "Failed to load snapshot of <{}>.", loadSnapshot.persistenceId());
+                        sender.tell(new SnapshotProtocol.LoadSnapshotFailed(cause), self);
+                    } else {
+                        sender.tell(response, self);
+                    }
+                });
+    }
+
+    private CompletionStage<ReconstructedSnapshot> reconstruct(final SelectedSnapshot deltaSnapshot,
+            final JsonObject delta, final Executor dispatcher) {
+
+        final String persistenceId = deltaSnapshot.metadata().persistenceId();
+        final long baseSequenceNr = delta.getValue(DELTA_BASE_FIELD)
+                .filter(JsonValue::isLong)
+                .map(JsonValue::asLong)
+                .orElseThrow(() -> new IllegalStateException("Delta snapshot without base: " + deltaSnapshot));
+        final JsonArray operations = delta.getValue(DELTA_OPERATIONS_FIELD)
+                .filter(JsonValue::isArray)
+                .map(JsonValue::asArray)
+                .orElseGet(JsonArray::empty);
+        final var baseCriteria =
+                SnapshotSelectionCriteria.create(baseSequenceNr, Long.MAX_VALUE, baseSequenceNr, 0L);
+
+        return Patterns.ask(baseDelegate, new SnapshotProtocol.LoadSnapshot(persistenceId, baseCriteria,
+                        Long.MAX_VALUE), config.getAskTimeout())
+                .thenApplyAsync(response -> {
+                    if (response instanceof SnapshotProtocol.LoadSnapshotResult result &&
+                            result.snapshot().isDefined() &&
+                            result.snapshot().get().snapshot() instanceof BsonDocument baseDocument) {
+                        final JsonObject baseJson = DittoBsonJson.getInstance().serialize(baseDocument);
+                        final JsonObject fullJson = JsonDelta.apply(baseJson, operations);
+                        return new ReconstructedSnapshot(
+                                new SelectedSnapshot(deltaSnapshot.metadata(),
+                                        DittoBsonJson.getInstance().parse(fullJson)),
+                                new BaseSnapshotUpdate(persistenceId, new BaseSnapshot(baseSequenceNr, baseJson)));
+                    } else if (response instanceof SnapshotProtocol.LoadSnapshotFailed failed) {
+                        throw new CompletionException(failed.cause());
+                    } else {
+                        throw new IllegalStateException("Base snapshot <" + baseSequenceNr + "> of <" +
+                                persistenceId + "> referenced by a delta snapshot was not found.");
+                    }
+                }, dispatcher);
+    }
+
+    private void deleteSnapshots(final SnapshotProtocol.DeleteSnapshots deleteSnapshots) {
+        delegate.forward(deleteSnapshots, getContext());
+        final String persistenceId = deleteSnapshots.persistenceId();
+        final SnapshotSelectionCriteria criteria = deleteSnapshots.criteria();
+        if (criteria.maxSequenceNr() == Long.MAX_VALUE) {
+            // all snapshots of the entity are deleted, so its base snapshots are no longer referenced
+            baseSnapshots.remove(persistenceId);
+            deleteBaseSnapshots(persistenceId, Long.MAX_VALUE);
+        } else if (criteria.minSequenceNr() <= 0L) {
+            deleteUnreferencedBaseSnapshots(persistenceId, criteria.maxSequenceNr());
+        }
+    }
+
+    private void deleteUnreferencedBaseSnapshots(final String persistenceId, final long maxDeletedSequenceNr) {
+        // remaining delta snapshots refer to the youngest deleted base snapshot or to a younger one
+        final var youngestDeletedBaseCriteria = SnapshotSelectionCriteria.create(maxDeletedSequenceNr, Long.MAX_VALUE);
+        Patterns.ask(baseDelegate, new SnapshotProtocol.LoadSnapshot(persistenceId, youngestDeletedBaseCriteria,
+                        Long.MAX_VALUE), config.getAskTimeout())
+                .whenComplete((response, error) -> {
+                    if (response instanceof SnapshotProtocol.LoadSnapshotResult result &&
+                            result.snapshot().isDefined()) {
+                        deleteBaseSnapshots(persistenceId, result.snapshot().get().metadata().sequenceNr() - 1);
+                    } else if (error != null) {
+                        log.warning("Failed to find base snapshots of <{}> up to <{}>: {}", persistenceId,
+                                maxDeletedSequenceNr, error.toString());
+                    }
+                });
+    }
+
+    private void deleteBaseSnapshots(final String persistenceId, final long maxSequenceNr) {
+        if (maxSequenceNr > 0) {
+            Patterns.ask(baseDelegate,
+                            new SnapshotProtocol.DeleteSnapshots(persistenceId,
+                                    SnapshotSelectionCriteria.create(maxSequenceNr, Long.MAX_VALUE)),
+                            config.getAskTimeout())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            log.warning("Failed to delete base snapshots of <{}> up to <{}>: {}", persistenceId,
+                                    maxSequenceNr, error.toString());
+                        }
+                    });
+        }
+    }
+
+    private void updateBaseSnapshot(final BaseSnapshotUpdate update) {
+        if (update.baseSnapshot() != null) {
+            baseSnapshots.put(update.persistenceId(), update.baseSnapshot());
+        } else {
+            baseSnapshots.remove(update.persistenceId());
+        }
+    }
+
+    private static Optional<JsonObject> getDelta(final Object snapshot) {
+        if (snapshot instanceof BsonDocument bsonDocument && bsonDocument.containsKey(DELTA_FIELD)) {
+            return Optional.of(DittoBsonJson.getInstance().serialize(bsonDocument.getDocument(DELTA_FIELD)));
+        }
+        return Optional.empty();
+    }
+
+    private static JsonObject toDeltaJson(final JsonObject fullJson, final long baseSequenceNr,
+            final JsonArray operations) {
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : fullJson) {
+            if (!field.getValue().isObject() && !field.getValue().isArray()) {
+                builder.set(field);
+            }
+        }
+        return builder.set(DELTA_FIELD, JsonObject.newBuilder()
+                        .set(DELTA_BASE_FIELD, baseSequenceNr)
+                        .set(DELTA_OPERATIONS_FIELD, operations)
+                        .build())
+                .build();
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private enum WriteType {
+        FULL,
+        BASE,
+        DELTA
+    }
+
+    private record BaseSnapshot(long sequenceNr, JsonObject json) {}
+
+    private record SnapshotWrite(WriteType type, Object snapshot, @Nullable BaseSnapshot baseSnapshot) {}
+
+    private record BaseSnapshotUpdate(String persistenceId, @Nullable BaseSnapshot baseSnapshot) {}
+
+    private record ReconstructedSnapshot(SelectedSnapshot selectedSnapshot, BaseSnapshotUpdate baseSnapshotUpdate) {}
+
+}
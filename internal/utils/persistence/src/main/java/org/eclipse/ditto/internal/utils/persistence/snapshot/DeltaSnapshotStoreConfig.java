@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the {@link DeltaSnapshotStore}.
+ */
+@Immutable
+public interface DeltaSnapshotStoreConfig {
+
+    /**
+     * Returns the ID of the snapshot store plugin the full and delta snapshots are written to.
+     *
+     * @return the snapshot store plugin ID.
+     */
+    String getDelegatePluginId();
+
+    /**
+     * Returns the ID of the snapshot store plugin the base snapshots referenced by delta snapshots are written to.
+     *
+     * @return the snapshot store plugin ID.
+     */
+    String getBaseDelegatePluginId();
+
+    /**
+     * Indicates whether snapshots of large entities are written as deltas. If disabled, all snapshots are written in
+     * full, while the delta snapshots written before are still reconstructed from their base snapshots when loaded.
+     *
+     * @return {@code true} if deltas are written.
+     */
+    boolean isWriteDeltas();
+
+    /**
+     * Returns the minimum size of the JSON of a snapshot in bytes for writing it as delta. Smaller snapshots are
+     * always written in full.
+     *
+     * @return the minimum full size.
+     */
+    long getMinFullSize();
+
+    /**
+     * Returns the maximum ratio of the size of a delta to the size of the full snapshot. A new base snapshot is
+     * written instead of a delta exceeding this ratio.
+     *
+     * @return the maximum delta ratio.
+     */
+    double getMaxDeltaRatio();
+
+    /**
+     * Returns the maximum number of base snapshots kept in memory for computing deltas.
+     *
+     * @return the base cache size.
+     */
+    int getBaseCacheSize();
+
+    /**
+     * Returns the timeout of requests to the delegate snapshot stores.
+     *
+     * @return the ask timeout.
+     */
+    Duration getAskTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code DeltaSnapshotStoreConfig}.
+     */
+    enum DeltaSnapshotStoreConfigValue implements KnownConfigValue {
+
+        /**
+         * The ID of the snapshot store plugin the full and delta snapshots are written to.
+         */
+        DELEGATE("delegate", ""),
+
+        /**
+         * The ID of the snapshot store plugin the base snapshots are written to.
+         */
+        BASE_DELEGATE("base-delegate", ""),
+
+        /**
+         * Whether snapshots of large entities are written as deltas.
+         */
+        WRITE_DELTAS("write-deltas", true),
+
+        /**
+         * The minimum size of a snapshot for writing it as delta.
+         */
+        MIN_FULL_SIZE("min-full-size", 65536L),
+
+        /**
+         * The maximum ratio of the size of a delta to the size of the full snapshot.
+         */
+        MAX_DELTA_RATIO("max-delta-ratio", 0.25),
+
+        /**
+         * The maximum number of base snapshots kept in memory.
+         */
+        BASE_CACHE_SIZE("base-cache-size", 1000),
+
+        /**
+         * The timeout of requests to the delegate snapshot stores.
+         */
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        DeltaSnapshotStoreConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+    }
+
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.persistence.JournalProtocol;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Snapshot store plugin which keeps compact snapshots of passivated ("hibernated") entities in a node-local bounded
+ * cache in order to recover them on their next command without loading their snapshot from the delegate snapshot
+ * store, e.g. the MongoDB snapshot store:
+ * <ul>
+ * <li>A persistence actor hibernates its entity by sending a {@link Hibernate} message when it was stopped after
+ * requesting its passivation.</li>
+ * <li>Loading the latest snapshot of a hibernated entity removes its hibernated snapshot from the cache and offers it
+ * if the journal has no events after it. Otherwise (e.g. the entity was modified on another node and its events were
+ * cleaned up meanwhile) the snapshot is loaded from the delegate as usual.</li>
+ * <li>The least recently hibernated snapshots are evicted when the configured maximum total size is exceeded.</li>
+ * </ul>
+ * Hibernated snapshots are never written to the delegate: the metadata of an offered hibernated snapshot carries the
+ * sequence number of the latest snapshot persisted by the delegate, see {@link #getPersistedSnapshotSequenceNr}.
+ * All other snapshot store requests are forwarded to the delegate.
+ */
+public final class HibernatingSnapshotStore extends AbstractActor {
+
+    private static final String METRIC_NAME = "hibernated_snapshot_loads";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final HibernatingSnapshotStoreConfig config;
+    private final ActorRef delegate;
+    private final ActorRef journal;
+    private final Map<String, HibernatedSnapshot> hibernatedSnapshots;
+    private final Counter hits;
+    private final Counter staleLoads;
+    private final Counter misses;
+    private long totalSize;
+
+    /**
+     * Constructs the snapshot store plugin. Called by Pekko Persistence with the config of the plugin.
+     *
+     * @param pluginConfig the config of the snapshot store plugin.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code pluginConfig} is invalid.
+     */
+    @SuppressWarnings("unused")
+    public HibernatingSnapshotStore(final Config pluginConfig) {
+        this(DefaultHibernatingSnapshotStoreConfig.of(pluginConfig), null, null);
+    }
+
+    @SuppressWarnings("unused")
+    private HibernatingSnapshotStore(final HibernatingSnapshotStoreConfig config, @Nullable final ActorRef delegate,
+            @Nullable final ActorRef journal) {
+
+        this.config = config;
+        final Persistence persistence = Persistence.get(getContext().getSystem());
+        this.delegate = delegate != null
+                ? delegate
+                : persistence.snapshotStoreFor(config.getDelegatePluginId(), ConfigFactory.empty());
+        this.journal = journal != null
+                ? journal
+                : persistence.journalFor(config.getJournalPluginId(), ConfigFactory.empty());
+        hibernatedSnapshots = new LinkedHashMap<>();
+        hits = DittoMetrics.counter(METRIC_NAME).tag("result", "hit");
+        staleLoads = DittoMetrics.counter(METRIC_NAME).tag("result", "stale");
+        misses = DittoMetrics.counter(METRIC_NAME).tag("result", "miss");
+        totalSize = 0L;
+    }
+
+    /**
+     * Creates the Props of a hibernating snapshot store with explicit delegates.
+     *
+     * @param config the config of the hibernating snapshot store.
+     * @param delegate the snapshot store actor snapshots are written to and loaded from.
+     * @param journal the journal actor asked for the highest sequence number of hibernated entities.
+     * @return the Props.
+     */
+    static Props props(final HibernatingSnapshotStoreConfig config, final ActorRef delegate, final ActorRef journal) {
+        return Props.create(HibernatingSnapshotStore.class, config, delegate, journal);
+    }
+
+    /**
+     * Returns the sequence number of the latest snapshot persisted by the delegate snapshot store if the snapshot
+     * with the given metadata was offered from the hibernated snapshots.
+     *
+     * @param metadata the metadata of an offered snapshot.
+     * @return the sequence number of the latest persisted snapshot or an empty OptionalLong if the snapshot was
+     * loaded from the delegate snapshot store.
+     */
+    public static OptionalLong getPersistedSnapshotSequenceNr(final SnapshotMetadata metadata) {
+        if (metadata.metadata().isDefined() && metadata.metadata().get() instanceof Hibernated hibernated) {
+            return OptionalLong.of(hibernated.persistedSnapshotSequenceNr());
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(Hibernate.class, this::hibernate)
+                .match(SnapshotProtocol.LoadSnapshot.class, this::loadSnapshot)
+                .match(SnapshotProtocol.DeleteSnapshots.class, this::deleteSnapshots)
+                .match(SnapshotProtocol.DeleteSnapshot.class, this::deleteSnapshot)
+                .matchAny(message -> delegate.forward(message, getContext()))
+                .build();
+    }
+
+    private void hibernate(final Hibernate hibernate) {
+        remove(hibernate.persistenceId());
+        final long size = estimateSize(hibernate.snapshot());
+        if (size > config.getMaxSize()) {
+            log.debug("Not hibernating <{}> as its snapshot of <{}> bytes exceeds the maximum size.",
+                    hibernate.persistenceId(), size);
+            return;
+        }
+        hibernatedSnapshots.put(hibernate.persistenceId(), new HibernatedSnapshot(hibernate.sequenceNr(),
+                hibernate.persistedSnapshotSequenceNr(), System.currentTimeMillis(), hibernate.snapshot(), size));
+        totalSize += size;
+        final Iterator<HibernatedSnapshot> eldest = hibernatedSnapshots.values().iterator();
+        while (totalSize > config.getMaxSize() && eldest.hasNext()) {
+            totalSize -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    private void loadSnapshot(final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+        final String persistenceId = loadSnapshot.persistenceId();
+        @Nullable final HibernatedSnapshot hibernatedSnapshot = hibernatedSnapshots.get(persistenceId);
+        if (hibernatedSnapshot == null || !isSelected(hibernatedSnapshot, loadSnapshot)) {
+            misses.increment();
+            delegate.forward(loadSnapshot, getContext());
+            return;
+        }
+        // the entity is alive again and hibernates anew on its next passivation
+        remove(persistenceId);
+
+        final ActorRef sender = getSender();
+        final ActorRef self = getSelf();
+        askForHighestSequenceNr(persistenceId, hibernatedSnapshot.sequenceNr())
+                .thenCompose(highestSequenceNr -> {
+                    if (highestSequenceNr == hibernatedSnapshot.sequenceNr()) {
+                        hits.increment();
+                        return CompletableFuture.completedFuture(
+                                toLoadSnapshotResult(persistenceId, hibernatedSnapshot, loadSnapshot));
+                    }
+                    log.debug("Hibernated snapshot <{}> of <{}> is outdated by journal sequence number <{}>.",
+                            hibernatedSnapshot.sequenceNr(), persistenceId, highestSequenceNr);
+                    staleLoads.increment();
+                    return Patterns.ask(delegate, loadSnapshot, config.getAskTimeout());
+                })
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        final Throwable cause = unwrap(error);
+                        log.error(cause, "Failed to load snapshot of <{}>.", persistenceId);
+                        sender.tell(new SnapshotProtocol.LoadSnapshotFailed(cause), self);
+                    } else {
+                        sender.tell(response, self);
+                    }
+                });
+    }
+
+    private CompletionStage<Long> askForHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        // replaying at most 0 events only reads the highest sequence number from the journal
+        return Patterns.askWithReplyTo(journal,
+                        replyTo -> new JournalProtocol.ReplayMessages(fromSequenceNr, Long.MAX_VALUE, 0L,
+                                persistenceId, replyTo),
+                        config.getAskTimeout())
+                .thenApply(response -> {
+                    if (response instanceof JournalProtocol.RecoverySuccess recoverySuccess) {
+                        return recoverySuccess.highestSequenceNr();
+                    } else if (response instanceof JournalProtocol.ReplayMessagesFailure failure) {
+                        throw new CompletionException(failure.cause());
+                    } else {
+                        throw new IllegalStateException("Unexpected response of the journal: " + response);
+                    }
+                });
+    }
+
+    private void deleteSnapshots(final SnapshotProtocol.DeleteSnapshots deleteSnapshots) {
+        @Nullable final HibernatedSnapshot hibernatedSnapshot =
+                hibernatedSnapshots.get(deleteSnapshots.persistenceId());
+        if (hibernatedSnapshot != null &&
+                hibernatedSnapshot.persistedSnapshotSequenceNr() <= deleteSnapshots.criteria().maxSequenceNr()) {
+            remove(deleteSnapshots.persistenceId());
+        }
+        delegate.forward(deleteSnapshots, getContext());
+    }
+
+    private void deleteSnapshot(final SnapshotProtocol.DeleteSnapshot deleteSnapshot) {
+        @Nullable final HibernatedSnapshot hibernatedSnapshot =
+                hibernatedSnapshots.get(deleteSnapshot.metadata().persistenceId());
+        if (hibernatedSnapshot != null &&
+                hibernatedSnapshot.persistedSnapshotSequenceNr() == deleteSnapshot.metadata().sequenceNr()) {
+            remove(deleteSnapshot.metadata().persistenceId());
+        }
+        delegate.forward(deleteSnapshot, getContext());
+    }
+
+    private void remove(final String persistenceId) {
+        @Nullable final HibernatedSnapshot removed = hibernatedSnapshots.remove(persistenceId);
+        if (removed != null) {
+            totalSize -= removed.size();
+        }
+    }
+
+    private static boolean isSelected(final HibernatedSnapshot hibernatedSnapshot,
+            final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+
+        final SnapshotSelectionCriteria criteria = loadSnapshot.criteria();
+        final long sequenceNr = hibernatedSnapshot.sequenceNr();
+        return sequenceNr <= loadSnapshot.toSequenceNr() &&
+                sequenceNr >= criteria.minSequenceNr() &&
+                sequenceNr <= criteria.maxSequenceNr() &&
+                hibernatedSnapshot.timestamp() >= criteria.minTimestamp() &&
+                hibernatedSnapshot.timestamp() <= criteria.maxTimestamp();
+    }
+
+    private static SnapshotProtocol.LoadSnapshotResult toLoadSnapshotResult(final String persistenceId,
+            final HibernatedSnapshot hibernatedSnapshot, final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+
+        final SnapshotMetadata metadata = new SnapshotMetadata(persistenceId, hibernatedSnapshot.sequenceNr(),
+                hibernatedSnapshot.timestamp(),
+                Option.apply(new Hibernated(hibernatedSnapshot.persistedSnapshotSequenceNr())));
+        return new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(metadata, hibernatedSnapshot.snapshot())),
+                loadSnapshot.toSequenceNr());
+    }
+
+    private static long estimateSize(final Object snapshot) {
+        if (snapshot instanceof BsonDocument bsonDocument) {
+            return new RawBsonDocument(bsonDocument, new BsonDocumentCodec()).getByteBuffer().remaining();
+        }
+        return snapshot.toString().length();
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Message of a persistence actor to hibernate its entity when it was passivated.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     * @param sequenceNr the current sequence number of the entity.
+     * @param persistedSnapshotSequenceNr the sequence number of the latest snapshot of the entity persisted by the
+     * delegate snapshot store.
+     * @param snapshot the compact snapshot of the entity at {@code sequenceNr}.
+     */
+    public record Hibernate(String persistenceId, long sequenceNr, long persistedSnapshotSequenceNr,
+            Object snapshot) {}
+
+    private record Hibernated(long persistedSnapshotSequenceNr) {}
+
+    private record HibernatedSnapshot(long sequenceNr, long persistedSnapshotSequenceNr, long timestamp,
+            Object snapshot, long size) {}
+
+}
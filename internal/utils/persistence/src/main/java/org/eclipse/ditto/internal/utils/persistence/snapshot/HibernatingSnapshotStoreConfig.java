@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the {@link HibernatingSnapshotStore}.
+ */
+@Immutable
+public interface HibernatingSnapshotStoreConfig {
+
+    /**
+     * Returns the ID of the snapshot store plugin all snapshots are written to and loaded from if no hibernated
+     * snapshot is available.
+     *
+     * @return the snapshot store plugin ID.
+     */
+    String getDelegatePluginId();
+
+    /**
+     * Returns the ID of the journal plugin which is asked for the highest sequence number of an entity in order to
+     * verify that its hibernated snapshot is up to date.
+     *
+     * @return the journal plugin ID.
+     */
+    String getJournalPluginId();
+
+    /**
+     * Returns the maximum total size of the hibernated snapshots kept in memory in bytes.
+     *
+     * @return the maximum size.
+     */
+    long getMaxSize();
+
+    /**
+     * Returns the timeout of requests to the delegate snapshot store and to the journal.
+     *
+     * @return the ask timeout.
+     */
+    Duration getAskTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code HibernatingSnapshotStoreConfig}.
+     */
+    enum HibernatingSnapshotStoreConfigValue implements KnownConfigValue {
+
+        /**
+         * The ID of the snapshot store plugin all snapshots are written to.
+         */
+        DELEGATE("delegate", ""),
+
+        /**
+         * The ID of the journal plugin used to verify hibernated snapshots.
+         */
+        JOURNAL("journal", ""),
+
+        /**
+         * The maximum total size of the hibernated snapshots kept in memory.
+         */
+        MAX_SIZE("max-size", 64L * 1024L * 1024L),
+
+        /**
+         * The timeout of requests to the delegate snapshot store and to the journal.
+         */
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        HibernatingSnapshotStoreConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+    }
+
+}
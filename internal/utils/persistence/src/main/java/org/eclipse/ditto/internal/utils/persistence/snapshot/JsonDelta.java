@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Computes and applies compact deltas between JSON objects. A delta is an array of operations, each containing the
+ * {@code path} as array of keys and - for setting a value - the {@code value}; operations without value remove the
+ * path. Nested objects are compared recursively, all other values are replaced as a whole.
+ */
+@Immutable
+final class JsonDelta {
+
+    private static final String PATH = "path";
+    private static final String VALUE = "value";
+
+    private JsonDelta() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Computes the operations transforming {@code base} into {@code target}.
+     *
+     * @param base the JSON object to compute the delta for.
+     * @param target the JSON object the delta results in.
+     * @return the operations of the delta, empty if both objects are equal.
+     */
+    static JsonArray compute(final JsonObject base, final JsonObject target) {
+        final JsonArrayBuilder operations = JsonFactory.newArrayBuilder();
+        diff(base, target, new ArrayList<>(), operations);
+        return operations.build();
+    }
+
+    /**
+     * Applies the operations of a delta computed by {@link #compute(JsonObject, JsonObject)} to its base.
+     *
+     * @param base the JSON object the delta was computed for.
+     * @param operations the operations of the delta.
+     * @return the resulting JSON object.
+     * @throws IllegalArgumentException if an operation has no path.
+     */
+    static JsonObject apply(final JsonObject base, final JsonArray operations) {
+        JsonObject result = base;
+        for (final JsonValue operationValue : operations) {
+            final JsonObject operation = operationValue.asObject();
+            final JsonPointer pointer = operation.getValue(PATH)
+                    .filter(JsonValue::isArray)
+                    .map(path -> toPointer(path.asArray()))
+                    .orElseThrow(() -> new IllegalArgumentException("Delta operation without path: " + operation));
+            final Optional<JsonValue> value = operation.getValue(VALUE);
+            if (value.isPresent()) {
+                result = result.setValue(pointer, value.get());
+            } else {
+                result = result.remove(pointer);
+            }
+        }
+        return result;
+    }
+
+    private static void diff(final JsonObject base, final JsonObject target, final List<JsonKey> path,
+            final JsonArrayBuilder operations) {
+
+        for (final JsonField field : target) {
+            final JsonKey key = field.getKey();
+            final JsonValue value = field.getValue();
+            final Optional<JsonValue> baseValue = base.getValue(key);
+            if (baseValue.isPresent() && baseValue.get().isObject() && value.isObject()) {
+                path.add(key);
+                diff(baseValue.get().asObject(), value.asObject(), path, operations);
+                path.remove(path.size() - 1);
+            } else if (baseValue.isEmpty() || !baseValue.get().equals(value)) {
+                operations.add(JsonObject.newBuilder()
+                        .set(PATH, toPathArray(path, key))
+                        .set(VALUE, value)
+                        .build());
+            }
+        }
+        for (final JsonField field : base) {
+            if (!target.contains(field.getKey())) {
+                operations.add(JsonObject.newBuilder().set(PATH, toPathArray(path, field.getKey())).build());
+            }
+        }
+    }
+
+    private static JsonArray toPathArray(final List<JsonKey> path, final JsonKey leaf) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        path.forEach(key -> builder.add(key.toString()));
+        return builder.add(leaf.toString()).build();
+    }
+
+    private static JsonPointer toPointer(final JsonArray pathArray) {
+        if (pathArray.isEmpty()) {
+            throw new IllegalArgumentException("Delta operation with empty path.");
+        }
+        final JsonKey[] keys = pathArray.stream()
+                .map(JsonValue::asString)
+                .map(JsonFactory::newKey)
+                .toArray(JsonKey[]::new);
+        final JsonKey[] subLevels = new JsonKey[keys.length - 1];
+        System.arraycopy(keys, 1, subLevels, 0, subLevels.length);
+        return JsonFactory.newPointer(keys[0], subLevels);
+    }
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.JournalProtocol;
+import org.apache.pekko.persistence.PersistentEnvelope;
+import org.apache.pekko.persistence.PersistentRepr;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.typesafe.config.ConfigFactory;
+
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Unit test for {@link GroupCommitJournal}.
+ */
+public final class GroupCommitJournalTest {
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void initActorSystem() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void coalescesWritesOfDifferentPersistenceActors() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actorA = TestProbe.apply(actorSystem);
+        final TestProbe actorB = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 2");
+        final PersistentRepr eventA = event("thing:a", 1L);
+        final PersistentRepr eventB = event("thing:b", 7L);
+
+        underTest.tell(writeMessages(actorA.ref(), 11, eventA), actorA.ref());
+        underTest.tell(writeMessages(actorB.ref(), 22, eventB), actorB.ref());
+
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        assertThat(groupCommit.messages().size()).isEqualTo(2);
+        replySuccess(delegate, groupCommit, eventA, eventB);
+
+        actorA.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actorA.expectMsg(new JournalProtocol.WriteMessageSuccess(eventA, 11));
+        actorB.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actorB.expectMsg(new JournalProtocol.WriteMessageSuccess(eventB, 22));
+    }
+
+    @Test
+    public void commitsPendingWritesAfterWindow() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 100ms, max-batch-size = 100");
+        final PersistentRepr event = event("thing:a", 1L);
+
+        underTest.tell(writeMessages(actor.ref(), 1, event), actor.ref());
+
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        assertThat(groupCommit.messages().size()).isEqualTo(1);
+        replySuccess(delegate, groupCommit, event);
+
+        actor.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actor.expectMsg(new JournalProtocol.WriteMessageSuccess(event, 1));
+    }
+
+    @Test
+    public void retriesWritesOfFailedGroupCommitInIsolation() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actorA = TestProbe.apply(actorSystem);
+        final TestProbe actorB = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 2");
+        final PersistentRepr eventA = event("thing:a", 1L);
+        final PersistentRepr eventB = event("thing:b", 1L);
+        final IllegalStateException cause = new IllegalStateException("expected");
+
+        underTest.tell(writeMessages(actorA.ref(), 1, eventA), actorA.ref());
+        underTest.tell(writeMessages(actorB.ref(), 2, eventB), actorB.ref());
+
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, groupCommit, cause, eventA, eventB);
+        actorA.expectNoMessage();
+
+        final JournalProtocol.WriteMessages retryA = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        final JournalProtocol.WriteMessages retryB = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        assertThat(retryA.messages().size()).isEqualTo(1);
+        assertThat(retryB.messages().size()).isEqualTo(1);
+        replySuccess(delegate, retryA, eventA);
+        replyFailure(delegate, retryB, cause, eventB);
+
+        actorA.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actorA.expectMsg(new JournalProtocol.WriteMessageSuccess(eventA, 1));
+        actorB.expectMsg(new JournalProtocol.WriteMessagesFailed(cause, 1));
+        actorB.expectMsg(new JournalProtocol.WriteMessageFailure(eventB, cause, 2));
+    }
+
+    @Test
+    public void reportsDuplicateKeyErrorsOfRetriedWritesPersistedByFailedGroupAsSuccess() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actorA = TestProbe.apply(actorSystem);
+        final TestProbe actorB = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 2");
+        final PersistentRepr eventA = event("thing:a", 1L);
+        final PersistentRepr eventB = event("thing:b", 1L);
+
+        underTest.tell(writeMessages(actorA.ref(), 1, eventA), actorA.ref());
+        underTest.tell(writeMessages(actorB.ref(), 2, eventB), actorB.ref());
+
+        // the first write was stored by the failed group commit
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, groupCommit, new IllegalStateException("expected"), eventA, eventB);
+
+        final JournalProtocol.WriteMessages retryA = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        final JournalProtocol.WriteMessages retryB = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, retryA, duplicateKeyError(), eventA);
+        replySuccess(delegate, retryB, eventB);
+
+        final JournalProtocol.ReplayMessages replay = delegate.expectMsgClass(JournalProtocol.ReplayMessages.class);
+        assertThat(replay.persistenceId()).isEqualTo("thing:a");
+        assertThat(replay.fromSequenceNr()).isEqualTo(1L);
+        assertThat(replay.toSequenceNr()).isEqualTo(1L);
+        actorA.expectNoMessage();
+        replyReplay(delegate, replay, eventA);
+
+        actorA.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actorA.expectMsg(new JournalProtocol.WriteMessageSuccess(eventA, 1));
+        actorB.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actorB.expectMsg(new JournalProtocol.WriteMessageSuccess(eventB, 2));
+    }
+
+    @Test
+    public void reportsDuplicateKeyErrorsOfRetriedWritesConflictingWithStoredEventsAsFailure() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actorA = TestProbe.apply(actorSystem);
+        final TestProbe actorB = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 2");
+        final PersistentRepr eventA = event("thing:a", 1L);
+        final PersistentRepr eventB = event("thing:b", 1L);
+        final MongoBulkWriteException duplicateKey = duplicateKeyError();
+
+        underTest.tell(writeMessages(actorA.ref(), 1, eventA), actorA.ref());
+        underTest.tell(writeMessages(actorB.ref(), 2, eventB), actorB.ref());
+
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, groupCommit, new IllegalStateException("expected"), eventA, eventB);
+
+        final JournalProtocol.WriteMessages retryA = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        final JournalProtocol.WriteMessages retryB = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, retryA, duplicateKey, eventA);
+        replySuccess(delegate, retryB, eventB);
+
+        // another incarnation of the entity, e.g. during a split brain, stored a different event
+        final JournalProtocol.ReplayMessages replay = delegate.expectMsgClass(JournalProtocol.ReplayMessages.class);
+        replyReplay(delegate, replay, PersistentRepr.apply("other-event-1", 1L, "thing:a", "", false,
+                ActorRef.noSender(), "other-writer"));
+
+        actorA.expectMsg(new JournalProtocol.WriteMessagesFailed(duplicateKey, 1));
+        actorA.expectMsg(new JournalProtocol.WriteMessageFailure(eventA, duplicateKey, 1));
+        actorB.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actorB.expectMsg(new JournalProtocol.WriteMessageSuccess(eventB, 2));
+    }
+
+    @Test
+    public void reportsDuplicateKeyErrorsOfRetriedWritesAsFailureIfReplayFails() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actorA = TestProbe.apply(actorSystem);
+        final TestProbe actorB = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 2");
+        final PersistentRepr eventA = event("thing:a", 1L);
+        final PersistentRepr eventB = event("thing:b", 1L);
+        final MongoBulkWriteException duplicateKey = duplicateKeyError();
+
+        underTest.tell(writeMessages(actorA.ref(), 1, eventA), actorA.ref());
+        underTest.tell(writeMessages(actorB.ref(), 2, eventB), actorB.ref());
+
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, groupCommit, new IllegalStateException("expected"), eventA, eventB);
+
+        final JournalProtocol.WriteMessages retryA = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, retryA, duplicateKey, eventA);
+
+        final JournalProtocol.ReplayMessages replay = delegate.expectMsgClass(JournalProtocol.ReplayMessages.class);
+        replay.persistentActor()
+                .tell(new JournalProtocol.ReplayMessagesFailure(new IllegalStateException("expected")),
+                        delegate.ref());
+
+        actorA.expectMsg(new JournalProtocol.WriteMessagesFailed(duplicateKey, 1));
+        actorA.expectMsg(new JournalProtocol.WriteMessageFailure(eventA, duplicateKey, 1));
+    }
+
+    @Test
+    public void reportsDuplicateKeyErrorsOfFirstAttemptAsFailure() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 1");
+        final PersistentRepr event = event("thing:a", 1L);
+        final MongoBulkWriteException duplicateKey = duplicateKeyError();
+
+        underTest.tell(writeMessages(actor.ref(), 1, event), actor.ref());
+
+        final JournalProtocol.WriteMessages groupCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        replyFailure(delegate, groupCommit, duplicateKey, event);
+
+        actor.expectMsg(new JournalProtocol.WriteMessagesFailed(duplicateKey, 1));
+        actor.expectMsg(new JournalProtocol.WriteMessageFailure(event, duplicateKey, 1));
+        delegate.expectNoMessage();
+    }
+
+    @Test
+    public void keepsOneWriteRequestPerActorInFlight() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 100ms, max-batch-size = 1");
+        final PersistentRepr event1 = event("thing:a", 1L);
+        final PersistentRepr event2 = event("thing:a", 2L);
+
+        // e.g. persistAllAsync issues the second request before the first one completed
+        underTest.tell(writeMessages(actor.ref(), 1, event1), actor.ref());
+        underTest.tell(writeMessages(actor.ref(), 1, event2), actor.ref());
+
+        final JournalProtocol.WriteMessages firstCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        assertThat(firstCommit.messages().size()).isEqualTo(1);
+        delegate.expectNoMessage();
+        replySuccess(delegate, firstCommit, event1);
+        actor.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actor.expectMsg(new JournalProtocol.WriteMessageSuccess(event1, 1));
+
+        final JournalProtocol.WriteMessages secondCommit = delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        assertThat(secondCommit.messages().size()).isEqualTo(1);
+        replySuccess(delegate, secondCommit, event2);
+        actor.expectMsg(JournalProtocol.WriteMessagesSuccessful$.MODULE$);
+        actor.expectMsg(new JournalProtocol.WriteMessageSuccess(event2, 1));
+    }
+
+    @Test
+    public void forwardsOtherJournalRequestsToDelegate() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe actor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createGroupCommitJournal(delegate, "window = 1h, max-batch-size = 100");
+        final PersistentRepr event = event("thing:a", 1L);
+        final JournalProtocol.DeleteMessagesTo deleteMessagesTo =
+                new JournalProtocol.DeleteMessagesTo("thing:a", 1L, actor.ref());
+
+        underTest.tell(writeMessages(actor.ref(), 1, event), actor.ref());
+        underTest.tell(deleteMessagesTo, actor.ref());
+
+        delegate.expectMsgClass(JournalProtocol.WriteMessages.class);
+        delegate.expectMsg(deleteMessagesTo);
+        assertThat(delegate.lastSender()).isEqualTo(actor.ref());
+    }
+
+    private static ActorRef createGroupCommitJournal(final TestProbe delegate, final String settings) {
+        final GroupCommitJournalConfig config =
+                DefaultGroupCommitJournalConfig.of(ConfigFactory.parseString("delegate = test, " + settings));
+        return actorSystem.actorOf(GroupCommitJournal.props(config, delegate.ref()));
+    }
+
+    private static PersistentRepr event(final String persistenceId, final long sequenceNr) {
+        return PersistentRepr.apply("event-" + sequenceNr, sequenceNr, persistenceId, "", false,
+                ActorRef.noSender(), "writer");
+    }
+
+    private static MongoBulkWriteException duplicateKeyError() {
+        return new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0)), null,
+                new ServerAddress(), Set.of());
+    }
+
+    private static JournalProtocol.WriteMessages writeMessages(final ActorRef persistentActor,
+            final int actorInstanceId, final PersistentRepr event) {
+
+        final List<PersistentEnvelope> envelopes = List.of(AtomicWrite.apply(event));
+        return new JournalProtocol.WriteMessages(CollectionConverters.asScala(envelopes).toList(), persistentActor,
+                actorInstanceId);
+    }
+
+    private static void replySuccess(final TestProbe delegate, final JournalProtocol.WriteMessages request,
+            final PersistentRepr... events) {
+
+        final ActorRef journal = request.persistentActor();
+        journal.tell(JournalProtocol.WriteMessagesSuccessful$.MODULE$, delegate.ref());
+        for (final PersistentRepr event : events) {
+            journal.tell(new JournalProtocol.WriteMessageSuccess(event, request.actorInstanceId()), delegate.ref());
+        }
+    }
+
+    private static void replyReplay(final TestProbe delegate, final JournalProtocol.ReplayMessages request,
+            final PersistentRepr... events) {
+
+        final ActorRef journal = request.persistentActor();
+        for (final PersistentRepr event : events) {
+            journal.tell(new JournalProtocol.ReplayedMessage(event), delegate.ref());
+        }
+        journal.tell(new JournalProtocol.RecoverySuccess(request.toSequenceNr()), delegate.ref());
+    }
+
+    private static void replyFailure(final TestProbe delegate, final JournalProtocol.WriteMessages request,
+            final Throwable cause, final PersistentRepr... events) {
+
+        final ActorRef journal = request.persistentActor();
+        journal.tell(new JournalProtocol.WriteMessagesFailed(cause, events.length), delegate.ref());
+        for (final PersistentRepr event : events) {
+            journal.tell(new JournalProtocol.WriteMessageFailure(event, cause, request.actorInstanceId()),
+                    delegate.ref());
+        }
+    }
+
+}
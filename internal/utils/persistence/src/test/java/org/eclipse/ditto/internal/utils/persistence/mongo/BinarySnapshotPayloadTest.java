@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BinarySnapshotPayload}.
+ */
+public final class BinarySnapshotPayloadTest {
+
+    private static final JsonObject SNAPSHOT = JsonObject.of("{" +
+            "\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy\"," +
+            "\"_revision\":42," +
+            "\"_modified\":\"2026-10-19T10:00:00Z\"," +
+            "\"attributes\":{\"org.eclipse.ditto\":\"dotted\",\"$dollar\":[1,2,3]}," +
+            "\"features\":{\"f\":{\"properties\":{\"temperature\":21.5,\"on\":true,\"nothing\":null}}}" +
+            "}");
+
+    @Test
+    public void bsonFormatWritesPlainDocument() {
+        final BsonDocument document = BinarySnapshotPayload.encode(SNAPSHOT, BinarySnapshotPayload.Format.BSON);
+
+        assertThat(BinarySnapshotPayload.isBinary(document)).isFalse();
+        assertThat(document).isEqualTo(DittoBsonJson.getInstance().parse(SNAPSHOT));
+        assertThat(BinarySnapshotPayload.decode(document)).isEqualTo(SNAPSHOT);
+    }
+
+    @Test
+    public void cborRoundTrip() {
+        assertRoundTrip(BinarySnapshotPayload.Format.CBOR);
+    }
+
+    @Test
+    public void compressedCborRoundTrip() {
+        assertRoundTrip(BinarySnapshotPayload.Format.CBOR_DEFLATE);
+    }
+
+    @Test
+    public void binaryDocumentsRetainTopLevelScalars() {
+        final BsonDocument document =
+                BinarySnapshotPayload.encode(SNAPSHOT, BinarySnapshotPayload.Format.CBOR_DEFLATE);
+
+        assertThat(document.getString(BinarySnapshotPayload.FORMAT_FIELD).getValue()).isEqualTo("cbor-deflate");
+        assertThat(document.getInt32(BinarySnapshotPayload.VERSION_FIELD).getValue()).isOne();
+        assertThat(document.getNumber("_revision").longValue()).isEqualTo(42L);
+        assertThat(document.getString("policyId").getValue()).isEqualTo("org.eclipse.ditto:policy");
+        assertThat(document.getString("_modified").getValue()).isEqualTo("2026-10-19T10:00:00Z");
+        assertThat(document.containsKey("attributes")).isFalse();
+        assertThat(document.containsKey("features")).isFalse();
+    }
+
+    @Test
+    public void unknownFormatIsRejected() {
+        final BsonDocument document = BinarySnapshotPayload.encode(SNAPSHOT, BinarySnapshotPayload.Format.CBOR);
+        document.put(BinarySnapshotPayload.FORMAT_FIELD, new BsonString("zstd"));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> BinarySnapshotPayload.decode(document));
+    }
+
+    private static void assertRoundTrip(final BinarySnapshotPayload.Format format) {
+        final BsonDocument document = BinarySnapshotPayload.encode(SNAPSHOT, format);
+
+        assertThat(BinarySnapshotPayload.isBinary(document)).isTrue();
+        assertThat(BinarySnapshotPayload.decode(document)).isEqualTo(SNAPSHOT);
+    }
+
+}
@@ -56,6 +56,9 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isHibernationEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.HIBERNATION_ENABLED.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.HIBERNATION_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -68,5 +71,8 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isHibernationEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.HIBERNATION_ENABLED.getConfigPath())
+                .isTrue();
     }
 }
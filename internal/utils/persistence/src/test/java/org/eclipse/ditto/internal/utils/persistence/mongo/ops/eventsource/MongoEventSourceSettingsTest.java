@@ -15,8 +15,11 @@ package org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.List;
+
 import org.junit.Test;
 
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigException;
 import com.typesafe.config.ConfigFactory;
 
@@ -54,6 +57,25 @@ public class MongoEventSourceSettingsTest {
         assertThat(settings.getSnapshotCollectionName()).isEqualTo(SNAPSHOT_COLLECTION_NAME);
     }
 
+    @Test
+    public void fromConfigWithAdditionalSnapshotPlugins() {
+        final String additionalSnapshotPluginId = "my-base-snapshot-plugin-id";
+        final Config config = ConfigFactory.parseString("""
+                my-journal-plugin-id.overrides {
+                  metadata-collection = myMetadataCollection
+                  journal-collection = myJournalCollection
+                }
+                my-snapshot-plugin-id.overrides.snaps-collection = mySnapshotCollection
+                my-base-snapshot-plugin-id.overrides.snaps-collection = myBaseSnapshotCollection
+                """);
+
+        final MongoEventSourceSettings settings = MongoEventSourceSettings.fromConfig(config, PERSISTENCE_ID_PREFIX,
+                SUPPORTS_NAMESPACES, JOURNAL_PLUGIN_ID, SNAPSHOT_PLUGIN_ID, List.of(additionalSnapshotPluginId));
+
+        assertThat(settings.getSnapshotCollectionName()).isEqualTo(SNAPSHOT_COLLECTION_NAME);
+        assertThat(settings.getAdditionalSnapshotCollectionNames()).containsExactly("myBaseSnapshotCollection");
+    }
+
     @Test
     public void fromConfigFailsWithEmptyConfig() {
         assertThatExceptionOfType(ConfigException.Missing.class).isThrownBy(() ->
@@ -16,7 +16,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.Collection;
+import java.util.List;
 
+import org.bson.BsonRegularExpression;
 import org.bson.BsonString;
 import org.bson.Document;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
@@ -24,6 +26,8 @@ import org.eclipse.ditto.base.model.entity.type.EntityType;
 import org.eclipse.ditto.things.model.ThingConstants;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Tests {@link MongoPersistenceOperationsSelectionProvider}.
  */
@@ -36,6 +40,7 @@ public final class MongoPersistenceOperationsSelectionProviderTest {
     private static final String METADATA_COLLECTION_NAME = "myMetadataCollection";
     private static final String JOURNAL_COLLECTION_NAME = "myJournalCollection";
     private static final String SNAPSHOT_COLLECTION_NAME = "mySnapshotCollection";
+    private static final String BASE_SNAPSHOT_COLLECTION_NAME = "myBaseSnapshotCollection";
 
     private static final String ENTITY_NS = "my.ns";
     private static final String ENTITY_NAME = "name";
@@ -74,4 +79,26 @@ public final class MongoPersistenceOperationsSelectionProviderTest {
                         expectedSnapshotSelection);
     }
 
+    @Test
+    public void selectNamespaceIncludesAdditionalSnapshotCollections() {
+        final MongoEventSourceSettings settings = MongoEventSourceSettings.fromConfig(ConfigFactory.parseString(
+                        "journal.overrides.metadata-collection = " + METADATA_COLLECTION_NAME + "\n" +
+                                "journal.overrides.journal-collection = " + JOURNAL_COLLECTION_NAME + "\n" +
+                                "snapshots.overrides.snaps-collection = " + SNAPSHOT_COLLECTION_NAME + "\n" +
+                                "base-snapshots.overrides.snaps-collection = " + BASE_SNAPSHOT_COLLECTION_NAME),
+                PERSISTENCE_ID_PREFIX, true, "journal", "snapshots", List.of("base-snapshots"));
+        final MongoPersistenceOperationsSelectionProvider underTest =
+                MongoPersistenceOperationsSelectionProvider.of(settings);
+
+        final Collection<MongoPersistenceOperationsSelection> selections = underTest.selectNamespace(ENTITY_NS);
+
+        final Document pidFilter = new Document().append(KEY_PID,
+                new BsonRegularExpression("^" + PERSISTENCE_ID_PREFIX + ENTITY_NS + ":"));
+        assertThat(selections).containsExactlyInAnyOrder(
+                MongoPersistenceOperationsSelection.of(METADATA_COLLECTION_NAME, pidFilter),
+                MongoPersistenceOperationsSelection.of(JOURNAL_COLLECTION_NAME, pidFilter),
+                MongoPersistenceOperationsSelection.of(SNAPSHOT_COLLECTION_NAME, pidFilter),
+                MongoPersistenceOperationsSelection.of(BASE_SNAPSHOT_COLLECTION_NAME, pidFilter));
+    }
+
 }
@@ -652,6 +652,44 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4", "pid6");
     }
 
+    @Test
+    public void streamEventPayloadsOfPidBetweenSequenceNumbers() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).withPayload(payload("2024-01-01T10:00:00Z"))
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(2L).withPayload(payload("2024-01-01T10:00:01Z"))
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(3L).withPayload(payload("2024-01-01T10:00:02Z"))
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(4L).withPayload(payload("2024-01-01T10:00:03Z"))
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid2").withSn(2L).withPayload(payload("2024-01-01T10:00:01Z"))
+                .getDocument());
+
+        final List<BsonDocument> payloads =
+                readJournal.currentEventPayloadsByPersistenceId("pid1", 2L, 3L, null)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+        final List<BsonDocument> lastPayloads =
+                readJournal.currentEventPayloadsByPersistenceId("pid1", -2L, Long.MAX_VALUE, null)
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+        final List<BsonDocument> payloadsFromTimestamp =
+                readJournal.currentEventPayloadsByPersistenceId("pid1", 1L, Long.MAX_VALUE,
+                                Instant.parse("2024-01-01T10:00:02.500Z"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+
+        assertThat(payloads).containsExactly(payload("2024-01-01T10:00:01Z"), payload("2024-01-01T10:00:02Z"));
+        assertThat(lastPayloads).containsExactly(payload("2024-01-01T10:00:02Z"), payload("2024-01-01T10:00:03Z"));
+        assertThat(payloadsFromTimestamp)
+                .containsExactly(payload("2024-01-01T10:00:02Z"), payload("2024-01-01T10:00:03Z"));
+    }
+
+    private static BsonDocument payload(final String timestamp) {
+        return new BsonDocument().append("type", new BsonString("test:event"))
+                .append("_timestamp", new BsonString(timestamp));
+    }
+
     private void insert(final CharSequence collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
@@ -672,12 +710,19 @@ public final class MongoReadJournalIT {
         }
 
         private JournalEntry withSn(final Long sn) {
+            document.append("from", sn);
             document.append("to", sn);
             final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
             event.append("sn", new BsonInt64(sn));
             return this;
         }
 
+        private JournalEntry withPayload(final BsonDocument payload) {
+            final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
+            event.append("p", payload);
+            return this;
+        }
+
         private JournalEntry withManifest(final String manifest) {
             final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
             event.append("manifest", new BsonString(manifest));
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.SaveSnapshotSuccess;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Unit test for {@link DeltaSnapshotStore}.
+ */
+public final class DeltaSnapshotStoreTest {
+
+    private static final String PERSISTENCE_ID = "thing:org.eclipse.ditto:large";
+    private static final JsonObject LARGE_THING = JsonObject.of("""
+            {
+              "thingId": "org.eclipse.ditto:large",
+              "_revision": 10,
+              "features": {
+                "a": {"properties": {"value": "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"}},
+                "b": {"properties": {"value": "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb"}},
+                "c": {"properties": {"value": "cccccccccccccccccccccccccccccccccccccccccccccccccccccccccc"}},
+                "d": {"properties": {"value": 0}}
+              }
+            }
+            """);
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void initActorSystem() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void smallSnapshotIsWrittenInFull() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe baseDelegate = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createDeltaSnapshotStore(delegate, baseDelegate, "min-full-size = 1m");
+        final SnapshotMetadata metadata = new SnapshotMetadata(PERSISTENCE_ID, 10L, 0L);
+        final BsonDocument snapshot = toBson(LARGE_THING);
+
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(metadata, snapshot), persistenceActor.ref());
+
+        final SnapshotProtocol.SaveSnapshot fullWrite = delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class);
+        assertThat(fullWrite.snapshot()).isEqualTo(snapshot);
+        delegate.reply(new SaveSnapshotSuccess(metadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(metadata));
+        baseDelegate.expectNoMessage();
+    }
+
+    @Test
+    public void largeSnapshotIsWrittenAsDeltaToBaseAndReconstructedOnLoad() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe baseDelegate = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest =
+                createDeltaSnapshotStore(delegate, baseDelegate, "min-full-size = 0, max-delta-ratio = 0.75");
+
+        // first snapshot is written as base
+        final SnapshotMetadata baseMetadata = new SnapshotMetadata(PERSISTENCE_ID, 10L, 0L);
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(baseMetadata, toBson(LARGE_THING)), persistenceActor.ref());
+        baseDelegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class);
+        baseDelegate.reply(new SaveSnapshotSuccess(baseMetadata));
+        delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class);
+        delegate.reply(new SaveSnapshotSuccess(baseMetadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(baseMetadata));
+
+        // second snapshot is written as delta
+        final JsonObject modifiedThing = LARGE_THING.setValue("_revision", 20)
+                .setValue("/features/d/properties/value", 1);
+        final SnapshotMetadata deltaMetadata = new SnapshotMetadata(PERSISTENCE_ID, 20L, 0L);
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(deltaMetadata, toBson(modifiedThing)),
+                persistenceActor.ref());
+        final SnapshotProtocol.SaveSnapshot deltaWrite =
+                delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class);
+        final BsonDocument deltaDocument = (BsonDocument) deltaWrite.snapshot();
+        assertThat(deltaDocument.containsKey("__delta")).isTrue();
+        assertThat(deltaDocument.containsKey("features")).isFalse();
+        assertThat(DittoBsonJson.getInstance().serialize(deltaDocument).getValue("_revision"))
+                .contains(JsonValue.of(20));
+        delegate.reply(new SaveSnapshotSuccess(deltaMetadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(deltaMetadata));
+
+        // loading the delta reconstructs the full snapshot from its base
+        underTest.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID, SnapshotSelectionCriteria.latest(),
+                Long.MAX_VALUE), persistenceActor.ref());
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        delegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(deltaMetadata, deltaDocument)), Long.MAX_VALUE));
+        final SnapshotProtocol.LoadSnapshot baseLoad =
+                baseDelegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        assertThat(baseLoad.criteria().maxSequenceNr()).isEqualTo(10L);
+        baseDelegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(baseMetadata, toBson(LARGE_THING))), Long.MAX_VALUE));
+
+        final SnapshotProtocol.LoadSnapshotResult loaded =
+                persistenceActor.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+        assertThat(loaded.snapshot().get().metadata()).isEqualTo(deltaMetadata);
+        assertThat(DittoBsonJson.getInstance().serialize((BsonDocument) loaded.snapshot().get().snapshot()))
+                .isEqualTo(modifiedThing);
+    }
+
+    @Test
+    public void olderDeltaIsReconstructedAfterNewerBaseWasWritten() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe baseDelegate = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest =
+                createDeltaSnapshotStore(delegate, baseDelegate, "min-full-size = 0, max-delta-ratio = 0.75");
+
+        final SnapshotMetadata baseMetadata = new SnapshotMetadata(PERSISTENCE_ID, 10L, 0L);
+        saveBase(underTest, delegate, baseDelegate, persistenceActor, baseMetadata, LARGE_THING);
+
+        final JsonObject modifiedThing = LARGE_THING.setValue("_revision", 20)
+                .setValue("/features/d/properties/value", 1);
+        final SnapshotMetadata deltaMetadata = new SnapshotMetadata(PERSISTENCE_ID, 20L, 0L);
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(deltaMetadata, toBson(modifiedThing)),
+                persistenceActor.ref());
+        final BsonDocument deltaDocument =
+                (BsonDocument) delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class).snapshot();
+        delegate.reply(new SaveSnapshotSuccess(deltaMetadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(deltaMetadata));
+
+        // the third snapshot differs too much from the base, thus a new base is written
+        final JsonObject rewrittenThing = LARGE_THING.setValue("_revision", 30)
+                .setValue("/features/a/properties/value", "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx")
+                .setValue("/features/b/properties/value", "yyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyy")
+                .setValue("/features/c/properties/value", "zzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzzz");
+        saveBase(underTest, delegate, baseDelegate, persistenceActor, new SnapshotMetadata(PERSISTENCE_ID, 30L, 0L),
+                rewrittenThing);
+        baseDelegate.expectNoMessage();
+
+        // the older delta still refers to the older base
+        underTest.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID, SnapshotSelectionCriteria.create(20L,
+                Long.MAX_VALUE), Long.MAX_VALUE), persistenceActor.ref());
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        delegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(deltaMetadata, deltaDocument)), Long.MAX_VALUE));
+        final SnapshotProtocol.LoadSnapshot baseLoad =
+                baseDelegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        assertThat(baseLoad.criteria().maxSequenceNr()).isEqualTo(10L);
+        baseDelegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(baseMetadata, toBson(LARGE_THING))), Long.MAX_VALUE));
+
+        final SnapshotProtocol.LoadSnapshotResult loaded =
+                persistenceActor.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+        assertThat(DittoBsonJson.getInstance().serialize((BsonDocument) loaded.snapshot().get().snapshot()))
+                .isEqualTo(modifiedThing);
+    }
+
+    @Test
+    public void deltasAreStillReconstructedIfWritingDeltasIsDisabled() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe baseDelegate = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef deltaWriting =
+                createDeltaSnapshotStore(delegate, baseDelegate, "min-full-size = 0, max-delta-ratio = 0.75");
+        final SnapshotMetadata baseMetadata = new SnapshotMetadata(PERSISTENCE_ID, 10L, 0L);
+        saveBase(deltaWriting, delegate, baseDelegate, persistenceActor, baseMetadata, LARGE_THING);
+        final JsonObject modifiedThing = LARGE_THING.setValue("_revision", 20)
+                .setValue("/features/d/properties/value", 1);
+        final SnapshotMetadata deltaMetadata = new SnapshotMetadata(PERSISTENCE_ID, 20L, 0L);
+        deltaWriting.tell(new SnapshotProtocol.SaveSnapshot(deltaMetadata, toBson(modifiedThing)),
+                persistenceActor.ref());
+        final BsonDocument deltaDocument =
+                (BsonDocument) delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class).snapshot();
+        delegate.reply(new SaveSnapshotSuccess(deltaMetadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(deltaMetadata));
+
+        final ActorRef underTest = createDeltaSnapshotStore(delegate, baseDelegate,
+                "min-full-size = 0, max-delta-ratio = 0.75, write-deltas = false");
+
+        // the delta written before is reconstructed from its base
+        underTest.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID, SnapshotSelectionCriteria.latest(),
+                Long.MAX_VALUE), persistenceActor.ref());
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        delegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(deltaMetadata, deltaDocument)), Long.MAX_VALUE));
+        baseDelegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        baseDelegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(baseMetadata, toBson(LARGE_THING))), Long.MAX_VALUE));
+        final SnapshotProtocol.LoadSnapshotResult loaded =
+                persistenceActor.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+        assertThat(DittoBsonJson.getInstance().serialize((BsonDocument) loaded.snapshot().get().snapshot()))
+                .isEqualTo(modifiedThing);
+
+        // new snapshots are written in full although a base is known
+        final JsonObject nextThing = modifiedThing.setValue("_revision", 30)
+                .setValue("/features/d/properties/value", 2);
+        final SnapshotMetadata fullMetadata = new SnapshotMetadata(PERSISTENCE_ID, 30L, 0L);
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(fullMetadata, toBson(nextThing)), persistenceActor.ref());
+        assertThat(delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class).snapshot())
+                .isEqualTo(toBson(nextThing));
+        delegate.reply(new SaveSnapshotSuccess(fullMetadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(fullMetadata));
+        baseDelegate.expectNoMessage();
+    }
+
+    @Test
+    public void deletingAllSnapshotsDeletesAllBases() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe baseDelegate = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createDeltaSnapshotStore(delegate, baseDelegate, "write-deltas = false");
+
+        underTest.tell(new SnapshotProtocol.DeleteSnapshots(PERSISTENCE_ID, SnapshotSelectionCriteria.latest()),
+                persistenceActor.ref());
+
+        delegate.expectMsgClass(SnapshotProtocol.DeleteSnapshots.class);
+        final SnapshotProtocol.DeleteSnapshots baseDeletion =
+                baseDelegate.expectMsgClass(SnapshotProtocol.DeleteSnapshots.class);
+        assertThat(baseDeletion.persistenceId()).isEqualTo(PERSISTENCE_ID);
+        assertThat(baseDeletion.criteria().maxSequenceNr()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void deletingSnapshotsKeepsYoungestDeletedBase() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe baseDelegate = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest =
+                createDeltaSnapshotStore(delegate, baseDelegate, "min-full-size = 0, max-delta-ratio = 0.75");
+
+        underTest.tell(new SnapshotProtocol.DeleteSnapshots(PERSISTENCE_ID,
+                SnapshotSelectionCriteria.create(25L, Long.MAX_VALUE)), persistenceActor.ref());
+
+        delegate.expectMsgClass(SnapshotProtocol.DeleteSnapshots.class);
+        final SnapshotProtocol.LoadSnapshot youngestBaseLoad =
+                baseDelegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        assertThat(youngestBaseLoad.criteria().maxSequenceNr()).isEqualTo(25L);
+        baseDelegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(new SnapshotMetadata(PERSISTENCE_ID, 10L, 0L),
+                        toBson(LARGE_THING))), Long.MAX_VALUE));
+
+        // snapshots after 25 may still refer to the base at 10
+        final SnapshotProtocol.DeleteSnapshots baseDeletion =
+                baseDelegate.expectMsgClass(SnapshotProtocol.DeleteSnapshots.class);
+        assertThat(baseDeletion.criteria().maxSequenceNr()).isEqualTo(9L);
+    }
+
+    private static void saveBase(final ActorRef underTest, final TestProbe delegate, final TestProbe baseDelegate,
+            final TestProbe persistenceActor, final SnapshotMetadata metadata, final JsonObject thing) {
+
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(metadata, toBson(thing)), persistenceActor.ref());
+        assertThat(baseDelegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class).snapshot())
+                .isEqualTo(toBson(thing));
+        baseDelegate.reply(new SaveSnapshotSuccess(metadata));
+        delegate.expectMsgClass(SnapshotProtocol.SaveSnapshot.class);
+        delegate.reply(new SaveSnapshotSuccess(metadata));
+        persistenceActor.expectMsg(new SaveSnapshotSuccess(metadata));
+    }
+
+    private static ActorRef createDeltaSnapshotStore(final TestProbe delegate, final TestProbe baseDelegate,
+            final String config) {
+
+        final DeltaSnapshotStoreConfig deltaSnapshotStoreConfig = DefaultDeltaSnapshotStoreConfig.of(
+                ConfigFactory.parseString("delegate = delegate, base-delegate = base, " + config));
+        return actorSystem.actorOf(
+                DeltaSnapshotStore.props(deltaSnapshotStoreConfig, delegate.ref(), baseDelegate.ref()));
+    }
+
+    private static BsonDocument toBson(final JsonObject jsonObject) {
+        return DittoBsonJson.getInstance().parse(jsonObject);
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.JournalProtocol;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BinarySnapshotPayload;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Unit test for {@link HibernatingSnapshotStore}.
+ */
+public final class HibernatingSnapshotStoreTest {
+
+    private static final String PERSISTENCE_ID = "thing:org.eclipse.ditto:hibernated";
+    private static final String OTHER_PERSISTENCE_ID = "thing:org.eclipse.ditto:other";
+    private static final BsonDocument SNAPSHOT = BinarySnapshotPayload.encode(JsonObject.of("""
+            {
+              "thingId": "org.eclipse.ditto:hibernated",
+              "_revision": 10,
+              "attributes": {"location": "kitchen"}
+            }
+            """), BinarySnapshotPayload.Format.CBOR_DEFLATE);
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void initActorSystem() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void hibernatedSnapshotIsOfferedOnceWithoutLoadingItFromDelegate() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe journal = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createHibernatingSnapshotStore(delegate, journal, "max-size = 1m");
+
+        underTest.tell(new HibernatingSnapshotStore.Hibernate(PERSISTENCE_ID, 10L, 5L, SNAPSHOT),
+                persistenceActor.ref());
+        underTest.tell(loadLatestSnapshot(PERSISTENCE_ID), persistenceActor.ref());
+
+        replyHighestSequenceNr(journal, 10L);
+        final SnapshotProtocol.LoadSnapshotResult loaded =
+                persistenceActor.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+        final SelectedSnapshot selectedSnapshot = loaded.snapshot().get();
+        assertThat(selectedSnapshot.snapshot()).isEqualTo(SNAPSHOT);
+        assertThat(selectedSnapshot.metadata().sequenceNr()).isEqualTo(10L);
+        assertThat(HibernatingSnapshotStore.getPersistedSnapshotSequenceNr(selectedSnapshot.metadata()))
+                .hasValue(5L);
+        delegate.expectNoMessage();
+
+        // the entity is alive again, so its hibernated snapshot is gone
+        underTest.tell(loadLatestSnapshot(PERSISTENCE_ID), persistenceActor.ref());
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        journal.expectNoMessage();
+    }
+
+    @Test
+    public void outdatedHibernatedSnapshotIsLoadedFromDelegate() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe journal = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createHibernatingSnapshotStore(delegate, journal, "max-size = 1m");
+
+        underTest.tell(new HibernatingSnapshotStore.Hibernate(PERSISTENCE_ID, 10L, 10L, SNAPSHOT),
+                persistenceActor.ref());
+        underTest.tell(loadLatestSnapshot(PERSISTENCE_ID), persistenceActor.ref());
+
+        // the entity was modified on another node meanwhile
+        replyHighestSequenceNr(journal, 12L);
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        final SnapshotMetadata persistedMetadata = new SnapshotMetadata(PERSISTENCE_ID, 11L, 0L);
+        delegate.reply(new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(new SelectedSnapshot(persistedMetadata, SNAPSHOT)), Long.MAX_VALUE));
+
+        final SnapshotProtocol.LoadSnapshotResult loaded =
+                persistenceActor.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+        assertThat(loaded.snapshot().get().metadata()).isEqualTo(persistedMetadata);
+        assertThat(HibernatingSnapshotStore.getPersistedSnapshotSequenceNr(loaded.snapshot().get().metadata()))
+                .isEmpty();
+    }
+
+    @Test
+    public void leastRecentlyHibernatedSnapshotIsEvictedWhenExceedingMaxSize() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe journal = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final int snapshotSize =
+                new RawBsonDocument(SNAPSHOT, new BsonDocumentCodec()).getByteBuffer().remaining();
+        final ActorRef underTest =
+                createHibernatingSnapshotStore(delegate, journal, "max-size = " + (snapshotSize + snapshotSize / 2));
+
+        underTest.tell(new HibernatingSnapshotStore.Hibernate(PERSISTENCE_ID, 10L, 10L, SNAPSHOT),
+                persistenceActor.ref());
+        underTest.tell(new HibernatingSnapshotStore.Hibernate(OTHER_PERSISTENCE_ID, 10L, 10L, SNAPSHOT),
+                persistenceActor.ref());
+
+        underTest.tell(loadLatestSnapshot(PERSISTENCE_ID), persistenceActor.ref());
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        journal.expectNoMessage();
+
+        underTest.tell(loadLatestSnapshot(OTHER_PERSISTENCE_ID), persistenceActor.ref());
+        replyHighestSequenceNr(journal, 10L);
+        assertThat(persistenceActor.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class).snapshot().get()
+                .snapshot()).isEqualTo(SNAPSHOT);
+    }
+
+    @Test
+    public void historicalSnapshotIsLoadedFromDelegate() {
+        final TestProbe delegate = TestProbe.apply(actorSystem);
+        final TestProbe journal = TestProbe.apply(actorSystem);
+        final TestProbe persistenceActor = TestProbe.apply(actorSystem);
+        final ActorRef underTest = createHibernatingSnapshotStore(delegate, journal, "max-size = 1m");
+
+        underTest.tell(new HibernatingSnapshotStore.Hibernate(PERSISTENCE_ID, 10L, 10L, SNAPSHOT),
+                persistenceActor.ref());
+        underTest.tell(new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID,
+                SnapshotSelectionCriteria.create(5L, Long.MAX_VALUE), Long.MAX_VALUE), persistenceActor.ref());
+
+        delegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+        journal.expectNoMessage();
+    }
+
+    private static ActorRef createHibernatingSnapshotStore(final TestProbe delegate, final TestProbe journal,
+            final String config) {
+
+        final HibernatingSnapshotStoreConfig hibernatingSnapshotStoreConfig =
+                DefaultHibernatingSnapshotStoreConfig.of(
+                        ConfigFactory.parseString("delegate = delegate, journal = journal, " + config));
+        return actorSystem.actorOf(
+                HibernatingSnapshotStore.props(hibernatingSnapshotStoreConfig, delegate.ref(), journal.ref()));
+    }
+
+    private static SnapshotProtocol.LoadSnapshot loadLatestSnapshot(final String persistenceId) {
+        return new SnapshotProtocol.LoadSnapshot(persistenceId, SnapshotSelectionCriteria.latest(), Long.MAX_VALUE);
+    }
+
+    private static void replyHighestSequenceNr(final TestProbe journal, final long highestSequenceNr) {
+        final JournalProtocol.ReplayMessages replayMessages =
+                journal.expectMsgClass(JournalProtocol.ReplayMessages.class);
+        assertThat(replayMessages.max()).isZero();
+        replayMessages.persistentActor().tell(new JournalProtocol.RecoverySuccess(highestSequenceNr),
+                ActorRef.noSender());
+    }
+
+}
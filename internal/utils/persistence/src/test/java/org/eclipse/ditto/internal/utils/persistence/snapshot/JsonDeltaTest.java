@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonDelta}.
+ */
+public final class JsonDeltaTest {
+
+    private static final JsonObject BASE = JsonObject.of("""
+            {
+              "thingId": "org.eclipse.ditto:thing",
+              "_revision": 10,
+              "attributes": {"location": "kitchen", "serial": "1234"},
+              "features": {
+                "sensor": {"properties": {"temperature": 21.5, "humidity": 40, "history": [1, 2, 3]}},
+                "lamp": {"properties": {"on": false}}
+              }
+            }
+            """);
+
+    @Test
+    public void equalObjectsHaveEmptyDelta() {
+        assertThat(JsonDelta.compute(BASE, BASE)).isEmpty();
+    }
+
+    @Test
+    public void deltaContainsOnlyChangedLeaves() {
+        final JsonObject target = BASE.setValue("_revision", 20)
+                .setValue("/features/sensor/properties/temperature", 22.0);
+
+        final JsonArray delta = JsonDelta.compute(BASE, target);
+
+        assertThat(delta).hasSize(2);
+        assertThat(JsonDelta.apply(BASE, delta)).isEqualTo(target);
+    }
+
+    @Test
+    public void appliedDeltaReconstructsAddedReplacedAndRemovedValues() {
+        final JsonObject target = BASE.remove("/features/lamp")
+                .remove("/attributes/serial")
+                .setValue("/features/sensor/properties/history", JsonArray.of("[2, 3, 4]"))
+                .setValue("/features/sensor/properties/pressure", JsonObject.of("{\"value\": 1013}"))
+                .setValue("/attributes/location", JsonObject.empty())
+                .setValue("/attributes/note", JsonValue.nullLiteral());
+
+        final JsonArray delta = JsonDelta.compute(BASE, target);
+
+        assertThat(JsonDelta.apply(BASE, delta)).isEqualTo(target);
+    }
+
+}
@@ -14,9 +14,14 @@ package org.eclipse.ditto.internal.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -28,6 +33,7 @@ import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.pattern.StatusReply;
+import org.apache.pekko.persistence.Persistence;
 import org.apache.pekko.persistence.RecoveryCompleted;
 import org.apache.pekko.persistence.RecoveryTimedOut;
 import org.apache.pekko.persistence.SaveSnapshotFailure;
@@ -47,11 +53,13 @@ import org.eclipse.ditto.base.model.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.DittoHeadersSettable;
+import org.eclipse.ditto.base.model.headers.IfEqual;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.events.Event;
 import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
 import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
@@ -68,6 +76,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.snapshot.HibernatingSnapshotStore;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
@@ -81,6 +90,8 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.ConfigFactory;
+
 import scala.Option;
 
 /**
@@ -107,13 +118,35 @@ public abstract class AbstractPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final String PIPELINE_WINDOW_TIMER = "pipelineWindow";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private final MongoReadJournal mongoReadJournal;
     private final StartedTimer paRecoveryTimer;
+    private long snapshotDecodeNanos;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    @Nullable private HistoricalStateCache<S, E> historicalStateCache;
+
+    /**
+     * Mutations applied optimistically to {@link #entity} in pipelined persist mode which were not yet persisted.
+     */
+    private final Deque<PipelinedMutation<E, S>> pipelinedMutations;
+
+    /**
+     * Mutations applied optimistically to {@link #entity} in pipelined persist mode whose events are being persisted.
+     */
+    private List<PipelinedMutation<E, S>> inFlightMutations;
+
+    /**
+     * The entity at the revision of the last persisted event while mutations are pipelined.
+     */
+    @Nullable private S committedEntity;
+    private int uncommittedInFlightEvents;
+    private int stagedMutationsInProgress;
+    private boolean drainingPipeline;
 
     /**
      * The current entity, or null if it was never created.
@@ -128,6 +161,7 @@ public abstract class AbstractPersistenceActor<
 
 
     private long accessCounter = 0L;
+    private boolean passivationRequested = false;
     private final BlockedNamespaces blockedNamespaces;
 
     /**
@@ -151,6 +185,14 @@ public abstract class AbstractPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        historicalStateCache = null;
+
+        pipelinedMutations = new ArrayDeque<>();
+        inFlightMutations = List.of();
+        committedEntity = null;
+        uncommittedInFlightEvents = 0;
+        stagedMutationsInProgress = 0;
+        drainingPipeline = false;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event ->
@@ -163,6 +205,55 @@ public abstract class AbstractPersistenceActor<
         blockedNamespaces = BlockedNamespaces.of(actorSystem);
     }
 
+    /**
+     * Indicates whether modify commands are persisted in pipelined mode: Consecutive modify commands are applied
+     * optimistically to the in-memory entity while the events of previous ones are still being persisted and their
+     * events are persisted together as one atomic batch. Responses are only sent after the batch was persisted; if it
+     * is rejected, the entity is rolled back and all pipelined commands fail.
+     * <p>
+     * Only commands neither creating nor deleting the entity are pipelined; all other commands wait until the
+     * pipelined events are persisted. Queries and commands with conditional headers wait until the pipelined events
+     * are persisted as well, so that they never observe optimistically applied state which may still be rolled back.
+     *
+     * @return whether pipelined persist mode is enabled, {@code false} by default.
+     */
+    protected boolean isPipelinedPersistEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the maximum number of pipelined events persisted as one batch.
+     *
+     * @return the maximum batch size.
+     */
+    protected int getPipelinedPersistMaxBatchSize() {
+        return 100;
+    }
+
+    /**
+     * Returns the window for which pipelined events are collected before they are persisted, allowing more events
+     * to be persisted in one batch (and compacted) at the cost of a higher latency of the responses.
+     *
+     * @return the window, {@link Duration#ZERO} by default for persisting pipelined events immediately.
+     */
+    protected Duration getPipelinedPersistWindow() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Indicates whether the passed {@code event} is superseded by the {@code laterEvent} persisted in the same
+     * pipelined batch, i.e. whether applying the later event makes the change of the event invisible. Superseded
+     * events are replaced by an {@link EmptyEvent} with the same revision and timestamp in the journal which is skipped
+     * when replaying historical states or streaming persisted events; they are still published.
+     *
+     * @param event the event to check.
+     * @param laterEvent an event with a higher revision of the same batch.
+     * @return whether the event need not be journaled with its payload, {@code false} by default.
+     */
+    protected boolean isSupersededBy(final E event, final E laterEvent) {
+        return false;
+    }
+
     /**
      * Invoked whenever the locally cached entity by this PersistenceActor was modified.
      */
@@ -280,10 +371,26 @@ public abstract class AbstractPersistenceActor<
         // override to introduce additional logging and other side effects
         becomeCreatedOrDeletedHandler();
         final StoppedTimer stoppedTimer = paRecoveryTimer.stop();
-        log.info("Entity <{}> was recovered in <{}ms>", entityId, stoppedTimer.getDuration().toMillis());
+        final long replayedEvents = Math.max(0L, lastSequenceNr() - lastSnapshotRevision);
+        reportRecoveryMetrics(replayedEvents);
+        log.info("Entity <{}> was recovered in <{}ms> with <{}ms> spent decoding the snapshot and <{}> replayed events",
+                entityId, stoppedTimer.getDuration().toMillis(), TimeUnit.NANOSECONDS.toMillis(snapshotDecodeNanos),
+                replayedEvents);
         getContext().getParent().tell(AbstractPersistenceSupervisor.Control.PA_RECOVERED, getSelf());
     }
 
+    private void reportRecoveryMetrics(final long replayedEvents) {
+        final var entityTypeTag = SpanTagKey.SIGNAL_TYPE.getTagForValue(entityId.getEntityType());
+        if (lastSnapshotRevision > 0L) {
+            DittoMetrics.timer("pa_recovery_snapshot_decode")
+                    .tag(entityTypeTag)
+                    .record(snapshotDecodeNanos, TimeUnit.NANOSECONDS);
+        }
+        DittoMetrics.histogram("pa_recovery_replayed_events")
+                .tag(entityTypeTag)
+                .record(replayedEvents);
+    }
+
     /**
      * Apply the created or deleted behavior according to the current state of the entity.
      */
@@ -296,6 +403,17 @@ public abstract class AbstractPersistenceActor<
         }
     }
 
+    /**
+     * Returns the maximum number of historical states of the entity reconstructed for historical retrieve commands
+     * which are kept in order to answer repeated historical retrieves without replaying the journal from a snapshot.
+     * Zero by default, which disables caching historical states.
+     *
+     * @return the maximum number of cached historical states.
+     */
+    protected int getHistoricalStateCacheSize() {
+        return 0;
+    }
+
     /**
      * @return the current revision number for event handling.
      */
@@ -306,6 +424,11 @@ public abstract class AbstractPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        // the supervisor may refuse the requested passivation, thus only hibernate once actually stopped
+        if (passivationRequested && isEntityActive() && !isPipelineActive() &&
+                getSnapshotConfig().isHibernationEnabled()) {
+            hibernate();
+        }
         super.postStop();
     }
 
@@ -354,8 +477,9 @@ public abstract class AbstractPersistenceActor<
                         .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                         .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                         .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
-                        .match(PersistEventAsync.class, persistEventAsync ->
-                                persistAndApplyEvent((E) persistEventAsync.event, persistEventAsync.handler))
+                        .match(PersistEventAsync.class, this::handlePersistEventAsync)
+                        .matchEquals(Control.STAGED_MUTATION_FAILED, this::stagedMutationFailed)
+                        .matchEquals(Control.PERSIST_PIPELINE, this::persistPipelineAfterWindow)
                         .build())
                 .orElse(matchAnyAfterInitialization());
 
@@ -415,6 +539,22 @@ public abstract class AbstractPersistenceActor<
                 return;
             }
 
+            final long atRevision = atHistoricalRevision.orElseGet(this::lastSequenceNr);
+            final Optional<HistoricalStateCache.HistoricalState<S, E>> cachedState = getHistoricalStateCache()
+                    .flatMap(cache -> cache.getNearest(atRevision, atHistoricalTimestamp));
+            if (cachedState.isPresent()) {
+                @Nullable final S cachedEntity = cachedState.get().entity();
+                final E cachedEvent = cachedState.get().event();
+                if (atHistoricalTimestamp.equals(Instant.EPOCH) && cachedEvent.getRevision() == atRevision) {
+                    answerHistoricalRetrieve(command, commandStrategy, sender, cachedEntity, cachedEvent);
+                } else {
+                    replayHistoricalEvents(command, commandStrategy, eventStrategy, sender, self,
+                            cachedEvent.getRevision() + 1, atRevision, atHistoricalTimestamp, cachedEntity,
+                            cachedEvent);
+                }
+                return;
+            }
+
             loadSnapshot(persistenceId(), SnapshotSelectionCriteria.create(
                     atHistoricalRevision.orElseGet(this::lastSequenceNr),
                     atHistoricalTimestamp.equals(Instant.EPOCH) ? Long.MAX_VALUE : atHistoricalTimestamp.toEpochMilli(),
@@ -480,58 +620,8 @@ public abstract class AbstractPersistenceActor<
             }
 
             @Nullable final S entityFromSnapshot = snapshotIsPresent ? snapshotEntity.get() : null;
-            mongoReadJournal.currentEventsByPersistenceId(persistenceId(),
-                            fromSequenceNr,
-                            atHistoricalRevision
-                    )
-                    .map(AbstractPersistenceActor::mapJournalEntryToEvent)
-                    .map(journalEntryEvent -> new EntityWithEvent(
-                            eventStrategy.handle((E) journalEntryEvent, entityFromSnapshot,
-                                    journalEntryEvent.getRevision()),
-                            (E) journalEntryEvent
-                    ))
-                    .takeWhile(entityWithEvent -> {
-                        if (atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                            // no at-historical-timestamp was specified, so take all up to "at-historical-revision":
-                            return true;
-                        } else {
-                            // take while the timestamps of the events are before the specified "at-historical-timestamp":
-                            return entityWithEvent.event.getTimestamp()
-                                    .filter(ts -> ts.isBefore(atHistoricalTimestamp))
-                                    .isPresent();
-                        }
-                    })
-                    .fold(new EntityWithEvent(null, null), (ewe1, ewe2) -> {
-                        if (ewe1.event == null) {
-                            return ewe2; // for start element of "fold", use the first real element
-                        } else if (ewe2.event != null && ewe2.revision != null) {
-                            return new EntityWithEvent(
-                                    eventStrategy.handle(ewe2.event, ewe1.entity, ewe2.revision),
-                                    ewe2.event
-                            );
-                        } else {
-                            return ewe1;
-                        }
-                    })
-                    .runWith(Sink.foreach(entityWithEvent -> {
-                                if (entityWithEvent.event != null && entityWithEvent.revision != null) {
-                                    commandStrategy.apply(getStrategyContext(),
-                                            entityWithEvent.entity,
-                                            entityWithEvent.revision,
-                                            command
-                                    ).accept(new HistoricalResultListener(sender,
-                                            entityWithEvent.event.getDittoHeaders()), null);
-                                } else {
-                                    if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                                        sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(),
-                                                self);
-                                    } else {
-                                        sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision).build(),
-                                                self);
-                                    }
-                                }
-                            }),
-                            getContext().getSystem());
+            replayHistoricalEvents(command, commandStrategy, eventStrategy, sender, self, fromSequenceNr,
+                    atHistoricalRevision, atHistoricalTimestamp, entityFromSnapshot, null);
         } else {
             if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
                 sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(), self);
@@ -545,6 +635,87 @@ public abstract class AbstractPersistenceActor<
         unstashAll();
     }
 
+    private void replayHistoricalEvents(final C command,
+            final CommandStrategy<C, S, K, E> commandStrategy,
+            final EventStrategy<E, S> eventStrategy,
+            final ActorRef sender,
+            final ActorRef self,
+            final long fromSequenceNr,
+            final long atHistoricalRevision,
+            final Instant atHistoricalTimestamp,
+            @Nullable final S startEntity,
+            @Nullable final E startEvent) {
+
+        final Optional<HistoricalStateCache<S, E>> historicalStateCache = getHistoricalStateCache();
+        mongoReadJournal.currentEventsByPersistenceId(persistenceId(),
+                        fromSequenceNr,
+                        atHistoricalRevision
+                )
+                .map(AbstractPersistenceActor::mapJournalEntryToEvent)
+                // empty events (e.g. placeholders of compacted events) do not change the entity's state:
+                .filter(journalEntryEvent -> !(journalEntryEvent instanceof EmptyEvent))
+                .map(journalEntryEvent -> (E) journalEntryEvent)
+                .map(journalEntryEvent -> new EntityWithEvent(
+                        eventStrategy.handle(journalEntryEvent, startEntity, journalEntryEvent.getRevision()),
+                        journalEntryEvent
+                ))
+                .takeWhile(entityWithEvent -> {
+                    if (atHistoricalTimestamp.equals(Instant.EPOCH)) {
+                        // no at-historical-timestamp was specified, so take all up to "at-historical-revision":
+                        return true;
+                    } else {
+                        // take while the timestamps of the events are before the specified "at-historical-timestamp":
+                        return entityWithEvent.event.getTimestamp()
+                                .filter(ts -> ts.isBefore(atHistoricalTimestamp))
+                                .isPresent();
+                    }
+                })
+                // when starting from a cached historical state, that state is the result if no event is taken
+                .fold(new EntityWithEvent(startEntity, startEvent), (ewe1, ewe2) -> {
+                    if (ewe1.event == null) {
+                        return ewe2; // for start element of "fold", use the first real element
+                    } else if (ewe2.event != null && ewe2.revision != null) {
+                        return new EntityWithEvent(
+                                eventStrategy.handle(ewe2.event, ewe1.entity, ewe2.revision),
+                                ewe2.event
+                        );
+                    } else {
+                        return ewe1;
+                    }
+                })
+                .runWith(Sink.foreach(entityWithEvent -> {
+                            if (entityWithEvent.event != null && entityWithEvent.revision != null) {
+                                historicalStateCache.ifPresent(cache ->
+                                        cache.put(entityWithEvent.entity, entityWithEvent.event));
+                                answerHistoricalRetrieve(command, commandStrategy, sender, entityWithEvent.entity,
+                                        entityWithEvent.event);
+                            } else {
+                                if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
+                                    sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(),
+                                            self);
+                                } else {
+                                    sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision).build(),
+                                            self);
+                                }
+                            }
+                        }),
+                        getContext().getSystem());
+    }
+
+    private void answerHistoricalRetrieve(final C command, final CommandStrategy<C, S, K, E> commandStrategy,
+            final ActorRef sender, @Nullable final S historicalEntity, final E historicalEvent) {
+
+        commandStrategy.apply(getStrategyContext(), historicalEntity, historicalEvent.getRevision(), command)
+                .accept(new HistoricalResultListener(sender, historicalEvent.getDittoHeaders()), null);
+    }
+
+    private Optional<HistoricalStateCache<S, E>> getHistoricalStateCache() {
+        if (historicalStateCache == null && getHistoricalStateCacheSize() > 0) {
+            historicalStateCache = new HistoricalStateCache<>(getHistoricalStateCacheSize());
+        }
+        return Optional.ofNullable(historicalStateCache);
+    }
+
     /**
      * Processes a received {@link PingCommand}.
      * May be overwritten in order to hook into processing ping commands with additional functionality.
@@ -594,6 +765,16 @@ public abstract class AbstractPersistenceActor<
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void handlePersistEventAsync(final PersistEventAsync<?, ?> persistEventAsync) {
+        stagedMutationsInProgress = Math.max(0, stagedMutationsInProgress - 1);
+        persistAndApplyEvent((E) persistEventAsync.event, (BiConsumer<E, S>) persistEventAsync.handler);
+    }
+
+    private void stagedMutationFailed(final Control stagedMutationFailed) {
+        stagedMutationsInProgress = Math.max(0, stagedMutationsInProgress - 1);
+    }
+
     private record PersistEventAsync<
             E extends EventsourcedEvent<? extends E>,
             S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler) {}
@@ -610,7 +791,7 @@ public abstract class AbstractPersistenceActor<
         Patterns.pipe(eventStage.handle((e, throwable) -> {
             if (throwable != null) {
                 errorHandler.accept(throwable);
-                return null;
+                return Control.STAGED_MUTATION_FAILED;
             } else {
                 return new PersistEventAsync<>(e, handler);
             }
@@ -655,6 +836,8 @@ public abstract class AbstractPersistenceActor<
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
         } else if (accessCounter > message.accessCounter) {
             log.debug("Entity <{}> was accessed since last activity check, preventing Actor shutdown.", entityId);
+        } else if (isPipelineActive()) {
+            log.debug("Entity <{}> has pipelined events not yet persisted, preventing Actor shutdown.", entityId);
         } else if (isEntityActive() && isEntityAlwaysAlive()) {
             log.debug("Entity <{}> is active and marked as 'always-alive', preventing Actor shutdown.", entityId);
         } else {
@@ -670,6 +853,11 @@ public abstract class AbstractPersistenceActor<
     }
 
     private void handlePersistEmptyEvent(final PersistEmptyEvent persistEmptyEvent) {
+        if (isPipelineActive()) {
+            // the empty event must not take the revision of a pipelined event
+            awaitPipelineDrain();
+            return;
+        }
         log.debug("Received PersistEmptyEvent: <{}>", persistEmptyEvent);
         persist(persistEmptyEvent.getEmptyEvent(), event -> log.debug("Persisted EmptyEvent: <{}>", event));
     }
@@ -687,8 +875,8 @@ public abstract class AbstractPersistenceActor<
                         .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                         .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                         .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
-                        .match(PersistEventAsync.class, persistEventAsync ->
-                                persistAndApplyEvent((E) persistEventAsync.event, persistEventAsync.handler))
+                        .match(PersistEventAsync.class, this::handlePersistEventAsync)
+                        .matchEquals(Control.STAGED_MUTATION_FAILED, this::stagedMutationFailed)
                         .build())
                 .orElse(matchAnyWhenDeleted());
     }
@@ -734,6 +922,16 @@ public abstract class AbstractPersistenceActor<
     @SuppressWarnings("unchecked")
     private <T extends Command<?>> void handleByStrategy(final T command, @Nullable final S workEntity,
             final CommandStrategy<T, S, K, E> strategy) {
+        if (drainingPipeline) {
+            // preserve the order of commands until all pipelined events are persisted
+            stash();
+            return;
+        }
+        if (isPipelineActive() && isEvaluatedAgainstPersistedState(command)) {
+            // never answer a query or evaluate a precondition against mutations which are not persisted yet
+            awaitPipelineDrain();
+            return;
+        }
         log.debug("Handling by strategy: <{}>", command);
 
         final var startedSpan = DittoTracing.newPreparedSpan(
@@ -760,6 +958,10 @@ public abstract class AbstractPersistenceActor<
             result = ResultFactory.newErrorResult(dittoRuntimeException, tracedCommand);
             result.accept(this, startedSpan);
         }
+        if (drainingPipeline) {
+            // the command was stashed to be handled again after all pipelined events are persisted
+            return;
+        }
         reportSudoCommandDone(tracedCommand);
     }
 
@@ -767,6 +969,17 @@ public abstract class AbstractPersistenceActor<
     public void onMutation(final Command<?> command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted, @Nullable final StartedSpan startedSpan) {
 
+        if (isPipelinedPersistEnabled()) {
+            if (isPipelineable(event, becomeCreated, becomeDeleted)) {
+                pipelineMutation(command, event, response, startedSpan);
+                return;
+            } else if (isPipelineActive()) {
+                finishSpan(startedSpan);
+                awaitPipelineDrain();
+                return;
+            }
+        }
+
         final ActorRef sender = getSender();
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
@@ -794,6 +1007,15 @@ public abstract class AbstractPersistenceActor<
             final boolean becomeDeleted,
             @Nullable final StartedSpan startedSpan) {
 
+        if (isPipelinedPersistEnabled()) {
+            if (isPipelineActive()) {
+                finishSpan(startedSpan);
+                awaitPipelineDrain();
+                return;
+            }
+            stagedMutationsInProgress++;
+        }
+
         final ActorRef sender = getSender();
         persistAndApplyEventAsync(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
@@ -891,7 +1113,197 @@ public abstract class AbstractPersistenceActor<
     }
 
     private long getNextRevisionNumber() {
-        return getRevisionNumber() + 1;
+        return getRevisionNumber() + 1 + uncommittedInFlightEvents + pipelinedMutations.size();
+    }
+
+    private boolean isPipelineActive() {
+        return uncommittedInFlightEvents > 0 || !pipelinedMutations.isEmpty();
+    }
+
+    private static boolean isEvaluatedAgainstPersistedState(final Command<?> command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        return command.getCategory() == Command.Category.QUERY ||
+                dittoHeaders.getIfMatch().isPresent() ||
+                dittoHeaders.getIfNoneMatch().isPresent() ||
+                dittoHeaders.getIfEqual().filter(ifEqual -> ifEqual != IfEqual.UPDATE).isPresent() ||
+                dittoHeaders.getCondition().isPresent();
+    }
+
+    private boolean isPipelineable(final E event, final boolean becomeCreated, final boolean becomeDeleted) {
+        return !becomeCreated && !becomeDeleted && stagedMutationsInProgress == 0 && isEntityActive() &&
+                !event.getDittoHeaders().isDryRun();
+    }
+
+    private void pipelineMutation(final Command<?> command, final E event, final WithDittoHeaders response,
+            @Nullable final StartedSpan startedSpan) {
+
+        if (!isPipelineActive()) {
+            committedEntity = entity;
+        }
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        final S previousEntity = entity;
+        entity = getEventStrategy().handle(modifiedEvent, entity, modifiedEvent.getRevision());
+        pipelinedMutations.add(new PipelinedMutation<>(command, modifiedEvent, response, getSender(), previousEntity,
+                entity, startedSpan));
+        if (uncommittedInFlightEvents == 0) {
+            final Duration window = getPipelinedPersistWindow();
+            if (window.isZero() || window.isNegative() ||
+                    pipelinedMutations.size() >= getPipelinedPersistMaxBatchSize()) {
+                timers().cancel(PIPELINE_WINDOW_TIMER);
+                persistPipelinedMutations();
+            } else if (!timers().isTimerActive(PIPELINE_WINDOW_TIMER)) {
+                timers().startSingleTimer(PIPELINE_WINDOW_TIMER, Control.PERSIST_PIPELINE, window);
+            }
+        }
+    }
+
+    private void persistPipelineAfterWindow(final Control persistPipeline) {
+        if (uncommittedInFlightEvents == 0 && !pipelinedMutations.isEmpty()) {
+            persistPipelinedMutations();
+        }
+    }
+
+    private void persistPipelinedMutations() {
+        final int batchSize = Math.min(pipelinedMutations.size(), getPipelinedPersistMaxBatchSize());
+        final List<PipelinedMutation<E, S>> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(pipelinedMutations.poll());
+        }
+        inFlightMutations = batch;
+        uncommittedInFlightEvents = batchSize;
+        final List<Object> journalEntries = compactPipelinedEvents(batch);
+        log.debug("Persisting <{}> pipelined events.", batchSize);
+        persistAllAsync(journalEntries, persistedEvent -> {
+            uncommittedInFlightEvents--;
+            if (uncommittedInFlightEvents == 0) {
+                commitInFlightMutations();
+            }
+        });
+    }
+
+    private List<Object> compactPipelinedEvents(final List<PipelinedMutation<E, S>> batch) {
+        final List<Object> journalEntries = new ArrayList<>(batch.size());
+        int compacted = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            final E event = batch.get(i).event();
+            if (isSupersededInBatch(event, batch, i + 1)) {
+                // keep the revision, but drop the payload of the event nobody will observe when replaying the journal
+                journalEntries.add(new EmptyEvent(EmptyEvent.EFFECT_COMPACTED, event.getRevision(),
+                        event.getTimestamp().orElse(null), DittoHeaders.empty()));
+                compacted++;
+            } else {
+                journalEntries.add(event);
+            }
+        }
+        if (compacted > 0) {
+            log.debug("Compacted <{}> of <{}> pipelined events superseded within their batch.", compacted,
+                    batch.size());
+        }
+        return journalEntries;
+    }
+
+    private boolean isSupersededInBatch(final E event, final List<PipelinedMutation<E, S>> batch,
+            final int fromIndex) {
+        for (int j = fromIndex; j < batch.size(); j++) {
+            if (isSupersededBy(event, batch.get(j).event())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void commitInFlightMutations() {
+        final List<PipelinedMutation<E, S>> committed = inFlightMutations;
+        inFlightMutations = List.of();
+        final S optimisticEntity = entity;
+        for (final PipelinedMutation<E, S> mutation : committed) {
+            // publish each event with the entity it resulted in rather than the optimistically applied one
+            entity = mutation.resultingEntity();
+            publishEvent(mutation.previousEntity(), mutation.event());
+            if (shouldSendResponse(mutation.command().getDittoHeaders())) {
+                notifySender(mutation.sender(), mutation.response());
+            } else {
+                mutation.sender().tell(StatusReply.ack(), getSelf());
+            }
+            finishSpan(mutation.startedSpan());
+        }
+        entity = optimisticEntity;
+        committedEntity = committed.get(committed.size() - 1).resultingEntity();
+        log.info("Successfully persisted <{}> pipelined events w/ rev: <{}>.", committed.size(), getRevisionNumber());
+        onEntityModified();
+        if (snapshotThresholdPassed()) {
+            takeSnapshot("snapshot threshold is reached");
+        }
+        continuePipeline();
+    }
+
+    private void continuePipeline() {
+        if (!pipelinedMutations.isEmpty()) {
+            persistPipelinedMutations();
+        } else if (!isPipelineActive()) {
+            committedEntity = null;
+            if (drainingPipeline) {
+                drainingPipeline = false;
+                unstashAll();
+            }
+        }
+    }
+
+    private void awaitPipelineDrain() {
+        drainingPipeline = true;
+        stash();
+        if (uncommittedInFlightEvents == 0 && !pipelinedMutations.isEmpty()) {
+            // do not wait for the end of the window
+            timers().cancel(PIPELINE_WINDOW_TIMER);
+            persistPipelinedMutations();
+        }
+    }
+
+    private void rollbackPipeline(final Throwable cause) {
+        final List<PipelinedMutation<E, S>> failed = new ArrayList<>(inFlightMutations);
+        failed.addAll(pipelinedMutations);
+        log.warning("Rolling back <{}> pipelined mutations as persisting their events failed: <{}>", failed.size(),
+                cause.toString());
+        entity = committedEntity;
+        inFlightMutations = List.of();
+        pipelinedMutations.clear();
+        uncommittedInFlightEvents = 0;
+        for (final PipelinedMutation<E, S> mutation : failed) {
+            final DittoRuntimeException error = DittoInternalErrorException.newBuilder()
+                    .cause(cause)
+                    .dittoHeaders(mutation.command().getDittoHeaders())
+                    .build();
+            if (shouldSendResponse(mutation.command().getDittoHeaders())) {
+                notifySender(mutation.sender(), error);
+            } else {
+                mutation.sender().tell(StatusReply.error(error), getSelf());
+            }
+            finishSpan(mutation.startedSpan());
+        }
+        continuePipeline();
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        if (inFlightMutations.stream().anyMatch(mutation -> mutation.event() == event)) {
+            rollbackPipeline(cause);
+        }
+        super.onPersistRejected(cause, event, seqNr);
+    }
+
+    @Override
+    public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        if (isPipelineActive()) {
+            // the actor is stopped, thus answer the pipelined commands instead of letting them time out
+            rollbackPipeline(cause);
+        }
+        super.onPersistFailure(cause, event, seqNr);
+    }
+
+    private static void finishSpan(@Nullable final StartedSpan startedSpan) {
+        if (startedSpan != null) {
+            startedSpan.finish();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -953,6 +1365,8 @@ public abstract class AbstractPersistenceActor<
 
     private void doTakeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
+        // never snapshot optimistically applied mutations which are not persisted yet
+        final S entity = isPipelineActive() ? committedEntity : this.entity;
         if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
@@ -1008,8 +1422,13 @@ public abstract class AbstractPersistenceActor<
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
+        final long start = System.nanoTime();
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
-        lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        snapshotDecodeNanos = System.nanoTime() - start;
+        // a hibernated snapshot is not persisted, so only the latest persisted snapshot may be cleaned up to
+        lastSnapshotRevision = confirmedSnapshotRevision =
+                HibernatingSnapshotStore.getPersistedSnapshotSequenceNr(snapshotOffer.metadata())
+                        .orElse(snapshotOffer.metadata().sequenceNr());
     }
 
     @Override
@@ -1026,9 +1445,20 @@ public abstract class AbstractPersistenceActor<
 
     private void shutdown(final String shutdownLogTemplate, final I entityId) {
         log.info(shutdownLogTemplate, String.valueOf(entityId));
+        passivationRequested = true;
         passivate();
     }
 
+    private void hibernate() {
+        final long revision = getRevisionNumber();
+        log.debug("Hibernating entity <{}> with revision <{}>.", entityId, revision);
+        final var hibernate = new HibernatingSnapshotStore.Hibernate(persistenceId(), revision,
+                confirmedSnapshotRevision, snapshotAdapter.toHibernatedSnapshot(entity));
+        Persistence.get(getContext().getSystem())
+                .snapshotStoreFor(snapshotPluginId(), ConfigFactory.empty())
+                .tell(hibernate, getSelf());
+    }
+
     private boolean isEntityActive() {
         return entity != null && !entityExistsAsDeleted();
     }
@@ -1081,7 +1511,7 @@ public abstract class AbstractPersistenceActor<
         return new CheckForActivity(accessCounter);
     }
 
-    private static EventsourcedEvent<?> mapJournalEntryToEvent(final EventEnvelope eventEnvelope) {
+    private static Event<?> mapJournalEntryToEvent(final EventEnvelope eventEnvelope) {
 
         final BsonDocument event = (BsonDocument) eventEnvelope.event();
         final JsonObject eventAsJsonObject = DittoBsonJson.getInstance()
@@ -1092,7 +1522,7 @@ public abstract class AbstractPersistenceActor<
                 // re-parsing/re-validating every JSON-typed header value on each journal replay/recovery.
                 .map(DittoHeaders::newFromTrustedJson)
                 .orElseGet(DittoHeaders::empty);
-        return (EventsourcedEvent<?>) GlobalEventRegistry.getInstance().parse(eventAsJsonObject, dittoHeaders);
+        return GlobalEventRegistry.getInstance().parse(eventAsJsonObject, dittoHeaders);
     }
 
     /**
@@ -1109,9 +1539,25 @@ public abstract class AbstractPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        STAGED_MUTATION_FAILED,
+        PERSIST_PIPELINE
     }
 
+    /**
+     * A mutation applied optimistically in pipelined persist mode.
+     */
+    private record PipelinedMutation<
+            E extends EventsourcedEvent<? extends E>,
+            S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(
+            Command<?> command,
+            E event,
+            WithDittoHeaders response,
+            ActorRef sender,
+            @Nullable S previousEntity,
+            @Nullable S resultingEntity,
+            @Nullable StartedSpan startedSpan) {}
+
 
     /**
      * Local message this actor may send to itself in order to persist an {@link EmptyEvent} to the event journal,
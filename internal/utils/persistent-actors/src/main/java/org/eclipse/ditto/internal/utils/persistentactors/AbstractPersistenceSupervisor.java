@@ -22,6 +22,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -44,7 +45,6 @@ import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.AskTimeoutException;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.pattern.StatusReply;
-import org.apache.pekko.persistence.query.EventEnvelope;
 import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.stream.javadsl.StreamRefs;
 import org.bson.BsonDocument;
@@ -230,7 +230,7 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         return ReceiveBuilder.create()
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILDREN, this::startChildren)
-                .matchEquals(Control.PASSIVATE, this::passivate)
+                .matchEquals(Control.PASSIVATE, this::passivationRequested)
                 .matchEquals(Control.PA_RECOVERED, this::paRecovered)
                 .matchEquals(Control.SUDO_COMMAND_DONE, this::decrementSudoOpCounter)
                 .match(ProcessNextTwinMessage.class, decrementOpCounter(matchProcessNextTwinMessageBehavior))
@@ -255,7 +255,7 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         final Optional<Instant> fromHistoricalTimestamp = subscribeForPersistedEvents.getFromHistoricalTimestamp();
         final Optional<Instant> toHistoricalTimestamp = subscribeForPersistedEvents.getToHistoricalTimestamp();
         final Source<Long, NotUsed> startRevisionSource = fromHistoricalTimestamp
-                .map(fromTs -> mongoReadJournal.getLastSnapshotSequenceNumberBeforeTimestamp(persistenceId, fromTs)
+                .map(fromTs -> mongoReadJournal.getLastSequenceNumberBeforeTimestamp(persistenceId, fromTs)
                         .mergePrioritized(
                                 Source.single(subscribeForPersistedEvents.getFromHistoricalRevision()),
                                 2,
@@ -274,21 +274,26 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                                                 "<{}: {}>", dre.getClass().getSimpleName(), dre.getMessage());
                         sender.tell(dre, getSelf());
                     } else if (null != enforcedStreamPersistedEvents) {
+                        final Predicate<Event<?>> persistedEventFilter =
+                                getPersistedEventFilter(subscribeForPersistedEvents);
                         final var sourceRef = startRevisionSource
-                                .flatMapConcat(startRevision -> mongoReadJournal.currentEventsByPersistenceId(
+                                .flatMapConcat(startRevision -> mongoReadJournal.currentEventPayloadsByPersistenceId(
                                         persistenceId,
                                         startRevision,
-                                        subscribeForPersistedEvents.getToHistoricalRevision()
+                                        subscribeForPersistedEvents.getToHistoricalRevision(),
+                                        fromHistoricalTimestamp.orElse(null)
                                 ))
-                                .map(eventEnvelope ->
+                                .map(eventPayload ->
                                         mapJournalEntryToEvent(
-                                                (SubscribeForPersistedEvents) enforcedStreamPersistedEvents, eventEnvelope))
+                                                (SubscribeForPersistedEvents) enforcedStreamPersistedEvents, eventPayload))
+                                // empty events (e.g. placeholders of compacted events) are internal to the journal:
+                                .filter(event -> !(event instanceof EmptyEvent))
                                 .filter(event ->
                                         fromHistoricalTimestamp.flatMap(instant ->
                                                 event.getTimestamp().map(eventTs -> eventTs.isAfter(instant))
                                         ).orElse(true)
                                 )
-                                .filter(event -> applyPersistedEventFilter(event, subscribeForPersistedEvents))
+                                .filter(persistedEventFilter::test)
                                 .takeWhile(event ->
                                         toHistoricalTimestamp.flatMap(instant ->
                                                 event.getTimestamp().map(eventTs -> eventTs.isBefore(instant))
@@ -313,10 +318,21 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
      */
     protected abstract boolean applyPersistedEventFilter(Event<?> event, SubscribeForPersistedEvents subscribe);
 
+    /**
+     * Creates the filter applied on all events streamed for the passed {@code subscribe} message. Called once per
+     * subscription, so implementations may prepare expensive parts of the filter (e.g. a parsed RQL "filter") here.
+     * The default implementation delegates to {@link #applyPersistedEventFilter(Event, SubscribeForPersistedEvents)}.
+     *
+     * @param subscribe the subscribe message containing an RQL "filter" for applying filtering
+     * @return the predicate which events have to pass in order to be streamed
+     */
+    protected Predicate<Event<?>> getPersistedEventFilter(final SubscribeForPersistedEvents subscribe) {
+        return event -> applyPersistedEventFilter(event, subscribe);
+    }
+
     private Event<?> mapJournalEntryToEvent(final SubscribeForPersistedEvents enforcedSubscribeForPersistedEvents,
-            final EventEnvelope eventEnvelope) {
+            final BsonDocument event) {
 
-        final BsonDocument event = (BsonDocument) eventEnvelope.event();
         final JsonObject eventAsJsonObject = DittoBsonJson.getInstance()
                 .serialize(event);
 
@@ -637,6 +653,39 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         );
     }
 
+    /**
+     * Determines whether the entity was accessed by this supervisor without involving the persistence actor since the
+     * last time the persistence actor requested passivation, e.g. because commands were answered from state cached
+     * in the supervisor.
+     * Returning {@code true} prevents the passivation requested by the persistence actor which will check for
+     * activity again later.
+     *
+     * @return whether passivation should be prevented; {@code false} by default.
+     */
+    protected boolean wasAccessedLocallySinceLastPassivationRequest() {
+        return false;
+    }
+
+    /**
+     * Answers the passed sudo command without forwarding it to the persistence actor if possible, e.g. from state
+     * cached in the supervisor.
+     *
+     * @param sudoCommand the sudo command.
+     * @return the response to the sudo command or an empty Optional if it has to be forwarded to the persistence
+     * actor, which is the default.
+     */
+    protected Optional<Object> answerSudoCommandLocally(final SudoCommand<?> sudoCommand) {
+        return Optional.empty();
+    }
+
+    private void passivationRequested(final Control passivationTrigger) {
+        if (wasAccessedLocallySinceLastPassivationRequest()) {
+            log.debug("Entity with ID <{}> was accessed via its supervisor, preventing passivation.", entityId);
+        } else {
+            passivate(passivationTrigger);
+        }
+    }
+
     private void passivate(final Control passivationTrigger) {
         getContext().cancelReceiveTimeout();
         getContext().getParent().tell(new ShardRegion.Passivate(PoisonPill.getInstance()), getSelf());
@@ -748,8 +797,13 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                 SUDO_COMMANDS_COUNTER
                         .tag(SUDO_COMMAND_COUNTER_TAG_TYPE, sudoCommand.getType())
                         .increment();
-                ++sudoOpCounter;
-                persistenceActorChild.forward(sudoCommand, getContext());
+                final Optional<Object> localResponse = answerSudoCommandLocally(sudoCommand);
+                if (localResponse.isPresent()) {
+                    getSender().tell(localResponse.get(), getSelf());
+                } else {
+                    ++sudoOpCounter;
+                    persistenceActorChild.forward(sudoCommand, getContext());
+                }
             }
         } else {
             replyUnavailableException(sudoCommand, getSender());
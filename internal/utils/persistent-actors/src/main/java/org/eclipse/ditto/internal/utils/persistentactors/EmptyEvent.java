@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.base.model.entity.metadata.Metadata;
@@ -52,6 +53,11 @@ public final class EmptyEvent implements Event<EmptyEvent> {
      */
     public static final JsonValue EFFECT_PRIORITY_UPDATE = JsonValue.of("priorityUpdate");
 
+    /**
+     * Known effect of the "empty event" which replaces an event superseded by a later one persisted in the same batch.
+     */
+    public static final JsonValue EFFECT_COMPACTED = JsonValue.of("compacted");
+
     static final String TYPE_PREFIX = "persistence-actor-internal:";
 
     static final String NAME = "empty-event";
@@ -63,11 +69,26 @@ public final class EmptyEvent implements Event<EmptyEvent> {
 
     private final JsonValue effect;
     private final long revision;
+    @Nullable private final Instant timestamp;
     private final DittoHeaders dittoHeaders;
 
     public EmptyEvent(final JsonValue effect, final long revision, final DittoHeaders dittoHeaders) {
+        this(effect, revision, null, dittoHeaders);
+    }
+
+    /**
+     * Constructs a new {@code EmptyEvent} carrying a timestamp, e.g. the one of the event it replaces in the journal.
+     *
+     * @param effect the effect of the empty event.
+     * @param revision the revision of the empty event.
+     * @param timestamp the timestamp of the empty event or {@code null} if it has none.
+     * @param dittoHeaders the headers of the empty event.
+     */
+    public EmptyEvent(final JsonValue effect, final long revision, @Nullable final Instant timestamp,
+            final DittoHeaders dittoHeaders) {
         this.revision = revision;
         this.effect = effect;
+        this.timestamp = timestamp;
         this.dittoHeaders = dittoHeaders;
     }
 
@@ -86,7 +107,7 @@ public final class EmptyEvent implements Event<EmptyEvent> {
         return new EventJsonDeserializer<EmptyEvent>(TYPE, jsonObject)
                 .deserialize((revision, timestamp, metadata) -> {
                     final JsonValue readEffect = jsonObject.getValueOrThrow(JSON_EFFECT);
-                    return new EmptyEvent(readEffect, revision, dittoHeaders);
+                    return new EmptyEvent(readEffect, revision, timestamp, dittoHeaders);
                 });
     }
 
@@ -106,7 +127,7 @@ public final class EmptyEvent implements Event<EmptyEvent> {
 
     @Override
     public EmptyEvent setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return new EmptyEvent(effect, revision, dittoHeaders);
+        return new EmptyEvent(effect, revision, timestamp, dittoHeaders);
     }
 
     @Override
@@ -130,6 +151,9 @@ public final class EmptyEvent implements Event<EmptyEvent> {
         final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder()
                 .set(JsonFields.TYPE, getType())
                 .set(JSON_EFFECT, effect);
+        if (null != timestamp) {
+            jsonObjectBuilder.set(JsonFields.TIMESTAMP, timestamp.toString());
+        }
         return jsonObjectBuilder.build();
     }
 
@@ -145,7 +169,7 @@ public final class EmptyEvent implements Event<EmptyEvent> {
 
     @Override
     public Optional<Instant> getTimestamp() {
-        return Optional.empty();
+        return Optional.ofNullable(timestamp);
     }
 
     @Override
@@ -158,6 +182,7 @@ public final class EmptyEvent implements Event<EmptyEvent> {
         return getClass().getSimpleName() + " [" +
                 "effect=" + effect +
                 ", revision=" + revision +
+                ", timestamp=" + timestamp +
                 ", dittoHeaders=" + dittoHeaders +
                 "]";
     }
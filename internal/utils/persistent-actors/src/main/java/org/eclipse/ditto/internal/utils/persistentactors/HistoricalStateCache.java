@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
+
+/**
+ * Bounded LRU cache of the historical states of one entity reconstructed for historical retrieve commands, keyed by
+ * revision. Historical states never change, so a cached state is a valid starting point for replaying the events
+ * up to any later revision or timestamp.
+ *
+ * @param <S> the type of the entity.
+ * @param <E> the type of the events of the entity.
+ */
+@ThreadSafe
+final class HistoricalStateCache<S, E extends EventsourcedEvent<?>> {
+
+    private final Map<Long, HistoricalState<S, E>> states;
+
+    HistoricalStateCache(final int maxSize) {
+        states = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, HistoricalState<S, E>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Caches the state of the entity after the given event.
+     *
+     * @param entity the entity after applying {@code event}.
+     * @param event the event leading to the historical state.
+     */
+    synchronized void put(@Nullable final S entity, final E event) {
+        states.put(event.getRevision(), new HistoricalState<>(entity, event));
+    }
+
+    /**
+     * Returns the cached state with the highest revision not exceeding {@code maxRevision} whose event happened
+     * before {@code beforeTimestamp}.
+     *
+     * @param maxRevision the maximum revision of the state.
+     * @param beforeTimestamp the exclusive upper bound of the event timestamp or {@link Instant#EPOCH} for none.
+     * @return the nearest cached state, if any.
+     */
+    synchronized Optional<HistoricalState<S, E>> getNearest(final long maxRevision, final Instant beforeTimestamp) {
+        HistoricalState<S, E> nearest = null;
+        for (final HistoricalState<S, E> state : states.values()) {
+            final long revision = state.event().getRevision();
+            if (revision <= maxRevision && (nearest == null || revision > nearest.event().getRevision()) &&
+                    isBefore(state.event(), beforeTimestamp)) {
+                nearest = state;
+            }
+        }
+        if (nearest != null) {
+            // mark as recently used
+            states.get(nearest.event().getRevision());
+        }
+        return Optional.ofNullable(nearest);
+    }
+
+    private static boolean isBefore(final EventsourcedEvent<?> event, final Instant timestamp) {
+        return timestamp.equals(Instant.EPOCH) || event.getTimestamp().filter(timestamp::isAfter).isPresent();
+    }
+
+    /**
+     * A historical state of the entity.
+     *
+     * @param entity the entity after applying {@code event}.
+     * @param event the event leading to the historical state.
+     * @param <S> the type of the entity.
+     * @param <E> the type of the event.
+     */
+    record HistoricalState<S, E>(@Nullable S entity, E event) {}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.mailbox;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.dispatch.MailboxType;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.apache.pekko.dispatch.ProducesMessageQueue;
+import org.apache.pekko.persistence.JournalProtocol;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+
+import com.typesafe.config.Config;
+
+/**
+ * Mailbox for persistence actors which sorts the messages for one entity into {@link MailboxLane}s.
+ * <p>
+ * Messages of the {@link MailboxLane#INTERNAL} lane are dequeued first unless their sender has other messages waiting
+ * in the mailbox. All other messages keep their order, so the messages of one sender are never reordered and e.g. a
+ * retrieve still observes all modifications which were sent before it. Each of the lanes
+ * {@link MailboxLane#RETRIEVE}, {@link MailboxLane#MODIFY} and {@link MailboxLane#LIVE} has its own capacity: once it
+ * is reached, further commands of that lane are answered right away with a "too many requests" error instead of being
+ * enqueued.
+ * The mailbox is opt-in: persistence actors only use it if {@code enabled} is set in its config, see
+ * {@link #withConfiguredMailbox(Props, Config, String)}.
+ * </p>
+ */
+public abstract class AbstractPriorityLaneMailbox implements MailboxType,
+        ProducesMessageQueue<PriorityLaneMessageQueue> {
+
+    private static final String CAPACITY = "mailbox-capacity";
+    private static final String RETRIEVE_CAPACITY = "mailbox-retrieve-capacity";
+    private static final String LIVE_CAPACITY = "mailbox-live-capacity";
+    private static final String ENABLED = "enabled";
+
+    private static final String METRIC_PREFIX = "persistence_actor_mailbox_";
+    private static final String LANE_TAG = "lane";
+
+    private final Map<MailboxLane, Integer> capacities;
+    private final Map<MailboxLane, Histogram> laneSizes;
+    private final Map<MailboxLane, Counter> rejections;
+
+    /**
+     * Constructs a new {@code AbstractPriorityLaneMailbox}.
+     *
+     * @param config the config of the mailbox. The capacity of the modify lane is read from
+     * {@code mailbox-capacity}; the retrieve and live lanes use {@code mailbox-retrieve-capacity} and
+     * {@code mailbox-live-capacity} if set and the same capacity otherwise.
+     * @throws IllegalArgumentException if any configured capacity is less than 1.
+     */
+    protected AbstractPriorityLaneMailbox(final Config config) {
+        final int capacity = getCapacity(config, CAPACITY, 0);
+        capacities = new EnumMap<>(MailboxLane.class);
+        capacities.put(MailboxLane.RETRIEVE, getCapacity(config, RETRIEVE_CAPACITY, capacity));
+        capacities.put(MailboxLane.MODIFY, capacity);
+        capacities.put(MailboxLane.LIVE, getCapacity(config, LIVE_CAPACITY, capacity));
+
+        laneSizes = new EnumMap<>(MailboxLane.class);
+        rejections = new EnumMap<>(MailboxLane.class);
+        for (final MailboxLane lane : MailboxLane.values()) {
+            final String laneName = lane.name().toLowerCase();
+            laneSizes.put(lane, DittoMetrics.histogram(METRIC_PREFIX + "lane_size").tag(LANE_TAG, laneName));
+            rejections.put(lane, DittoMetrics.counter(METRIC_PREFIX + "rejected").tag(LANE_TAG, laneName));
+        }
+    }
+
+    private static int getCapacity(final Config config, final String path, final int fallback) {
+        final int capacity = fallback > 0 && !config.hasPath(path) ? fallback : config.getInt(path);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Mailbox capacity <" + path + "> must not be less than 1");
+        }
+        return capacity;
+    }
+
+    /**
+     * Lets actors created from the given props use the mailbox configured at {@code mailboxId}, if the config
+     * contains it and its {@code enabled} flag is set. Otherwise the props are returned unchanged, so that the actors
+     * keep using the default mailbox of their dispatcher, which does not reject any messages.
+     *
+     * @param props the props of the persistence actor.
+     * @param config the config of the actor system.
+     * @param mailboxId the config path of the mailbox.
+     * @return the props with the mailbox set if it is configured and enabled.
+     */
+    public static Props withConfiguredMailbox(final Props props, final Config config, final String mailboxId) {
+        final String enabledPath = mailboxId + "." + ENABLED;
+        return config.hasPath(enabledPath) && config.getBoolean(enabledPath) ? props.withMailbox(mailboxId) : props;
+    }
+
+    @Override
+    public MessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
+        return new PriorityLaneMessageQueue(this, system.get());
+    }
+
+    /**
+     * Determines the lane of a message. Called for every enqueued and dequeued message, so it should be cheap.
+     *
+     * @param message the message.
+     * @return the lane of the message.
+     */
+    protected abstract MailboxLane classify(Object message);
+
+    /**
+     * Creates the response to send to the sender of a command which was rejected because its lane is full.
+     *
+     * @param message the rejected command, classified into a bounded lane.
+     * @param lane the full lane.
+     * @return the response.
+     */
+    protected abstract Object getTooManyRequestsResponse(Object message, MailboxLane lane);
+
+    /**
+     * Indicates whether a message is a response of a journal or snapshot plugin to the persistence actor.
+     *
+     * @param message the message.
+     * @return whether the message is a persistence plugin response.
+     */
+    protected static boolean isPersistenceProtocolResponse(final Object message) {
+        return message instanceof JournalProtocol.Response || message instanceof SnapshotProtocol.Response;
+    }
+
+    int getCapacity(final MailboxLane lane) {
+        return capacities.getOrDefault(lane, Integer.MAX_VALUE);
+    }
+
+    void recordLaneSize(final MailboxLane lane, final int size) {
+        laneSizes.get(lane).record((long) size);
+    }
+
+    void countRejection(final MailboxLane lane) {
+        rejections.get(lane).increment();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.mailbox;
+
+/**
+ * The lanes a {@link PriorityLaneMessageQueue} sorts incoming messages into.
+ */
+public enum MailboxLane {
+
+    /**
+     * Sudo commands and responses of the persistence plugins. These are dequeued before all other messages, unless
+     * their sender has other messages waiting in the mailbox, and are never rejected.
+     */
+    INTERNAL(false),
+
+    /**
+     * Commands retrieving the entity.
+     */
+    RETRIEVE(true),
+
+    /**
+     * Commands creating, modifying or deleting the entity.
+     */
+    MODIFY(true),
+
+    /**
+     * Commands on the live channel.
+     */
+    LIVE(true),
+
+    /**
+     * All other messages, e.g. lifecycle messages of the actor. These are never rejected.
+     */
+    OTHER(false);
+
+    private final boolean bounded;
+
+    MailboxLane(final boolean bounded) {
+        this.bounded = bounded;
+    }
+
+    /**
+     * Indicates whether messages of this lane are rejected once the lane's capacity is reached.
+     *
+     * @return whether this lane is bounded.
+     */
+    public boolean isBounded() {
+        return bounded;
+    }
+
+}
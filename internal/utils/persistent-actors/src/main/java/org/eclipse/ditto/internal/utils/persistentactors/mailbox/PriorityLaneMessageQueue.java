@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.mailbox;
+
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.DequeBasedMessageQueue;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.dispatch.MessageQueue;
+import org.apache.pekko.dispatch.UnboundedDequeBasedMessageQueueSemantics;
+import org.apache.pekko.event.Logging;
+import org.apache.pekko.event.LoggingAdapter;
+
+/**
+ * The message queue created by {@link AbstractPriorityLaneMailbox}.
+ * <p>
+ * Internal messages are kept in a separate deque which is always dequeued first; all other messages share one deque,
+ * which is what {@link #queue()} returns. An internal message whose sender still has messages waiting in the shared
+ * deque is added to the shared deque as well, so that the messages of one sender are never reordered. Unstashed
+ * messages are always put at the head of the shared deque for the same reason.
+ * Lane sizes are tracked separately, so the capacity checks are (like those of Pekko's bounded mailboxes) best effort
+ * under concurrent enqueueing.
+ * </p>
+ */
+public final class PriorityLaneMessageQueue
+        implements DequeBasedMessageQueue, UnboundedDequeBasedMessageQueueSemantics {
+
+    private final AbstractPriorityLaneMailbox mailbox;
+    private final LoggingAdapter log;
+    private final Deque<Envelope> internalQueue;
+    private final Deque<Envelope> queue;
+    private final Map<MailboxLane, AtomicInteger> laneSizes;
+    private final Map<ActorRef, Integer> queuedMessagesPerSender;
+
+    PriorityLaneMessageQueue(final AbstractPriorityLaneMailbox mailbox, final ActorSystem actorSystem) {
+        this.mailbox = mailbox;
+        log = Logging.getLogger(actorSystem, PriorityLaneMessageQueue.class);
+        internalQueue = new LinkedBlockingDeque<>();
+        queue = new LinkedBlockingDeque<>();
+        laneSizes = new EnumMap<>(MailboxLane.class);
+        for (final MailboxLane lane : MailboxLane.values()) {
+            laneSizes.put(lane, new AtomicInteger());
+        }
+        queuedMessagesPerSender = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Deque<Envelope> queue() {
+        return queue;
+    }
+
+    @Override
+    public void enqueue(final ActorRef receiver, final Envelope handle) {
+        final MailboxLane lane = mailbox.classify(handle.message());
+        if (lane.isBounded() && laneSizes.get(lane).get() >= mailbox.getCapacity(lane)) {
+            reject(handle, lane);
+        } else {
+            if (MailboxLane.INTERNAL == lane && !queuedMessagesPerSender.containsKey(handle.sender())) {
+                internalQueue.add(handle);
+            } else {
+                addToQueue(handle, false);
+            }
+            mailbox.recordLaneSize(lane, laneSizes.get(lane).incrementAndGet());
+        }
+    }
+
+    /**
+     * Puts a message at the head of the shared queue. Used to unstash messages, which were admitted before: these are
+     * never rejected and keep their order relative to the other unstashed messages.
+     *
+     * @param receiver the receiver of the message.
+     * @param handle the message.
+     */
+    @Override
+    public void enqueueFirst(final ActorRef receiver, final Envelope handle) {
+        final MailboxLane lane = mailbox.classify(handle.message());
+        addToQueue(handle, true);
+        laneSizes.get(lane).incrementAndGet();
+    }
+
+    @Override
+    @Nullable
+    public Envelope dequeue() {
+        Envelope envelope = internalQueue.poll();
+        if (null == envelope) {
+            envelope = queue.poll();
+            if (null != envelope) {
+                queuedMessagesPerSender.computeIfPresent(envelope.sender(),
+                        (sender, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+        if (null != envelope) {
+            final MailboxLane lane = mailbox.classify(envelope.message());
+            laneSizes.get(lane).decrementAndGet();
+        }
+        return envelope;
+    }
+
+    @Override
+    public int numberOfMessages() {
+        return internalQueue.size() + queue.size();
+    }
+
+    @Override
+    public boolean hasMessages() {
+        return !internalQueue.isEmpty() || !queue.isEmpty();
+    }
+
+    @Override
+    public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
+        Envelope envelope = dequeue();
+        while (envelope != null) {
+            deadLetters.enqueue(owner, envelope);
+            envelope = dequeue();
+        }
+    }
+
+    /**
+     * Returns the number of messages of a lane currently waiting in this queue.
+     *
+     * @param lane the lane.
+     * @return the number of waiting messages.
+     */
+    public int getLaneSize(final MailboxLane lane) {
+        return laneSizes.get(lane).get();
+    }
+
+    private void addToQueue(final Envelope handle, final boolean first) {
+        queuedMessagesPerSender.merge(handle.sender(), 1, Integer::sum);
+        if (first) {
+            queue.addFirst(handle);
+        } else {
+            queue.add(handle);
+        }
+    }
+
+    private void reject(final Envelope handle, final MailboxLane lane) {
+        log.warning("Number of messages ({}) in lane <{}> of the mailbox exceeded the max capacity of {} -> " +
+                        "rejecting <{}>", laneSizes.get(lane).get(), lane, mailbox.getCapacity(lane),
+                handle.message().getClass().getSimpleName());
+        mailbox.countRejection(lane);
+        handle.sender().tell(mailbox.getTooManyRequestsResponse(handle.message(), lane), ActorRef.noSender());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HistoricalStateCache}.
+ */
+public final class HistoricalStateCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "history");
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    public void nearestStateDoesNotExceedRevision() {
+        final HistoricalStateCache<String, ThingEvent<?>> underTest = new HistoricalStateCache<>(10);
+        underTest.put("state-3", event(3L));
+        underTest.put("state-7", event(7L));
+
+        assertThat(underTest.getNearest(2L, Instant.EPOCH)).isEmpty();
+        assertThat(underTest.getNearest(5L, Instant.EPOCH))
+                .hasValueSatisfying(state -> assertThat(state.entity()).isEqualTo("state-3"));
+        assertThat(underTest.getNearest(7L, Instant.EPOCH))
+                .hasValueSatisfying(state -> assertThat(state.entity()).isEqualTo("state-7"));
+    }
+
+    @Test
+    public void nearestStateHappenedBeforeTimestamp() {
+        final HistoricalStateCache<String, ThingEvent<?>> underTest = new HistoricalStateCache<>(10);
+        underTest.put("state-3", event(3L));
+        underTest.put("state-7", event(7L));
+
+        assertThat(underTest.getNearest(Long.MAX_VALUE, START.plusSeconds(3L))).isEmpty();
+        assertThat(underTest.getNearest(Long.MAX_VALUE, START.plusSeconds(7L)))
+                .hasValueSatisfying(state -> assertThat(state.entity()).isEqualTo("state-3"));
+        assertThat(underTest.getNearest(Long.MAX_VALUE, START.plusSeconds(8L)))
+                .hasValueSatisfying(state -> assertThat(state.entity()).isEqualTo("state-7"));
+    }
+
+    @Test
+    public void leastRecentlyUsedStateIsEvicted() {
+        final HistoricalStateCache<String, ThingEvent<?>> underTest = new HistoricalStateCache<>(2);
+        underTest.put("state-3", event(3L));
+        underTest.put("state-5", event(5L));
+        underTest.getNearest(3L, Instant.EPOCH);
+        underTest.put("state-7", event(7L));
+
+        assertThat(underTest.getNearest(3L, Instant.EPOCH))
+                .hasValueSatisfying(state -> assertThat(state.entity()).isEqualTo("state-3"));
+        assertThat(underTest.getNearest(6L, Instant.EPOCH))
+                .hasValueSatisfying(state -> assertThat(state.entity()).isEqualTo("state-3"));
+    }
+
+    private static ThingEvent<?> event(final long revision) {
+        return AttributeModified.of(THING_ID, JsonPointer.of("revision"), JsonValue.of(revision), revision,
+                START.plusSeconds(revision), DittoHeaders.empty(), null);
+    }
+
+}
@@ -14,6 +14,8 @@ package org.eclipse.ditto.policies.enforcement;
 
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
+
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.dispatch.MessageDispatcher;
 import org.eclipse.ditto.internal.utils.cache.Cache;
@@ -53,6 +55,16 @@ abstract class AbstractPolicyEnforcerProvider implements PolicyEnforcerProvider
         return new PolicyEnforcerCacheLoader(policyCacheLoader, actorSystem, namespacePoliciesConfig, cacheFuture);
     }
 
+    protected static AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader(
+            final ActorSystem actorSystem,
+            final NamespacePoliciesConfig namespacePoliciesConfig,
+            final CompletableFuture<Cache<PolicyId, Entry<PolicyEnforcer>>> cacheFuture,
+            @Nullable final SharedEnforcerRegistry sharedEnforcerRegistry) {
+        final PolicyCacheLoader policyCacheLoader = PolicyCacheLoader.getSingletonInstance(actorSystem);
+        return new PolicyEnforcerCacheLoader(policyCacheLoader, actorSystem, namespacePoliciesConfig, cacheFuture,
+                sharedEnforcerRegistry);
+    }
+
     protected static MessageDispatcher enforcementCacheDispatcher(final ActorSystem actorSystem) {
         return actorSystem.dispatchers().lookup(PolicyEnforcerCacheLoader.ENFORCEMENT_CACHE_DISPATCHER);
     }
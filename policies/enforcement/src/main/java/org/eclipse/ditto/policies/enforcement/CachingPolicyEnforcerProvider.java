@@ -12,17 +12,20 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
-import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.AbstractActorWithTimers;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.Cluster;
 import org.apache.pekko.cluster.ddata.ORSet;
 import org.apache.pekko.cluster.ddata.Replicator;
 import org.apache.pekko.cluster.pubsub.DistributedPubSub;
@@ -30,13 +33,18 @@ import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
 import org.apache.pekko.dispatch.MessageDispatcher;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
 import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.enforcement.config.DefaultNamespacePoliciesConfig;
+import org.eclipse.ditto.policies.enforcement.config.DefaultPolicyEnforcerWarmUpConfig;
 import org.eclipse.ditto.policies.enforcement.config.NamespacePoliciesConfig;
+import org.eclipse.ditto.policies.enforcement.config.PolicyEnforcerWarmUpConfig;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
@@ -46,6 +54,7 @@ import org.eclipse.ditto.policies.model.PolicyId;
 import org.slf4j.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * Transparent caching layer for {@link org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider}
@@ -54,27 +63,32 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
     private static final Logger LOGGER = DittoLoggerFactory.getThreadSafeLogger(CachingPolicyEnforcerProvider.class);
     private static final Duration LOCAL_POLICY_RETRIEVAL_TIMEOUT = Duration.ofSeconds(60);
+    private static final String DEDUPLICATE_ENFORCERS_KEY = "deduplicate-enforcers";
 
     private final ActorRef cachingPolicyEnforcerProviderActor;
+    private final CompletableFuture<Void> warmUp;
 
     CachingPolicyEnforcerProvider(final ActorSystem actorSystem) {
         this(actorSystem,
                 DefaultNamespacePoliciesConfig.of(actorSystem.settings().config()),
                 enforcementCacheDispatcher(actorSystem),
                 DefaultCacheConfig.of(actorSystem.settings().config(),
-                        PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY));
+                        PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY),
+                DefaultPolicyEnforcerWarmUpConfig.of(actorSystem.settings().config()));
     }
 
     private CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
             final NamespacePoliciesConfig namespacePoliciesConfig,
             final MessageDispatcher cacheDispatcher,
-            final CacheConfig cacheConfig) {
+            final CacheConfig cacheConfig,
+            final PolicyEnforcerWarmUpConfig warmUpConfig) {
 
         this(actorSystem,
                 buildCache(actorSystem, namespacePoliciesConfig, cacheDispatcher, cacheConfig),
                 BlockedNamespaces.of(actorSystem),
                 DistributedPubSub.get(actorSystem).mediator(),
-                cacheDispatcher
+                cacheDispatcher,
+                warmUpConfig
         );
     }
 
@@ -83,6 +97,7 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
      * root policies are loaded through the cache itself. This ensures their import declarations are
      * registered in {@code policyIdToImportingMap}, enabling correct transitive cache invalidation
      * when a policy imported by a namespace root policy changes.
+     * If enabled, the loader and the cache share one enforcer between all policies with equal effective entries.
      */
     private static PolicyEnforcerCache buildCache(final ActorSystem actorSystem,
             final NamespacePoliciesConfig namespacePoliciesConfig,
@@ -92,9 +107,13 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
         final CompletableFuture<org.eclipse.ditto.internal.utils.cache.Cache<PolicyId,
                 org.eclipse.ditto.internal.utils.cache.entry.Entry<PolicyEnforcer>>> cacheFuture =
                 new CompletableFuture<>();
+        final SharedEnforcerRegistry sharedEnforcerRegistry = actorSystem.settings().config()
+                .getBoolean(PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + "." + DEDUPLICATE_ENFORCERS_KEY)
+                ? new SharedEnforcerRegistry()
+                : null;
         final PolicyEnforcerCache cache = new PolicyEnforcerCache(
-                policyEnforcerCacheLoader(actorSystem, namespacePoliciesConfig, cacheFuture),
-                cacheDispatcher, cacheConfig, namespacePoliciesConfig);
+                policyEnforcerCacheLoader(actorSystem, namespacePoliciesConfig, cacheFuture, sharedEnforcerRegistry),
+                cacheDispatcher, cacheConfig, namespacePoliciesConfig, sharedEnforcerRegistry);
         cacheFuture.complete(cache);
         return cache;
     }
@@ -105,9 +124,35 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
             final ActorRef pubSubMediator,
             final MessageDispatcher cacheDispatcher) {
 
+        this(actorSystem, policyEnforcerCache, blockedNamespaces, pubSubMediator, cacheDispatcher,
+                DefaultPolicyEnforcerWarmUpConfig.of(ConfigFactory.empty()));
+    }
+
+    CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
+            final PolicyEnforcerCache policyEnforcerCache,
+            final BlockedNamespaces blockedNamespaces,
+            final ActorRef pubSubMediator,
+            final MessageDispatcher cacheDispatcher,
+            final PolicyEnforcerWarmUpConfig warmUpConfig) {
+
+        warmUp = new CompletableFuture<>();
+        if (!warmUpConfig.isEnabled()) {
+            warmUp.complete(null);
+        }
         this.cachingPolicyEnforcerProviderActor = actorSystem.actorOf(
                 CachingPolicyEnforcerProviderActor.props(policyEnforcerCache, blockedNamespaces,
-                        pubSubMediator, cacheDispatcher));
+                        pubSubMediator, cacheDispatcher, warmUpConfig, warmUp));
+    }
+
+    /**
+     * Indicates whether the warm-up of the cache with the most recently used policy enforcers of the previous run
+     * finished, either because all of them were preloaded or because the maximum warm-up duration elapsed.
+     * Always {@code true} if the warm-up is disabled.
+     *
+     * @return whether the cache is warmed up.
+     */
+    boolean isWarmedUp() {
+        return warmUp.isDone();
     }
 
     @Override
@@ -156,20 +201,30 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
     /**
      * Actor which handles the actual cache lookup and invalidation.
+     * If enabled, it also warms up the cache with the most recently used policy enforcers of the previous run once
+     * the cluster member is up and periodically writes the most recently used policy IDs to a snapshot file.
      */
-    private static final class CachingPolicyEnforcerProviderActor extends AbstractActor {
+    private static final class CachingPolicyEnforcerProviderActor extends AbstractActorWithTimers {
 
         private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         private final PolicyEnforcerCache policyEnforcerCache;
         private final MessageDispatcher cacheDispatcher;
+        private final PolicyEnforcerWarmUpConfig warmUpConfig;
+        private final CompletableFuture<Void> warmUp;
+        private final PolicyEnforcerWarmUpSnapshot warmUpSnapshot;
 
         CachingPolicyEnforcerProviderActor(final PolicyEnforcerCache policyEnforcerCache,
                 @Nullable final BlockedNamespaces blockedNamespaces,
                 final ActorRef pubSubMediator,
-                final MessageDispatcher cacheDispatcher) {
+                final MessageDispatcher cacheDispatcher,
+                final PolicyEnforcerWarmUpConfig warmUpConfig,
+                final CompletableFuture<Void> warmUp) {
 
             this.policyEnforcerCache = policyEnforcerCache;
             this.cacheDispatcher = cacheDispatcher;
+            this.warmUpConfig = warmUpConfig;
+            this.warmUp = warmUp;
+            warmUpSnapshot = new PolicyEnforcerWarmUpSnapshot(Path.of(warmUpConfig.getSnapshotFile()));
 
             if (blockedNamespaces != null) {
                 blockedNamespaces.subscribeForChanges(getSelf());
@@ -182,16 +237,42 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
         private static Props props(final PolicyEnforcerCache policyEnforcerCache,
                 @Nullable final BlockedNamespaces blockedNamespaces,
-                final ActorRef pubSubMediator, final MessageDispatcher cacheDispatcher) {
+                final ActorRef pubSubMediator, final MessageDispatcher cacheDispatcher,
+                final PolicyEnforcerWarmUpConfig warmUpConfig, final CompletableFuture<Void> warmUp) {
 
             return Props.create(CachingPolicyEnforcerProviderActor.class, policyEnforcerCache, blockedNamespaces,
-                    pubSubMediator, cacheDispatcher);
+                    pubSubMediator, cacheDispatcher, warmUpConfig, warmUp);
+        }
+
+        @Override
+        public void preStart() throws Exception {
+            super.preStart();
+            if (warmUpConfig.isEnabled()) {
+                final ActorRef self = getSelf();
+                Cluster.get(getContext().getSystem())
+                        .registerOnMemberUp(() -> self.tell(Control.START_WARM_UP, ActorRef.noSender()));
+            }
+        }
+
+        @Override
+        public void postStop() throws Exception {
+            if (warmUpConfig.isEnabled() && warmUp.isDone()) {
+                try {
+                    writeSnapshot();
+                } catch (final RuntimeException e) {
+                    log.warning("Failed to write policy enforcer warm-up snapshot on stop: {}", e.getMessage());
+                }
+            }
+            super.postStop();
         }
 
         @Override
         public Receive createReceive() {
             return ReceiveBuilder.create()
                     .match(PolicyId.class, this::doGetPolicyEnforcer)
+                    .matchEquals(Control.START_WARM_UP, this::startWarmUp)
+                    .match(WarmUpFinished.class, this::warmUpFinished)
+                    .matchEquals(Control.WRITE_SNAPSHOT, this::scheduleSnapshot)
                     .match(DistributedPubSubMediator.SubscribeAck.class, s -> log.debug("Got subscribeAck <{}>.", s))
                     .match(PolicyTag.class, policyTag -> policyEnforcerCache.invalidate(policyTag.getEntityId()))
                     .match(PolicyTagEnvelope.class, policyTagEnvelope -> {
@@ -204,6 +285,71 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
                     .build();
         }
 
+        private void startWarmUp(final Control startWarmUp) {
+            getTimers().startSingleTimer(Control.WARM_UP_TIMEOUT, new WarmUpFinished(-1),
+                    warmUpConfig.getMaxDuration());
+            final Materializer materializer = Materializer.createMaterializer(this::getContext);
+            final CompletionStage<WarmUpFinished> finished =
+                    CompletableFuture.supplyAsync(() -> warmUpSnapshot.read(warmUpConfig.getMaxPolicies()),
+                                    cacheDispatcher)
+                            .thenCompose(policyIds -> {
+                                LOGGER.info("Warming up policy enforcer cache with <{}> policies.", policyIds.size());
+                                return Source.from(policyIds)
+                                        .mapAsyncUnordered(warmUpConfig.getParallelism(), this::preload)
+                                        .runWith(Sink.fold(0, (count, loaded) -> loaded ? count + 1 : count),
+                                                materializer);
+                            })
+                            .handle((count, error) -> {
+                                if (null != error) {
+                                    LOGGER.warn("Warming up policy enforcer cache failed: {}", error.getMessage());
+                                    return new WarmUpFinished(0);
+                                }
+                                return new WarmUpFinished(count);
+                            });
+            Patterns.pipe(finished, getContext().dispatcher()).to(getSelf());
+        }
+
+        private CompletionStage<Boolean> preload(final PolicyId policyId) {
+            return policyEnforcerCache.get(policyId)
+                    .handle((entry, error) -> {
+                        if (null != error) {
+                            LOGGER.debug("Preloading policy enforcer <{}> failed: {}", policyId, error.getMessage());
+                            return false;
+                        }
+                        return entry.flatMap(Entry::get).isPresent();
+                    });
+        }
+
+        private void warmUpFinished(final WarmUpFinished warmUpFinished) {
+            if (warmUp.isDone()) {
+                return;
+            }
+            if (warmUpFinished.preloaded() < 0) {
+                log.warning("Warm-up of policy enforcer cache did not finish within <{}>, reporting ready anyway.",
+                        warmUpConfig.getMaxDuration());
+            } else {
+                log.info("Warmed up policy enforcer cache with <{}> policy enforcers.", warmUpFinished.preloaded());
+            }
+            getTimers().cancel(Control.WARM_UP_TIMEOUT);
+            warmUp.complete(null);
+            getTimers().startTimerWithFixedDelay(Control.WRITE_SNAPSHOT, Control.WRITE_SNAPSHOT,
+                    warmUpConfig.getSnapshotInterval());
+        }
+
+        private void scheduleSnapshot(final Control writeSnapshot) {
+            CompletableFuture.runAsync(this::writeSnapshot, cacheDispatcher)
+                    .whenComplete((done, error) -> {
+                        if (null != error) {
+                            LOGGER.warn("Failed to write policy enforcer warm-up snapshot: {}", error.getMessage());
+                        }
+                    });
+        }
+
+        private void writeSnapshot() {
+            final List<PolicyId> policyIds = policyEnforcerCache.getMostRecentlyUsedKeys(warmUpConfig.getMaxPolicies());
+            warmUpSnapshot.write(policyIds);
+        }
+
         private void doGetPolicyEnforcer(final PolicyId policyId) {
             final ActorRef sender = getSender();
             final CompletableFuture<Optional<PolicyEnforcer>> policyEnforcerCS =
@@ -235,6 +381,17 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
             }
         }
 
+        /**
+         * @param preloaded the number of preloaded policy enforcers or {@code -1} if the warm-up timed out.
+         */
+        private record WarmUpFinished(int preloaded) {}
+
+        private enum Control {
+            START_WARM_UP,
+            WARM_UP_TIMEOUT,
+            WRITE_SNAPSHOT
+        }
+
     }
 
 }
@@ -237,9 +237,35 @@ public final class PolicyEnforcer {
             final long namespaceEnforcerCacheMaxSize,
             final long readClassificationCacheMaxSize) {
 
+        return withResolvedImportsAndNamespacePolicies(policy, policyResolver, namespacePoliciesConfig,
+                namespaceEnforcerCacheMaxSize, readClassificationCacheMaxSize, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Same as {@link #withResolvedImportsAndNamespacePolicies(Policy, Function, NamespacePoliciesConfig, long, long)}
+     * but obtains the enforcer of the resolved policy from the given factory, e.g. in order to share one enforcer
+     * between policies with equal entries.
+     *
+     * @param policy the policy to build an enforcer for.
+     * @param policyResolver resolves imported policies by ID.
+     * @param namespacePoliciesConfig the static namespace policies configuration.
+     * @param namespaceEnforcerCacheMaxSize the maximum size of the per-instance namespace-filtered-enforcer cache.
+     * @param readClassificationCacheMaxSize the maximum size of the per-instance read-classification cache.
+     * @param enforcerFactory creates the enforcer of the policy with resolved imports and namespace policies.
+     * @return a completion stage with the fully resolved PolicyEnforcer.
+     * @since 3.9.4
+     */
+    public static CompletionStage<PolicyEnforcer> withResolvedImportsAndNamespacePolicies(
+            final Policy policy,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver,
+            final NamespacePoliciesConfig namespacePoliciesConfig,
+            final long namespaceEnforcerCacheMaxSize,
+            final long readClassificationCacheMaxSize,
+            final Function<Policy, Enforcer> enforcerFactory) {
+
         return resolveImportsAndNamespacePolicies(policy, policyResolver, namespacePoliciesConfig)
                 .thenApply(finalPolicy ->
-                        new PolicyEnforcer(finalPolicy, PolicyEnforcers.defaultEvaluator(finalPolicy),
+                        new PolicyEnforcer(finalPolicy, enforcerFactory.apply(finalPolicy),
                                 namespaceEnforcerCacheMaxSize, readClassificationCacheMaxSize));
     }
 
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.policies.enforcement;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -22,6 +23,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
@@ -31,6 +34,7 @@ import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 
 import scala.concurrent.ExecutionContextExecutor;
 
@@ -49,41 +53,80 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
             final ExecutionContextExecutor cacheDispatcher,
             final CacheConfig cacheConfig,
             final NamespacePoliciesConfig namespacePoliciesConfig) {
+
+        this(policyEnforcerCacheLoader, cacheDispatcher, cacheConfig, namespacePoliciesConfig, null);
+    }
+
+    /**
+     * Creates the cache, releasing the shared enforcers of removed entries if a registry is given.
+     *
+     * @param policyEnforcerCacheLoader the loader of the policy enforcers.
+     * @param cacheDispatcher the dispatcher of the cache.
+     * @param cacheConfig the configuration of the cache.
+     * @param namespacePoliciesConfig the namespace root policies configuration.
+     * @param sharedEnforcerRegistry the registry the loader acquires shared enforcers from or {@code null}.
+     */
+    PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final ExecutionContextExecutor cacheDispatcher,
+            final CacheConfig cacheConfig,
+            final NamespacePoliciesConfig namespacePoliciesConfig,
+            @Nullable final SharedEnforcerRegistry sharedEnforcerRegistry) {
+
         policyIdToImportingMap = new ConcurrentHashMap<>();
         importingPolicyIdToImportedMap = new ConcurrentHashMap<>();
         this.namespacePoliciesConfig = namespacePoliciesConfig;
-        this.delegate = CacheFactory.createCache(
-                (policyId, executor) -> policyEnforcerCacheLoader.asyncLoad(policyId, executor)
-                        .thenApplyAsync(policyEnforcerEntry -> {
-                                    // Register import mappings eagerly (before the cache entry becomes
-                                    // visible to readers) to avoid a window where the entry is cached
-                                    // but invalidation of an imported policy cannot cascade to it.
-                                    if (policyEnforcerEntry != null) {
-                                        policyEnforcerEntry.get()
-                                                .flatMap(PolicyEnforcer::getPolicy)
-                                                .map(Policy::getPolicyImports)
-                                                .ifPresent(imports -> {
-                                                    deregisterImportMappings(policyId);
-                                                    if (!imports.isEmpty()) {
-                                                        imports.stream().forEach(policyImport -> {
-                                                            registerImportMapping(
-                                                                    policyImport.getImportedPolicyId(), policyId);
-                                                            policyImport.getTransitiveImports()
-                                                                    .forEach(transitivePolicyId ->
-                                                                            registerImportMapping(
-                                                                                    transitivePolicyId, policyId));
-                                                        });
-                                                    }
-                                                });
-                                    }
-                                    return policyEnforcerEntry;
-                                },
-                                cacheDispatcher
-                        ),
-                cacheConfig,
-                "policy_enforcer_cache",
-                cacheDispatcher
-        );
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> loader = (policyId, executor) -> {
+            final CompletableFuture<? extends Entry<PolicyEnforcer>> loadedEntry =
+                    policyEnforcerCacheLoader.asyncLoad(policyId, executor);
+            final CompletableFuture<Entry<PolicyEnforcer>> registeredEntry = loadedEntry
+                    .thenApplyAsync(policyEnforcerEntry -> {
+                                // Register import mappings eagerly (before the cache entry becomes
+                                // visible to readers) to avoid a window where the entry is cached
+                                // but invalidation of an imported policy cannot cascade to it.
+                                if (policyEnforcerEntry != null) {
+                                    policyEnforcerEntry.get()
+                                            .flatMap(PolicyEnforcer::getPolicy)
+                                            .map(Policy::getPolicyImports)
+                                            .ifPresent(imports -> {
+                                                deregisterImportMappings(policyId);
+                                                if (!imports.isEmpty()) {
+                                                    imports.stream().forEach(policyImport -> {
+                                                        registerImportMapping(
+                                                                policyImport.getImportedPolicyId(), policyId);
+                                                        policyImport.getTransitiveImports()
+                                                                .forEach(transitivePolicyId ->
+                                                                        registerImportMapping(
+                                                                                transitivePolicyId, policyId));
+                                                    });
+                                                }
+                                            });
+                                }
+                                return policyEnforcerEntry;
+                            },
+                            cacheDispatcher
+                    );
+            if (null != sharedEnforcerRegistry) {
+                // a loaded entry which never reaches the cache is not passed to the removal listener
+                registeredEntry.whenComplete((entry, error) -> {
+                    if (null != error) {
+                        loadedEntry.thenAccept(loaded -> loaded.get().ifPresent(sharedEnforcerRegistry::release));
+                    }
+                });
+            }
+            return registeredEntry;
+        };
+        if (null != sharedEnforcerRegistry) {
+            final RemovalListener<PolicyId, Entry<PolicyEnforcer>> releaseSharedEnforcer =
+                    (policyId, policyEnforcerEntry, cause) -> {
+                        if (null != policyEnforcerEntry) {
+                            policyEnforcerEntry.get().ifPresent(sharedEnforcerRegistry::release);
+                        }
+                    };
+            delegate = CacheFactory.createCache(loader, cacheConfig, "policy_enforcer_cache", cacheDispatcher,
+                    releaseSharedEnforcer);
+        } else {
+            delegate = CacheFactory.createCache(loader, cacheConfig, "policy_enforcer_cache", cacheDispatcher);
+        }
     }
 
     /**
@@ -233,4 +276,9 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
         return delegate.asMap();
     }
 
+    @Override
+    public List<PolicyId> getMostRecentlyUsedKeys(final int limit) {
+        return delegate.getMostRecentlyUsedKeys(limit);
+    }
+
 }
@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -26,6 +27,7 @@ import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.enforcement.config.NamespacePoliciesConfig;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -51,6 +53,8 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
     private final long readClassificationCacheMaxSize;
     @Nullable
     private final CompletableFuture<Cache<PolicyId, Entry<PolicyEnforcer>>> cacheFuture;
+    @Nullable
+    private final SharedEnforcerRegistry sharedEnforcerRegistry;
 
     /**
      * Constructor.
@@ -82,6 +86,25 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
             final NamespacePoliciesConfig namespacePoliciesConfig,
             @Nullable final CompletableFuture<Cache<PolicyId, Entry<PolicyEnforcer>>> cacheFuture) {
 
+        this(policyCacheLoader, actorSystem, namespacePoliciesConfig, cacheFuture, null);
+    }
+
+    /**
+     * Constructor with self-referencing cache which additionally shares one enforcer between all policies whose
+     * effective entries are equal.
+     *
+     * @param policyCacheLoader used to load the policies.
+     * @param actorSystem the actor system to use.
+     * @param namespacePoliciesConfig the namespace root policies configuration.
+     * @param cacheFuture completed with the wrapping {@link PolicyEnforcerCache} after construction.
+     * @param sharedEnforcerRegistry the registry to acquire shared enforcers from or {@code null} to compile an
+     * enforcer per policy.
+     */
+    PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader, final ActorSystem actorSystem,
+            final NamespacePoliciesConfig namespacePoliciesConfig,
+            @Nullable final CompletableFuture<Cache<PolicyId, Entry<PolicyEnforcer>>> cacheFuture,
+            @Nullable final SharedEnforcerRegistry sharedEnforcerRegistry) {
+
         delegate = policyCacheLoader;
         enforcementCacheExecutor = actorSystem.dispatchers().lookup(ENFORCEMENT_CACHE_DISPATCHER);
         this.namespacePoliciesConfig = namespacePoliciesConfig;
@@ -92,6 +115,7 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
                 .getLong(PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + "." +
                         READ_CLASSIFICATION_MAX_SIZE_KEY);
         this.cacheFuture = cacheFuture;
+        this.sharedEnforcerRegistry = sharedEnforcerRegistry;
     }
 
     @Override
@@ -121,10 +145,27 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
         if (entry.exists()) {
             final var revision = entry.getRevision();
             final var policy = entry.getValueOrThrow();
-            return PolicyEnforcer.withResolvedImportsAndNamespacePolicies(policy, policyResolver,
-                            namespacePoliciesConfig, namespaceFilteredEnforcerCacheMaxSize,
-                            readClassificationCacheMaxSize)
-                    .thenApply(enforcer -> Entry.of(revision, enforcer));
+            final CompletionStage<PolicyEnforcer> policyEnforcer;
+            if (null != sharedEnforcerRegistry) {
+                // the removal listener of the cache only releases enforcers of loads which completed successfully
+                final AtomicReference<Runnable> releaseAcquiredEnforcer = new AtomicReference<>(() -> {});
+                policyEnforcer = PolicyEnforcer.withResolvedImportsAndNamespacePolicies(policy, policyResolver,
+                        namespacePoliciesConfig, namespaceFilteredEnforcerCacheMaxSize,
+                        readClassificationCacheMaxSize, resolvedPolicy -> {
+                            final Enforcer enforcer = sharedEnforcerRegistry.acquire(resolvedPolicy);
+                            releaseAcquiredEnforcer.set(() -> sharedEnforcerRegistry.release(resolvedPolicy, enforcer));
+                            return enforcer;
+                        }).whenComplete((loadedEnforcer, error) -> {
+                            if (null != error) {
+                                releaseAcquiredEnforcer.get().run();
+                            }
+                        });
+            } else {
+                policyEnforcer = PolicyEnforcer.withResolvedImportsAndNamespacePolicies(policy, policyResolver,
+                        namespacePoliciesConfig, namespaceFilteredEnforcerCacheMaxSize,
+                        readClassificationCacheMaxSize);
+            }
+            return policyEnforcer.thenApply(enforcer -> Entry.of(revision, enforcer));
         } else {
             return CompletableFuture.completedFuture(Entry.nonexistent());
         }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.apache.pekko.actor.ActorSystem;
+
+/**
+ * Health check supplier for Pekko Management reporting the node as not ready until the policy enforcer cache was
+ * warmed up with the most recently used policy enforcers of the previous run.
+ */
+public final class PolicyEnforcerWarmUpReadinessCheck implements Supplier<CompletionStage<Boolean>> {
+
+    private final ActorSystem actorSystem;
+
+    public PolicyEnforcerWarmUpReadinessCheck(final ActorSystem actorSystem) {
+        this.actorSystem = actorSystem;
+    }
+
+    @Override
+    public CompletionStage<Boolean> get() {
+        final PolicyEnforcerProvider policyEnforcerProvider =
+                PolicyEnforcerProviderExtension.get(actorSystem).getPolicyEnforcerProvider();
+        if (policyEnforcerProvider instanceof CachingPolicyEnforcerProvider cachingPolicyEnforcerProvider) {
+            return CompletableFuture.completedFuture(cachingPolicyEnforcerProvider.isWarmedUp());
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+
+}
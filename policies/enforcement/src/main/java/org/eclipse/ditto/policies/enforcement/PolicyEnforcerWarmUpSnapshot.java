@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyIdInvalidException;
+import org.slf4j.Logger;
+
+/**
+ * Reads and writes the snapshot of most recently used policy IDs which is used to warm up the policy enforcer cache
+ * on node start. The snapshot is a plain text file containing one policy ID per line, most recently used first.
+ */
+final class PolicyEnforcerWarmUpSnapshot {
+
+    private static final Logger LOGGER = DittoLoggerFactory.getThreadSafeLogger(PolicyEnforcerWarmUpSnapshot.class);
+
+    private final Path snapshotFile;
+
+    PolicyEnforcerWarmUpSnapshot(final Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Reads the policy IDs of the snapshot, skipping invalid lines.
+     *
+     * @param limit the maximum number of policy IDs to read.
+     * @return the policy IDs or an empty list if no snapshot exists.
+     * @throws UncheckedIOException if the snapshot could not be read.
+     */
+    List<PolicyId> read(final int limit) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return List.of();
+        }
+        try (final Stream<String> lines = Files.lines(snapshotFile, StandardCharsets.UTF_8)) {
+            final List<PolicyId> policyIds = new ArrayList<>();
+            lines.map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .limit(limit)
+                    .forEach(line -> {
+                        try {
+                            policyIds.add(PolicyId.of(line));
+                        } catch (final PolicyIdInvalidException e) {
+                            LOGGER.debug("Skipping invalid policy ID <{}> in warm-up snapshot.", line);
+                        }
+                    });
+            return policyIds;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replaces the snapshot atomically with the given policy IDs.
+     *
+     * @param policyIds the policy IDs, most recently used first.
+     * @throws UncheckedIOException if the snapshot could not be written.
+     */
+    void write(final Collection<PolicyId> policyIds) {
+        try {
+            final Path parent = snapshotFile.toAbsolutePath().getParent();
+            if (null != parent) {
+                Files.createDirectories(parent);
+            }
+            final Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+            Files.write(tempFile, policyIds.stream().map(PolicyId::toString).toList(), StandardCharsets.UTF_8);
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+
+/**
+ * Content-addressed registry of compiled {@link Enforcer}s which shares one enforcer between all cached policies
+ * whose effective (import-resolved) policy entries are equal, e.g. policies generated from the same template which
+ * only differ in their ID.
+ * <p>
+ * Each shared enforcer is reference counted: {@link #acquire(Policy)} is called whenever a policy enforcer is loaded
+ * into the cache and {@link #release(PolicyEnforcer)} whenever it is removed from the cache or the load it was acquired
+ * for fails. An enforcer is dropped from the registry as soon as no cached policy references it anymore.
+ */
+@ThreadSafe
+final class SharedEnforcerRegistry {
+
+    private static final String METRIC_PREFIX = "policy_enforcer_dedup_";
+
+    private final Function<Policy, Enforcer> enforcerFactory;
+    private final ConcurrentMap<EntriesKey, SharedEnforcer> enforcers;
+    private final AtomicLong references;
+    private final Gauge distinctEnforcersGauge;
+    private final Gauge referencesGauge;
+    private final Gauge dedupRatioGauge;
+
+    SharedEnforcerRegistry() {
+        this(PolicyEnforcers::defaultEvaluator);
+    }
+
+    SharedEnforcerRegistry(final Function<Policy, Enforcer> enforcerFactory) {
+        this.enforcerFactory = enforcerFactory;
+        enforcers = new ConcurrentHashMap<>();
+        references = new AtomicLong();
+        distinctEnforcersGauge = DittoMetrics.gauge(METRIC_PREFIX + "distinct_enforcers");
+        referencesGauge = DittoMetrics.gauge(METRIC_PREFIX + "references");
+        dedupRatioGauge = DittoMetrics.gauge(METRIC_PREFIX + "ratio");
+    }
+
+    /**
+     * Returns the shared enforcer for the entries of the given policy, compiling it if no cached policy with equal
+     * entries exists, and increments its reference count.
+     *
+     * @param resolvedPolicy the policy with resolved imports.
+     * @return the shared enforcer.
+     */
+    Enforcer acquire(final Policy resolvedPolicy) {
+        final EntriesKey key = new EntriesKey(resolvedPolicy.getEntriesSet());
+        SharedEnforcer shared = enforcers.computeIfPresent(key, (k, existing) -> existing.retain());
+        if (null == shared) {
+            // compile outside of the map's lock; a concurrently compiled enforcer for equal entries wins
+            final SharedEnforcer compiled = new SharedEnforcer(enforcerFactory.apply(resolvedPolicy), 1);
+            shared = enforcers.merge(key, compiled, (existing, ignored) -> existing.retain());
+        }
+        references.incrementAndGet();
+        updateMetrics();
+        return shared.enforcer();
+    }
+
+    /**
+     * Decrements the reference count of the shared enforcer of the given policy enforcer which was removed from the
+     * cache. Does nothing if the enforcer was not acquired from this registry.
+     *
+     * @param policyEnforcer the removed policy enforcer.
+     */
+    void release(final PolicyEnforcer policyEnforcer) {
+        policyEnforcer.getPolicy().ifPresent(policy -> release(policy, policyEnforcer.getEnforcer()));
+    }
+
+    /**
+     * Decrements the reference count of the given enforcer acquired for the given policy, e.g. because the policy
+     * enforcer it was acquired for never reached the cache. Does nothing if the enforcer was not acquired from this
+     * registry.
+     *
+     * @param resolvedPolicy the policy with resolved imports the enforcer was acquired for.
+     * @param enforcer the acquired enforcer.
+     */
+    void release(final Policy resolvedPolicy, final Enforcer enforcer) {
+        final AtomicBoolean released = new AtomicBoolean();
+        enforcers.computeIfPresent(new EntriesKey(resolvedPolicy.getEntriesSet()), (k, existing) -> {
+            if (existing.enforcer() != enforcer) {
+                return existing;
+            }
+            released.set(true);
+            return existing.references() > 1 ? existing.release() : null;
+        });
+        if (released.get()) {
+            references.decrementAndGet();
+            updateMetrics();
+        }
+    }
+
+    /**
+     * Returns the number of distinct shared enforcers.
+     *
+     * @return the number of distinct enforcers.
+     */
+    int getDistinctEnforcerCount() {
+        return enforcers.size();
+    }
+
+    /**
+     * Returns the number of cached policies referencing a shared enforcer.
+     *
+     * @return the number of references.
+     */
+    long getReferenceCount() {
+        return references.get();
+    }
+
+    private void updateMetrics() {
+        final int distinct = enforcers.size();
+        final long refs = references.get();
+        distinctEnforcersGauge.set((long) distinct);
+        referencesGauge.set(refs);
+        dedupRatioGauge.set(distinct == 0 ? 1.0 : (double) refs / distinct);
+    }
+
+    /**
+     * Key of the shared enforcers caching the hash code of the entries.
+     */
+    private static final class EntriesKey {
+
+        private final Set<PolicyEntry> entries;
+        private final int hashCode;
+
+        private EntriesKey(final Set<PolicyEntry> entries) {
+            this.entries = entries;
+            hashCode = entries.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final EntriesKey that = (EntriesKey) o;
+            return hashCode == that.hashCode && entries.equals(that.entries);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    private record SharedEnforcer(Enforcer enforcer, int references) {
+
+        private SharedEnforcer retain() {
+            return new SharedEnforcer(enforcer, references + 1);
+        }
+
+        private SharedEnforcer release() {
+            return new SharedEnforcer(enforcer, references - 1);
+        }
+    }
+
+}
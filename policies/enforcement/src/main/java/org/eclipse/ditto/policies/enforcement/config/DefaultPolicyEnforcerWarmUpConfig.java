@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PolicyEnforcerWarmUpConfig}.
+ */
+@Immutable
+public final class DefaultPolicyEnforcerWarmUpConfig implements PolicyEnforcerWarmUpConfig {
+
+    static final String CONFIG_PATH = "ditto.policies-enforcer-cache.warm-up";
+
+    private final boolean enabled;
+    private final String snapshotFile;
+    private final Duration snapshotInterval;
+    private final int maxPolicies;
+    private final int parallelism;
+    private final Duration maxDuration;
+
+    private DefaultPolicyEnforcerWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        snapshotFile = config.getString(ConfigValue.SNAPSHOT_FILE.getConfigPath());
+        snapshotInterval = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.SNAPSHOT_INTERVAL);
+        maxPolicies = config.getPositiveIntOrThrow(ConfigValue.MAX_POLICIES);
+        parallelism = config.getPositiveIntOrThrow(ConfigValue.PARALLELISM);
+        maxDuration = config.getNonNegativeDurationOrThrow(ConfigValue.MAX_DURATION);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultPolicyEnforcerWarmUpConfig} based on the settings of the specified Config.
+     *
+     * @param config the root config (from {@code actorSystem.settings().config()}) which is supposed to provide the
+     * settings at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPolicyEnforcerWarmUpConfig of(final Config config) {
+        return new DefaultPolicyEnforcerWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled && !snapshotFile.isEmpty();
+    }
+
+    @Override
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    @Override
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    @Override
+    public int getMaxPolicies() {
+        return maxPolicies;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPolicyEnforcerWarmUpConfig that = (DefaultPolicyEnforcerWarmUpConfig) o;
+        return enabled == that.enabled &&
+                maxPolicies == that.maxPolicies &&
+                parallelism == that.parallelism &&
+                Objects.equals(snapshotFile, that.snapshotFile) &&
+                Objects.equals(snapshotInterval, that.snapshotInterval) &&
+                Objects.equals(maxDuration, that.maxDuration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, snapshotFile, snapshotInterval, maxPolicies, parallelism, maxDuration);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", snapshotFile=" + snapshotFile +
+                ", snapshotInterval=" + snapshotInterval +
+                ", maxPolicies=" + maxPolicies +
+                ", parallelism=" + parallelism +
+                ", maxDuration=" + maxDuration +
+                "]";
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for warming up the policy enforcer cache on node start.
+ */
+@Immutable
+public interface PolicyEnforcerWarmUpConfig {
+
+    /**
+     * Returns whether the policy enforcer cache is warmed up with the most recently used policies on node start.
+     * The warm-up is only enabled if a snapshot file is configured.
+     *
+     * @return whether the warm-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the file to which the most recently used policy IDs are periodically written and from which they are
+     * read on node start. The file must be located on a persistent volume surviving restarts of the node.
+     *
+     * @return the path of the snapshot file or an empty string if none is configured.
+     */
+    String getSnapshotFile();
+
+    /**
+     * Returns the interval in which the most recently used policy IDs are written to the snapshot file.
+     *
+     * @return the snapshot interval.
+     */
+    Duration getSnapshotInterval();
+
+    /**
+     * Returns the maximum number of policy IDs to snapshot and to preload.
+     *
+     * @return the maximum number of policies.
+     */
+    int getMaxPolicies();
+
+    /**
+     * Returns how many policy enforcers are loaded in parallel during warm-up.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the maximum duration of the warm-up after which the node reports ready regardless of the number of
+     * preloaded policy enforcers.
+     *
+     * @return the maximum warm-up duration.
+     */
+    Duration getMaxDuration();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PolicyEnforcerWarmUpConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the warm-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The path of the snapshot file.
+         */
+        SNAPSHOT_FILE("snapshot-file", ""),
+
+        /**
+         * The snapshot interval.
+         */
+        SNAPSHOT_INTERVAL("snapshot-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * The maximum number of policies to snapshot and to preload.
+         */
+        MAX_POLICIES("max-policies", 10_000),
+
+        /**
+         * The parallelism of loading policy enforcers during warm-up.
+         */
+        PARALLELISM("parallelism", 8),
+
+        /**
+         * The maximum duration of the warm-up.
+         */
+        MAX_DURATION("max-duration", Duration.ofMinutes(2L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
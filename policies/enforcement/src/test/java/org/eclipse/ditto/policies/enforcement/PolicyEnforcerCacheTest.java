@@ -13,6 +13,7 @@
 package org.eclipse.ditto.policies.enforcement;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -31,6 +32,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -63,6 +65,7 @@ import org.eclipse.ditto.policies.model.SubjectId;
 import org.eclipse.ditto.policies.model.SubjectIssuer;
 import org.eclipse.ditto.policies.model.SubjectType;
 import org.eclipse.ditto.policies.model.Subjects;
+import org.awaitility.Awaitility;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -619,6 +622,79 @@ public final class PolicyEnforcerCacheTest {
         assertThat(reloadedChild.getPolicy().orElseThrow().contains(updatedMergedLabel)).isTrue();
     }
 
+    @Test
+    public void sharedEnforcersAreReleasedOnceAllCacheEntriesAreGone() {
+        final Label reader = Label.of("READER");
+        final Map<PolicyId, Policy> policies = new ConcurrentHashMap<>();
+        Arrays.asList(PolicyId.of("org.example", "device-1"), PolicyId.of("org.example", "device-2"))
+                .forEach(policyId -> policies.put(policyId, policyWithLabel(policyId, 1L, reader)));
+        final PolicyId otherPolicyId = PolicyId.of("org.example", "device-3");
+        policies.put(otherPolicyId, policyWithLabel(otherPolicyId, 1L, Label.of("ADMIN")));
+        final SharedEnforcerRegistry registry = new SharedEnforcerRegistry();
+        final PolicyEnforcerCache underTest = sharedEnforcerCache(actorSystem, policies, registry);
+
+        policies.keySet().forEach(policyId ->
+                assertThat(underTest.getBlocking(policyId).flatMap(Entry::get)).isPresent());
+        assertThat(registry.getDistinctEnforcerCount()).isEqualTo(2);
+        assertThat(registry.getReferenceCount()).isEqualTo(3L);
+
+        policies.keySet().forEach(underTest::invalidate);
+
+        Awaitility.await().untilAsserted(() -> {
+            assertThat(registry.getDistinctEnforcerCount()).isZero();
+            assertThat(registry.getReferenceCount()).isZero();
+        });
+    }
+
+    @Test
+    public void sharedEnforcerOfFailedLoadIsReleased() {
+        // an invalid cache size makes the creation of the policy enforcer fail after its enforcer was acquired
+        final ActorSystem failingSystem = ActorSystem.create("failing-policy-enforcer", ConfigFactory.parseString(
+                "ditto.policies-enforcer-cache.namespace-filtered-enforcer-max-size = -1"
+        ).withFallback(ConfigFactory.load()));
+        try {
+            final PolicyId policyId = PolicyId.of("org.example", "device-1");
+            final Map<PolicyId, Policy> policies = new ConcurrentHashMap<>();
+            policies.put(policyId, policyWithLabel(policyId, 1L, Label.of("READER")));
+            final SharedEnforcerRegistry registry = new SharedEnforcerRegistry();
+            final PolicyEnforcerCache underTest = sharedEnforcerCache(failingSystem, policies, registry);
+
+            assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> underTest.get(policyId).join());
+
+            Awaitility.await().untilAsserted(() -> {
+                assertThat(registry.getDistinctEnforcerCount()).isZero();
+                assertThat(registry.getReferenceCount()).isZero();
+            });
+        } finally {
+            TestKit.shutdownActorSystem(failingSystem);
+        }
+    }
+
+    private static PolicyEnforcerCache sharedEnforcerCache(final ActorSystem system,
+            final Map<PolicyId, Policy> policies,
+            final SharedEnforcerRegistry registry) {
+
+        final NamespacePoliciesConfig config = DefaultNamespacePoliciesConfig.of(system.settings().config());
+        final PolicyCacheLoader policyCacheLoader = mock(PolicyCacheLoader.class);
+        when(policyCacheLoader.asyncLoad(any(), any())).thenAnswer(invocation -> {
+            final Policy policy = policies.get(invocation.<PolicyId>getArgument(0));
+            return CompletableFuture.completedFuture(policy == null
+                    ? Entry.nonexistent()
+                    : Entry.of(policy.getRevision().orElseThrow().toLong(), policy));
+        });
+        final CompletableFuture<org.eclipse.ditto.internal.utils.cache.Cache<PolicyId, Entry<PolicyEnforcer>>>
+                cacheFuture = new CompletableFuture<>();
+        final PolicyEnforcerCache cache = new PolicyEnforcerCache(
+                new PolicyEnforcerCacheLoader(policyCacheLoader, system, config, cacheFuture, registry),
+                system.dispatcher(),
+                DefaultCacheConfig.of(system.settings().config(), "ditto.policies-enforcer-cache"),
+                config,
+                registry
+        );
+        cacheFuture.complete(cache);
+        return cache;
+    }
+
     private NamespacePoliciesConfig namespacePoliciesConfigForWildcard(final PolicyId rootPolicyId,
             final String pattern) {
         final NamespacePoliciesConfig config = mock(NamespacePoliciesConfig.class);
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link PolicyEnforcerWarmUpSnapshot}.
+ */
+public final class PolicyEnforcerWarmUpSnapshotTest {
+
+    private static final PolicyId POLICY_ID_1 = PolicyId.of("org.eclipse.ditto:policy-1");
+    private static final PolicyId POLICY_ID_2 = PolicyId.of("org.eclipse.ditto:policy-2");
+    private static final PolicyId POLICY_ID_3 = PolicyId.of("org.eclipse.ditto:policy-3");
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void readReturnsEmptyListIfSnapshotDoesNotExist() {
+        final PolicyEnforcerWarmUpSnapshot underTest =
+                new PolicyEnforcerWarmUpSnapshot(temporaryFolder.getRoot().toPath().resolve("missing.txt"));
+
+        assertThat(underTest.read(10)).isEmpty();
+    }
+
+    @Test
+    public void readReturnsWrittenPolicyIdsInOrder() {
+        final PolicyEnforcerWarmUpSnapshot underTest =
+                new PolicyEnforcerWarmUpSnapshot(temporaryFolder.getRoot().toPath().resolve("sub/snapshot.txt"));
+
+        underTest.write(List.of(POLICY_ID_2, POLICY_ID_1, POLICY_ID_3));
+
+        assertThat(underTest.read(10)).containsExactly(POLICY_ID_2, POLICY_ID_1, POLICY_ID_3);
+        assertThat(underTest.read(2)).containsExactly(POLICY_ID_2, POLICY_ID_1);
+    }
+
+    @Test
+    public void writeReplacesPreviousSnapshot() {
+        final PolicyEnforcerWarmUpSnapshot underTest =
+                new PolicyEnforcerWarmUpSnapshot(temporaryFolder.getRoot().toPath().resolve("snapshot.txt"));
+
+        underTest.write(List.of(POLICY_ID_1, POLICY_ID_2));
+        underTest.write(List.of(POLICY_ID_3));
+
+        assertThat(underTest.read(10)).containsExactly(POLICY_ID_3);
+    }
+
+    @Test
+    public void readSkipsInvalidLines() throws IOException {
+        final Path snapshotFile = temporaryFolder.newFile("snapshot.txt").toPath();
+        Files.write(snapshotFile, List.of(POLICY_ID_1.toString(), "", "invalid policy id", POLICY_ID_2.toString()),
+                StandardCharsets.UTF_8);
+        final PolicyEnforcerWarmUpSnapshot underTest = new PolicyEnforcerWarmUpSnapshot(snapshotFile);
+
+        assertThat(underTest.read(10)).containsExactly(POLICY_ID_1, POLICY_ID_2);
+    }
+
+}
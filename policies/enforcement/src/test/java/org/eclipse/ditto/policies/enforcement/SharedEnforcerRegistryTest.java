@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SharedEnforcerRegistry}.
+ */
+public final class SharedEnforcerRegistryTest {
+
+    @Test
+    public void policiesWithEqualEntriesShareOneEnforcer() {
+        final SharedEnforcerRegistry underTest = new SharedEnforcerRegistry();
+
+        final Enforcer first = underTest.acquire(templatePolicy("org.eclipse.ditto:device-1", "READ"));
+        final Enforcer second = underTest.acquire(templatePolicy("org.eclipse.ditto:device-2", "READ"));
+        final Enforcer other = underTest.acquire(templatePolicy("org.eclipse.ditto:device-3", "WRITE"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(underTest.getDistinctEnforcerCount()).isEqualTo(2);
+        assertThat(underTest.getReferenceCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void enforcerIsDroppedWhenLastReferenceIsReleased() {
+        final SharedEnforcerRegistry underTest = new SharedEnforcerRegistry();
+        final Policy policy1 = templatePolicy("org.eclipse.ditto:device-1", "READ");
+        final Policy policy2 = templatePolicy("org.eclipse.ditto:device-2", "READ");
+        final PolicyEnforcer policyEnforcer1 = PolicyEnforcer.of(policy1, underTest.acquire(policy1));
+        final PolicyEnforcer policyEnforcer2 = PolicyEnforcer.of(policy2, underTest.acquire(policy2));
+
+        underTest.release(policyEnforcer1);
+
+        assertThat(underTest.getDistinctEnforcerCount()).isEqualTo(1);
+        assertThat(underTest.getReferenceCount()).isEqualTo(1L);
+
+        underTest.release(policyEnforcer2);
+
+        assertThat(underTest.getDistinctEnforcerCount()).isZero();
+        assertThat(underTest.getReferenceCount()).isZero();
+    }
+
+    @Test
+    public void releasingEnforcerNotAcquiredFromRegistryDoesNothing() {
+        final SharedEnforcerRegistry underTest = new SharedEnforcerRegistry();
+        final Policy policy = templatePolicy("org.eclipse.ditto:device-1", "READ");
+        underTest.acquire(policy);
+
+        underTest.release(PolicyEnforcer.of(policy, PolicyEnforcers.defaultEvaluator(policy)));
+
+        assertThat(underTest.getDistinctEnforcerCount()).isEqualTo(1);
+        assertThat(underTest.getReferenceCount()).isEqualTo(1L);
+    }
+
+    private static Policy templatePolicy(final String policyId, final String permission) {
+        return Policy.newBuilder(PolicyId.of(policyId))
+                .forLabel("owner")
+                .setSubject("test:owner", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), permission)
+                .build();
+    }
+
+}
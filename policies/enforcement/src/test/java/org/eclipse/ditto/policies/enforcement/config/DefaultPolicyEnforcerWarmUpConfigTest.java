@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultPolicyEnforcerWarmUpConfig}.
+ */
+public final class DefaultPolicyEnforcerWarmUpConfigTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultPolicyEnforcerWarmUpConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final PolicyEnforcerWarmUpConfig underTest = DefaultPolicyEnforcerWarmUpConfig.of(ConfigFactory.empty());
+
+        assertThat(underTest.isEnabled()).isFalse();
+        assertThat(underTest.getSnapshotFile()).isEmpty();
+        assertThat(underTest.getSnapshotInterval()).isEqualTo(Duration.ofMinutes(5L));
+        assertThat(underTest.getMaxPolicies()).isEqualTo(10000);
+        assertThat(underTest.getParallelism()).isEqualTo(8);
+        assertThat(underTest.getMaxDuration()).isEqualTo(Duration.ofMinutes(2L));
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final PolicyEnforcerWarmUpConfig underTest = DefaultPolicyEnforcerWarmUpConfig.of(ConfigFactory.parseString(
+                "ditto.policies-enforcer-cache.warm-up {\n" +
+                        "  enabled = true\n" +
+                        "  snapshot-file = \"/var/ditto/warm-up.txt\"\n" +
+                        "  snapshot-interval = 1m\n" +
+                        "  max-policies = 500\n" +
+                        "  parallelism = 4\n" +
+                        "  max-duration = 30s\n" +
+                        "}"));
+
+        assertThat(underTest.isEnabled()).isTrue();
+        assertThat(underTest.getSnapshotFile()).isEqualTo("/var/ditto/warm-up.txt");
+        assertThat(underTest.getSnapshotInterval()).isEqualTo(Duration.ofMinutes(1L));
+        assertThat(underTest.getMaxPolicies()).isEqualTo(500);
+        assertThat(underTest.getParallelism()).isEqualTo(4);
+        assertThat(underTest.getMaxDuration()).isEqualTo(Duration.ofSeconds(30L));
+    }
+
+    @Test
+    public void warmUpIsDisabledWithoutSnapshotFile() {
+        final PolicyEnforcerWarmUpConfig underTest = DefaultPolicyEnforcerWarmUpConfig.of(ConfigFactory.parseString(
+                "ditto.policies-enforcer-cache.warm-up.enabled = true"));
+
+        assertThat(underTest.isEnabled()).isFalse();
+    }
+
+}
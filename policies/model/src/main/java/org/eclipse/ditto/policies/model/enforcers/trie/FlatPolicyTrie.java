@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.policies.model.Permissions;
+
+/**
+ * Immutable representation of the inherited, bottom-up-grant and bottom-up-revoke {@link PolicyTrie}s of a policy
+ * flattened into arrays.
+ * <p>
+ * The three tries have the same shape, so they share one node table. Nodes are numbered in breadth-first order with
+ * the children of each node sorted by key, so the children of node {@code n} are the contiguous nodes
+ * {@code firstChild[n]} until (excluding) {@code firstChild[n + 1]} and are found by binary search over
+ * {@code keys}. Each node refers to its {@link GrantRevokeIndex} of each trie by an offset into a table of distinct
+ * grant-revoke-indices, which are shared between nodes and tries wherever they are equal.
+ */
+@Immutable
+final class FlatPolicyTrie {
+
+    /**
+     * Node index of the root node.
+     */
+    static final int ROOT = 0;
+
+    /**
+     * Node index returned if no node matches.
+     */
+    static final int NOT_FOUND = -1;
+
+    private static final Comparator<JsonKey> KEY_ORDER = Comparator.comparing(JsonKey::toString);
+
+    private final String[] keys;
+    private final int[] firstChild;
+    private final int[] inheritedOffsets;
+    private final int[] bottomUpGrantOffsets;
+    private final int[] bottomUpRevokeOffsets;
+    private final GrantRevokeIndex[] grantRevokeIndices;
+
+    private FlatPolicyTrie(final String[] keys,
+            final int[] firstChild,
+            final int[] inheritedOffsets,
+            final int[] bottomUpGrantOffsets,
+            final int[] bottomUpRevokeOffsets,
+            final GrantRevokeIndex[] grantRevokeIndices) {
+
+        this.keys = keys;
+        this.firstChild = firstChild;
+        this.inheritedOffsets = inheritedOffsets;
+        this.bottomUpGrantOffsets = bottomUpGrantOffsets;
+        this.bottomUpRevokeOffsets = bottomUpRevokeOffsets;
+        this.grantRevokeIndices = grantRevokeIndices;
+    }
+
+    /**
+     * Flattens the given tries which must have the same shape.
+     *
+     * @param inheritedTrie the trie with grants and revokes pushed down from ancestors to descendants.
+     * @param bottomUpGrantTrie the inherited trie with grants pushed up from descendants to ancestors.
+     * @param bottomUpRevokeTrie the inherited trie with revokes pushed up from descendants to ancestors.
+     * @return the flattened trie.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static FlatPolicyTrie of(final PolicyTrie inheritedTrie, final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie) {
+
+        checkNotNull(inheritedTrie, "inheritedTrie");
+        checkNotNull(bottomUpGrantTrie, "bottomUpGrantTrie");
+        checkNotNull(bottomUpRevokeTrie, "bottomUpRevokeTrie");
+
+        final List<PolicyTrie[]> nodes = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        nodes.add(new PolicyTrie[]{inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie});
+        keys.add("");
+
+        // breadth-first traversal appends the children of each node directly after the children of its predecessor
+        final List<Integer> firstChild = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            final PolicyTrie[] node = nodes.get(i);
+            firstChild.add(nodes.size());
+            final List<JsonKey> childKeys = new ArrayList<>(node[0].getChildren().keySet());
+            childKeys.sort(KEY_ORDER);
+            for (final JsonKey childKey : childKeys) {
+                nodes.add(new PolicyTrie[]{
+                        node[0].getChildren().get(childKey),
+                        node[1].getChildren().get(childKey),
+                        node[2].getChildren().get(childKey)
+                });
+                keys.add(childKey.toString());
+            }
+        }
+        firstChild.add(nodes.size());
+
+        final int nodeCount = nodes.size();
+        final int[] inheritedOffsets = new int[nodeCount];
+        final int[] bottomUpGrantOffsets = new int[nodeCount];
+        final int[] bottomUpRevokeOffsets = new int[nodeCount];
+        final Map<GrantRevokeIndex, Integer> offsets = new HashMap<>();
+        for (int i = 0; i < nodeCount; i++) {
+            final PolicyTrie[] node = nodes.get(i);
+            inheritedOffsets[i] = offsetOf(node[0].getGrantRevokeIndex(), offsets);
+            bottomUpGrantOffsets[i] = offsetOf(node[1].getGrantRevokeIndex(), offsets);
+            bottomUpRevokeOffsets[i] = offsetOf(node[2].getGrantRevokeIndex(), offsets);
+        }
+        final GrantRevokeIndex[] grantRevokeIndices = new GrantRevokeIndex[offsets.size()];
+        offsets.forEach((grantRevokeIndex, offset) -> grantRevokeIndices[offset] = grantRevokeIndex);
+
+        return new FlatPolicyTrie(keys.toArray(new String[0]),
+                firstChild.stream().mapToInt(Integer::intValue).toArray(),
+                inheritedOffsets,
+                bottomUpGrantOffsets,
+                bottomUpRevokeOffsets,
+                grantRevokeIndices);
+    }
+
+    private static int offsetOf(final GrantRevokeIndex grantRevokeIndex, final Map<GrantRevokeIndex, Integer> offsets) {
+        return offsets.computeIfAbsent(grantRevokeIndex, index -> offsets.size());
+    }
+
+    /**
+     * Returns the number of nodes of the trie.
+     *
+     * @return the node count.
+     */
+    int getNodeCount() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of distinct grant-revoke-indices shared by the nodes of the trie.
+     *
+     * @return the number of distinct grant-revoke-indices.
+     */
+    int getDistinctGrantRevokeIndexCount() {
+        return grantRevokeIndices.length;
+    }
+
+    /**
+     * Returns the index of the child of a node with the given key.
+     *
+     * @param node the index of the parent node.
+     * @param childKey the key of the child.
+     * @return the index of the child or {@link #NOT_FOUND}.
+     */
+    int getChild(final int node, final CharSequence childKey) {
+        final int index = Arrays.binarySearch(keys, firstChild[node], firstChild[node + 1], childKey.toString());
+        return index >= 0 ? index : NOT_FOUND;
+    }
+
+    /**
+     * Seek to the node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path the path to match.
+     * @return the index of the best matched node.
+     */
+    int seekToLeastAncestor(final Iterator<JsonKey> path) {
+        int node = ROOT;
+        while (path.hasNext()) {
+            final int child = getChild(node, path.next());
+            if (NOT_FOUND == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Seek to the node whose path from root matches {@code path} exactly.
+     *
+     * @param path the path to match.
+     * @return the index of the exactly matched node or {@link #NOT_FOUND}.
+     */
+    int seekToExactNode(final Iterator<JsonKey> path) {
+        int node = ROOT;
+        while (path.hasNext() && NOT_FOUND != node) {
+            node = getChild(node, path.next());
+        }
+        return node;
+    }
+
+    /**
+     * Returns the grant-revoke-index of a node of the inherited trie.
+     *
+     * @param node the index of the node.
+     * @return the grant-revoke-index.
+     */
+    GrantRevokeIndex getInherited(final int node) {
+        return grantRevokeIndices[inheritedOffsets[node]];
+    }
+
+    /**
+     * Returns the grant-revoke-index of a node of the bottom-up-grant trie.
+     *
+     * @param node the index of the node.
+     * @return the grant-revoke-index.
+     */
+    GrantRevokeIndex getBottomUpGrant(final int node) {
+        return grantRevokeIndices[bottomUpGrantOffsets[node]];
+    }
+
+    /**
+     * Returns the grant-revoke-index of a node of the bottom-up-revoke trie.
+     *
+     * @param node the index of the node.
+     * @return the grant-revoke-index.
+     */
+    GrantRevokeIndex getBottomUpRevoke(final int node) {
+        return grantRevokeIndices[bottomUpRevokeOffsets[node]];
+    }
+
+    /**
+     * Builds the view of the given JSON fields starting at a node of the inherited trie. Fields without a matching
+     * node inherit the grant-revoke-index of the deepest matching node.
+     *
+     * @param node the index of the node the JSON fields are located at.
+     * @param jsonFields the JSON fields.
+     * @param subjectIds the subject IDs to check.
+     * @param permissions the permissions to check.
+     * @return the view of the JSON fields containing only those fields on which the subjects have the permissions.
+     */
+    JsonObject buildJsonView(final int node, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Permissions permissions) {
+
+        return buildJsonView(node, inheritedOffsets[node], jsonFields, subjectIds, permissions);
+    }
+
+    /**
+     * Collects the paths of the given JSON fields which are accessible starting at a node of the inherited trie.
+     *
+     * @param node the index of the node the JSON fields are located at.
+     * @param jsonFields the JSON fields.
+     * @param subjectIds the subject IDs to check.
+     * @param permissions the permissions to check.
+     * @param basePath the path of the JSON fields.
+     * @return the accessible paths.
+     */
+    Set<JsonPointer> getAccessiblePaths(final int node, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Permissions permissions, final JsonPointer basePath) {
+
+        return getAccessiblePaths(node, inheritedOffsets[node], jsonFields, subjectIds, permissions, basePath);
+    }
+
+    // node is NOT_FOUND for fields below a leaf which inherit the grant-revoke-index at offset
+    private JsonObject buildJsonView(final int node, final int offset, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Permissions permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final int child = NOT_FOUND == node ? NOT_FOUND : getChild(node, field.getKey());
+            final int childOffset = NOT_FOUND == child ? offset : inheritedOffsets[child];
+            final JsonValue jsonView =
+                    getViewForJsonValueOrNull(child, childOffset, field.getValue(), subjectIds, permissions);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final int node, final int offset, final JsonValue jsonValue,
+            final Collection<String> subjectIds, final Permissions permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(offset,
+                    buildJsonView(node, offset, jsonValue.asObject(), subjectIds, permissions),
+                    subjectIds, permissions);
+        } else if (jsonValue.isArray()) {
+            final JsonArray candidate = jsonValue.asArray().stream()
+                    .map(value -> getViewForJsonValueOrNull(node, offset, value, subjectIds, permissions))
+                    .filter(Objects::nonNull)
+                    .collect(JsonCollectors.valuesToArray());
+            result = filterCandidate(offset, candidate, subjectIds, permissions);
+        } else if (grantRevokeIndices[offset].hasPermissions(subjectIds, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final int offset, final T candidate,
+            final Collection<String> subjectIds, final Collection<String> permissions) {
+
+        if (!candidate.isEmpty() || grantRevokeIndices[offset].hasPermissions(subjectIds, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+    private Set<JsonPointer> getAccessiblePaths(final int node, final int offset, final Iterable<JsonField> jsonFields,
+            final Collection<String> subjectIds, final Permissions permissions, final JsonPointer basePath) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return Collections.emptySet();
+        }
+
+        final Set<JsonPointer> accessiblePaths = new HashSet<>();
+        for (final JsonField field : jsonFields) {
+            final JsonPointer fieldPath = basePath.isEmpty()
+                    ? JsonPointer.of("/" + field.getKey())
+                    : basePath.append(JsonPointer.of("/" + field.getKey()));
+            final int child = NOT_FOUND == node ? NOT_FOUND : getChild(node, field.getKey());
+            final int childOffset = NOT_FOUND == child ? offset : inheritedOffsets[child];
+            final JsonValue jsonValue = field.getValue();
+            final boolean permitted = grantRevokeIndices[childOffset].hasPermissions(subjectIds, permissions);
+            if (jsonValue.isObject()) {
+                accessiblePaths.addAll(getAccessiblePaths(child, childOffset, jsonValue.asObject(), subjectIds,
+                        permissions, fieldPath));
+                if (permitted) {
+                    accessiblePaths.add(fieldPath);
+                }
+            } else if (permitted) {
+                accessiblePaths.add(fieldPath);
+            }
+        }
+
+        return accessiblePaths;
+    }
+
+}
@@ -72,29 +72,22 @@ import org.eclipse.ditto.policies.model.enforcers.Enforcer;
  * subjects from descendants up to ancestors.
  * </li>
  * </ol> See Javadoc of individual methods for more details.
+ * <p>
+ * As the 3 tries used for policy enforcement have the same shape, they are flattened into one {@link FlatPolicyTrie}
+ * once per policy so that lookups do not have to chase pointers through hash maps.
  */
 public final class TrieBasedPolicyEnforcer implements Enforcer {
 
     /**
-     * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
-     */
-    private final PolicyTrie inheritedTrie;
-
-    /**
-     * PolicyTrie obtained from {@code this.inheritedTrie} by propagating grant sets up from descendants to ancestors.
-     */
-    private final PolicyTrie bottomUpGrantTrie;
-
-    /**
-     * PolicyTrie obtained from {@code this.inheritedTrie} by propagating revoke sets up from descendants to ancestors.
+     * The inherited trie, the bottom-up-grant trie and the bottom-up-revoke trie sharing one node table.
      */
-    private final PolicyTrie bottomUpRevokeTrie;
+    private final FlatPolicyTrie trie;
 
     private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
         final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
-        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
-        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        final PolicyTrie inheritedTrie = rawTree.getTransitiveClosure();
+        trie = FlatPolicyTrie.of(inheritedTrie, inheritedTrie.getBottomUpGrantTrie(),
+                inheritedTrie.getBottomUpRevokeTrie());
     }
 
     /**
@@ -120,8 +113,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
     public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
             final AuthorizationContext authorizationContext, final Permissions permissions) {
 
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        final GrantRevokeIndex grantRevokeIndex = seekUnrestricted(resourceKey);
 
         return grantRevokeIndex.hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
     }
@@ -138,8 +130,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
     public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
             final Permissions permissions) {
 
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        final GrantRevokeIndex grantRevokeIndex = seekPartial(resourceKey);
 
         return grantRevokeIndex.hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
     }
@@ -148,8 +139,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
     public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
-        return inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
-                .getGrantRevokeIndex()
+        return trie.getInherited(trie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)))
                 .getEffectedSubjects(permissions);
     }
 
@@ -167,8 +157,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        final GrantRevokeIndex grantRevokeIndex = seekPartial(resourceKey);
         return grantRevokeIndex.getGrantedSubjects(permissions);
     }
 
@@ -178,8 +167,7 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         checkResourceKey(resourceKey);
         checkPermissions(permissions);
 
-        final PolicyTrie policyTrie = seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie);
-        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        final GrantRevokeIndex grantRevokeIndex = seekUnrestricted(resourceKey);
         final Set<AuthorizationSubject> grantedSubjects = grantRevokeIndex.getGrantedSubjects(permissions);
         grantedSubjects.removeAll(grantRevokeIndex.getRevokedSubjects(permissions));
 
@@ -198,9 +186,10 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
         final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
 
-        if (inheritedTrie.hasChild(typeKey)) {
-            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
-            return start.buildJsonView(jsonFields, authorizationContext.getAuthorizationSubjectIds(), permissions);
+        if (FlatPolicyTrie.NOT_FOUND != trie.getChild(FlatPolicyTrie.ROOT, typeKey)) {
+            final int start = trie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return trie.buildJsonView(start, jsonFields, authorizationContext.getAuthorizationSubjectIds(),
+                    permissions);
         } else {
             return JsonFactory.newObject();
         }
@@ -219,30 +208,45 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
         final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
 
-        if (inheritedTrie.hasChild(typeKey)) {
-            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
-            return start.getAccessiblePaths(jsonFields, authorizationContext.getAuthorizationSubjectIds(), permissions,
-                    resourceKey.getResourcePath());
+        if (FlatPolicyTrie.NOT_FOUND != trie.getChild(FlatPolicyTrie.ROOT, typeKey)) {
+            final int start = trie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return trie.getAccessiblePaths(start, jsonFields, authorizationContext.getAuthorizationSubjectIds(),
+                    permissions, resourceKey.getResourcePath());
         } else {
             return Collections.emptySet();
         }
     }
 
     /**
-     * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
-     * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
-     * best.
+     * Returns the grant-revoke-index of the node in the bottom-up-revoke trie whose path from root matches the given
+     * resource key exactly if it exists, otherwise the grant-revoke-index of the node in the inherited trie whose path
+     * from root matches the resource key the best.
      *
      * @param resourceKey Pointer to a resource.
-     * @param firstTry The policy trie to attempt an exact match.
-     * @param fallback The policy trie to traverse if no exact match is found in {@code firstTry}.
-     * @return The result trie node.
+     * @return The result grant-revoke-index.
      */
-    private static PolicyTrie seekWithFallback(final ResourceKey resourceKey, final PolicyTrie firstTry,
-            final PolicyTrie fallback) {
+    private GrantRevokeIndex seekUnrestricted(final ResourceKey resourceKey) {
+        final int exactNode = trie.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        if (FlatPolicyTrie.NOT_FOUND != exactNode) {
+            return trie.getBottomUpRevoke(exactNode);
+        }
+        return trie.getInherited(trie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
+    }
 
-        return firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey))
-                .orElseGet(() -> fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
+    /**
+     * Returns the grant-revoke-index of the node in the bottom-up-grant trie whose path from root matches the given
+     * resource key exactly if it exists, otherwise the grant-revoke-index of the node in the inherited trie whose path
+     * from root matches the resource key the best.
+     *
+     * @param resourceKey Pointer to a resource.
+     * @return The result grant-revoke-index.
+     */
+    private GrantRevokeIndex seekPartial(final ResourceKey resourceKey) {
+        final int exactNode = trie.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        if (FlatPolicyTrie.NOT_FOUND != exactNode) {
+            return trie.getBottomUpGrant(exactNode);
+        }
+        return trie.getInherited(trie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
     }
 
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link FlatPolicyTrie}.
+ */
+public final class FlatPolicyTrieTest {
+
+    private static final String READER = "test:reader";
+    private static final String WRITER = "test:writer";
+
+    private static final List<ResourceKey> RESOURCE_KEYS = List.of(
+            ResourceKey.newInstance("thing", "/"),
+            ResourceKey.newInstance("thing", "/attributes"),
+            ResourceKey.newInstance("thing", "/attributes/location"),
+            ResourceKey.newInstance("thing", "/attributes/location/latitude"),
+            ResourceKey.newInstance("thing", "/features"),
+            ResourceKey.newInstance("thing", "/features/lamp"),
+            ResourceKey.newInstance("thing", "/features/lamp/properties/on"),
+            ResourceKey.newInstance("thing", "/features/unknown"),
+            ResourceKey.newInstance("policy", "/"),
+            ResourceKey.newInstance("message", "/inbox")
+    );
+
+    private PolicyTrie inheritedTrie;
+    private PolicyTrie bottomUpGrantTrie;
+    private PolicyTrie bottomUpRevokeTrie;
+    private FlatPolicyTrie underTest;
+
+    @Before
+    public void setUp() {
+        final Policy policy = Policy.newBuilder(PolicyId.of("org.eclipse.ditto:flat"))
+                .forLabel("reader")
+                .setSubject(READER, SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), Permissions.newInstance("READ"))
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/location"),
+                        Permissions.newInstance("READ"))
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/zeta"),
+                        Permissions.newInstance("WRITE"))
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/alpha"),
+                        Permissions.newInstance("WRITE"))
+                .forLabel("writer")
+                .setSubject(WRITER, SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/lamp"),
+                        Permissions.newInstance("READ", "WRITE"))
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), Permissions.newInstance("READ"))
+                .build();
+
+        inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
+        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        underTest = FlatPolicyTrie.of(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie);
+    }
+
+    @Test
+    public void nodeTableContainsAllNodesOfTheTrie() {
+        // root, thing, policy, attributes, features, location, alpha, lamp, zeta
+        assertThat(underTest.getNodeCount()).isEqualTo(9);
+        assertThat(underTest.getDistinctGrantRevokeIndexCount()).isLessThan(3 * underTest.getNodeCount());
+    }
+
+    @Test
+    public void seekToLeastAncestorMatchesPolicyTrie() {
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            final int node = underTest.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            final PolicyTrie expected = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+
+            assertThat(underTest.getInherited(node))
+                    .as("inherited grants and revokes of %s", resourceKey)
+                    .isEqualTo(expected.getGrantRevokeIndex());
+        }
+    }
+
+    @Test
+    public void seekToExactNodeMatchesPolicyTrie() {
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            final int node = underTest.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+            final Optional<PolicyTrie> expectedGrant =
+                    bottomUpGrantTrie.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+            final Optional<PolicyTrie> expectedRevoke =
+                    bottomUpRevokeTrie.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+
+            if (expectedGrant.isPresent()) {
+                assertThat(underTest.getBottomUpGrant(node))
+                        .as("bottom-up grants of %s", resourceKey)
+                        .isEqualTo(expectedGrant.get().getGrantRevokeIndex());
+                assertThat(underTest.getBottomUpRevoke(node))
+                        .as("bottom-up revokes of %s", resourceKey)
+                        .isEqualTo(expectedRevoke.orElseThrow().getGrantRevokeIndex());
+            } else {
+                assertThat(node).as("exact node of %s", resourceKey).isEqualTo(FlatPolicyTrie.NOT_FOUND);
+            }
+        }
+    }
+
+    @Test
+    public void buildJsonViewMatchesPolicyTrie() {
+        final JsonObject thing = JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("location", JsonFactory.newObject("{\"latitude\":1.0,\"longitude\":2.0}"))
+                        .set("serial", "4711")
+                        .build())
+                .set("features", JsonFactory.newObject("{\"lamp\":{\"properties\":{\"on\":true}}," +
+                        "\"other\":{\"properties\":{\"level\":[1,2,3]}}}"))
+                .build();
+        final ResourceKey root = ResourceKey.newInstance("thing", "/");
+
+        for (final String subjectId : List.of(READER, WRITER)) {
+            for (final Permissions permissions : List.of(Permissions.newInstance("READ"),
+                    Permissions.newInstance("WRITE"))) {
+
+                final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(root));
+                final int startNode = underTest.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(root));
+
+                assertThat(underTest.buildJsonView(startNode, thing, List.of(subjectId), permissions))
+                        .as("view of %s with %s", subjectId, permissions)
+                        .isEqualTo(start.buildJsonView(thing, List.of(subjectId), permissions));
+                assertThat(underTest.getAccessiblePaths(startNode, thing, List.of(subjectId), permissions,
+                        JsonPointer.empty()))
+                        .as("accessible paths of %s with %s", subjectId, permissions)
+                        .isEqualTo(start.getAccessiblePaths(thing, List.of(subjectId), permissions,
+                                JsonPointer.empty()));
+            }
+        }
+    }
+
+}
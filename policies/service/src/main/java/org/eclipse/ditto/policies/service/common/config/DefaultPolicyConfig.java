@@ -54,6 +54,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final Duration policySubjectDeletionAnnouncementGranularity;
     private final String subjectIdResolver;
     private final PolicyAnnouncementConfig policyAnnouncementConfig;
+    private final SubjectExpirySchedulerConfig subjectExpirySchedulerConfig;
     private final CleanupConfig cleanupConfig;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
@@ -69,6 +70,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                         PolicyConfigValue.SUBJECT_DELETION_ANNOUNCEMENT_GRANULARITY);
         subjectIdResolver = scopedConfig.getString(PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath());
         policyAnnouncementConfig = PolicyAnnouncementConfig.of(scopedConfig);
+        subjectExpirySchedulerConfig = SubjectExpirySchedulerConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
     }
 
@@ -139,6 +141,11 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return policyAnnouncementConfig;
     }
 
+    @Override
+    public SubjectExpirySchedulerConfig getSubjectExpirySchedulerConfig() {
+        return subjectExpirySchedulerConfig;
+    }
+
     @Override
     public CleanupConfig getCleanupConfig() {
         return cleanupConfig;
@@ -168,6 +175,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                         that.policySubjectDeletionAnnouncementGranularity) &&
                 Objects.equals(subjectIdResolver, that.subjectIdResolver) &&
                 Objects.equals(policyAnnouncementConfig, that.policyAnnouncementConfig) &&
+                Objects.equals(subjectExpirySchedulerConfig, that.subjectExpirySchedulerConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig);
     }
 
@@ -175,7 +183,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, namespaceActivityCheckConfigs, snapshotConfig,
                 eventConfig, policySubjectExpiryGranularity, policySubjectDeletionAnnouncementGranularity,
-                subjectIdResolver, policyAnnouncementConfig, cleanupConfig);
+                subjectIdResolver, policyAnnouncementConfig, subjectExpirySchedulerConfig, cleanupConfig);
     }
 
     @Override
@@ -190,6 +198,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 ", policySubjectDeletionAnnouncementGranularity=" + policySubjectDeletionAnnouncementGranularity +
                 ", subjectIdResolver=" + subjectIdResolver +
                 ", policyAnnouncementConfig=" + policyAnnouncementConfig +
+                ", subjectExpirySchedulerConfig=" + subjectExpirySchedulerConfig +
                 ", cleanUpConfig=" + cleanupConfig +
                 "]";
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the subject expiry scheduler config.
+ */
+@Immutable
+final class DefaultSubjectExpirySchedulerConfig implements SubjectExpirySchedulerConfig {
+
+    static final String CONFIG_PATH = "subject-expiry-scheduler";
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration window;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration wakeUpTimeout;
+
+    private DefaultSubjectExpirySchedulerConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        interval = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.INTERVAL);
+        window = scopedConfig.getNonNegativeDurationOrThrow(ConfigValue.WINDOW);
+        batchSize = scopedConfig.getPositiveIntOrThrow(ConfigValue.BATCH_SIZE);
+        parallelism = scopedConfig.getPositiveIntOrThrow(ConfigValue.PARALLELISM);
+        wakeUpTimeout = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.WAKE_UP_TIMEOUT);
+    }
+
+    static DefaultSubjectExpirySchedulerConfig of(final Config config) {
+        final ConfigWithFallback mappingScopedConfig =
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values());
+        return new DefaultSubjectExpirySchedulerConfig(mappingScopedConfig);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getWakeUpTimeout() {
+        return wakeUpTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSubjectExpirySchedulerConfig that = (DefaultSubjectExpirySchedulerConfig) o;
+        return enabled == that.enabled &&
+                batchSize == that.batchSize &&
+                parallelism == that.parallelism &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(window, that.window) &&
+                Objects.equals(wakeUpTimeout, that.wakeUpTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, interval, window, batchSize, parallelism, wakeUpTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", interval=" + interval +
+                ", window=" + window +
+                ", batchSize=" + batchSize +
+                ", parallelism=" + parallelism +
+                ", wakeUpTimeout=" + wakeUpTimeout +
+                "]";
+    }
+
+}
@@ -77,6 +77,13 @@ public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckCon
      */
     PolicyAnnouncementConfig getPolicyAnnouncementConfig();
 
+    /**
+     * Return the config of the index-driven subject expiry scheduler.
+     *
+     * @return the subject expiry scheduler config.
+     */
+    SubjectExpirySchedulerConfig getSubjectExpirySchedulerConfig();
+
     /**
      * Returns the list of namespace-specific activity check configurations.
      * These allow different passivation intervals to be configured for policies in specific namespaces.
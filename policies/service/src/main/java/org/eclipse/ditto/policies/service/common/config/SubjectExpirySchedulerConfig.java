@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings for the index-driven scheduling of policy subject expiries.
+ */
+@Immutable
+public interface SubjectExpirySchedulerConfig {
+
+    /**
+     * Returns whether subject expiries are scheduled via the MongoDB expiry index instead of keeping policies with
+     * expiring subjects in memory until their subjects expire.
+     *
+     * @return whether the subject expiry scheduler is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the interval in which the scheduler queries the expiry index for policies to wake up.
+     *
+     * @return the query interval.
+     */
+    Duration getInterval();
+
+    /**
+     * Returns the look-ahead window: policies whose next subject expiry or announcement falls within this window
+     * are woken up and kept in memory until the expiry was handled.
+     *
+     * @return the look-ahead window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum amount of policies to read from the expiry index with one query.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns the maximum amount of policies which are woken up in parallel.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the timeout of waking up a single policy.
+     *
+     * @return the wake-up timeout.
+     */
+    Duration getWakeUpTimeout();
+
+    /**
+     * Returns an instance of the subject expiry scheduler config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the policy config at "subject-expiry-scheduler"
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static SubjectExpirySchedulerConfig of(final Config config) {
+        return DefaultSubjectExpirySchedulerConfig.of(config);
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the subject expiry scheduler is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The query interval.
+         */
+        INTERVAL("interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The look-ahead window.
+         */
+        WINDOW("window", Duration.ofMinutes(10L)),
+
+        /**
+         * The batch size.
+         */
+        BATCH_SIZE("batch-size", 1000),
+
+        /**
+         * The parallelism of waking up policies.
+         */
+        PARALLELISM("parallelism", 16),
+
+        /**
+         * The timeout of waking up a single policy.
+         */
+        WAKE_UP_TIMEOUT("wake-up-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+}
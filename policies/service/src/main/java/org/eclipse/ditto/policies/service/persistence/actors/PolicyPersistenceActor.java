@@ -12,7 +12,10 @@
  */
 package org.eclipse.ditto.policies.service.persistence.actors;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 
@@ -28,6 +31,9 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.NamespaceActivityCheckConfigProvider;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
@@ -36,6 +42,7 @@ import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActo
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.DefaultContext;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyEntry;
@@ -49,6 +56,9 @@ import org.eclipse.ditto.policies.service.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.policies.service.common.config.PolicyConfig;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.PolicyCommandStrategies;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.events.PolicyEventStrategies;
+import org.eclipse.ditto.policies.service.persistence.expiry.SubjectExpiryIndex;
+import org.eclipse.ditto.policies.service.persistence.expiry.SubjectExpirySchedulerActor;
+import org.eclipse.ditto.policies.service.persistence.expiry.SubjectExpiryWakeUp;
 
 /**
  * PersistentActor which "knows" the state of a single {@link Policy}.
@@ -76,6 +86,10 @@ public final class PolicyPersistenceActor
     private final NamespaceActivityCheckConfigProvider activityCheckConfigProvider;
     private final ActorRef announcementManager;
     private final ActorRef supervisor;
+    private final ThreadSafeDittoLoggingAdapter threadSafeLog =
+            DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+    @Nullable private final SubjectExpiryIndex subjectExpiryIndex;
+    @Nullable private Instant indexedSubjectExpiryWakeUp = null;
 
     @SuppressWarnings("unused")
     private PolicyPersistenceActor(final PolicyId policyId,
@@ -93,6 +107,7 @@ public final class PolicyPersistenceActor
                 policyConfig.getActivityCheckConfig()
         );
         this.supervisor = getContext().getParent();
+        this.subjectExpiryIndex = getSubjectExpiryIndexIfEnabled(policyConfig, getContext().getSystem());
     }
 
     private PolicyPersistenceActor(final PolicyId policyId,
@@ -114,6 +129,18 @@ public final class PolicyPersistenceActor
                 policyConfig.getNamespaceActivityCheckConfigs(),
                 policyConfig.getActivityCheckConfig()
         );
+        this.subjectExpiryIndex = getSubjectExpiryIndexIfEnabled(policyConfig, getContext().getSystem());
+    }
+
+    @Nullable
+    private static SubjectExpiryIndex getSubjectExpiryIndexIfEnabled(final PolicyConfig policyConfig,
+            final ActorSystem actorSystem) {
+
+        if (policyConfig.getSubjectExpirySchedulerConfig().isEnabled()) {
+            return SubjectExpiryIndex.get(actorSystem);
+        } else {
+            return null;
+        }
     }
 
     /**
@@ -264,6 +291,11 @@ public final class PolicyPersistenceActor
 
     @Override
     protected boolean isEntityAlwaysAlive() {
+        if (null != subjectExpiryIndex) {
+            // with the subject expiry scheduler, only keep the policy in memory once its next expiry is due
+            return SubjectExpiryWakeUp.isDueWithin(entity, getDefaultRandomizationInterval(), Instant.now(),
+                    policyConfig.getSubjectExpirySchedulerConfig().getWindow());
+        }
         return isAlwaysAlive(entity);
     }
 
@@ -272,14 +304,33 @@ public final class PolicyPersistenceActor
         if (entity != null) {
             announcementManager.tell(entity, ActorRef.noSender());
         }
+        if (null != subjectExpiryIndex) {
+            // (re-)index the policy on recovery so that policies tagged as "always-alive" before enabling the
+            // scheduler are migrated to the index when they are woken up by the persistence ping
+            indexedSubjectExpiryWakeUp = getSubjectExpiryWakeUp().orElse(null);
+            if (null != indexedSubjectExpiryWakeUp) {
+                putIntoSubjectExpiryIndex(indexedSubjectExpiryWakeUp);
+            }
+        }
         super.recoveryCompleted(event);
     }
 
+    @Override
+    protected void processPingCommand(final PingCommand ping) {
+        if (null != subjectExpiryIndex && null == indexedSubjectExpiryWakeUp && ping.getPayload()
+                .filter(payload -> payload.equals(JsonValue.of(SubjectExpirySchedulerActor.WAKE_UP_PAYLOAD)))
+                .isPresent()) {
+            // woken up by a stale index entry, e.g. because the index update after the last modification failed
+            removeFromSubjectExpiryIndex();
+        }
+        super.processPingCommand(ping);
+    }
+
     @Override
     protected PolicyEvent<?> modifyEventBeforePersist(final PolicyEvent<?> event) {
         final PolicyEvent<?> superEvent = super.modifyEventBeforePersist(event);
 
-        if (willEntityBeAlwaysAlive(event)) {
+        if (null == subjectExpiryIndex && willEntityBeAlwaysAlive(event)) {
             final DittoHeaders headersWithJournalTags = superEvent.getDittoHeaders()
                     .toBuilder()
                     .journalTags(Set.of(JOURNAL_TAG_ALWAYS_ALIVE))
@@ -295,6 +346,9 @@ public final class PolicyPersistenceActor
         if (entity != null) {
             announcementManager.tell(entity, ActorRef.noSender());
         }
+        if (null != subjectExpiryIndex) {
+            updateSubjectExpiryIndex();
+        }
     }
 
     @Override
@@ -302,6 +356,43 @@ public final class PolicyPersistenceActor
         return supervisor;
     }
 
+    private void updateSubjectExpiryIndex() {
+        final Instant wakeUp = getSubjectExpiryWakeUp().orElse(null);
+        if (!Objects.equals(wakeUp, indexedSubjectExpiryWakeUp)) {
+            indexedSubjectExpiryWakeUp = wakeUp;
+            if (null != wakeUp) {
+                putIntoSubjectExpiryIndex(wakeUp);
+            } else {
+                removeFromSubjectExpiryIndex();
+            }
+        }
+    }
+
+    private void putIntoSubjectExpiryIndex(final Instant wakeUp) {
+        Objects.requireNonNull(subjectExpiryIndex).put(entityId, wakeUp)
+                .exceptionally(error -> {
+                    threadSafeLog.error(error, "Failed to index next subject expiry <{}> of policy <{}>.", wakeUp,
+                            entityId);
+                    return null;
+                });
+    }
+
+    private void removeFromSubjectExpiryIndex() {
+        Objects.requireNonNull(subjectExpiryIndex).remove(entityId)
+                .exceptionally(error -> {
+                    threadSafeLog.error(error, "Failed to remove policy <{}> from subject expiry index.", entityId);
+                    return null;
+                });
+    }
+
+    private Optional<Instant> getSubjectExpiryWakeUp() {
+        return SubjectExpiryWakeUp.of(entity, getDefaultRandomizationInterval());
+    }
+
+    private Duration getDefaultRandomizationInterval() {
+        return policyConfig.getPolicyAnnouncementConfig().getDefaultRandomizationInterval();
+    }
+
     private boolean willEntityBeAlwaysAlive(final PolicyEvent<?> policyEvent) {
         return isAlwaysAlive(getEventStrategy().handle(policyEvent, entity, getRevisionNumber()));
     }
@@ -31,6 +31,7 @@ import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceSupervisor;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.AbstractPriorityLaneMailbox;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.policies.enforcement.PolicyCacheLoader;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
@@ -55,6 +56,8 @@ import org.eclipse.ditto.policies.service.persistence.actors.announcements.Polic
  */
 public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<PolicyId, PolicyCommand<?>> {
 
+    private static final String MAILBOX_ID = "policy-persistence-actor-mailbox";
+
     private final ActorRef pubSubMediator;
     private final ActorRef announcementManager;
     private final PoliciesConfig policiesConfig;
@@ -121,8 +124,10 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
 
     @Override
     protected Props getPersistenceActorProps(final PolicyId entityId) {
-        return PolicyPersistenceActor.props(entityId, mongoReadJournal, pubSubMediator, announcementManager,
-                policiesConfig.getPolicyConfig());
+        final Props props = PolicyPersistenceActor.props(entityId, mongoReadJournal, pubSubMediator,
+                announcementManager, policiesConfig.getPolicyConfig());
+        return AbstractPriorityLaneMailbox.withConfiguredMailbox(props, getContext().getSystem().settings().config(),
+                MAILBOX_ID);
     }
 
     @Override
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.expiry;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.service.common.config.DittoPoliciesConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+/**
+ * MongoDB backed index of the next instant at which each policy has to announce or delete an expiring subject.
+ * Contains one document per policy with expiring subjects; the documents are indexed by their wake-up instant so that
+ * only the policies whose subjects expire within the next window have to be loaded.
+ */
+public final class SubjectExpiryIndex implements Extension {
+
+    /**
+     * Name of the collection holding the subject expiry index.
+     */
+    static final String COLLECTION_NAME = "policies_subject_expiry";
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_WAKE_UP = "wakeUp";
+
+    private static final Index WAKE_UP_INDEX =
+            IndexFactory.newInstance("wakeUp_id", List.of(FIELD_WAKE_UP, FIELD_ID), false);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubjectExpiryIndex.class);
+
+    private final MongoCollection<Document> collection;
+    private final Materializer materializer;
+
+    private SubjectExpiryIndex(final ActorSystem actorSystem) {
+        final DittoPoliciesConfig policiesConfig =
+                DittoPoliciesConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
+        final DittoMongoClient mongoClient = MongoClientWrapper.newInstance(policiesConfig.getMongoDbConfig());
+        collection = mongoClient.getCollection(COLLECTION_NAME);
+        materializer = Materializer.createMaterializer(actorSystem);
+        IndexInitializer.of(mongoClient.getDefaultDatabase(), materializer)
+                .createNonExistingIndices(COLLECTION_NAME, List.of(WAKE_UP_INDEX))
+                .whenComplete((done, error) -> {
+                    if (null != error) {
+                        LOGGER.error("Failed to create index <{}> of subject expiry index: {}",
+                                WAKE_UP_INDEX.getName(), error.getMessage(), error);
+                    }
+                });
+    }
+
+    /**
+     * Load the {@code SubjectExpiryIndex}.
+     *
+     * @param actorSystem The actor system in which to load the index.
+     * @return the subject expiry index.
+     */
+    public static SubjectExpiryIndex get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Sets the instant at which the policy has to be woken up.
+     *
+     * @param policyId the ID of the policy.
+     * @param wakeUp the instant of the next announcement or deletion of a subject of the policy.
+     * @return a future that completes when the index was updated.
+     */
+    public CompletionStage<Done> put(final PolicyId policyId, final Instant wakeUp) {
+        final Document document = new Document()
+                .append(FIELD_ID, policyId.toString())
+                .append(FIELD_WAKE_UP, Date.from(wakeUp));
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, policyId.toString()), document,
+                        new ReplaceOptions().upsert(true)))
+                .runWith(Sink.ignore(), materializer);
+    }
+
+    /**
+     * Removes the policy from the index.
+     *
+     * @param policyId the ID of the policy without expiring subjects.
+     * @return a future that completes when the index was updated.
+     */
+    public CompletionStage<Done> remove(final PolicyId policyId) {
+        return Source.fromPublisher(collection.deleteOne(Filters.eq(FIELD_ID, policyId.toString())))
+                .runWith(Sink.ignore(), materializer);
+    }
+
+    /**
+     * Finds policies which have to be woken up until the given instant, ordered by wake-up instant and policy ID.
+     *
+     * @param after the last entry of the previous batch or {@code null} to start at the first entry.
+     * @param until the end of the window (inclusive).
+     * @param limit the maximum number of entries to return.
+     * @return source of entries due until the given instant.
+     */
+    public Source<Entry, NotUsed> findDue(@Nullable final Entry after, final Instant until, final int limit) {
+        final Bson untilFilter = Filters.lte(FIELD_WAKE_UP, Date.from(until));
+        final Bson filter;
+        if (null == after) {
+            filter = untilFilter;
+        } else {
+            final Date afterWakeUp = Date.from(after.wakeUp());
+            filter = Filters.and(untilFilter, Filters.or(
+                    Filters.gt(FIELD_WAKE_UP, afterWakeUp),
+                    Filters.and(Filters.eq(FIELD_WAKE_UP, afterWakeUp),
+                            Filters.gt(FIELD_ID, after.policyId().toString()))
+            ));
+        }
+        return Source.fromPublisher(collection.find(filter)
+                        .sort(Sorts.ascending(FIELD_WAKE_UP, FIELD_ID))
+                        .limit(limit))
+                .map(document -> new Entry(PolicyId.of(document.getString(FIELD_ID)),
+                        document.getDate(FIELD_WAKE_UP).toInstant()));
+    }
+
+    /**
+     * An entry of the subject expiry index.
+     *
+     * @param policyId the ID of the policy.
+     * @param wakeUp the instant at which the policy has to be in memory.
+     */
+    public record Entry(PolicyId policyId, Instant wakeUp) {}
+
+    private static final class ExtensionId extends AbstractExtensionId<SubjectExpiryIndex> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public SubjectExpiryIndex createExtension(final ExtendedActorSystem system) {
+            return new SubjectExpiryIndex(system);
+        }
+    }
+
+}
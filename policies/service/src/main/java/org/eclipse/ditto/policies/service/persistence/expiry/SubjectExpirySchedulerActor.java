@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.expiry;
+
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.actor.Status;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.Materializer;
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.service.common.config.SubjectExpirySchedulerConfig;
+
+/**
+ * Cluster singleton which periodically reads the {@link SubjectExpiryIndex} and wakes up the policies whose subjects
+ * have to be announced or deleted within the configured window, in batches and with bounded parallelism.
+ * <p>
+ * Policies keep themselves in memory once they are due, so each entry only needs to be woken up once. The index is
+ * therefore scanned with a cursor which is reset once per window in order to also wake up due policies after a crash.
+ */
+public final class SubjectExpirySchedulerActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "subjectExpiryScheduler";
+
+    /**
+     * Payload of the {@link PingCommand}s sent to wake up policies.
+     */
+    public static final String WAKE_UP_PAYLOAD = "subject-expiry";
+
+    private static final String CORRELATION_ID_PREFIX = "subject-expiry-scheduler-triggered:";
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+
+    private final ActorRef policiesShardRegion;
+    private final SubjectExpirySchedulerConfig config;
+    private final SubjectExpiryIndex subjectExpiryIndex;
+    private final Materializer materializer;
+
+    @Nullable private SubjectExpiryIndex.Entry cursor = null;
+    private Instant lastFullScan = Instant.EPOCH;
+    private boolean scanInProgress = false;
+
+    @SuppressWarnings("unused")
+    private SubjectExpirySchedulerActor(final ActorRef policiesShardRegion,
+            final SubjectExpirySchedulerConfig config,
+            final SubjectExpiryIndex subjectExpiryIndex) {
+
+        this.policiesShardRegion = policiesShardRegion;
+        this.config = config;
+        this.subjectExpiryIndex = subjectExpiryIndex;
+        materializer = Materializer.createMaterializer(this::getContext);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this Actor.
+     *
+     * @param policiesShardRegion the shard region of the policies.
+     * @param config the config of the subject expiry scheduler.
+     * @param subjectExpiryIndex the index of subject expiries to read due policies from.
+     * @return the Pekko configuration Props object.
+     */
+    public static Props props(final ActorRef policiesShardRegion,
+            final SubjectExpirySchedulerConfig config,
+            final SubjectExpiryIndex subjectExpiryIndex) {
+
+        return Props.create(SubjectExpirySchedulerActor.class, policiesShardRegion, config, subjectExpiryIndex);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        log.info("Scheduling subject expiry scan with interval <{}> and window <{}>.", config.getInterval(),
+                config.getWindow());
+        getTimers().startTimerAtFixedRate(Control.SCAN, Control.SCAN, config.getInterval());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.SCAN, this::startScan)
+                .match(BatchResult.class, this::batchCompleted)
+                .match(Status.Failure.class, this::batchFailed)
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void startScan(final Control scan) {
+        if (scanInProgress) {
+            log.info("Another subject expiry scan is currently in progress. Next scan will be started after <{}>.",
+                    config.getInterval());
+            return;
+        }
+        final Instant now = Instant.now();
+        if (!lastFullScan.plus(config.getWindow()).isAfter(now)) {
+            cursor = null;
+            lastFullScan = now;
+        }
+        scanInProgress = true;
+        scanBatch(now.plus(config.getWindow()));
+    }
+
+    private void scanBatch(final Instant until) {
+        log.debug("Scanning subject expiry index after <{}> until <{}>.", cursor, until);
+        final CompletionStage<BatchResult> batchResult =
+                subjectExpiryIndex.findDue(cursor, until, config.getBatchSize())
+                        .mapAsync(config.getParallelism(), this::wakeUp)
+                        .runFold(new BatchResult(until, 0, null), BatchResult::add, materializer);
+        Patterns.pipe(batchResult, getContext().dispatcher()).to(getSelf());
+    }
+
+    private CompletionStage<SubjectExpiryIndex.Entry> wakeUp(final SubjectExpiryIndex.Entry entry) {
+        final PingCommand ping = PingCommand.of(entry.policyId(), CORRELATION_ID_PREFIX + entry.policyId(),
+                JsonValue.of(WAKE_UP_PAYLOAD));
+        return Patterns.ask(policiesShardRegion, ping, config.getWakeUpTimeout())
+                .handle((response, error) -> {
+                    if (null != error) {
+                        log.warning("Waking up policy <{}> due at <{}> failed: {}", entry.policyId(),
+                                entry.wakeUp(), error.getMessage());
+                    }
+                    return entry;
+                });
+    }
+
+    private void batchCompleted(final BatchResult result) {
+        if (null != result.lastEntry()) {
+            cursor = result.lastEntry();
+        }
+        if (result.count() >= config.getBatchSize()) {
+            log.debug("Woke up a full batch of <{}> policies, continuing scan.", result.count());
+            scanBatch(result.until());
+        } else {
+            log.debug("Subject expiry scan until <{}> completed.", result.until());
+            scanInProgress = false;
+        }
+    }
+
+    private void batchFailed(final Status.Failure failure) {
+        log.error(failure.cause(), "Subject expiry scan failed, retrying after <{}>.", config.getInterval());
+        scanInProgress = false;
+    }
+
+    private record BatchResult(Instant until, int count, @Nullable SubjectExpiryIndex.Entry lastEntry) {
+
+        private BatchResult add(final SubjectExpiryIndex.Entry entry) {
+            return new BatchResult(until, count + 1, entry);
+        }
+    }
+
+    private enum Control {
+        SCAN
+    }
+
+}
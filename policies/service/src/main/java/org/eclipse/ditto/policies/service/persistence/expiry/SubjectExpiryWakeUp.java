@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyLifecycle;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.Subjects;
+
+/**
+ * Calculates the instant at which a policy has to be in memory in order to announce or delete its next expiring
+ * subject.
+ */
+public final class SubjectExpiryWakeUp {
+
+    private SubjectExpiryWakeUp() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the earliest instant at which a subject of the policy has to be announced or deleted.
+     * For subjects with an announcement before expiry, the maximum randomization interval of the announcement is
+     * subtracted as the announcement may be sent that much earlier.
+     *
+     * @param policy the policy, may be {@code null} if it does not exist.
+     * @param defaultRandomizationInterval the randomization interval of announcements which don't define one.
+     * @return the instant to wake up the policy or an empty optional if none of its subjects expires.
+     */
+    public static Optional<Instant> of(@Nullable final Policy policy, final Duration defaultRandomizationInterval) {
+        if (policy == null || policy.hasLifecycle(PolicyLifecycle.DELETED)) {
+            return Optional.empty();
+        }
+        return StreamSupport.stream(policy.spliterator(), false)
+                .map(PolicyEntry::getSubjects)
+                .flatMap(Subjects::stream)
+                .flatMap(subject -> getWakeUpInstants(subject, defaultRandomizationInterval))
+                .min(Instant::compareTo);
+    }
+
+    /**
+     * Returns whether the policy has to be kept in memory because its next subject announcement or deletion is due
+     * before {@code now + window}.
+     *
+     * @param policy the policy, may be {@code null} if it does not exist.
+     * @param defaultRandomizationInterval the randomization interval of announcements which don't define one.
+     * @param now the current instant.
+     * @param window the look-ahead window.
+     * @return whether a subject of the policy expires within the window.
+     */
+    public static boolean isDueWithin(@Nullable final Policy policy, final Duration defaultRandomizationInterval,
+            final Instant now, final Duration window) {
+
+        final Instant windowEnd = now.plus(window);
+        return of(policy, defaultRandomizationInterval)
+                .filter(wakeUp -> !wakeUp.isAfter(windowEnd))
+                .isPresent();
+    }
+
+    private static Stream<Instant> getWakeUpInstants(final Subject subject,
+            final Duration defaultRandomizationInterval) {
+
+        return subject.getExpiry()
+                .map(expiry -> {
+                    final Instant expiryInstant = expiry.getTimestamp();
+                    final Optional<Instant> announcementInstant = subject.getAnnouncement()
+                            .flatMap(announcement -> getEarliestAnnouncementInstant(announcement, expiryInstant,
+                                    defaultRandomizationInterval));
+                    return announcementInstant.map(instant -> Stream.of(instant, expiryInstant))
+                            .orElseGet(() -> Stream.of(expiryInstant));
+                })
+                .orElseGet(Stream::empty);
+    }
+
+    private static Optional<Instant> getEarliestAnnouncementInstant(final SubjectAnnouncement announcement,
+            final Instant expiryInstant, final Duration defaultRandomizationInterval) {
+
+        final Duration randomizationInterval = announcement.getRandomizationInterval()
+                .map(DittoDuration::getDuration)
+                .orElse(defaultRandomizationInterval);
+        return announcement.getBeforeExpiry()
+                .map(beforeExpiry -> expiryInstant.minus(beforeExpiry.getDuration()).minus(randomizationInterval));
+    }
+
+}
@@ -53,6 +53,8 @@ import org.eclipse.ditto.policies.service.common.config.PoliciesConfig;
 import org.eclipse.ditto.policies.service.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.policies.service.persistence.actors.PolicyPersistenceOperationsActor;
 import org.eclipse.ditto.policies.service.persistence.actors.PolicySupervisorActor;
+import org.eclipse.ditto.policies.service.persistence.expiry.SubjectExpiryIndex;
+import org.eclipse.ditto.policies.service.persistence.expiry.SubjectExpirySchedulerActor;
 
 /**
  * Parent Actor which takes care of supervision of all other Actors in our system.
@@ -109,6 +111,14 @@ public final class PoliciesRootActor extends DittoRootActor {
                 PersistencePingActor.props(policiesShardRegion, policiesConfig.getPingConfig(), mongoReadJournal),
                 PersistencePingActor.ACTOR_NAME);
 
+        final var subjectExpirySchedulerConfig =
+                policiesConfig.getPolicyConfig().getSubjectExpirySchedulerConfig();
+        if (subjectExpirySchedulerConfig.isEnabled()) {
+            startClusterSingletonActor(SubjectExpirySchedulerActor.props(policiesShardRegion,
+                            subjectExpirySchedulerConfig, SubjectExpiryIndex.get(actorSystem)),
+                    SubjectExpirySchedulerActor.ACTOR_NAME);
+        }
+
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
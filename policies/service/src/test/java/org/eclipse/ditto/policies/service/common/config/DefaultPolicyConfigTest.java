@@ -82,6 +82,11 @@ public final class DefaultPolicyConfigTest {
         softly.assertThat(underTest.getPolicyAnnouncementConfig())
                 .as(DefaultPolicyAnnouncementConfig.CONFIG_PATH)
                 .isEqualTo(PolicyAnnouncementConfig.of(ConfigFactory.load("policy-announcement-config-test.conf")));
+
+        softly.assertThat(underTest.getSubjectExpirySchedulerConfig())
+                .as(DefaultSubjectExpirySchedulerConfig.CONFIG_PATH)
+                .isEqualTo(SubjectExpirySchedulerConfig.of(
+                        ConfigFactory.load("subject-expiry-scheduler-config-test.conf")));
     }
 
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.common.config;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultSubjectExpirySchedulerConfig}.
+ */
+public final class DefaultSubjectExpirySchedulerConfigTest {
+
+    private static Config schedulerTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        schedulerTestConfig = ConfigFactory.load("subject-expiry-scheduler-config-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultSubjectExpirySchedulerConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final SubjectExpirySchedulerConfig underTest = SubjectExpirySchedulerConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getInterval())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1L));
+
+        softly.assertThat(underTest.getWindow())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(10L));
+
+        softly.assertThat(underTest.getBatchSize())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(1000);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(16);
+
+        softly.assertThat(underTest.getWakeUpTimeout())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.WAKE_UP_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
+    }
+
+    @Test
+    public void underTestReturnsValuesOfBaseConfig() {
+        final SubjectExpirySchedulerConfig underTest = SubjectExpirySchedulerConfig.of(schedulerTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getInterval())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(12L));
+
+        softly.assertThat(underTest.getWindow())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(34L));
+
+        softly.assertThat(underTest.getBatchSize())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(56);
+
+        softly.assertThat(underTest.getParallelism())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(7);
+
+        softly.assertThat(underTest.getWakeUpTimeout())
+                .as(SubjectExpirySchedulerConfig.ConfigValue.WAKE_UP_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(8L));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.internal.utils.pekko.PingCommandResponse;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.service.common.config.SubjectExpirySchedulerConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link SubjectExpirySchedulerActor}.
+ */
+public final class SubjectExpirySchedulerActorTest {
+
+    private static final Instant WAKE_UP = Instant.now();
+    private static final SubjectExpiryIndex.Entry ENTRY_1 =
+            new SubjectExpiryIndex.Entry(PolicyId.of("org.eclipse.ditto:policy-1"), WAKE_UP);
+    private static final SubjectExpiryIndex.Entry ENTRY_2 =
+            new SubjectExpiryIndex.Entry(PolicyId.of("org.eclipse.ditto:policy-2"), WAKE_UP);
+    private static final SubjectExpiryIndex.Entry ENTRY_3 =
+            new SubjectExpiryIndex.Entry(PolicyId.of("org.eclipse.ditto:policy-3"), WAKE_UP.plusSeconds(1L));
+
+    private ActorSystem actorSystem;
+    private SubjectExpiryIndex subjectExpiryIndex;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("test", ConfigFactory.load("test"));
+        subjectExpiryIndex = mock(SubjectExpiryIndex.class);
+        when(subjectExpiryIndex.findDue(any(), any(), anyInt())).thenReturn(Source.empty());
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void wakesUpDuePoliciesInBatches() {
+        when(subjectExpiryIndex.findDue(isNull(), any(), eq(2))).thenReturn(Source.from(List.of(ENTRY_1, ENTRY_2)));
+        when(subjectExpiryIndex.findDue(eq(ENTRY_2), any(), eq(2))).thenReturn(Source.single(ENTRY_3));
+        final TestProbe shardRegion = TestProbe.apply(actorSystem);
+
+        actorSystem.actorOf(SubjectExpirySchedulerActor.props(shardRegion.ref(),
+                schedulerConfig("interval = 100ms, window = 1h, batch-size = 2"), subjectExpiryIndex));
+
+        expectWakeUpAndReply(shardRegion, ENTRY_1);
+        expectWakeUpAndReply(shardRegion, ENTRY_2);
+        expectWakeUpAndReply(shardRegion, ENTRY_3);
+        shardRegion.expectNoMessage();
+    }
+
+    @Test
+    public void rescansIndexOncePerWindow() {
+        when(subjectExpiryIndex.findDue(isNull(), any(), anyInt())).thenReturn(Source.single(ENTRY_1));
+        final TestProbe shardRegion = TestProbe.apply(actorSystem);
+
+        actorSystem.actorOf(SubjectExpirySchedulerActor.props(shardRegion.ref(),
+                schedulerConfig("interval = 100ms, window = 500ms"), subjectExpiryIndex));
+
+        expectWakeUpAndReply(shardRegion, ENTRY_1);
+        expectWakeUpAndReply(shardRegion, ENTRY_1);
+    }
+
+    @Test
+    public void continuesAfterFailedWakeUp() {
+        when(subjectExpiryIndex.findDue(isNull(), any(), anyInt())).thenReturn(Source.single(ENTRY_1));
+        when(subjectExpiryIndex.findDue(eq(ENTRY_1), any(), anyInt())).thenReturn(Source.single(ENTRY_2));
+        final TestProbe shardRegion = TestProbe.apply(actorSystem);
+
+        actorSystem.actorOf(SubjectExpirySchedulerActor.props(shardRegion.ref(),
+                schedulerConfig("interval = 100ms, window = 1h, wake-up-timeout = 200ms"), subjectExpiryIndex));
+
+        final PingCommand firstPing = shardRegion.expectMsgClass(PingCommand.class);
+        assertThat((CharSequence) firstPing.getEntityId()).isEqualTo(ENTRY_1.policyId());
+        expectWakeUpAndReply(shardRegion, ENTRY_2);
+    }
+
+    private static void expectWakeUpAndReply(final TestProbe shardRegion, final SubjectExpiryIndex.Entry entry) {
+        final PingCommand ping = shardRegion.expectMsgClass(PingCommand.class);
+        assertThat((CharSequence) ping.getEntityId()).isEqualTo(entry.policyId());
+        assertThat(ping.getPayload()).contains(JsonValue.of(SubjectExpirySchedulerActor.WAKE_UP_PAYLOAD));
+        shardRegion.reply(PingCommandResponse.of(ping.getCorrelationId().orElse(null), JsonValue.nullLiteral()));
+    }
+
+    private static SubjectExpirySchedulerConfig schedulerConfig(final String settings) {
+        return SubjectExpirySchedulerConfig.of(
+                ConfigFactory.parseString("subject-expiry-scheduler { enabled = true, " + settings + " }"));
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.expiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyLifecycle;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.SubjectExpiry;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SubjectExpiryWakeUp}.
+ */
+public final class SubjectExpiryWakeUpTest {
+
+    private static final Duration DEFAULT_RANDOMIZATION = Duration.ofMinutes(5L);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    public void policyWithoutExpiringSubjectsHasNoWakeUp() {
+        final Policy policy = policyWith(Subject.newInstance(SubjectId.newInstance("test:permanent"),
+                SubjectType.GENERATED));
+
+        assertThat(SubjectExpiryWakeUp.of(policy, DEFAULT_RANDOMIZATION)).isEmpty();
+        assertThat(SubjectExpiryWakeUp.of(null, DEFAULT_RANDOMIZATION)).isEmpty();
+    }
+
+    @Test
+    public void wakeUpIsEarliestExpiry() {
+        final Instant earlier = NOW.plus(Duration.ofHours(1L));
+        final Policy policy = policyWith(
+                expiringSubject("test:later", NOW.plus(Duration.ofHours(2L)), null),
+                expiringSubject("test:earlier", earlier, null));
+
+        assertThat(SubjectExpiryWakeUp.of(policy, DEFAULT_RANDOMIZATION)).contains(earlier);
+    }
+
+    @Test
+    public void wakeUpConsidersAnnouncementAndRandomization() {
+        final Instant expiry = NOW.plus(Duration.ofHours(1L));
+        final Policy policy = policyWith(expiringSubject("test:announced", expiry,
+                SubjectAnnouncement.of(DittoDuration.of(Duration.ofMinutes(10L)), false)));
+
+        assertThat(SubjectExpiryWakeUp.of(policy, DEFAULT_RANDOMIZATION))
+                .contains(expiry.minus(Duration.ofMinutes(15L)));
+    }
+
+    @Test
+    public void wakeUpConsidersAnnouncementSpecificRandomization() {
+        final Instant expiry = NOW.plus(Duration.ofHours(1L));
+        final Policy policy = policyWith(expiringSubject("test:announced", expiry,
+                SubjectAnnouncement.of(DittoDuration.of(Duration.ofMinutes(10L)), false, List.of(), null,
+                        DittoDuration.of(Duration.ofMinutes(1L)))));
+
+        assertThat(SubjectExpiryWakeUp.of(policy, DEFAULT_RANDOMIZATION))
+                .contains(expiry.minus(Duration.ofMinutes(11L)));
+    }
+
+    @Test
+    public void deletedPolicyHasNoWakeUp() {
+        final Policy policy = policyWith(expiringSubject("test:expiring", NOW, null))
+                .toBuilder()
+                .setLifecycle(PolicyLifecycle.DELETED)
+                .build();
+
+        assertThat(SubjectExpiryWakeUp.of(policy, DEFAULT_RANDOMIZATION)).isEmpty();
+    }
+
+    @Test
+    public void isDueWithinWindow() {
+        final Policy policy = policyWith(expiringSubject("test:expiring", NOW.plus(Duration.ofMinutes(10L)), null));
+
+        assertThat(SubjectExpiryWakeUp.isDueWithin(policy, DEFAULT_RANDOMIZATION, NOW, Duration.ofMinutes(10L)))
+                .isTrue();
+        assertThat(SubjectExpiryWakeUp.isDueWithin(policy, DEFAULT_RANDOMIZATION, NOW, Duration.ofMinutes(9L)))
+                .isFalse();
+        assertThat(SubjectExpiryWakeUp.isDueWithin(policy, DEFAULT_RANDOMIZATION, NOW.plus(Duration.ofHours(1L)),
+                Duration.ZERO))
+                .isTrue();
+    }
+
+    private static Subject expiringSubject(final String subjectId, final Instant expiry,
+            final SubjectAnnouncement announcement) {
+
+        return Subject.newInstance(SubjectId.newInstance(subjectId), SubjectType.GENERATED,
+                SubjectExpiry.newInstance(expiry), announcement);
+    }
+
+    private static Policy policyWith(final Subject... subjects) {
+        final var builder = Policy.newBuilder(PolicyId.of("org.eclipse.ditto:expiring"));
+        for (int i = 0; i < subjects.length; i++) {
+            builder.setSubjectFor("label" + i, subjects[i])
+                    .setGrantedPermissionsFor("label" + i, "policy", "/", "READ");
+        }
+        return builder.build();
+    }
+
+}
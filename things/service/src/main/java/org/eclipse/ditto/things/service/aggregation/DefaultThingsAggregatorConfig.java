@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.things.service.aggregation;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -30,9 +31,17 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
     private static final String CONFIG_PATH = "things-aggregator";
 
     private final int maxParallelism;
+    private final boolean batchRetrievalEnabled;
+    private final Duration shardLocationsRefreshInterval;
+    private final Duration batchRetrievalTimeout;
 
     private DefaultThingsAggregatorConfig(final ScopedConfig config) {
         maxParallelism = config.getPositiveIntOrThrow(ThingsAggregatorConfigValue.MAX_PARALLELISM);
+        batchRetrievalEnabled = config.getBoolean(ThingsAggregatorConfigValue.BATCH_RETRIEVAL_ENABLED.getConfigPath());
+        shardLocationsRefreshInterval = config.getNonNegativeAndNonZeroDurationOrThrow(
+                ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL);
+        batchRetrievalTimeout =
+                config.getNonNegativeAndNonZeroDurationOrThrow(ThingsAggregatorConfigValue.BATCH_RETRIEVAL_TIMEOUT);
     }
 
     /**
@@ -52,6 +61,21 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return maxParallelism;
     }
 
+    @Override
+    public boolean isBatchRetrievalEnabled() {
+        return batchRetrievalEnabled;
+    }
+
+    @Override
+    public Duration getShardLocationsRefreshInterval() {
+        return shardLocationsRefreshInterval;
+    }
+
+    @Override
+    public Duration getBatchRetrievalTimeout() {
+        return batchRetrievalTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -61,18 +85,25 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
             return false;
         }
         final DefaultThingsAggregatorConfig that = (DefaultThingsAggregatorConfig) o;
-        return maxParallelism == that.maxParallelism;
+        return maxParallelism == that.maxParallelism &&
+                batchRetrievalEnabled == that.batchRetrievalEnabled &&
+                Objects.equals(shardLocationsRefreshInterval, that.shardLocationsRefreshInterval) &&
+                Objects.equals(batchRetrievalTimeout, that.batchRetrievalTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxParallelism);
+        return Objects.hash(maxParallelism, batchRetrievalEnabled, shardLocationsRefreshInterval,
+                batchRetrievalTimeout);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxParallelism=" + maxParallelism +
+                ", batchRetrievalEnabled=" + batchRetrievalEnabled +
+                ", shardLocationsRefreshInterval=" + shardLocationsRefreshInterval +
+                ", batchRetrievalTimeout=" + batchRetrievalTimeout +
                 "]";
     }
 
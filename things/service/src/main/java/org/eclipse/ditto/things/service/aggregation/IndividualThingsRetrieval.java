@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.internal.utils.cacheloaders.AskWithRetryCommandForwarder;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+
+/**
+ * Retrieves things by sending one {@code RetrieveThing} or {@code SudoRetrieveThing} per thing to the things shard
+ * region.
+ */
+final class IndividualThingsRetrieval {
+
+    private final ActorRef targetActor;
+    private final int maxParallelism;
+    private final AskWithRetryCommandForwarder askWithRetryCommandForwarder;
+    private final ThreadSafeDittoLoggingAdapter log;
+
+    IndividualThingsRetrieval(final ActorRef targetActor, final int maxParallelism,
+            final AskWithRetryCommandForwarder askWithRetryCommandForwarder, final ThreadSafeDittoLoggingAdapter log) {
+
+        this.targetActor = targetActor;
+        this.maxParallelism = maxParallelism;
+        this.askWithRetryCommandForwarder = askWithRetryCommandForwarder;
+        this.log = log;
+    }
+
+    /**
+     * Retrieves the given things.
+     *
+     * @param thingIds the IDs of the things to retrieve.
+     * @param selectedFields the fields to retrieve, or {@code null} to retrieve all fields.
+     * @param command the {@code RetrieveThings} or {@code SudoRetrieveThings} command requesting the things.
+     * @return source of the responses in the order of {@code thingIds}.
+     */
+    Source<Jsonifiable, NotUsed> retrieve(final Collection<ThingId> thingIds,
+            @Nullable final JsonFieldSelector selectedFields,
+            final Command<?> command) {
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+
+        return Source.from(thingIds)
+                .filter(Objects::nonNull)
+                .map(thingId -> {
+                    final SignalWithEntityId<?> retrieveThing;
+                    if (command instanceof RetrieveThings) {
+                        retrieveThing = Optional.ofNullable(selectedFields)
+                                .map(sf -> RetrieveThing.getBuilder(thingId, dittoHeaders)
+                                        .withSelectedFields(sf)
+                                        .build())
+                                .orElse(RetrieveThing.of(thingId, dittoHeaders));
+                    } else {
+                        retrieveThing = Optional.ofNullable(selectedFields)
+                                .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
+                                .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
+                    }
+                    log.withCorrelationId(dittoHeaders).info("Retrieving thing with ID <{}>", thingId);
+
+                    return retrieveThing;
+                })
+                .map(Command.class::cast)
+                .mapAsync(calculateParallelism(thingIds), signal ->
+                        askWithRetryCommandForwarder.askCommand(signal, targetActor)
+                            .thenApply(Jsonifiable.class::cast)
+                            .exceptionally(e ->
+                                    DittoRuntimeException.asDittoRuntimeException(e, t ->
+                                            DittoInternalErrorException.newBuilder()
+                                                    .message("Unexpected error during retrieval of Thing with ID <"
+                                                            + ((WithEntityId) signal).getEntityId() + ">: " +
+                                                            t.getMessage()
+                                                    )
+                                                    .dittoHeaders(command.getDittoHeaders())
+                                                    .cause(t)
+                                                    .build()
+                                    )
+                            )
+                );
+    }
+
+    private int calculateParallelism(final Collection<ThingId> thingIds) {
+        final int size = thingIds.size();
+        if (size < maxParallelism / 2) {
+            return size;
+        } else if (size < maxParallelism) {
+            return size / 2;
+        } else {
+            return maxParallelism;
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.actor.Address;
+import org.eclipse.ditto.internal.utils.cluster.ShardNumberCalculator;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Snapshot of which cluster node hosts which shard of the things shard region.
+ */
+@Immutable
+final class ThingShardLocations {
+
+    private final ShardNumberCalculator shardNumberCalculator;
+    private final Map<String, Address> addressesByShardId;
+
+    private ThingShardLocations(final ShardNumberCalculator shardNumberCalculator,
+            final Map<String, Address> addressesByShardId) {
+
+        this.shardNumberCalculator = shardNumberCalculator;
+        this.addressesByShardId = addressesByShardId;
+    }
+
+    /**
+     * Creates the shard locations from the shard IDs hosted by each node.
+     *
+     * @param numberOfShards the number of shards of the things shard region.
+     * @param shardIdsByAddress the IDs of the shards hosted by each node.
+     * @return the shard locations.
+     */
+    static ThingShardLocations of(final int numberOfShards,
+            final Map<Address, ? extends Set<String>> shardIdsByAddress) {
+
+        final Map<String, Address> addressesByShardId = new HashMap<>();
+        shardIdsByAddress.forEach((address, shardIds) ->
+                shardIds.forEach(shardId -> addressesByShardId.put(shardId, address)));
+        return new ThingShardLocations(ShardNumberCalculator.newInstance(numberOfShards),
+                Map.copyOf(addressesByShardId));
+    }
+
+    /**
+     * Groups things by the node hosting their shard.
+     *
+     * @param thingIds the IDs of the things.
+     * @param fallbackAddress the address to assign things to whose shard is not allocated to any known node.
+     * @return the thing IDs by node address, each in the order of {@code thingIds}.
+     */
+    Map<Address, List<ThingId>> groupByAddress(final Collection<ThingId> thingIds, final Address fallbackAddress) {
+        final Map<Address, List<ThingId>> result = new LinkedHashMap<>();
+        for (final ThingId thingId : thingIds) {
+            if (null == thingId) {
+                continue;
+            }
+            final String shardId = String.valueOf(shardNumberCalculator.calculateShardNumber(thingId.toString()));
+            final Address address = addressesByShardId.getOrDefault(shardId, fallbackAddress);
+            result.computeIfAbsent(address, a -> new ArrayList<>()).add(thingId);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of shards with a known location.
+     *
+     * @return the number of located shards.
+     */
+    int getNumberOfLocatedShards() {
+        return addressesByShardId.size();
+    }
+
+}
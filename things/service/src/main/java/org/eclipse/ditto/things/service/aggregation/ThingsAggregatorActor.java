@@ -14,30 +14,36 @@ package org.eclipse.ditto.things.service.aggregation;
 
 import static org.eclipse.ditto.things.api.ThingsMessagingConstants.THINGS_AGGREGATOR_ACTOR_NAME;
 
+import java.time.Duration;
 import java.util.Collection;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSelection;
+import org.apache.pekko.actor.Address;
+import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.Cluster;
 import org.apache.pekko.cluster.pubsub.DistributedPubSub;
+import org.apache.pekko.cluster.sharding.ShardRegion;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.SourceRef;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.stream.javadsl.StreamRefs;
-import org.eclipse.ditto.base.model.entity.id.WithEntityId;
-import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
-import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
-import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.cacheloaders.AskWithRetryCommandForwarder;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
@@ -45,14 +51,18 @@ import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBe
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.json.JsonFieldSelector;
-import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.things.model.ThingId;
-import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 
+import scala.concurrent.duration.FiniteDuration;
+
 /**
  * Actor to aggregate the retrieved Things from persistence.
+ * <p>
+ * If batch retrieval is enabled, the things to retrieve are grouped by the cluster node hosting their shard and each
+ * other node is sent a single batch which its {@link ThingsBatchRetrievalActor} answers; only the things of this
+ * node and of shards with unknown location are retrieved one by one from the things shard region.
  */
 public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavior {
 
@@ -63,28 +73,39 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
 
     private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
     private final ActorRef targetActor;
-    private final int maxParallelism;
+    private final ThingsAggregatorConfig aggregatorConfig;
+    private final int numberOfShards;
     private final ActorRef pubSubMediator;
-    private final AskWithRetryCommandForwarder askWithRetryCommandForwarder;
+    private final IndividualThingsRetrieval individualThingsRetrieval;
+    private final Address selfAddress;
+    @Nullable private Cancellable shardLocationsRefresh;
+    @Nullable private ThingShardLocations shardLocations;
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
+            final int numberOfShards, final ActorRef pubSubMediator) {
         this.targetActor = targetActor;
+        this.aggregatorConfig = aggregatorConfig;
+        this.numberOfShards = numberOfShards;
         this.pubSubMediator = pubSubMediator;
-        maxParallelism = aggregatorConfig.getMaxParallelism();
-        askWithRetryCommandForwarder = AskWithRetryCommandForwarder.get(getContext().getSystem());
+        individualThingsRetrieval = new IndividualThingsRetrieval(targetActor, aggregatorConfig.getMaxParallelism(),
+                AskWithRetryCommandForwarder.get(getContext().getSystem()), log);
+        selfAddress = Cluster.get(getContext().getSystem()).selfAddress();
     }
 
     /**
      * Creates Pekko configuration object Props for this ThingsAggregatorActor.
      *
      * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param aggregatorConfig the config of the things aggregator.
+     * @param numberOfShards the number of shards of the things shard region.
+     * @param pubSubMediator the pub/sub mediator.
      * @return the Pekko configuration Props object
      */
     public static Props props(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
-        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator);
+            final int numberOfShards, final ActorRef pubSubMediator) {
+        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, numberOfShards,
+                pubSubMediator);
     }
 
     @Override
@@ -102,6 +123,23 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                 () -> Patterns.ask(self, Control.SERVICE_UNBIND, SHUTDOWN_ASK_TIMEOUT)
                         .thenApply(reply -> Done.done())
         );
+
+        if (aggregatorConfig.isBatchRetrievalEnabled()) {
+            final Duration timeout = aggregatorConfig.getBatchRetrievalTimeout();
+            shardLocationsRefresh = getContext().getSystem().scheduler().scheduleWithFixedDelay(Duration.ZERO,
+                    aggregatorConfig.getShardLocationsRefreshInterval(), targetActor,
+                    new ShardRegion.GetClusterShardingStats(FiniteDuration.apply(timeout.toMillis(),
+                            TimeUnit.MILLISECONDS)),
+                    getContext().getDispatcher(), self);
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != shardLocationsRefresh) {
+            shardLocationsRefresh.cancel();
+        }
+        super.postStop();
     }
 
     @Override
@@ -125,6 +163,8 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                     retrieveThings(rt, getSender());
                 })
 
+                .match(ShardRegion.ClusterShardingStats.class, this::updateShardLocations)
+
                 // # handle unknown message
                 .matchAny(m -> {
                     log.warning("Got unknown message: {}", m);
@@ -176,59 +216,68 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
             @Nullable final JsonFieldSelector selectedFields,
             final Command<?> command, final ActorRef resultReceiver) {
 
-        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Source<Jsonifiable, NotUsed> responses;
+        if (null != shardLocations) {
+            final Map<Address, List<ThingId>> thingIdsByAddress =
+                    shardLocations.groupByAddress(thingIds, selfAddress);
+            responses = Source.from(thingIdsByAddress.entrySet())
+                    .flatMapMerge(Math.max(1, thingIdsByAddress.size()), entry ->
+                            selfAddress.equals(entry.getKey())
+                                    ? individualThingsRetrieval.retrieve(entry.getValue(), selectedFields, command)
+                                    : retrieveBatch(entry.getKey(), entry.getValue(), selectedFields, command)
+                    );
+        } else {
+            responses = individualThingsRetrieval.retrieve(thingIds, selectedFields, command);
+        }
 
-        final SourceRef<Jsonifiable> commandResponseSource = Source.from(thingIds)
-                .filter(Objects::nonNull)
-                .map(thingId -> {
-                    final SignalWithEntityId<?> retrieveThing;
-                    if (command instanceof RetrieveThings) {
-                        retrieveThing = Optional.ofNullable(selectedFields)
-                                .map(sf -> RetrieveThing.getBuilder(thingId, dittoHeaders)
-                                        .withSelectedFields(sf)
-                                        .build())
-                                .orElse(RetrieveThing.of(thingId, dittoHeaders));
-                    } else {
-                        retrieveThing = Optional.ofNullable(selectedFields)
-                                .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
-                                .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
-                    }
-                    log.withCorrelationId(dittoHeaders).info("Retrieving thing with ID <{}>", thingId);
-
-                    return retrieveThing;
-                })
-                .map(Command.class::cast)
-                .mapAsync(calculateParallelism(thingIds), signal ->
-                        askWithRetryCommandForwarder.askCommand(signal, targetActor)
-                            .thenApply(Jsonifiable.class::cast)
-                            .exceptionally(e ->
-                                    DittoRuntimeException.asDittoRuntimeException(e, t ->
-                                            DittoInternalErrorException.newBuilder()
-                                                    .message("Unexpected error during retrieval of Thing with ID <"
-                                                            + ((WithEntityId) signal).getEntityId() + ">: " +
-                                                            t.getMessage()
-                                                    )
-                                                    .dittoHeaders(command.getDittoHeaders())
-                                                    .cause(t)
-                                                    .build()
-                                    )
-                            )
-                )
+        final SourceRef<Jsonifiable> commandResponseSource = responses
                 .log("things-aggregator-response", log)
                 .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
 
         resultReceiver.tell(commandResponseSource, getSelf());
     }
 
-    private int calculateParallelism(final Collection<ThingId> thingIds) {
-        final int size = thingIds.size();
-        if (size < maxParallelism / 2) {
-            return size;
-        } else if (size < maxParallelism) {
-            return size / 2;
+    private Source<Jsonifiable, NotUsed> retrieveBatch(final Address address, final List<ThingId> thingIds,
+            @Nullable final JsonFieldSelector selectedFields, final Command<?> command) {
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Command<?> batch;
+        if (command instanceof RetrieveThings) {
+            batch = RetrieveThings.getBuilder(thingIds)
+                    .selectedFields(selectedFields)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
         } else {
-            return maxParallelism;
+            batch = SudoRetrieveThings.of(thingIds, selectedFields, dittoHeaders);
         }
+        final ActorSelection batchRetrievalActor = getContext().actorSelection(
+                getSelf().path().parent().child(ThingsBatchRetrievalActor.ACTOR_NAME).toStringWithAddress(address));
+        log.withCorrelationId(dittoHeaders)
+                .debug("Retrieving batch of <{}> things from <{}>", thingIds.size(), address);
+
+        return Source.completionStage(
+                Patterns.ask(batchRetrievalActor, batch, aggregatorConfig.getBatchRetrievalTimeout())
+                        .handle((reply, error) -> {
+                            if (reply instanceof SourceRef<?> sourceRef) {
+                                return sourceRef.getSource().map(Jsonifiable.class::cast);
+                            }
+                            // e.g. during a rolling update or after the shard moved: retrieve the things one by one
+                            log.withCorrelationId(dittoHeaders)
+                                    .warning("Batch retrieval of <{}> things from <{}> failed with <{}>, " +
+                                            "retrieving them individually", thingIds.size(), address,
+                                            null != error ? error : reply);
+                            return individualThingsRetrieval.retrieve(thingIds, selectedFields, command);
+                        })
+        ).flatMapConcat(source -> source);
+    }
+
+    private void updateShardLocations(final ShardRegion.ClusterShardingStats clusterShardingStats) {
+        final Map<Address, Set<String>> shardIdsByAddress = new HashMap<>();
+        clusterShardingStats.getRegions().forEach((address, shardRegionStats) ->
+                shardIdsByAddress.put(address, shardRegionStats.getStats().keySet()));
+        shardLocations = ThingShardLocations.of(numberOfShards, shardIdsByAddress);
+        log.debug("Updated locations of <{}> shards on <{}> nodes", shardLocations.getNumberOfLocatedShards(),
+                shardIdsByAddress.size());
     }
 
 }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.things.service.aggregation;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
@@ -30,6 +32,29 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Indicates whether the things to retrieve should be grouped by the cluster node hosting their shard, so that
+     * each node is asked for all of its things with a single batch message instead of one message per thing.
+     *
+     * @return whether batch retrieval is enabled.
+     */
+    boolean isBatchRetrievalEnabled();
+
+    /**
+     * Returns the interval in which the nodes hosting the shards of the things shard region are determined.
+     *
+     * @return the refresh interval of the shard locations.
+     */
+    Duration getShardLocationsRefreshInterval();
+
+    /**
+     * Returns the timeout for a node to start answering a batch retrieval, after which the things of the batch are
+     * retrieved one by one.
+     *
+     * @return the batch retrieval timeout.
+     */
+    Duration getBatchRetrievalTimeout();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -39,7 +64,22 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * Whether things are retrieved in batches per cluster node.
+         */
+        BATCH_RETRIEVAL_ENABLED("batch-retrieval.enabled", false),
+
+        /**
+         * The refresh interval of the shard locations.
+         */
+        SHARD_LOCATIONS_REFRESH_INTERVAL("batch-retrieval.shard-locations-refresh-interval", Duration.ofSeconds(30)),
+
+        /**
+         * The timeout for a node to start answering a batch retrieval.
+         */
+        BATCH_RETRIEVAL_TIMEOUT("batch-retrieval.timeout", Duration.ofSeconds(5));
 
         private final String path;
         private final Object defaultValue;
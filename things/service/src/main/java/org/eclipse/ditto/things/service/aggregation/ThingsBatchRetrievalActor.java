@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.javadsl.StreamRefs;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.internal.utils.cacheloaders.AskWithRetryCommandForwarder;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+
+/**
+ * Node-local actor answering the batches of things sent by the {@link ThingsAggregatorActor}s of other nodes.
+ * A batch only contains things whose shard is hosted on this node, so that the retrieval of each thing from the
+ * things shard region stays on this node and the whole batch costs a single round-trip between the nodes.
+ * The retrieved things are answered with a {@link SourceRef} just like the {@code ThingsAggregatorActor} does.
+ */
+public final class ThingsBatchRetrievalActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "thingsBatchRetrieval";
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+    private final IndividualThingsRetrieval individualThingsRetrieval;
+
+    @SuppressWarnings("unused")
+    private ThingsBatchRetrievalActor(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig) {
+        individualThingsRetrieval = new IndividualThingsRetrieval(targetActor, aggregatorConfig.getMaxParallelism(),
+                AskWithRetryCommandForwarder.get(getContext().getSystem()), log);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this ThingsBatchRetrievalActor.
+     *
+     * @param targetActor the things shard region of this node.
+     * @param aggregatorConfig the config of the things aggregator.
+     * @return the Pekko configuration Props object
+     */
+    public static Props props(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig) {
+        return Props.create(ThingsBatchRetrievalActor.class, targetActor, aggregatorConfig);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(RetrieveThings.class, rt -> {
+                    log.withCorrelationId(rt)
+                            .debug("Got batch of '{}' Things to retrieve", rt.getEntityIds().size());
+                    retrieveThingsAndSendResult(individualThingsRetrieval.retrieve(rt.getEntityIds(),
+                            rt.getSelectedFields().orElse(null), rt));
+                })
+                .match(SudoRetrieveThings.class, srt -> {
+                    log.withCorrelationId(srt)
+                            .debug("Got batch of '{}' Things to retrieve", srt.getThingIds().size());
+                    retrieveThingsAndSendResult(individualThingsRetrieval.retrieve(srt.getThingIds(),
+                            srt.getSelectedFields().orElse(null), srt));
+                })
+                .matchAny(m -> {
+                    log.warning("Got unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void retrieveThingsAndSendResult(final Source<Jsonifiable, NotUsed> responses) {
+
+        final SourceRef<Jsonifiable> sourceRef = responses.log("things-batch-retrieval-response", log)
+                .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
+        getSender().tell(sourceRef, getSelf());
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.LikeHelper;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link EventCompactionConfig}.
+ */
+@Immutable
+public final class DefaultEventCompactionConfig implements EventCompactionConfig {
+
+    private final List<Pattern> namespacePatterns;
+    private final List<Pattern> featurePatterns;
+    private final Duration window;
+
+    private DefaultEventCompactionConfig(final ConfigWithFallback config) {
+        namespacePatterns = compile(List.copyOf(config.getStringList(ConfigValues.NAMESPACES.getConfigPath())));
+        featurePatterns = compile(List.copyOf(config.getStringList(ConfigValues.FEATURES.getConfigPath())));
+        window = config.getDuration(ConfigValues.WINDOW.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultEventCompactionConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the compaction config entry.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEventCompactionConfig of(final Config config) {
+        return new DefaultEventCompactionConfig(ConfigWithFallback.newInstance(config, ConfigValues.values()));
+    }
+
+    private static List<Pattern> compile(final List<String> patterns) {
+        return patterns.stream()
+                .map(LikeHelper::convertToRegexSyntax)
+                .filter(Objects::nonNull)
+                .map(Pattern::compile)
+                .toList();
+    }
+
+    @Override
+    public List<Pattern> getNamespace() {
+        return namespacePatterns;
+    }
+
+    @Override
+    public List<Pattern> getFeatures() {
+        return featurePatterns;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof final DefaultEventCompactionConfig that)) {
+            return false;
+        }
+        return Objects.equals(namespacePatterns, that.namespacePatterns) &&
+                Objects.equals(featurePatterns, that.featurePatterns) &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namespacePatterns, featurePatterns, window);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" +
+                "namespacePatterns=" + namespacePatterns +
+                ", featurePatterns=" + featurePatterns +
+                ", window=" + window +
+                "]";
+    }
+}
@@ -52,6 +52,10 @@ public final class DefaultThingConfig implements ThingConfig {
     private final ThingMessageConfig messageConfig;
     private final CleanupConfig cleanupConfig;
     private final boolean mergeRemoveEmptyObjectsAfterPatchConditionFiltering;
+    private final boolean pipelinedPersistEnabled;
+    private final int pipelinedPersistMaxBatchSize;
+    private final boolean supervisorReadCacheEnabled;
+    private final int historicalStateCacheSize;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         shutdownTimeout = scopedConfig.getDuration(ConfigValue.SHUTDOWN_TIMEOUT.getConfigPath());
@@ -64,6 +68,11 @@ public final class DefaultThingConfig implements ThingConfig {
         cleanupConfig = CleanupConfig.of(scopedConfig);
         mergeRemoveEmptyObjectsAfterPatchConditionFiltering = scopedConfig.getBoolean(
                 ThingConfig.ConfigValue.MERGE_REMOVE_EMPTY_OBJECTS_AFTER_PATCH_CONDITION_FILTERING.getConfigPath());
+        pipelinedPersistEnabled = scopedConfig.getBoolean(ConfigValue.PIPELINED_PERSIST_ENABLED.getConfigPath());
+        pipelinedPersistMaxBatchSize = scopedConfig.getPositiveIntOrThrow(ConfigValue.PIPELINED_PERSIST_MAX_BATCH_SIZE);
+        supervisorReadCacheEnabled =
+                scopedConfig.getBoolean(ConfigValue.SUPERVISOR_READ_CACHE_ENABLED.getConfigPath());
+        historicalStateCacheSize = scopedConfig.getNonNegativeIntOrThrow(ConfigValue.HISTORICAL_STATE_CACHE_SIZE);
     }
 
     private static List<NamespaceActivityCheckConfig> loadNamespaceActivityCheckConfigs(final ScopedConfig config) {
@@ -125,6 +134,26 @@ public final class DefaultThingConfig implements ThingConfig {
         return mergeRemoveEmptyObjectsAfterPatchConditionFiltering;
     }
 
+    @Override
+    public boolean isPipelinedPersistEnabled() {
+        return pipelinedPersistEnabled;
+    }
+
+    @Override
+    public int getPipelinedPersistMaxBatchSize() {
+        return pipelinedPersistMaxBatchSize;
+    }
+
+    @Override
+    public boolean isSupervisorReadCacheEnabled() {
+        return supervisorReadCacheEnabled;
+    }
+
+    @Override
+    public int getHistoricalStateCacheSize() {
+        return historicalStateCacheSize;
+    }
+
     @Override
     public Duration getShutdownTimeout() {
         return shutdownTimeout;
@@ -152,14 +181,19 @@ public final class DefaultThingConfig implements ThingConfig {
                 Objects.equals(cleanupConfig, that.cleanupConfig) &&
                 Objects.equals(shutdownTimeout, that.shutdownTimeout) &&
                 mergeRemoveEmptyObjectsAfterPatchConditionFiltering ==
-                        that.mergeRemoveEmptyObjectsAfterPatchConditionFiltering;
+                        that.mergeRemoveEmptyObjectsAfterPatchConditionFiltering &&
+                pipelinedPersistEnabled == that.pipelinedPersistEnabled &&
+                pipelinedPersistMaxBatchSize == that.pipelinedPersistMaxBatchSize &&
+                supervisorReadCacheEnabled == that.supervisorReadCacheEnabled &&
+                historicalStateCacheSize == that.historicalStateCacheSize;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, namespaceActivityCheckConfigs, snapshotConfig,
                 eventConfig, messageConfig, cleanupConfig, shutdownTimeout,
-                mergeRemoveEmptyObjectsAfterPatchConditionFiltering);
+                mergeRemoveEmptyObjectsAfterPatchConditionFiltering, pipelinedPersistEnabled,
+                pipelinedPersistMaxBatchSize, supervisorReadCacheEnabled, historicalStateCacheSize);
     }
 
     @Override
@@ -175,6 +209,10 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", shutdownTimeout=" + shutdownTimeout +
                 ", mergeRemoveEmptyObjectsAfterPatchConditionFiltering=" +
                 mergeRemoveEmptyObjectsAfterPatchConditionFiltering +
+                ", pipelinedPersistEnabled=" + pipelinedPersistEnabled +
+                ", pipelinedPersistMaxBatchSize=" + pipelinedPersistMaxBatchSize +
+                ", supervisorReadCacheEnabled=" + supervisorReadCacheEnabled +
+                ", historicalStateCacheSize=" + historicalStateCacheSize +
                 "]";
     }
 }
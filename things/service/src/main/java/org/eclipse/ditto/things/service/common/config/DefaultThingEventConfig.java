@@ -32,6 +32,9 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
     private final List<PreDefinedExtraFieldsConfig> preDefinedExtraFieldsConfigs;
     private final boolean partialAccessEventsEnabled;
     private final boolean partialAccessEventsCacheEnabled;
+    private final boolean partialAccessEventsIncrementalEnabled;
+    private final boolean journalGroupCommitEnabled;
+    private final List<EventCompactionConfig> eventCompactionConfigs;
 
     private DefaultThingEventConfig(final DefaultEventConfig delegate, final ScopedConfig config) {
         this.defaultEventConfigDelegated = delegate;
@@ -45,6 +48,15 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
                 config.getBoolean(ThingEventConfigValue.PARTIAL_ACCESS_EVENTS_ENABLED.getConfigPath());
         partialAccessEventsCacheEnabled =
                 config.getBoolean(ThingEventConfigValue.PARTIAL_ACCESS_EVENTS_CACHE_ENABLED.getConfigPath());
+        partialAccessEventsIncrementalEnabled =
+                config.getBoolean(ThingEventConfigValue.PARTIAL_ACCESS_EVENTS_INCREMENTAL_ENABLED.getConfigPath());
+        journalGroupCommitEnabled =
+                config.getBoolean(ThingEventConfigValue.JOURNAL_GROUP_COMMIT_ENABLED.getConfigPath());
+        eventCompactionConfigs = config.getObjectList(ThingEventConfigValue.COMPACTION.getConfigPath())
+                .stream()
+                .map(configObj -> DefaultEventCompactionConfig.of(configObj.toConfig()))
+                .map(EventCompactionConfig.class::cast)
+                .toList();
     }
 
     /**
@@ -79,6 +91,21 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
         return partialAccessEventsCacheEnabled;
     }
 
+    @Override
+    public boolean isPartialAccessEventsIncrementalEnabled() {
+        return partialAccessEventsIncrementalEnabled;
+    }
+
+    @Override
+    public boolean isJournalGroupCommitEnabled() {
+        return journalGroupCommitEnabled;
+    }
+
+    @Override
+    public List<EventCompactionConfig> getEventCompactionConfigs() {
+        return eventCompactionConfigs;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (!(o instanceof final DefaultThingEventConfig that)) {
@@ -87,13 +114,17 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
         return Objects.equals(defaultEventConfigDelegated, that.defaultEventConfigDelegated) &&
                 Objects.equals(preDefinedExtraFieldsConfigs, that.preDefinedExtraFieldsConfigs) &&
                 partialAccessEventsEnabled == that.partialAccessEventsEnabled &&
-                partialAccessEventsCacheEnabled == that.partialAccessEventsCacheEnabled;
+                partialAccessEventsCacheEnabled == that.partialAccessEventsCacheEnabled &&
+                partialAccessEventsIncrementalEnabled == that.partialAccessEventsIncrementalEnabled &&
+                journalGroupCommitEnabled == that.journalGroupCommitEnabled &&
+                Objects.equals(eventCompactionConfigs, that.eventCompactionConfigs);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(defaultEventConfigDelegated, preDefinedExtraFieldsConfigs, partialAccessEventsEnabled,
-                partialAccessEventsCacheEnabled);
+                partialAccessEventsCacheEnabled, partialAccessEventsIncrementalEnabled, journalGroupCommitEnabled,
+                eventCompactionConfigs);
     }
 
     @Override
@@ -103,6 +134,9 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
                 ", preDefinedExtraFieldsConfigs=" + preDefinedExtraFieldsConfigs +
                 ", partialAccessEventsEnabled=" + partialAccessEventsEnabled +
                 ", partialAccessEventsCacheEnabled=" + partialAccessEventsCacheEnabled +
+                ", partialAccessEventsIncrementalEnabled=" + partialAccessEventsIncrementalEnabled +
+                ", journalGroupCommitEnabled=" + journalGroupCommitEnabled +
+                ", eventCompactionConfigs=" + eventCompactionConfigs +
                 "]";
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides a configuration entry for the "last-value-wins" compaction of feature property events: feature property
+ * events of matching things which are superseded by a later event for the same (or a parent) property within the
+ * same journal write are not journaled with their payload. All events are still published to subscribers.
+ */
+@Immutable
+public interface EventCompactionConfig {
+
+    /**
+     * The list of namespace {@link Pattern}s this entry applies to.
+     * An empty list would match any. The pattern must match the full string.
+     *
+     * @return the list of namespace patterns.
+     */
+    List<Pattern> getNamespace();
+
+    /**
+     * The list of feature ID {@link Pattern}s whose property events are compacted.
+     * An empty list would match any. The pattern must match the full string.
+     *
+     * @return the list of feature ID patterns.
+     */
+    List<Pattern> getFeatures();
+
+    /**
+     * Returns the window for which the events of matching things are collected before being journaled together.
+     * The responses to the modify commands are only sent after the events were journaled, thus the window adds up to
+     * its duration to their latency. Queries and conditional commands end the window early.
+     *
+     * @return the compaction window.
+     */
+    Duration getWindow();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EventCompactionConfig}.
+     */
+    enum ConfigValues implements KnownConfigValue {
+
+        /**
+         * Matching namespaces, supports wildcards.
+         */
+        NAMESPACES("namespaces", List.of()),
+
+        /**
+         * Matching feature IDs, supports wildcards.
+         */
+        FEATURES("features", List.of()),
+
+        /**
+         * The window to collect events in before journaling them.
+         */
+        WINDOW("window", Duration.ofSeconds(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValues(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+}
@@ -70,6 +70,38 @@ public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConf
      */
     boolean isMergeRemoveEmptyObjectsAfterPatchConditionFiltering();
 
+    /**
+     * Indicates whether consecutive modify commands of a thing are applied optimistically while the events of previous
+     * ones are still being persisted and persisted together as one batch.
+     *
+     * @return {@code true} if pipelined persist mode is enabled, {@code false} else.
+     */
+    boolean isPipelinedPersistEnabled();
+
+    /**
+     * Returns the maximum number of pipelined events of a thing persisted as one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getPipelinedPersistMaxBatchSize();
+
+    /**
+     * Indicates whether the supervisor of a thing caches the current thing state and answers retrieve commands from
+     * it without asking the persistence actor.
+     *
+     * @return {@code true} if the supervisor read cache is enabled, {@code false} else.
+     */
+    boolean isSupervisorReadCacheEnabled();
+
+    /**
+     * Returns the maximum number of historical states of a thing reconstructed for historical retrieve commands which
+     * the persistence actor of the thing keeps in order to answer repeated historical retrieves without replaying the
+     * journal. Zero disables caching historical states.
+     *
+     * @return the maximum number of cached historical states per thing.
+     */
+    int getHistoricalStateCacheSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code ThingConfig}.
      */
@@ -85,7 +117,27 @@ public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConf
          * When enabled, empty objects created by patch condition filtering will be removed recursively,
          * preventing unnecessary database operations for empty merge payloads.
          */
-        MERGE_REMOVE_EMPTY_OBJECTS_AFTER_PATCH_CONDITION_FILTERING("merge.remove-empty-objects-after-patch-condition-filtering", false);
+        MERGE_REMOVE_EMPTY_OBJECTS_AFTER_PATCH_CONDITION_FILTERING("merge.remove-empty-objects-after-patch-condition-filtering", false),
+
+        /**
+         * Determines whether consecutive modify commands are applied optimistically and persisted as one batch.
+         */
+        PIPELINED_PERSIST_ENABLED("pipelined-persist.enabled", false),
+
+        /**
+         * The maximum number of pipelined events persisted as one batch.
+         */
+        PIPELINED_PERSIST_MAX_BATCH_SIZE("pipelined-persist.max-batch-size", 100),
+
+        /**
+         * Determines whether the supervisor answers retrieve commands from the cached current thing state.
+         */
+        SUPERVISOR_READ_CACHE_ENABLED("supervisor-read-cache.enabled", false),
+
+        /**
+         * The maximum number of cached historical states per thing.
+         */
+        HISTORICAL_STATE_CACHE_SIZE("historical-state-cache.size", 0);
 
         private final String path;
         private final Object defaultValue;
@@ -45,6 +45,31 @@ public interface ThingEventConfig extends EventConfig {
      */
     boolean isPartialAccessEventsCacheEnabled();
 
+    /**
+     * Indicates whether partial-access-paths are updated incrementally on cache misses, re-evaluating only the
+     * subtree changed by the event and the subjects whose READ grants changed with the policy. Requires the
+     * partial-access-paths cache to be enabled; the result is identical to recomputing.
+     *
+     * @return {@code true} if incremental partial-access-paths calculation is enabled.
+     */
+    boolean isPartialAccessEventsIncrementalEnabled();
+
+    /**
+     * Indicates whether the events of all thing persistence actors of a node are persisted via the group commit
+     * journal which coalesces their writes into batched inserts.
+     *
+     * @return {@code true} if the journal group commit is enabled.
+     */
+    boolean isJournalGroupCommitEnabled();
+
+    /**
+     * Contains the configured compaction entries for feature property events, the first entry matching the namespace
+     * of a thing applies.
+     *
+     * @return the event compaction entries.
+     */
+    List<EventCompactionConfig> getEventCompactionConfigs();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingEventConfig}.
@@ -64,7 +89,22 @@ public interface ThingEventConfig extends EventConfig {
         /**
          * Whether the per-thing partial-access-paths cache is enabled.
          */
-        PARTIAL_ACCESS_EVENTS_CACHE_ENABLED("partial-access-events.cache.enabled", Boolean.TRUE);
+        PARTIAL_ACCESS_EVENTS_CACHE_ENABLED("partial-access-events.cache.enabled", Boolean.TRUE),
+
+        /**
+         * Whether the partial-access-paths are updated incrementally.
+         */
+        PARTIAL_ACCESS_EVENTS_INCREMENTAL_ENABLED("partial-access-events.incremental.enabled", Boolean.FALSE),
+
+        /**
+         * Whether the events are persisted via the group commit journal.
+         */
+        JOURNAL_GROUP_COMMIT_ENABLED("journal-group-commit.enabled", Boolean.FALSE),
+
+        /**
+         * The compaction entries for feature property events.
+         */
+        COMPACTION("compaction", List.of());
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingLifecycle;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+
+/**
+ * Read-side projection of the current thing state used in {@link ThingSupervisorActor} to answer
+ * {@link RetrieveThing} and {@link SudoRetrieveThing} commands without asking the {@link ThingPersistenceActor}.
+ * <p>
+ * The {@link ThingPersistenceActor} sends a {@link StateUpdate} to its supervisor after recovery and after applying
+ * each persisted event, before responding to the command which caused the event. As the supervisor processes twin
+ * commands one after another, a retrieve following a modification always sees the modified state.
+ * The cached thing is not filtered; enforcement and response filtering are applied by the enforcer as before,
+ * so policy changes do not invalidate it.
+ * </p>
+ * <p>
+ * Only "plain" retrieves are answered: commands with conditional, metadata, historical or live channel headers are
+ * still handled by the persistence actor.
+ * </p>
+ */
+final class SupervisorThingReadCache {
+
+    private static final String METRIC_NAME = "thing_supervisor_read_cache";
+    private static final String RESULT_TAG = "result";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicBoolean accessedSinceLastCheck;
+
+    @Nullable private volatile CachedThing cachedThing;
+
+    SupervisorThingReadCache() {
+        hits = DittoMetrics.counter(METRIC_NAME).tag(RESULT_TAG, "hit");
+        misses = DittoMetrics.counter(METRIC_NAME).tag(RESULT_TAG, "miss");
+        accessedSinceLastCheck = new AtomicBoolean(false);
+        cachedThing = null;
+    }
+
+    /**
+     * Updates the cached thing state. Must only be called from within the supervisor actor.
+     *
+     * @param stateUpdate the update sent by the persistence actor.
+     */
+    void update(final StateUpdate stateUpdate) {
+        final Thing thing = stateUpdate.thing();
+        if (null != thing && !thing.hasLifecycle(ThingLifecycle.DELETED)) {
+            cachedThing = new CachedThing(thing, stateUpdate.revision());
+        } else {
+            cachedThing = null;
+        }
+    }
+
+    /**
+     * Returns whether a command was answered from the cache since the last call of this method.
+     * Reads answered by the cache do not count as activity of the persistence actor, so the supervisor has to take
+     * them into account before passivating.
+     *
+     * @return whether the cache was accessed since the last check.
+     */
+    boolean wasAccessedSinceLastCheck() {
+        return accessedSinceLastCheck.getAndSet(false);
+    }
+
+    /**
+     * Answers the passed enforced {@code RetrieveThing} from the cached thing state if possible.
+     *
+     * @param retrieveThing the enforced command.
+     * @return the response or an empty Optional if the command has to be handled by the persistence actor.
+     */
+    Optional<RetrieveThingResponse> retrieve(final RetrieveThing retrieveThing) {
+        final CachedThing current = cachedThing;
+        if (!isAnswerable(retrieveThing, current) || Signal.isChannelLive(retrieveThing) ||
+                Signal.isChannelSmart(retrieveThing) || isThingDescriptionRequested(retrieveThing)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        final JsonObject thingJson = toJson(current.thing(), retrieveThing.getImplementedSchemaVersion(),
+                retrieveThing.getSelectedFields().orElse(null), null);
+        return Optional.of(hit(RetrieveThingResponse.of(retrieveThing.getEntityId(), thingJson,
+                responseHeaders(retrieveThing.getEntityId(), retrieveThing.getDittoHeaders(), current))));
+    }
+
+    /**
+     * Answers the passed {@code SudoRetrieveThing} from the cached thing state if possible.
+     *
+     * @param sudoRetrieveThing the command.
+     * @return the response or an empty Optional if the command has to be handled by the persistence actor.
+     */
+    Optional<SudoRetrieveThingResponse> retrieve(final SudoRetrieveThing sudoRetrieveThing) {
+        final CachedThing current = cachedThing;
+        if (!isAnswerable(sudoRetrieveThing.getEntityId(), sudoRetrieveThing.getDittoHeaders(), current)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        final JsonSchemaVersion schemaVersion = sudoRetrieveThing.useOriginalSchemaVersion()
+                ? current.thing().getImplementedSchemaVersion()
+                : sudoRetrieveThing.getImplementedSchemaVersion();
+        final JsonObject thingJson = toJson(current.thing(), schemaVersion,
+                sudoRetrieveThing.getSelectedFields().orElse(null), FieldType.regularOrSpecial());
+        return Optional.of(hit(SudoRetrieveThingResponse.of(thingJson,
+                responseHeaders(sudoRetrieveThing.getEntityId(), sudoRetrieveThing.getDittoHeaders(), current))));
+    }
+
+    private <T> T hit(final T response) {
+        hits.increment();
+        accessedSinceLastCheck.set(true);
+        return response;
+    }
+
+    private static boolean isAnswerable(final RetrieveThing retrieveThing, @Nullable final CachedThing current) {
+        return isAnswerable(retrieveThing.getEntityId(), retrieveThing.getDittoHeaders(), current);
+    }
+
+    private static boolean isAnswerable(final EntityId entityId, final DittoHeaders dittoHeaders,
+            @Nullable final CachedThing current) {
+
+        return null != current &&
+                current.thing().getEntityId().filter(entityId::equals).isPresent() &&
+                dittoHeaders.getIfMatch().isEmpty() &&
+                dittoHeaders.getIfNoneMatch().isEmpty() &&
+                dittoHeaders.getIfEqual().isEmpty() &&
+                dittoHeaders.getCondition().isEmpty() &&
+                dittoHeaders.getLiveChannelCondition().isEmpty() &&
+                dittoHeaders.getMetadataFieldsToGet().isEmpty() &&
+                !dittoHeaders.shouldRetrieveDeleted() &&
+                !dittoHeaders.containsKey(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey()) &&
+                !dittoHeaders.containsKey(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey());
+    }
+
+    private static boolean isThingDescriptionRequested(final RetrieveThing retrieveThing) {
+        return retrieveThing.getDittoHeaders().getAccept()
+                .filter(ContentType.APPLICATION_TD_JSON.getValue()::equals)
+                .isPresent();
+    }
+
+    private static JsonObject toJson(final Thing thing, final JsonSchemaVersion schemaVersion,
+            @Nullable final JsonFieldSelector selectedFields, @Nullable final Predicate<JsonField> predicate) {
+
+        if (null == selectedFields) {
+            return null == predicate ? thing.toJson(schemaVersion) : thing.toJson(schemaVersion, predicate);
+        }
+        final JsonFieldSelector expandedFieldSelector = ThingsModelFactory.expandFeatureIdWildcards(
+                thing.getFeatures().orElse(ThingsModelFactory.emptyFeatures()), selectedFields);
+        return null == predicate
+                ? thing.toJson(schemaVersion, expandedFieldSelector)
+                : thing.toJson(schemaVersion, expandedFieldSelector, predicate);
+    }
+
+    private static DittoHeaders responseHeaders(final EntityId entityId, final DittoHeaders commandHeaders,
+            final CachedThing current) {
+
+        final var headersBuilder = commandHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.ENTITY_ID.getKey(), entityId.getEntityType() + ":" + entityId)
+                .putHeader(DittoHeaderDefinition.ENTITY_REVISION.getKey(), String.valueOf(current.revision()));
+        EntityTag.fromEntity(current.thing()).ifPresent(headersBuilder::eTag);
+        return headersBuilder.build();
+    }
+
+    /**
+     * Sent by the {@link ThingPersistenceActor} to its supervisor whenever its thing state changed.
+     *
+     * @param thing the current thing or {@code null} if it does not exist or the persistence actor stopped.
+     * @param revision the revision of the thing.
+     */
+    record StateUpdate(@Nullable Thing thing, long revision) {}
+
+    private record CachedThing(Thing thing, long revision) {}
+
+}
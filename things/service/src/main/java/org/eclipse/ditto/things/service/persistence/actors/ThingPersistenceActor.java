@@ -12,10 +12,13 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
@@ -45,6 +48,7 @@ import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.internal.utils.tracing.span.StartedSpan;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommand;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
@@ -59,7 +63,11 @@ import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccess
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandResponse;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.service.common.config.EventCompactionConfig;
 import org.eclipse.ditto.things.service.common.config.ThingConfig;
 import org.eclipse.ditto.things.service.persistence.actors.enrichment.EnrichSignalWithPreDefinedExtraFields;
 import org.eclipse.ditto.things.service.persistence.actors.enrichment.EnrichSignalWithPreDefinedExtraFieldsResponse;
@@ -84,10 +92,34 @@ public final class ThingPersistenceActor
     static final String JOURNAL_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-journal";
 
     /**
-     * The ID of the snapshot plugin this persistence actor uses.
+     * The ID of the journal plugin which coalesces the writes of this persistence actor with the ones of other
+     * persistence actors before delegating them to {@link #JOURNAL_PLUGIN_ID}.
+     */
+    static final String GROUP_COMMIT_JOURNAL_PLUGIN_ID =
+            "pekko-contrib-mongodb-persistence-things-group-commit-journal";
+
+    /**
+     * The ID of the snapshot plugin storing the snapshots of things in MongoDB.
      */
     static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The ID of the snapshot plugin storing the base snapshots referenced by delta snapshots in MongoDB.
+     */
+    static final String BASE_SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-base-snapshots";
+
+    /**
+     * The ID of the snapshot plugin this persistence actor uses unless hibernation is enabled. It writes snapshots of
+     * large things as deltas if configured to and always resolves the delta snapshots written before.
+     */
+    static final String DELTA_SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-delta-snapshots";
+
+    /**
+     * The ID of the snapshot plugin keeping compact snapshots of passivated things in memory.
+     */
+    static final String HIBERNATING_SNAPSHOT_PLUGIN_ID =
+            "pekko-contrib-mongodb-persistence-things-hibernating-snapshots";
+
     private static final AckExtractor<ThingEvent<?>> ACK_EXTRACTOR =
             AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
 
@@ -96,6 +128,7 @@ public final class ThingPersistenceActor
     private final DistributedPub<ThingEvent<?>> distributedPub;
     @Nullable private final ActorRef searchShardRegionProxy;
     private final ThingEventEnricher thingEventEnricher;
+    @Nullable private final EventCompactionConfig eventCompactionConfig;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId,
@@ -116,8 +149,13 @@ public final class ThingPersistenceActor
         this.thingEventEnricher = new ThingEventEnricher(
                 policyEnforcerProvider,
                 thingConfig.getEventConfig().isPartialAccessEventsEnabled(),
-                thingConfig.getEventConfig().isPartialAccessEventsCacheEnabled()
+                thingConfig.getEventConfig().isPartialAccessEventsCacheEnabled(),
+                thingConfig.getEventConfig().isPartialAccessEventsIncrementalEnabled()
         );
+        this.eventCompactionConfig = thingConfig.getEventConfig().getEventCompactionConfigs().stream()
+                .filter(compactionConfig -> matchesAny(compactionConfig.getNamespace(), thingId.getNamespace()))
+                .findFirst()
+                .orElse(null);
     }
 
     /**
@@ -191,12 +229,87 @@ public final class ThingPersistenceActor
 
     @Override
     public String journalPluginId() {
-        return JOURNAL_PLUGIN_ID;
+        return thingConfig.getEventConfig().isJournalGroupCommitEnabled()
+                ? GROUP_COMMIT_JOURNAL_PLUGIN_ID
+                : JOURNAL_PLUGIN_ID;
+    }
+
+    @Override
+    protected int getHistoricalStateCacheSize() {
+        return thingConfig.getHistoricalStateCacheSize();
+    }
+
+    @Override
+    protected boolean isPipelinedPersistEnabled() {
+        // compaction happens within pipelined batches; queries and conditional commands never observe pipelined
+        // events which are not persisted yet
+        return thingConfig.isPipelinedPersistEnabled() || eventCompactionConfig != null;
+    }
+
+    @Override
+    protected int getPipelinedPersistMaxBatchSize() {
+        return thingConfig.getPipelinedPersistMaxBatchSize();
+    }
+
+    @Override
+    protected Duration getPipelinedPersistWindow() {
+        return eventCompactionConfig != null ? eventCompactionConfig.getWindow() : Duration.ZERO;
+    }
+
+    @Override
+    protected boolean isSupersededBy(final ThingEvent<?> event, final ThingEvent<?> laterEvent) {
+        if (eventCompactionConfig == null) {
+            return false;
+        }
+        final String featureId;
+        final JsonPointer propertyPointer;
+        if (event instanceof FeaturePropertyModified featurePropertyModified) {
+            featureId = featurePropertyModified.getFeatureId();
+            propertyPointer = featurePropertyModified.getPropertyPointer();
+        } else if (event instanceof FeaturePropertyCreated featurePropertyCreated) {
+            featureId = featurePropertyCreated.getFeatureId();
+            propertyPointer = featurePropertyCreated.getPropertyPointer();
+        } else {
+            return false;
+        }
+        if (!matchesAny(eventCompactionConfig.getFeatures(), featureId)) {
+            return false;
+        }
+        if (laterEvent instanceof FeaturePropertyModified laterModified) {
+            return featureId.equals(laterModified.getFeatureId()) &&
+                    isSameOrParent(laterModified.getPropertyPointer(), propertyPointer);
+        } else if (laterEvent instanceof FeaturePropertyCreated laterCreated) {
+            return featureId.equals(laterCreated.getFeatureId()) &&
+                    isSameOrParent(laterCreated.getPropertyPointer(), propertyPointer);
+        } else if (laterEvent instanceof FeaturePropertiesModified laterPropertiesModified) {
+            return featureId.equals(laterPropertiesModified.getFeatureId());
+        }
+        return false;
+    }
+
+    private static boolean isSameOrParent(final JsonPointer candidate, final JsonPointer pointer) {
+        final int levelCount = candidate.getLevelCount();
+        if (levelCount > pointer.getLevelCount()) {
+            return false;
+        }
+        for (int level = 0; level < levelCount; level++) {
+            if (!candidate.get(level).equals(pointer.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesAny(final List<Pattern> patterns, final String value) {
+        return patterns.isEmpty() || patterns.stream().anyMatch(pattern -> pattern.matcher(value).matches());
     }
 
     @Override
     public String snapshotPluginId() {
-        return SNAPSHOT_PLUGIN_ID;
+        // delta snapshots must be resolved even if writing them was disabled again, thus never use the plain plugin
+        return thingConfig.getSnapshotConfig().isHibernationEnabled()
+                ? HIBERNATING_SNAPSHOT_PLUGIN_ID
+                : DELTA_SNAPSHOT_PLUGIN_ID;
     }
 
     @Override
@@ -277,10 +390,21 @@ public final class ThingPersistenceActor
             entity = enhanceThingWithLifecycle(entity);
         }
         super.recoveryCompleted(event);
+        updateSupervisorReadCache(getRevisionNumber());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (thingConfig.isSupervisorReadCacheEnabled()) {
+            getContext().getParent().tell(new SupervisorThingReadCache.StateUpdate(null, 0L), ActorRef.noSender());
+        }
+        super.postStop();
     }
 
     @Override
     protected void publishEvent(@Nullable final Thing previousEntity, final ThingEvent<?> event) {
+        // sent before the response to the command causing the event, so the supervisor never serves outdated state
+        updateSupervisorReadCache(event.getRevision());
         final CompletionStage<ThingEvent<?>> stage = thingEventEnricher.enrichWithPredefinedExtraFields(
                 thingConfig.getEventConfig().getPredefinedExtraFieldsConfigs(),
                 entityId,
@@ -306,6 +430,12 @@ public final class ThingPersistenceActor
         });
     }
 
+    private void updateSupervisorReadCache(final long revision) {
+        if (thingConfig.isSupervisorReadCacheEnabled()) {
+            getContext().getParent().tell(new SupervisorThingReadCache.StateUpdate(entity, revision), getSelf());
+        }
+    }
+
     @Override
     protected boolean shouldSendResponse(final DittoHeaders dittoHeaders) {
         return dittoHeaders.isResponseRequired() ||
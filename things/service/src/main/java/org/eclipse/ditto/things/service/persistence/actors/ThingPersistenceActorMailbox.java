@@ -12,144 +12,76 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
-import java.util.Deque;
-import java.util.concurrent.LinkedBlockingDeque;
-
+import org.apache.pekko.actor.ActorSystem;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.AbstractPriorityLaneMailbox;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.MailboxLane;
+import org.eclipse.ditto.things.api.commands.sudo.ThingSudoCommand;
+import org.eclipse.ditto.things.model.signals.commands.ThingCommand;
 import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingTooManyModifyingRequestsException;
 import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand;
 
 import com.typesafe.config.Config;
 
-import org.apache.pekko.actor.ActorRef;
-import org.apache.pekko.actor.ActorSystem;
-import org.apache.pekko.dispatch.DequeBasedMessageQueue;
-import org.apache.pekko.dispatch.Envelope;
-import org.apache.pekko.dispatch.MailboxType;
-import org.apache.pekko.dispatch.MessageQueue;
-import org.apache.pekko.dispatch.ProducesMessageQueue;
-import org.apache.pekko.dispatch.UnboundedDequeBasedMessageQueueSemantics;
-import org.apache.pekko.event.Logging;
-import org.apache.pekko.event.LoggingAdapter;
-
 /**
- * Mailbox which handles {@link ThingModifyCommand}s which should be passed to the {@link ThingPersistenceActor} in a
- * special way: those are not enqueued into the mailbox if the mailbox size gets bigger than the configured {@link
- * #capacity}. <p> In that case the {@link ThingPersistenceActor} cannot write the modifications fast enough to the
- * persistence and it makes no sense to enqueue further modifications. </p> <p> {@link org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand}s and other
- * messages (e.g. Recovery-Messages) are always enqueued and not treated in a special way. </p>
+ * Mailbox of the {@link ThingPersistenceActor} which sorts messages into {@link MailboxLane}s:
+ * {@link ThingSudoCommand}s and persistence plugin responses are processed first (without overtaking earlier messages
+ * of the same sender), {@link ThingQueryCommand}s, {@link ThingModifyCommand}s and live commands are rejected once
+ * their lane exceeds its capacity.
+ * <p>
+ * If the modify lane is full, the {@link ThingPersistenceActor} cannot write the modifications fast enough to the
+ * persistence and it makes no sense to enqueue further modifications. Other messages (e.g. Recovery-Messages) are
+ * always enqueued.
+ * </p>
  */
-public class ThingPersistenceActorMailbox implements MailboxType,
-        ProducesMessageQueue<ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue> {
-
-    private final int capacity;
+public final class ThingPersistenceActorMailbox extends AbstractPriorityLaneMailbox {
 
     /**
-     * Creates a new {@code ThingBoundedMailbox}. This constructor signature must exist, it will be called by Pekko.
+     * Creates a new {@code ThingPersistenceActorMailbox}. This constructor signature must exist, it will be called by
+     * Pekko.
      *
      * @param settings the ActorSystem settings.
      * @param config the config.
      */
     public ThingPersistenceActorMailbox(final ActorSystem.Settings settings, final Config config) {
-        // put your initialization code here
-        capacity = config.getInt("mailbox-capacity");
-        if (capacity < 1) {
-            throw new IllegalArgumentException("Mailbox capacity must not be less than 1");
-        }
+        super(config);
     }
 
     @Override
-    public MessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
-        // The create method is called to create the MessageQueue
-        return new ThingPersistenceActorMessageQueue(capacity, system.get());
-    }
-
-    /**
-     * The MessageQueue implementation.
-     */
-    public static class ThingPersistenceActorMessageQueue extends LinkedBlockingDeque<Envelope> implements
-            DequeBasedMessageQueue, UnboundedDequeBasedMessageQueueSemantics {
-
-        private static final long serialVersionUID = -3799029649510677683L;
-
-        private final transient LoggingAdapter log;
-
-        private final int capacity;
-
-        public ThingPersistenceActorMessageQueue(final int capacity, final ActorSystem actorSystem) {
-            log = Logging.getLogger(actorSystem, ThingPersistenceActorMessageQueue.class);
-            this.capacity = capacity;
-        }
-
-        @Override
-        public Deque<Envelope> queue() {
-            return this;
-        }
-
-        @Override
-        public void enqueue(final ActorRef receiver, final Envelope handle) {
-            final Object message = handle.message();
-            if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message, () -> queue().add(handle));
-            } else {
-                // all other messages are enqueued right away and with no "limit":
-                queue().add(handle);
-            }
-        }
-
-        @Override
-        public void enqueueFirst(final ActorRef receiver, final Envelope handle) {
-            final Object message = handle.message();
-            if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message, () -> queue().addFirst(handle));
-            } else {
-                // all other messages are enqueued right away and with no "limit":
-                queue().addFirst(handle);
-            }
-        }
-
-        private void queueSizeBasedAction(final ActorRef sender, final ThingModifyCommand<?> command, final Runnable r) {
-            // instead of blocking return "too many requests" response if numberOfMessages > capacity
-            if (numberOfMessages() > capacity) {
-                log.warning("Number of messages ({}) in the Mailbox of thing with ID '{}' exceeded the max capacity of "
-                                + "{} -> rejecting ThingModifyCommand '{}'", numberOfMessages(), command.getEntityId(), capacity,
-                        command.getType());
-
-                final ThingErrorResponse errorResponse = ThingErrorResponse.of(command.getEntityId(),
-                        ThingTooManyModifyingRequestsException //
-                                .newBuilder(command.getEntityId()) //
-                                .dittoHeaders(command.getDittoHeaders()) //
-                                .build());
-                sender.tell(errorResponse, null);
-            } else {
-                r.run();
-            }
-        }
-
-        @Override
-        public Envelope dequeue() {
-            return queue().poll();
-        }
-
-        @Override
-        public int numberOfMessages() {
-            return queue().size();
-        }
-
-        @Override
-        public boolean hasMessages() {
-            return !queue().isEmpty();
+    protected MailboxLane classify(final Object message) {
+        final MailboxLane lane;
+        if (message instanceof ThingSudoCommand || isPersistenceProtocolResponse(message)) {
+            lane = MailboxLane.INTERNAL;
+        } else if (message instanceof ThingCommand<?> thingCommand && Signal.isChannelLive(thingCommand)) {
+            lane = MailboxLane.LIVE;
+        } else if (message instanceof ThingModifyCommand) {
+            lane = MailboxLane.MODIFY;
+        } else if (message instanceof ThingQueryCommand) {
+            lane = MailboxLane.RETRIEVE;
+        } else {
+            lane = MailboxLane.OTHER;
         }
+        return lane;
+    }
 
-        @Override
-        public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
-            if (hasMessages()) {
-                Envelope envelope = dequeue();
-                while (envelope != null) {
-                    deadLetters.enqueue(owner, envelope);
-                    envelope = dequeue();
-                }
-            }
+    @Override
+    protected Object getTooManyRequestsResponse(final Object message, final MailboxLane lane) {
+        final ThingCommand<?> command = (ThingCommand<?>) message;
+        final DittoRuntimeException exception;
+        if (MailboxLane.MODIFY == lane) {
+            exception = ThingTooManyModifyingRequestsException.newBuilder(command.getEntityId())
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build();
+        } else {
+            exception = TooManyRequestsException.newBuilder()
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build();
         }
+        return ThingErrorResponse.of(command.getEntityId(), exception);
     }
+
 }
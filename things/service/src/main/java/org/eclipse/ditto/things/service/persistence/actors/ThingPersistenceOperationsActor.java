@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import java.util.List;
+
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.ops.eventsource.MongoEventSourceSettings;
@@ -67,7 +69,8 @@ public final class ThingPersistenceOperationsActor extends AbstractPersistenceOp
             final MongoEventSourceSettings eventSourceSettings =
                     MongoEventSourceSettings.fromConfig(config, ThingPersistenceActor.PERSISTENCE_ID_PREFIX,
                             true, ThingPersistenceActor.JOURNAL_PLUGIN_ID,
-                            ThingPersistenceActor.SNAPSHOT_PLUGIN_ID);
+                            ThingPersistenceActor.SNAPSHOT_PLUGIN_ID,
+                            List.of(ThingPersistenceActor.BASE_SNAPSHOT_PLUGIN_ID));
 
             final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
             final MongoDatabase db = mongoClient.getDefaultDatabase();
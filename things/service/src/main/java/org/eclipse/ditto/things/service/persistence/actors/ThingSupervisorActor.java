@@ -16,10 +16,12 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -36,6 +38,7 @@ import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.api.commands.sudo.SudoCommand;
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
@@ -67,6 +70,7 @@ import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.api.ThingsMessagingConstants;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommandResponse;
@@ -111,6 +115,7 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
     private final SupervisorInlinePolicyEnrichment inlinePolicyEnrichment;
     private final SupervisorLiveChannelDispatching liveChannelDispatching;
     private final SupervisorSmartChannelDispatching smartChannelDispatching;
+    @Nullable private final SupervisorThingReadCache readCache;
 
     @Nullable
     private ThingPolicyCreated policyCreatedEvent;
@@ -179,6 +184,9 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                 liveSignalPub, getContext(), thingPersistenceActorSelection, system);
         smartChannelDispatching = new SupervisorSmartChannelDispatching(log, thingPersistenceActorSelection,
                 liveChannelDispatching);
+        readCache = thingsConfig.getThingConfig().isSupervisorReadCacheEnabled()
+                ? new SupervisorThingReadCache()
+                : null;
     }
 
     /**
@@ -300,6 +308,32 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         }
     }
 
+    @Override
+    protected <T> CompletionStage<Object> askTargetActor(final T message, final boolean shouldSendResponse,
+            final ActorRef sender) {
+
+        if (null != readCache && shouldSendResponse && message instanceof RetrieveThing retrieveThing) {
+            final Optional<RetrieveThingResponse> cachedResponse = readCache.retrieve(retrieveThing);
+            if (cachedResponse.isPresent()) {
+                return CompletableFuture.completedFuture(cachedResponse.get());
+            }
+        }
+        return super.askTargetActor(message, shouldSendResponse, sender);
+    }
+
+    @Override
+    protected Optional<Object> answerSudoCommandLocally(final SudoCommand<?> sudoCommand) {
+        if (null != readCache && sudoCommand instanceof SudoRetrieveThing sudoRetrieveThing) {
+            return readCache.retrieve(sudoRetrieveThing).map(Object.class::cast);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    protected boolean wasAccessedLocallySinceLastPassivationRequest() {
+        return null != readCache && readCache.wasAccessedSinceLastCheck();
+    }
+
     @Override
     protected CompletionStage<TargetActorWithMessage> getTargetActorForSendingEnforcedMessageTo(final Object message,
             final boolean shouldSendResponse, final ActorRef sender) {
@@ -479,39 +513,60 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                 })
                 .match(RollbackCreatedPolicy.class, this::handleRollbackCreatedPolicy)
                 .match(EnrichSignalWithPreDefinedExtraFields.class, this::enrichSignalWithPreDefinedExtraFields)
+                .match(SupervisorThingReadCache.StateUpdate.class, this::updateReadCache)
                 .build()
                 .orElse(super.activeBehaviour(matchProcessNextTwinMessageBehavior, matchAnyBehavior));
     }
 
     @Override
     protected boolean applyPersistedEventFilter(final Event<?> event, final SubscribeForPersistedEvents subscribe) {
+        return getPersistedEventFilter(subscribe).test(event);
+    }
 
-        if (subscribe.getFilter().isEmpty()) {
-            return true;
-        } else if (event instanceof ThingEvent<?> thingEvent) {
-            try {
-                final Criteria criteria = subscribe.getFilter()
-                        .map(f -> parseCriteria(f, subscribe.getDittoHeaders()))
-                        .orElse(null);
-                final Thing thing = ThingEventToThingConverter.thingEventToThing(thingEvent)
-                        .orElseGet(() -> Thing.newBuilder().build());
-                return ThingPredicateVisitor.apply(criteria).test(thing);
-            } catch (final DittoRuntimeException e) {
-                log.info("Got 'DittoRuntimeException' when parsing 'filter' during " +
-                                "'SubscribeForPersistedEvents' processing: {}: <{}>", e.getClass().getSimpleName(),
-                        e.getMessage());
-                return false;
-            }
-        } else {
+    @Override
+    protected Predicate<Event<?>> getPersistedEventFilter(final SubscribeForPersistedEvents subscribe) {
+        final Optional<String> filter = subscribe.getFilter();
+        if (filter.isEmpty()) {
+            return event -> true;
+        }
+        try {
+            // parse the filter once per subscription instead of once per streamed event
+            final Predicate<Thing> thingPredicate =
+                    ThingPredicateVisitor.apply(parseCriteria(filter.get(), subscribe.getDittoHeaders()));
+            return event -> event instanceof ThingEvent<?> thingEvent && testPersistedEvent(thingEvent, thingPredicate);
+        } catch (final DittoRuntimeException e) {
+            logPersistedEventFilterException(e);
+            return event -> false;
+        }
+    }
+
+    private boolean testPersistedEvent(final ThingEvent<?> thingEvent, final Predicate<Thing> thingPredicate) {
+        try {
+            final Thing thing = ThingEventToThingConverter.thingEventToThing(thingEvent)
+                    .orElseGet(() -> Thing.newBuilder().build());
+            return thingPredicate.test(thing);
+        } catch (final DittoRuntimeException e) {
+            logPersistedEventFilterException(e);
             return false;
         }
     }
 
+    private void logPersistedEventFilterException(final DittoRuntimeException e) {
+        log.info("Got 'DittoRuntimeException' when parsing 'filter' during " +
+                "'SubscribeForPersistedEvents' processing: {}: <{}>", e.getClass().getSimpleName(), e.getMessage());
+    }
+
     private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
         final var queryFilterCriteriaFactory = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance());
         return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
     }
 
+    private void updateReadCache(final SupervisorThingReadCache.StateUpdate stateUpdate) {
+        if (null != readCache) {
+            readCache.update(stateUpdate);
+        }
+    }
+
     private void shutdownActor(final Control shutdown) {
         log.warning("Shutdown timeout <{}> reached; aborting <{}> ops and stopping myself", shutdownTimeout,
                 getOpCounter());
@@ -52,9 +52,11 @@ import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.service.common.config.PreDefinedExtraFieldsConfig;
 import org.eclipse.ditto.things.service.utils.PartialAccessPathCalculator;
+import org.eclipse.ditto.things.service.utils.PartialAccessPathsState;
 import org.eclipse.ditto.things.service.utils.ReadGrant;
 import org.eclipse.ditto.things.service.utils.ReadGrantCollector;
 
@@ -73,12 +75,14 @@ public final class ThingEventEnricher {
     private final PolicyEnforcerProvider policyEnforcerProvider;
     private final boolean partialAccessEventsEnabled;
     private final boolean partialAccessPathsCacheEnabled;
+    private final boolean partialAccessPathsIncrementalEnabled;
 
     // Memoizes the last computed partial-access-paths result for this (per-thing) enricher. The result
     // is a pure function of (policy revision, Thing structure), so it is reused across value-only Thing
     // updates. Held as a single immutable snapshot behind a volatile reference: enrichment may complete
     // on a policy-enforcer-provider thread rather than the actor thread, so a cache hit must observe a
     // consistent (policyId, revision, structureHash, result) tuple. Races merely cause a recompute.
+    // With incremental calculation enabled, the entry also carries the state cache misses are derived from.
     @Nullable private volatile PartialAccessPathsCacheEntry partialAccessPathsCache;
 
     /**
@@ -92,10 +96,29 @@ public final class ThingEventEnricher {
             final PolicyEnforcerProvider policyEnforcerProvider,
             final boolean partialAccessEventsEnabled,
             final boolean partialAccessPathsCacheEnabled
+    ) {
+        this(policyEnforcerProvider, partialAccessEventsEnabled, partialAccessPathsCacheEnabled, false);
+    }
+
+    /**
+     * Constructs a new enricher for ThingEvents based on the provided policy enforcer.
+     *
+     * @param policyEnforcerProvider the policy enforcer to use in order to check permissions for enriching extraFields
+     * @param partialAccessEventsEnabled whether partial access events should be emitted
+     * @param partialAccessPathsCacheEnabled whether the per-thing partial-access-paths cache is enabled
+     * @param partialAccessPathsIncrementalEnabled whether cache misses of the partial-access-paths cache are
+     * resolved incrementally from the previously cached result (only effective if the cache is enabled)
+     */
+    public ThingEventEnricher(
+            final PolicyEnforcerProvider policyEnforcerProvider,
+            final boolean partialAccessEventsEnabled,
+            final boolean partialAccessPathsCacheEnabled,
+            final boolean partialAccessPathsIncrementalEnabled
     ) {
         this.policyEnforcerProvider = policyEnforcerProvider;
         this.partialAccessEventsEnabled = partialAccessEventsEnabled;
         this.partialAccessPathsCacheEnabled = partialAccessPathsCacheEnabled;
+        this.partialAccessPathsIncrementalEnabled = partialAccessPathsIncrementalEnabled;
     }
 
     /**
@@ -335,19 +358,41 @@ public final class ThingEventEnricher {
                     final boolean cacheable = partialAccessPathsCacheEnabled;
                     final long structureHash =
                             cacheable ? PartialAccessPathCalculator.structureHash(effectiveThingJson) : 0L;
-                    if (cacheable) {
-                        final PartialAccessPathsCacheEntry cached = partialAccessPathsCache;
-                        if (cached != null && cached.matches(policyEnforcer, structureHash)) {
-                            LOGGER.withCorrelationId(dittoHeaders)
-                                    .debug("Reusing cached partial access paths for event '{}' (thingId: {})",
-                                            thingEvent.getType(), thingEvent.getEntityId());
-                            return cached.result;
+                    final boolean incremental = cacheable && partialAccessPathsIncrementalEnabled;
+                    final long thingRevision = thing.getRevision()
+                            .map(ThingRevision::toLong)
+                            .orElse(PartialAccessPathsState.UNKNOWN_REVISION);
+                    final PartialAccessPathsCacheEntry cached = cacheable ? partialAccessPathsCache : null;
+                    if (cached != null && cached.matches(policyEnforcer, structureHash)) {
+                        LOGGER.withCorrelationId(dittoHeaders)
+                                .debug("Reusing cached partial access paths for event '{}' (thingId: {})",
+                                        thingEvent.getType(), thingEvent.getEntityId());
+                        if (incremental && cached.state != null) {
+                            // keep the revision of the state current so that the next structural change can
+                            // still be applied incrementally:
+                            partialAccessPathsCache = cached.withState(cached.state.withThingRevision(thingRevision));
                         }
+                        return cached.result;
                     }
 
-                    final Map<String, List<JsonPointer>> partialAccessPaths =
-                            PartialAccessPathCalculator.calculatePartialAccessPaths(
-                                    thing, policyEnforcer, effectiveThingJson);
+                    final Map<String, List<JsonPointer>> partialAccessPaths;
+                    @Nullable final PartialAccessPathsState state;
+                    if (incremental) {
+                        // the resource path of the event only describes the change to the previous revision if the
+                        // Thing is exactly at the revision of the event:
+                        final JsonPointer changedPointer =
+                                thingRevision == thingEvent.getRevision() ? thingEvent.getResourcePath() : null;
+                        state = cached != null && cached.state != null
+                                ? cached.state.update(policyEnforcer, effectiveThingJson, structureHash,
+                                        thingRevision, changedPointer)
+                                : PartialAccessPathsState.calculate(policyEnforcer, effectiveThingJson,
+                                        structureHash, thingRevision);
+                        partialAccessPaths = state.getPartialAccessPaths();
+                    } else {
+                        state = null;
+                        partialAccessPaths = PartialAccessPathCalculator.calculatePartialAccessPaths(
+                                thing, policyEnforcer, effectiveThingJson);
+                    }
                     // Return consistent empty structure (will be filtered out in caller)
                     final JsonObject result = partialAccessPaths.isEmpty()
                             ? createEmptyPartialAccessPathsJson()
@@ -357,7 +402,7 @@ public final class ThingEventEnricher {
                                     thingEvent.getType(), thingEvent.getEntityId(), partialAccessPaths.size());
                     if (cacheable) {
                         partialAccessPathsCache =
-                                new PartialAccessPathsCacheEntry(policyEnforcer, structureHash, result);
+                                new PartialAccessPathsCacheEntry(policyEnforcer, structureHash, result, state);
                     }
                     return result;
                 });
@@ -368,18 +413,26 @@ public final class ThingEventEnricher {
      * Stored behind a single volatile reference so readers always see a consistent tuple. The key is the
      * {@link PolicyEnforcer} <em>instance</em> (compared by identity): it is replaced whenever the effective
      * grants change (including via imported / namespace-root policies), so identity captures every grant change.
+     * If incremental calculation is enabled, the entry additionally holds the {@link PartialAccessPathsState} the
+     * next cache miss is derived from.
      */
     private static final class PartialAccessPathsCacheEntry {
 
         private final PolicyEnforcer policyEnforcer;
         private final long structureHash;
         private final JsonObject result;
+        @Nullable private final PartialAccessPathsState state;
 
         private PartialAccessPathsCacheEntry(final PolicyEnforcer policyEnforcer, final long structureHash,
-                final JsonObject result) {
+                final JsonObject result, @Nullable final PartialAccessPathsState state) {
             this.policyEnforcer = policyEnforcer;
             this.structureHash = structureHash;
             this.result = result;
+            this.state = state;
+        }
+
+        private PartialAccessPathsCacheEntry withState(final PartialAccessPathsState newState) {
+            return new PartialAccessPathsCacheEntry(policyEnforcer, structureHash, result, newState);
         }
 
         private boolean matches(final PolicyEnforcer otherPolicyEnforcer, final long otherStructureHash) {
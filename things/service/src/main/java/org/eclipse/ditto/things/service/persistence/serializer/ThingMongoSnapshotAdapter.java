@@ -13,6 +13,7 @@
 package org.eclipse.ditto.things.service.persistence.serializer;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -25,6 +26,7 @@ import org.eclipse.ditto.base.api.persistence.SnapshotTaken;
 import org.eclipse.ditto.base.model.entity.Revision;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BinarySnapshotPayload;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -50,6 +52,8 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
     static final String THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED =
             "thing-snapshot-taken-event-publishing-enabled";
 
+    static final String SNAPSHOT_PAYLOAD_FORMAT = "snapshot-payload-format";
+
     private final ActorRef pubSubMediator;
     private final boolean snapshotTakenEventPublishingEnabled;
 
@@ -69,11 +73,24 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
      * @param pubSubMediator Pekko pubsub mediator with which to publish snapshot events.
      */
     public ThingMongoSnapshotAdapter(final ActorRef pubSubMediator, final Config config) {
-        super(LOGGER);
+        super(LOGGER, getSnapshotPayloadFormat(config));
         this.pubSubMediator = pubSubMediator;
         snapshotTakenEventPublishingEnabled = config.getBoolean(THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED);
     }
 
+    private static BinarySnapshotPayload.Format getSnapshotPayloadFormat(final Config config) {
+        if (!config.hasPath(SNAPSHOT_PAYLOAD_FORMAT)) {
+            return BinarySnapshotPayload.Format.BSON;
+        }
+        final String formatName = config.getString(SNAPSHOT_PAYLOAD_FORMAT);
+        return BinarySnapshotPayload.Format.forName(formatName)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown snapshot payload format <" + formatName + ">, expected one of " +
+                                Arrays.stream(BinarySnapshotPayload.Format.values())
+                                        .map(BinarySnapshotPayload.Format::getName)
+                                        .toList()));
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
@@ -21,6 +21,7 @@ import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.Props;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.AbstractPriorityLaneMailbox;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
 import org.eclipse.ditto.things.model.ThingId;
@@ -35,6 +36,8 @@ import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActor
 @Immutable
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
+    private static final String MAILBOX_ID = "thing-persistence-actor-mailbox";
+
     private final ActorSystem actorSystem;
 
     private DefaultThingPersistenceActorPropsFactory(final ActorSystem actorSystem) {
@@ -57,7 +60,8 @@ final class DefaultThingPersistenceActorPropsFactory implements ThingPersistence
             final DistributedPub<ThingEvent<?>> distributedPub, @Nullable final ActorRef searchShardRegionProxy,
             final PolicyEnforcerProvider policyEnforcerProvider) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, mongoReadJournal, thingConfig, distributedPub,
+        final Props props = ThingPersistenceActor.props(thingId, mongoReadJournal, thingConfig, distributedPub,
                 searchShardRegionProxy, policyEnforcerProvider);
+        return AbstractPriorityLaneMailbox.withConfiguredMailbox(props, actorSystem.settings().config(), MAILBOX_ID);
     }
 }
@@ -63,6 +63,7 @@ import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.service.aggregation.DefaultThingsAggregatorConfig;
 import org.eclipse.ditto.things.service.aggregation.ThingsAggregatorActor;
 import org.eclipse.ditto.things.service.aggregation.ThingsAggregatorConfig;
+import org.eclipse.ditto.things.service.aggregation.ThingsBatchRetrievalActor;
 import org.eclipse.ditto.things.service.common.config.ThingsConfig;
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActorPropsFactory;
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceOperationsActor;
@@ -112,6 +113,10 @@ public final class ThingsRootActor extends DittoRootActor {
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final PolicyEnforcerProvider policyEnforcerProvider = PolicyEnforcerProviderExtension.get(actorSystem).getPolicyEnforcerProvider();
         final var mongoReadJournal = newMongoReadJournal(thingsConfig.getMongoDbConfig(), actorSystem);
+        mongoReadJournal.ensureJournalPidEventTimestampIndex().exceptionally(e -> {
+            log.error(e, "Failed to create journal index on pid and event timestamps");
+            return null;
+        });
         final EnforcementConfig enforcementConfig = DefaultEnforcementConfig.of(
                 DefaultScopedConfig.dittoScoped(actorSystem.settings().config())
         );
@@ -157,8 +162,11 @@ public final class ThingsRootActor extends DittoRootActor {
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
 
-        final Props props = ThingsAggregatorActor.props(thingsShardRegion, thingsAggregatorConfig, pubSubMediator);
+        final Props props = ThingsAggregatorActor.props(thingsShardRegion, thingsAggregatorConfig, numberOfShards,
+                pubSubMediator);
         startChildActor(ThingsAggregatorActor.ACTOR_NAME, props);
+        startChildActor(ThingsBatchRetrievalActor.ACTOR_NAME,
+                ThingsBatchRetrievalActor.props(thingsShardRegion, thingsAggregatorConfig));
 
         // Load live entities metrics config from metrics config
         final var metricsConfig = DefaultScopedConfig.dittoScoped(actorSystem.settings().config())
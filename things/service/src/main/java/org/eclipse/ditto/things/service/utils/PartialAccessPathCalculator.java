@@ -145,7 +145,7 @@ public final class PartialAccessPathCalculator {
         return !subjectsWithRestrictedAccess(policyEnforcer).isEmpty();
     }
 
-    private static Set<AuthorizationSubject> subjectsWithRestrictedAccess(final PolicyEnforcer policyEnforcer) {
+    static Set<AuthorizationSubject> subjectsWithRestrictedAccess(final PolicyEnforcer policyEnforcer) {
         // Memoized on the PolicyEnforcer instance: paid once per policy revision, not per event.
         final SubjectClassification classification = policyEnforcer.getRootResourceReadClassification();
 
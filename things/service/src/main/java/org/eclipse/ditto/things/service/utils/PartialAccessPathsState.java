@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.EffectedPermissions;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Resource;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+
+/**
+ * Immutable result of a partial-access-paths calculation which can be updated <em>incrementally</em>.
+ * <p>
+ * Besides the (ancestor-collapsed) partial access paths, a state retains the uncollapsed accessible leaf pointers
+ * of every subject with restricted READ access together with the key it was computed for: the
+ * {@link PolicyEnforcer} instance, the {@link PartialAccessPathCalculator#structureHash(JsonObject) structure hash}
+ * and the revision of the Thing. With that, {@link #update} only asks the enforcer for what actually changed:
+ * </p>
+ * <ul>
+ *     <li>if the Thing changed by exactly one revision at a known pointer (the resource path of the ThingEvent),
+ *     only the leaves of the affected subtree are re-evaluated, all other leaves are kept;</li>
+ *     <li>if the PolicyEnforcer was replaced, only subjects whose {@code thing} READ grants/revokes differ between
+ *     the two (import-resolved) policies are re-evaluated over the whole Thing.</li>
+ * </ul>
+ * <p>
+ * The per-leaf accessibility decision of the enforcer depends only on the leaf pointer and the subject's grants,
+ * so the updated state is identical to a full recalculation. Whenever the preconditions are not met (unknown or
+ * non-consecutive revision, change at the Thing root, policy not available), {@link #update} falls back to a full
+ * calculation.
+ * </p>
+ *
+ * @since 3.9.0
+ */
+@Immutable
+public final class PartialAccessPathsState {
+
+    /**
+     * Revision used for Things which do not carry a revision; prevents incremental structure updates.
+     */
+    public static final long UNKNOWN_REVISION = -1L;
+
+    private static final ResourceKey ROOT_RESOURCE_KEY = PoliciesResourceType.thingResource(JsonPointer.empty());
+    private static final Permissions READ_PERMISSIONS = Permissions.newInstance(Permission.READ);
+
+    private final PolicyEnforcer policyEnforcer;
+    private final long structureHash;
+    private final long thingRevision;
+    private final Map<AuthorizationSubject, Set<JsonPointer>> accessibleLeaves;
+    private final Map<String, List<JsonPointer>> partialAccessPaths;
+
+    private PartialAccessPathsState(final PolicyEnforcer policyEnforcer,
+            final long structureHash,
+            final long thingRevision,
+            final Map<AuthorizationSubject, Set<JsonPointer>> accessibleLeaves,
+            final Map<String, List<JsonPointer>> partialAccessPaths) {
+
+        this.policyEnforcer = policyEnforcer;
+        this.structureHash = structureHash;
+        this.thingRevision = thingRevision;
+        this.accessibleLeaves = Collections.unmodifiableMap(accessibleLeaves);
+        this.partialAccessPaths = Collections.unmodifiableMap(partialAccessPaths);
+    }
+
+    /**
+     * Calculates the partial access paths of the passed Thing JSON from scratch.
+     *
+     * @param policyEnforcer the PolicyEnforcer to use for permission checks.
+     * @param thingJson the JSON representation of the Thing.
+     * @param structureHash the {@link PartialAccessPathCalculator#structureHash(JsonObject) structure hash} of
+     * {@code thingJson}.
+     * @param thingRevision the revision of the Thing or {@link #UNKNOWN_REVISION}.
+     * @return the calculated state.
+     */
+    public static PartialAccessPathsState calculate(final PolicyEnforcer policyEnforcer,
+            final JsonObject thingJson,
+            final long structureHash,
+            final long thingRevision) {
+
+        final Set<AuthorizationSubject> subjects =
+                PartialAccessPathCalculator.subjectsWithRestrictedAccess(policyEnforcer);
+        final Map<AuthorizationSubject, Set<JsonPointer>> leaves =
+                calculateLeaves(policyEnforcer, subjects, thingJson);
+        return new PartialAccessPathsState(policyEnforcer, structureHash, thingRevision, leaves,
+                collapse(leaves, thingJson));
+    }
+
+    /**
+     * Indicates whether this state was calculated for exactly the passed PolicyEnforcer instance and Thing structure,
+     * i.e. whether its partial access paths can be reused as they are.
+     *
+     * @param otherPolicyEnforcer the PolicyEnforcer to check, compared by identity.
+     * @param otherStructureHash the structure hash of the Thing to check.
+     * @return {@code true} if the partial access paths of this state are valid for the passed arguments.
+     */
+    public boolean isCalculatedFor(final PolicyEnforcer otherPolicyEnforcer, final long otherStructureHash) {
+        return policyEnforcer == otherPolicyEnforcer && structureHash == otherStructureHash;
+    }
+
+    /**
+     * Derives the state for a changed PolicyEnforcer and/or Thing from this state, re-evaluating only the affected
+     * subjects and subtrees.
+     *
+     * @param newPolicyEnforcer the current PolicyEnforcer.
+     * @param thingJson the current JSON representation of the Thing.
+     * @param newStructureHash the structure hash of {@code thingJson}.
+     * @param newThingRevision the current revision of the Thing or {@link #UNKNOWN_REVISION}.
+     * @param changedPointer the pointer at which the Thing was changed compared to the revision of this state or
+     * {@code null} if unknown.
+     * @return the updated state.
+     */
+    public PartialAccessPathsState update(final PolicyEnforcer newPolicyEnforcer,
+            final JsonObject thingJson,
+            final long newStructureHash,
+            final long newThingRevision,
+            @Nullable final JsonPointer changedPointer) {
+
+        final boolean sameStructure = structureHash == newStructureHash;
+        if (sameStructure && policyEnforcer == newPolicyEnforcer) {
+            return withThingRevision(newThingRevision);
+        }
+        final boolean structureDeltaKnown = sameStructure || isConsecutiveChange(newThingRevision, changedPointer);
+        if (!structureDeltaKnown) {
+            return calculate(newPolicyEnforcer, thingJson, newStructureHash, newThingRevision);
+        }
+
+        final Set<AuthorizationSubject> reusableSubjects = getReusableSubjects(newPolicyEnforcer);
+        final Set<AuthorizationSubject> toPatch = new LinkedHashSet<>();
+        final Set<AuthorizationSubject> toCalculate = new LinkedHashSet<>();
+        for (final AuthorizationSubject subject :
+                PartialAccessPathCalculator.subjectsWithRestrictedAccess(newPolicyEnforcer)) {
+            if (reusableSubjects.contains(subject)) {
+                toPatch.add(subject);
+            } else {
+                toCalculate.add(subject);
+            }
+        }
+
+        final Map<AuthorizationSubject, Set<JsonPointer>> leaves = new LinkedHashMap<>();
+        if (sameStructure) {
+            toPatch.forEach(subject -> leaves.put(subject, accessibleLeaves.get(subject)));
+        } else if (!toPatch.isEmpty()) {
+            leaves.putAll(patchLeaves(newPolicyEnforcer, toPatch, thingJson, changedPointer));
+        }
+        if (!toCalculate.isEmpty()) {
+            leaves.putAll(calculateLeaves(newPolicyEnforcer, toCalculate, thingJson));
+        }
+        return new PartialAccessPathsState(newPolicyEnforcer, newStructureHash, newThingRevision, leaves,
+                collapse(leaves, thingJson));
+    }
+
+    /**
+     * Returns this state for another revision of the Thing with unchanged structure, e.g. after a value-only update.
+     *
+     * @param newThingRevision the current revision of the Thing or {@link #UNKNOWN_REVISION}.
+     * @return the state with the passed revision, which is {@code this} if the revision did not change.
+     */
+    public PartialAccessPathsState withThingRevision(final long newThingRevision) {
+        if (thingRevision == newThingRevision) {
+            return this;
+        }
+        return new PartialAccessPathsState(policyEnforcer, structureHash, newThingRevision, accessibleLeaves,
+                partialAccessPaths);
+    }
+
+    /**
+     * Returns the ancestor-collapsed partial access paths per subject ID, as returned by
+     * {@link PartialAccessPathCalculator#calculatePartialAccessPaths}.
+     *
+     * @return the unmodifiable partial access paths.
+     */
+    public Map<String, List<JsonPointer>> getPartialAccessPaths() {
+        return partialAccessPaths;
+    }
+
+    private boolean isConsecutiveChange(final long newThingRevision, @Nullable final JsonPointer changedPointer) {
+        return changedPointer != null && !changedPointer.isEmpty() &&
+                thingRevision != UNKNOWN_REVISION && newThingRevision == thingRevision + 1;
+    }
+
+    private Set<AuthorizationSubject> getReusableSubjects(final PolicyEnforcer newPolicyEnforcer) {
+        if (policyEnforcer == newPolicyEnforcer) {
+            return accessibleLeaves.keySet();
+        }
+        final Optional<Policy> oldPolicy = policyEnforcer.getPolicy();
+        final Optional<Policy> newPolicy = newPolicyEnforcer.getPolicy();
+        if (oldPolicy.isEmpty() || newPolicy.isEmpty()) {
+            return Set.of();
+        }
+        final Map<String, Set<String>> oldGrants = thingReadGrantsBySubjectId(oldPolicy.get());
+        final Map<String, Set<String>> newGrants = thingReadGrantsBySubjectId(newPolicy.get());
+        final Set<AuthorizationSubject> result = new LinkedHashSet<>();
+        for (final AuthorizationSubject subject : accessibleLeaves.keySet()) {
+            final Set<String> oldSubjectGrants = oldGrants.get(subject.getId());
+            if (oldSubjectGrants != null && oldSubjectGrants.equals(newGrants.get(subject.getId()))) {
+                result.add(subject);
+            }
+        }
+        return result;
+    }
+
+    private Map<AuthorizationSubject, Set<JsonPointer>> patchLeaves(final PolicyEnforcer newPolicyEnforcer,
+            final Set<AuthorizationSubject> subjects,
+            final JsonObject thingJson,
+            final JsonPointer changedPointer) {
+
+        final Optional<JsonPointer> recalculationRoot = determineRecalculationRoot(thingJson, changedPointer);
+        final Map<AuthorizationSubject, Set<JsonPointer>> recalculatedLeaves = recalculationRoot
+                .map(root -> calculateLeaves(newPolicyEnforcer, subjects,
+                        JsonObject.empty().setValue(root, thingJson.getValue(root).orElseThrow())))
+                .orElseGet(Map::of);
+
+        final Map<AuthorizationSubject, Set<JsonPointer>> result = new LinkedHashMap<>();
+        for (final AuthorizationSubject subject : subjects) {
+            final Set<JsonPointer> patched = new LinkedHashSet<>();
+            for (final JsonPointer leaf : accessibleLeaves.get(subject)) {
+                if (!isPrefixOf(changedPointer, leaf) && !isPrefixOf(leaf, changedPointer)) {
+                    patched.add(leaf);
+                }
+            }
+            patched.addAll(recalculatedLeaves.getOrDefault(subject, Set.of()));
+            result.put(subject, patched);
+        }
+        return result;
+    }
+
+    /**
+     * Determines the subtree whose leaves have to be re-evaluated after a change at {@code changedPointer}: the
+     * changed subtree itself if it still exists, otherwise the nearest existing ancestor if the removal turned it
+     * into a leaf (e.g. an emptied {@code properties} object).
+     */
+    private static Optional<JsonPointer> determineRecalculationRoot(final JsonObject thingJson,
+            final JsonPointer changedPointer) {
+
+        JsonPointer pointer = changedPointer;
+        Optional<JsonValue> value = thingJson.getValue(pointer);
+        final boolean removed = value.isEmpty();
+        while (value.isEmpty() && !pointer.isEmpty()) {
+            pointer = pointer.cutLeaf();
+            value = thingJson.getValue(pointer);
+        }
+        if (pointer.isEmpty()) {
+            return Optional.empty();
+        }
+        if (removed) {
+            final JsonValue ancestor = value.orElseThrow();
+            final boolean ancestorIsLeaf = !ancestor.isObject() || ancestor.asObject().isEmpty();
+            return ancestorIsLeaf ? Optional.of(pointer) : Optional.empty();
+        }
+        return Optional.of(pointer);
+    }
+
+    private static boolean isPrefixOf(final JsonPointer prefix, final JsonPointer pointer) {
+        final int prefixLevelCount = prefix.getLevelCount();
+        if (prefixLevelCount > pointer.getLevelCount()) {
+            return false;
+        }
+        for (int level = 0; level < prefixLevelCount; level++) {
+            if (!prefix.get(level).equals(pointer.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<AuthorizationSubject, Set<JsonPointer>> calculateLeaves(final PolicyEnforcer policyEnforcer,
+            final Set<AuthorizationSubject> subjects,
+            final JsonObject json) {
+
+        if (subjects.isEmpty()) {
+            return Map.of();
+        }
+        final Map<AuthorizationSubject, Set<JsonPointer>> batchResult = policyEnforcer.getEnforcer()
+                .getAccessiblePathsForSubjects(ROOT_RESOURCE_KEY, json, subjects, READ_PERMISSIONS);
+        // subjects without any accessible leaf are omitted by the enforcer, but must be retained in order to be
+        // able to patch them on subsequent changes:
+        final Map<AuthorizationSubject, Set<JsonPointer>> result = new LinkedHashMap<>();
+        for (final AuthorizationSubject subject : subjects) {
+            result.put(subject, batchResult.getOrDefault(subject, Set.of()));
+        }
+        return result;
+    }
+
+    private static Map<String, List<JsonPointer>> collapse(final Map<AuthorizationSubject, Set<JsonPointer>> leaves,
+            final JsonObject thingJson) {
+
+        final Map<String, List<JsonPointer>> result = new LinkedHashMap<>();
+        leaves.forEach((subject, subjectLeaves) -> {
+            if (!subjectLeaves.isEmpty()) {
+                result.put(subject.getId(), new ArrayList<>(
+                        PartialAccessPathCalculator.collapseLeavesToAncestors(subjectLeaves, thingJson)));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Builds a fingerprint of the {@code thing} READ grants and revokes per subject ID. Subjects with equal
+     * fingerprints in two policies are granted READ access to exactly the same leaves of any Thing.
+     */
+    private static Map<String, Set<String>> thingReadGrantsBySubjectId(final Policy policy) {
+        final Map<String, Set<String>> result = new HashMap<>();
+        for (final PolicyEntry entry : policy) {
+            final Set<String> entryGrants = new LinkedHashSet<>();
+            for (final Resource resource : entry.getResources()) {
+                if (PoliciesResourceType.THING.equals(resource.getType())) {
+                    final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+                    final boolean granted = effectedPermissions.getGrantedPermissions().contains(Permission.READ);
+                    final boolean revoked = effectedPermissions.getRevokedPermissions().contains(Permission.READ);
+                    if (granted || revoked) {
+                        entryGrants.add((granted ? "+" : "") + (revoked ? "-" : "") + resource.getPath() +
+                                entry.getNamespaces().map(String::valueOf).orElse(""));
+                    }
+                }
+            }
+            for (final Subject subject : entry.getSubjects()) {
+                result.computeIfAbsent(subject.getId().toString(), id -> new LinkedHashSet<>()).addAll(entryGrants);
+            }
+        }
+        return result;
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.things.service.aggregation;
 
+import java.time.Duration;
+
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.BeforeClass;
 import org.junit.Rule;
@@ -51,6 +53,18 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.isBatchRetrievalEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVAL_ENABLED.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVAL_ENABLED
+                        .getDefaultValue());
+        softly.assertThat(underTest.getShardLocationsRefreshInterval())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL
+                        .getDefaultValue());
+        softly.assertThat(underTest.getBatchRetrievalTimeout())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVAL_TIMEOUT.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVAL_TIMEOUT
+                        .getDefaultValue());
     }
 
     @Test
@@ -60,6 +74,15 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(10);
+        softly.assertThat(underTest.isBatchRetrievalEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVAL_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getShardLocationsRefreshInterval())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(7));
+        softly.assertThat(underTest.getBatchRetrievalTimeout())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVAL_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3));
     }
 
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.pekko.actor.Address;
+import org.eclipse.ditto.internal.utils.cluster.ShardNumberCalculator;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingShardLocations}.
+ */
+public final class ThingShardLocationsTest {
+
+    private static final int NUMBER_OF_SHARDS = 30;
+    private static final ShardNumberCalculator SHARD_NUMBER_CALCULATOR =
+            ShardNumberCalculator.newInstance(NUMBER_OF_SHARDS);
+
+    private static final Address NODE_1 = new Address("pekko", "ditto-cluster", "node-1", 2551);
+    private static final Address NODE_2 = new Address("pekko", "ditto-cluster", "node-2", 2551);
+    private static final Address SELF = new Address("pekko", "ditto-cluster", "self", 2551);
+
+    @Test
+    public void groupsThingsByNodeHostingTheirShard() {
+        final ThingId thing1 = ThingId.of("org.eclipse.ditto", "thing-1");
+        final ThingId thing2 = ThingId.of("org.eclipse.ditto", "thing-2");
+        final ThingId thing3 = ThingId.of("org.eclipse.ditto", "thing-3");
+        final ThingShardLocations underTest = ThingShardLocations.of(NUMBER_OF_SHARDS, Map.of(
+                NODE_1, Set.of(shardId(thing1), shardId(thing3)),
+                NODE_2, Set.of(shardId(thing2))
+        ));
+
+        assertThat(underTest.groupByAddress(List.of(thing3, thing2, thing1), SELF))
+                .containsExactly(Map.entry(NODE_1, List.of(thing3, thing1)), Map.entry(NODE_2, List.of(thing2)));
+    }
+
+    @Test
+    public void assignsThingsOfUnlocatedShardsToFallbackAddress() {
+        final ThingId thing = ThingId.of("org.eclipse.ditto", "thing");
+        final ThingShardLocations underTest = ThingShardLocations.of(NUMBER_OF_SHARDS, Map.of());
+
+        assertThat(underTest.groupByAddress(List.of(thing), SELF))
+                .containsExactly(Map.entry(SELF, List.of(thing)));
+        assertThat(underTest.getNumberOfLocatedShards()).isZero();
+    }
+
+    private static String shardId(final ThingId thingId) {
+        return String.valueOf(SHARD_NUMBER_CALCULATOR.calculateShardNumber(thingId.toString()));
+    }
+
+}
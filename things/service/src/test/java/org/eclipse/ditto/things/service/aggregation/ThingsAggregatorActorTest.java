@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.things.service.aggregation.ThingsBatchRetrievalActorTest.receiveSource;
+import static org.eclipse.ditto.things.service.aggregation.ThingsBatchRetrievalActorTest.retrieveThingResponse;
+import static org.eclipse.ditto.things.service.aggregation.ThingsBatchRetrievalActorTest.retrievedThingIds;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Address;
+import org.apache.pekko.cluster.Cluster;
+import org.apache.pekko.cluster.sharding.ShardRegion;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ThingsAggregatorActor} with batch retrieval enabled.
+ */
+public final class ThingsAggregatorActorTest {
+
+    @ClassRule
+    public static final ActorSystemResource ACTOR_SYSTEM_RESOURCE =
+            ActorSystemResource.newInstance(ConfigFactory.parseMap(Map.of(
+                            "pekko.actor.provider", "cluster",
+                            "pekko.remote.artery.canonical.hostname", "127.0.0.1",
+                            "pekko.remote.artery.canonical.port", 0))
+                    .withFallback(ConfigFactory.load("test")));
+
+    private static final int NUMBER_OF_SHARDS = 1;
+    private static final String SHARD_ID = "0";
+    private static final Duration BATCH_RETRIEVAL_TIMEOUT = Duration.ofSeconds(1);
+    private static final ThingsAggregatorConfig AGGREGATOR_CONFIG =
+            DefaultThingsAggregatorConfig.of(ConfigFactory.parseMap(Map.of(
+                    "things-aggregator.batch-retrieval.enabled", true,
+                    "things-aggregator.batch-retrieval.shard-locations-refresh-interval", "1h",
+                    "things-aggregator.batch-retrieval.timeout", BATCH_RETRIEVAL_TIMEOUT.toMillis() + "ms")));
+
+    private static final ThingId THING_1 = ThingId.of("org.eclipse.ditto", "thing-1");
+    private static final ThingId THING_2 = ThingId.of("org.eclipse.ditto", "thing-2");
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("aggregate").build();
+
+    @Test
+    public void retrievesThingsOfShardsOfThisNodeFromTheShardRegion() {
+        final ActorSystem actorSystem = ACTOR_SYSTEM_RESOURCE.getActorSystem();
+        new TestKit(actorSystem) {{
+            final TestKit thingsShardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = startAggregator(actorSystem, thingsShardRegion,
+                    Cluster.get(actorSystem).selfAddress());
+
+            underTest.tell(RetrieveThings.getBuilder(THING_1, THING_2).dittoHeaders(DITTO_HEADERS).build(),
+                    getRef());
+
+            final CompletionStage<List<Jsonifiable>> responses = runSource(this, actorSystem);
+            answerRetrieveThing(thingsShardRegion, Duration.ofSeconds(3));
+            answerRetrieveThing(thingsShardRegion, Duration.ofSeconds(3));
+            assertThat(retrievedThingIds(responses.toCompletableFuture().join())).containsExactly(THING_1, THING_2);
+        }};
+    }
+
+    @Test
+    public void retrievesThingsIndividuallyIfBatchRetrievalTimesOut() {
+        final ActorSystem actorSystem = ACTOR_SYSTEM_RESOURCE.getActorSystem();
+        new TestKit(actorSystem) {{
+            // the node hosting the shard is unreachable, so that the batch is never answered
+            final Address unreachableNode = new Address("pekko", actorSystem.name(), "127.0.0.1", 1);
+            final TestKit thingsShardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = startAggregator(actorSystem, thingsShardRegion, unreachableNode);
+
+            underTest.tell(RetrieveThings.getBuilder(THING_1, THING_2).dittoHeaders(DITTO_HEADERS).build(),
+                    getRef());
+
+            final CompletionStage<List<Jsonifiable>> responses = runSource(this, actorSystem);
+            thingsShardRegion.expectNoMessage(BATCH_RETRIEVAL_TIMEOUT.dividedBy(2));
+            answerRetrieveThing(thingsShardRegion, BATCH_RETRIEVAL_TIMEOUT.multipliedBy(5));
+            answerRetrieveThing(thingsShardRegion, Duration.ofSeconds(3));
+            assertThat(retrievedThingIds(responses.toCompletableFuture().join())).containsExactly(THING_1, THING_2);
+        }};
+    }
+
+    private static ActorRef startAggregator(final ActorSystem actorSystem, final TestKit thingsShardRegion,
+            final Address shardLocation) {
+
+        final ActorRef aggregator = actorSystem.actorOf(ThingsAggregatorActor.props(thingsShardRegion.getRef(),
+                AGGREGATOR_CONFIG, NUMBER_OF_SHARDS, new TestKit(actorSystem).getRef()));
+        thingsShardRegion.expectMsgClass(ShardRegion.GetClusterShardingStats.class);
+        thingsShardRegion.reply(clusterShardingStats(shardLocation));
+        return aggregator;
+    }
+
+    private static ShardRegion.ClusterShardingStats clusterShardingStats(final Address address) {
+        final scala.collection.immutable.Map<String, Object> shardStats =
+                scala.collection.immutable.Map$.MODULE$.<String, Object>empty().updated(SHARD_ID, 1);
+        return new ShardRegion.ClusterShardingStats(
+                scala.collection.immutable.Map$.MODULE$.<Address, ShardRegion.ShardRegionStats>empty()
+                        .updated(address, new ShardRegion.ShardRegionStats(shardStats)));
+    }
+
+    private static void answerRetrieveThing(final TestKit thingsShardRegion, final Duration timeout) {
+        final RetrieveThing retrieveThing = thingsShardRegion.expectMsgClass(timeout, RetrieveThing.class);
+        thingsShardRegion.reply(retrieveThingResponse(retrieveThing, Set.of(THING_1, THING_2)));
+    }
+
+    private static CompletionStage<List<Jsonifiable>> runSource(final TestKit testKit,
+            final ActorSystem actorSystem) {
+
+        return CompletableFuture.supplyAsync(() -> receiveSource(testKit, actorSystem));
+    }
+
+}
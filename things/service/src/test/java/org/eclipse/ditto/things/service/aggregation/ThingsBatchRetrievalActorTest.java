@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.testkit.TestActor;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ThingsBatchRetrievalActor}.
+ */
+public final class ThingsBatchRetrievalActorTest {
+
+    @ClassRule
+    public static final ActorSystemResource ACTOR_SYSTEM_RESOURCE =
+            ActorSystemResource.newInstance(ConfigFactory.load("test"));
+
+    private static final ThingId THING_1 = ThingId.of("org.eclipse.ditto", "thing-1");
+    private static final ThingId THING_2 = ThingId.of("org.eclipse.ditto", "thing-2");
+    private static final ThingId MISSING_THING = ThingId.of("org.eclipse.ditto", "missing");
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("batch").build();
+
+    @Test
+    public void answersBatchWithSourceOfThings() {
+        final ActorSystem actorSystem = ACTOR_SYSTEM_RESOURCE.getActorSystem();
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(
+                    ThingsBatchRetrievalActor.props(thingsShardRegion(actorSystem, Set.of(THING_1, THING_2)),
+                            DefaultThingsAggregatorConfig.of(ConfigFactory.empty())));
+
+            underTest.tell(RetrieveThings.getBuilder(THING_2, THING_1).dittoHeaders(DITTO_HEADERS).build(),
+                    getRef());
+
+            assertThat(retrievedThingIds(receiveSource(this, actorSystem))).containsExactly(THING_2, THING_1);
+        }};
+    }
+
+    @Test
+    public void answersErrorsForMissingThingsOfBatch() {
+        final ActorSystem actorSystem = ACTOR_SYSTEM_RESOURCE.getActorSystem();
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(
+                    ThingsBatchRetrievalActor.props(thingsShardRegion(actorSystem, Set.of(THING_1)),
+                            DefaultThingsAggregatorConfig.of(ConfigFactory.empty())));
+
+            underTest.tell(RetrieveThings.getBuilder(THING_1, MISSING_THING).dittoHeaders(DITTO_HEADERS).build(),
+                    getRef());
+
+            final List<Jsonifiable> responses = receiveSource(this, actorSystem);
+            assertThat(responses).hasSize(2);
+            assertThat(responses.get(0)).isInstanceOf(RetrieveThingResponse.class);
+            assertThat(responses.get(1)).isInstanceOf(ThingNotAccessibleException.class);
+        }};
+    }
+
+    /**
+     * Creates a stand-in for the things shard region which answers {@code RetrieveThing} commands for existing
+     * things only.
+     *
+     * @param actorSystem the actor system.
+     * @param existingThings the IDs of the existing things.
+     * @return the things shard region.
+     */
+    static ActorRef thingsShardRegion(final ActorSystem actorSystem, final Set<ThingId> existingThings) {
+        final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+        thingsShardRegion.setAutoPilot(new TestActor.AutoPilot() {
+            @Override
+            public TestActor.AutoPilot run(final ActorRef sender, final Object msg) {
+                if (msg instanceof RetrieveThing retrieveThing) {
+                    sender.tell(retrieveThingResponse(retrieveThing, existingThings), ActorRef.noSender());
+                }
+                return keepRunning();
+            }
+        });
+        return thingsShardRegion.ref();
+    }
+
+    static Object retrieveThingResponse(final RetrieveThing retrieveThing, final Set<ThingId> existingThings) {
+        final ThingId thingId = retrieveThing.getEntityId();
+        if (existingThings.contains(thingId)) {
+            return RetrieveThingResponse.of(thingId, Thing.newBuilder().setId(thingId).build(),
+                    null, null, retrieveThing.getDittoHeaders());
+        }
+        return ThingNotAccessibleException.newBuilder(thingId).dittoHeaders(retrieveThing.getDittoHeaders()).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Jsonifiable> receiveSource(final TestKit testKit, final ActorSystem actorSystem) {
+        final SourceRef<Jsonifiable> sourceRef = testKit.expectMsgClass(SourceRef.class);
+        return sourceRef.getSource()
+                .runWith(Sink.seq(), actorSystem)
+                .toCompletableFuture()
+                .orTimeout(10, TimeUnit.SECONDS)
+                .join();
+    }
+
+    static List<ThingId> retrievedThingIds(final List<Jsonifiable> responses) {
+        return responses.stream()
+                .map(RetrieveThingResponse.class::cast)
+                .map(RetrieveThingResponse::getEntityId)
+                .toList();
+    }
+
+}
@@ -245,11 +245,15 @@ public abstract class PersistenceActorTestBase {
         return createPersistenceActorWithPubSubFor(thingId);
     }
 
-    protected ActorRef createPersistenceActorWithPubSubFor(final ThingId thingId) {
-        return actorSystem.actorOf(getPropsOfThingPersistenceActor(thingId, Mockito.mock(MongoReadJournal.class),
+    protected ActorRef createPersistenceActorFor(final ThingId thingId, final MongoReadJournal mongoReadJournal) {
+        return actorSystem.actorOf(getPropsOfThingPersistenceActor(thingId, mongoReadJournal,
                 thingsConfig.getThingConfig(), getDistributedPub(), null, policyEnforcerProvider));
     }
 
+    protected ActorRef createPersistenceActorWithPubSubFor(final ThingId thingId) {
+        return createPersistenceActorFor(thingId, Mockito.mock(MongoReadJournal.class));
+    }
+
     private Props getPropsOfThingPersistenceActor(final ThingId thingId, final MongoReadJournal mongoReadJournal,
             final ThingConfig thingConfig,
             final DistributedPub<ThingEvent<?>> pub, @Nullable final ActorRef searchShardRegionProxy,
@@ -258,6 +262,10 @@ public abstract class PersistenceActorTestBase {
     }
 
     protected ActorRef createSupervisorActorFor(final ThingId thingId) {
+        return createSupervisorActorFor(thingId, Mockito.mock(MongoReadJournal.class));
+    }
+
+    protected ActorRef createSupervisorActorFor(final ThingId thingId, final MongoReadJournal mongoReadJournal) {
         final LiveSignalPub liveSignalPub = new TestSetup.DummyLiveSignalPub(pubSubMediator);
         final Props props =
                 ThingSupervisorActor.props(pubSubMediator,
@@ -287,7 +295,7 @@ public abstract class PersistenceActorTestBase {
                         this::getPropsOfThingPersistenceActor,
                         null,
                         policyEnforcerProvider,
-                        Mockito.mock(MongoReadJournal.class));
+                        mongoReadJournal);
 
         return actorSystem.actorOf(props, thingId.toString());
     }
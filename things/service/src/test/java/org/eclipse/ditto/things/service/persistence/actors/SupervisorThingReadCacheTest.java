@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.model.TestConstants;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingLifecycle;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SupervisorThingReadCache}.
+ */
+public final class SupervisorThingReadCacheTest {
+
+    private static final ThingId THING_ID = TestConstants.Thing.THING_ID;
+    private static final Thing THING = TestConstants.Thing.THING_V2.toBuilder().setRevision(42L).build();
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder().randomCorrelationId().build();
+
+    private SupervisorThingReadCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new SupervisorThingReadCache();
+    }
+
+    @Test
+    public void emptyCacheDoesNotAnswer() {
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, HEADERS))).isEmpty();
+        assertThat(underTest.retrieve(SudoRetrieveThing.of(THING_ID, HEADERS))).isEmpty();
+        assertThat(underTest.wasAccessedSinceLastCheck()).isFalse();
+    }
+
+    @Test
+    public void answersRetrieveThingFromCachedState() {
+        underTest.update(new SupervisorThingReadCache.StateUpdate(THING, 42L));
+
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, HEADERS))).hasValueSatisfying(response -> {
+            assertThat(response.getEntity(JsonSchemaVersion.V_2))
+                    .isEqualTo(THING.toJson(THING.getImplementedSchemaVersion()));
+            assertThat(response.getDittoHeaders().getCorrelationId()).isEqualTo(HEADERS.getCorrelationId());
+            assertThat(response.getDittoHeaders().get(DittoHeaderDefinition.ENTITY_REVISION.getKey()))
+                    .isEqualTo("42");
+            assertThat(response.getDittoHeaders().getETag()).isEqualTo(EntityTag.fromEntity(THING));
+        });
+        assertThat(underTest.wasAccessedSinceLastCheck()).isTrue();
+        assertThat(underTest.wasAccessedSinceLastCheck()).isFalse();
+    }
+
+    @Test
+    public void appliesSelectedFields() {
+        underTest.update(new SupervisorThingReadCache.StateUpdate(THING, 42L));
+        final JsonFieldSelector selectedFields = JsonFieldSelector.newInstance("thingId", "attributes");
+
+        assertThat(underTest.retrieve(RetrieveThing.getBuilder(THING_ID, HEADERS)
+                .withSelectedFields(selectedFields)
+                .build()))
+                .hasValueSatisfying(response -> assertThat(response.getEntity(JsonSchemaVersion.V_2))
+                        .isEqualTo(THING.toJson(THING.getImplementedSchemaVersion(), selectedFields)));
+    }
+
+    @Test
+    public void answersSudoRetrieveThingIncludingSpecialFields() {
+        underTest.update(new SupervisorThingReadCache.StateUpdate(THING, 42L));
+
+        assertThat(underTest.retrieve(SudoRetrieveThing.of(THING_ID, HEADERS))).hasValueSatisfying(response ->
+                assertThat(response.getEntity(JsonSchemaVersion.V_2)).isEqualTo(
+                        THING.toJson(THING.getImplementedSchemaVersion(), FieldType.regularOrSpecial())));
+    }
+
+    @Test
+    public void doesNotAnswerConditionalRetrieves() {
+        underTest.update(new SupervisorThingReadCache.StateUpdate(THING, 42L));
+        final DittoHeaders conditionalHeaders = HEADERS.toBuilder()
+                .ifNoneMatch(EntityTagMatchers.fromCommaSeparatedString("\"rev:42\""))
+                .build();
+
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, conditionalHeaders))).isEmpty();
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, HEADERS.toBuilder()
+                .putHeader(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), "1")
+                .build()))).isEmpty();
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, HEADERS.toBuilder()
+                .condition("eq(attributes/foo,1)")
+                .build()))).isEmpty();
+    }
+
+    @Test
+    public void doesNotAnswerForOtherOrDeletedThings() {
+        underTest.update(new SupervisorThingReadCache.StateUpdate(THING, 42L));
+        assertThat(underTest.retrieve(RetrieveThing.of(ThingId.of("example.com", "other"), HEADERS))).isEmpty();
+
+        underTest.update(new SupervisorThingReadCache.StateUpdate(
+                THING.toBuilder().setLifecycle(ThingLifecycle.DELETED).build(), 43L));
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, HEADERS))).isEmpty();
+    }
+
+    @Test
+    public void updateWithoutThingDropsCachedState() {
+        underTest.update(new SupervisorThingReadCache.StateUpdate(THING, 42L));
+        underTest.update(new SupervisorThingReadCache.StateUpdate(null, 0L));
+
+        assertThat(underTest.retrieve(RetrieveThing.of(THING_ID, HEADERS))).isEmpty();
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.PoisonPill;
+import org.apache.pekko.persistence.journal.Tagged;
+import org.apache.pekko.persistence.query.EventEnvelope;
+import org.apache.pekko.persistence.query.Offset;
+import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.awaitility.Awaitility;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.signals.commands.streaming.SubscribeForPersistedEvents;
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.EmptyEvent;
+import org.eclipse.ditto.internal.utils.test.Retry;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.signals.commands.modify.CreatePolicy;
+import org.eclipse.ditto.policies.model.signals.commands.modify.CreatePolicyResponse;
+import org.eclipse.ditto.things.api.Permission;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeaturePropertyResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoEventAdapter;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for the compaction of feature property events of {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorEventCompactionTest extends PersistenceActorTestBase {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final JsonPointer TEMPERATURE_POINTER = JsonPointer.of("temperature");
+    private static final JsonPointer HUMIDITY_POINTER = JsonPointer.of("humidity");
+    private static final int MODIFICATIONS = 20;
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.event.compaction = [" +
+                "{ namespaces = [\"*\"], features = [\"" + FEATURE_ID + "\"], window = 200ms }]"));
+    }
+
+    @Test
+    public void compactedModificationsAreRecoveredWithLatestValuesAndRevision() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(5)), CreateThingResponse.class);
+
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                final JsonPointer pointer = i % 2 == 0 ? TEMPERATURE_POINTER : HUMIDITY_POINTER;
+                underTest.tell(ModifyFeatureProperty.of(thingId, FEATURE_ID, pointer, JsonValue.of(i),
+                        dittoHeadersV2), getRef());
+            }
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                expectMsgClass(dilated(Duration.ofSeconds(5)), ModifyFeaturePropertyResponse.class);
+            }
+
+            // restart actor to recover thing state from the compacted journal
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+            Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+                underTestAfterRestart.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final Thing recoveredThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(recoveredThing.getRevision()).contains(ThingRevision.newInstance(1L + MODIFICATIONS));
+                assertThat(recoveredThing.getFeatures()
+                        .flatMap(features -> features.getFeature(FEATURE_ID))
+                        .flatMap(feature -> feature.getProperty(TEMPERATURE_POINTER)))
+                        .contains(JsonValue.of(MODIFICATIONS - 2));
+                assertThat(recoveredThing.getFeatures()
+                        .flatMap(features -> features.getFeature(FEATURE_ID))
+                        .flatMap(feature -> feature.getProperty(HUMIDITY_POINTER)))
+                        .contains(JsonValue.of(MODIFICATIONS - 1));
+            });
+        }};
+    }
+
+    @Test
+    public void historicalRetrievesSkipCompactedEvents() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final Instant createdAt = Instant.now().minusSeconds(60L);
+            final List<EventEnvelope> journal = journalEntriesWithCompactedEvent(thing, createdAt).stream()
+                    .map(entry -> new EventEnvelope(Offset.sequence(entry.revision()), "thing:" + thingId,
+                            entry.revision(), entry.payload(), entry.timestamp().toEpochMilli()))
+                    .toList();
+            final MongoReadJournal mongoReadJournal = Mockito.mock(MongoReadJournal.class);
+            when(mongoReadJournal.currentEventsByPersistenceId(anyString(), anyLong(), anyLong()))
+                    .thenAnswer(invocation -> Source.from(journal.stream()
+                            .filter(envelope -> envelope.sequenceNr() >= invocation.<Long>getArgument(1) &&
+                                    envelope.sequenceNr() <= invocation.<Long>getArgument(2))
+                            .toList()));
+            final ActorRef underTest = createPersistenceActorFor(thingId, mongoReadJournal);
+
+            // bring the actor to the same revision as the stubbed journal
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(5)), CreateThingResponse.class);
+            for (int i = 0; i < 3; i++) {
+                underTest.tell(ModifyFeatureProperty.of(thingId, FEATURE_ID, TEMPERATURE_POINTER, JsonValue.of(i),
+                        dittoHeadersV2), getRef());
+                expectMsgClass(dilated(Duration.ofSeconds(5)), ModifyFeaturePropertyResponse.class);
+            }
+
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2.toBuilder()
+                    .putHeader(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), "3")
+                    .build()), getRef());
+            final Thing thingAtRevision = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(thingAtRevision.getRevision()).contains(ThingRevision.newInstance(3L));
+            assertThat(getProperty(thingAtRevision, TEMPERATURE_POINTER)).contains(JsonValue.of(22));
+
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2.toBuilder()
+                    .putHeader(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey(),
+                            createdAt.plusMillis(2500L).toString())
+                    .build()), getRef());
+            final Thing thingAtTimestamp = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(thingAtTimestamp.getRevision()).contains(ThingRevision.newInstance(3L));
+            assertThat(getProperty(thingAtTimestamp, TEMPERATURE_POINTER)).contains(JsonValue.of(22));
+            assertThat(getProperty(thingAtTimestamp, HUMIDITY_POINTER)).isEmpty();
+        }};
+    }
+
+    @Test
+    public void persistedEventsStreamSkipsCompactedEvents() throws Exception {
+        final Policy inlinePolicy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(SubjectIssuer.newInstance("test"), AUTH_SUBJECT)
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                        Permissions.newInstance(Permission.READ, Permission.WRITE))
+                .setGrantedPermissions(PoliciesResourceType.policyResource(JsonPointer.empty()),
+                        Permissions.newInstance(Permission.READ, Permission.WRITE))
+                .build();
+        when(policyEnforcerProvider.getPolicyEnforcer(POLICY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(PolicyEnforcer.of(inlinePolicy))));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final List<BsonDocument> journal =
+                    journalEntriesWithCompactedEvent(thing, Instant.now().minusSeconds(60L)).stream()
+                            .map(JournalEntry::payload)
+                            .toList();
+            final MongoReadJournal mongoReadJournal = Mockito.mock(MongoReadJournal.class);
+            when(mongoReadJournal.currentEventPayloadsByPersistenceId(eq("thing:" + thingId), anyLong(), anyLong(),
+                    any())).thenReturn(Source.from(journal));
+            final ActorRef underTest = createSupervisorActorFor(thingId, mongoReadJournal);
+
+            underTest.tell(CreateThing.of(thing, inlinePolicy.toJson(FieldType.all()), dittoHeadersV2), getRef());
+            policiesShardRegionTestProbe.expectMsgClass(CreatePolicy.class);
+            policiesShardRegionTestProbe.reply(CreatePolicyResponse.of(POLICY_ID, inlinePolicy, DittoHeaders.empty()));
+            expectMsgClass(dilated(Duration.ofSeconds(5)), CreateThingResponse.class);
+
+            underTest.tell(SubscribeForPersistedEvents.of(thingId, JsonPointer.empty(), 1L, 4L, dittoHeadersV2),
+                    getRef());
+            @SuppressWarnings("unchecked") final SourceRef<Event<?>> sourceRef =
+                    expectMsgClass(dilated(Duration.ofSeconds(5)), SourceRef.class);
+            final List<Event<?>> persistedEvents = sourceRef.getSource()
+                    .runWith(Sink.seq(), actorSystem)
+                    .toCompletableFuture()
+                    .get(5L, TimeUnit.SECONDS);
+
+            assertThat(persistedEvents).noneMatch(EmptyEvent.class::isInstance);
+            assertThat(persistedEvents).map(Event::getType)
+                    .containsExactly(ThingCreated.TYPE, FeaturePropertyModified.TYPE, FeaturePropertyModified.TYPE);
+        }};
+    }
+
+    /**
+     * Creates the journal entries of a thing which was created and of which the feature property "temperature" was
+     * modified twice and then the property "humidity" once, the first temperature modification being compacted.
+     * The entries are one second apart, starting at {@code createdAt}.
+     */
+    private List<JournalEntry> journalEntriesWithCompactedEvent(final Thing thing, final Instant createdAt) {
+        final ThingMongoEventAdapter eventAdapter = new ThingMongoEventAdapter((ExtendedActorSystem) actorSystem);
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+        final List<Event<?>> events = List.of(
+                ThingCreated.of(thing, 1L, createdAt, DittoHeaders.empty(), null),
+                new EmptyEvent(EmptyEvent.EFFECT_COMPACTED, 2L, createdAt.plusSeconds(1L), DittoHeaders.empty()),
+                FeaturePropertyModified.of(thingId, FEATURE_ID, TEMPERATURE_POINTER, JsonValue.of(22), 3L,
+                        createdAt.plusSeconds(2L), DittoHeaders.empty(), null),
+                FeaturePropertyModified.of(thingId, FEATURE_ID, HUMIDITY_POINTER, JsonValue.of(55), 4L,
+                        createdAt.plusSeconds(3L), DittoHeaders.empty(), null)
+        );
+        return IntStream.range(0, events.size())
+                .mapToObj(i -> new JournalEntry(i + 1L, events.get(i).getTimestamp().orElseThrow(),
+                        (BsonDocument) ((Tagged) eventAdapter.toJournal(events.get(i))).payload()))
+                .toList();
+    }
+
+    private static Optional<JsonValue> getProperty(final Thing thing, final JsonPointer propertyPointer) {
+        return thing.getFeatures()
+                .flatMap(features -> features.getFeature(FEATURE_ID))
+                .flatMap(feature -> feature.getProperty(propertyPointer));
+    }
+
+    private record JournalEntry(long revision, Instant timestamp, BsonDocument payload) {}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.exceptions.TooManyRequestsException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.AbstractPriorityLaneMailbox;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.MailboxLane;
+import org.eclipse.ditto.internal.utils.persistentactors.mailbox.PriorityLaneMessageQueue;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingTooManyModifyingRequestsException;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Unit test for {@link ThingPersistenceActorMailbox}.
+ */
+public final class ThingPersistenceActorMailboxTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "mailbox");
+
+    private ActorSystem actorSystem;
+    private TestProbe sender;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("ThingPersistenceActorMailboxTest", ConfigFactory.empty());
+        sender = TestProbe.apply(actorSystem);
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void rejectsCommandsOfFullLaneOnly() {
+        final PriorityLaneMessageQueue underTest = createQueue(Map.of("mailbox-capacity", 1,
+                "mailbox-retrieve-capacity", 1));
+
+        underTest.enqueue(sender.ref(), envelope(DeleteThing.of(THING_ID, headers("modify-1"))));
+        underTest.enqueue(sender.ref(), envelope(DeleteThing.of(THING_ID, headers("modify-2"))));
+        underTest.enqueue(sender.ref(), envelope(RetrieveThing.of(THING_ID, headers("retrieve-1"))));
+
+        final ThingErrorResponse modifyRejection = sender.expectMsgClass(ThingErrorResponse.class);
+        assertThat(modifyRejection.getDittoRuntimeException())
+                .isInstanceOf(ThingTooManyModifyingRequestsException.class);
+        assertThat(modifyRejection.getDittoHeaders().getCorrelationId()).contains("modify-2");
+        assertThat(underTest.getLaneSize(MailboxLane.MODIFY)).isEqualTo(1);
+        assertThat(underTest.getLaneSize(MailboxLane.RETRIEVE)).isEqualTo(1);
+
+        underTest.enqueue(sender.ref(), envelope(RetrieveThing.of(THING_ID, headers("retrieve-2"))));
+        assertThat(sender.expectMsgClass(ThingErrorResponse.class).getDittoRuntimeException())
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(underTest.numberOfMessages()).isEqualTo(2);
+    }
+
+    @Test
+    public void dequeuesInternalMessagesFirstAndKeepsOrderOfOtherMessages() {
+        final PriorityLaneMessageQueue underTest = createQueue(Map.of("mailbox-capacity", 10));
+        final TestProbe otherSender = TestProbe.apply(actorSystem);
+        final Envelope modify = envelope(DeleteThing.of(THING_ID, headers("modify")));
+        final Envelope retrieve = envelope(RetrieveThing.of(THING_ID, headers("retrieve")));
+        final Envelope other = envelope("other");
+        final Envelope sudo = Envelope.apply(SudoRetrieveThing.of(THING_ID, headers("sudo")), otherSender.ref(),
+                actorSystem);
+
+        underTest.enqueue(sender.ref(), modify);
+        underTest.enqueue(sender.ref(), retrieve);
+        underTest.enqueue(sender.ref(), other);
+        underTest.enqueue(sender.ref(), sudo);
+
+        assertThat(underTest.dequeue()).isEqualTo(sudo);
+        assertThat(underTest.dequeue()).isEqualTo(modify);
+        assertThat(underTest.dequeue()).isEqualTo(retrieve);
+        assertThat(underTest.dequeue()).isEqualTo(other);
+        assertThat(underTest.hasMessages()).isFalse();
+    }
+
+    @Test
+    public void internalMessagesDoNotOvertakeMessagesOfTheSameSender() {
+        final PriorityLaneMessageQueue underTest = createQueue(Map.of("mailbox-capacity", 10));
+        final Envelope modify = envelope(DeleteThing.of(THING_ID, headers("modify")));
+        final Envelope sudo = envelope(SudoRetrieveThing.of(THING_ID, headers("sudo")));
+
+        underTest.enqueue(sender.ref(), modify);
+        underTest.enqueue(sender.ref(), sudo);
+
+        assertThat(underTest.dequeue()).isEqualTo(modify);
+        assertThat(underTest.dequeue()).isEqualTo(sudo);
+        assertThat(underTest.hasMessages()).isFalse();
+
+        // once the earlier messages of the sender are dequeued, its internal messages are prioritized again
+        final Envelope nextModify = envelope(DeleteThing.of(THING_ID, headers("next-modify")));
+        final Envelope nextSudo = Envelope.apply(SudoRetrieveThing.of(THING_ID, headers("next-sudo")),
+                TestProbe.apply(actorSystem).ref(), actorSystem);
+        final Envelope sudoOfIdleSender = envelope(SudoRetrieveThing.of(THING_ID, headers("idle-sudo")));
+        underTest.enqueue(sender.ref(), nextSudo);
+        underTest.enqueue(sender.ref(), sudoOfIdleSender);
+        underTest.enqueue(sender.ref(), nextModify);
+
+        assertThat(underTest.dequeue()).isEqualTo(nextSudo);
+        assertThat(underTest.dequeue()).isEqualTo(sudoOfIdleSender);
+        assertThat(underTest.dequeue()).isEqualTo(nextModify);
+    }
+
+    @Test
+    public void enqueuesEveryRetrieveOfTheSameSender() {
+        final PriorityLaneMessageQueue underTest = createQueue(Map.of("mailbox-capacity", 10));
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, headers("retrieve"));
+        final Envelope first = envelope(retrieveThing);
+        final Envelope second = envelope(retrieveThing);
+
+        underTest.enqueue(sender.ref(), first);
+        underTest.enqueue(sender.ref(), second);
+
+        assertThat(underTest.getLaneSize(MailboxLane.RETRIEVE)).isEqualTo(2);
+        assertThat(underTest.dequeue()).isEqualTo(first);
+        assertThat(underTest.dequeue()).isEqualTo(second);
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void isOnlyUsedIfEnabled() {
+        final Props props = Props.empty();
+        final String mailboxId = "thing-persistence-actor-mailbox";
+        final Config mailboxConfig = ConfigFactory.parseMap(Map.of(mailboxId + ".mailbox-capacity", 10));
+
+        assertThat(AbstractPriorityLaneMailbox.withConfiguredMailbox(props, ConfigFactory.empty(), mailboxId))
+                .isEqualTo(props);
+        assertThat(AbstractPriorityLaneMailbox.withConfiguredMailbox(props, mailboxConfig, mailboxId))
+                .isEqualTo(props);
+        assertThat(AbstractPriorityLaneMailbox.withConfiguredMailbox(props,
+                mailboxConfig.withFallback(ConfigFactory.parseMap(Map.of(mailboxId + ".enabled", false))), mailboxId))
+                .isEqualTo(props);
+        assertThat(AbstractPriorityLaneMailbox.withConfiguredMailbox(props,
+                mailboxConfig.withFallback(ConfigFactory.parseMap(Map.of(mailboxId + ".enabled", true))), mailboxId)
+                .mailbox())
+                .isEqualTo(mailboxId);
+    }
+
+    @Test
+    public void neverRejectsUnstashedMessages() {
+        final PriorityLaneMessageQueue underTest = createQueue(Map.of("mailbox-capacity", 1));
+        final Envelope first = envelope(DeleteThing.of(THING_ID, headers("modify-1")));
+        final Envelope second = envelope(DeleteThing.of(THING_ID, headers("modify-2")));
+
+        underTest.enqueue(sender.ref(), second);
+        underTest.enqueueFirst(sender.ref(), first);
+
+        assertThat(underTest.dequeue()).isEqualTo(first);
+        assertThat(underTest.dequeue()).isEqualTo(second);
+        sender.expectNoMessage();
+    }
+
+    private PriorityLaneMessageQueue createQueue(final Map<String, Object> mailboxConfig) {
+        final Config config = ConfigFactory.parseMap(mailboxConfig);
+        final ThingPersistenceActorMailbox mailbox = new ThingPersistenceActorMailbox(actorSystem.settings(), config);
+        return (PriorityLaneMessageQueue) mailbox.create(Option.empty(), Option.apply(actorSystem));
+    }
+
+    private Envelope envelope(final Object message) {
+        return Envelope.apply(message, sender.ref(), actorSystem);
+    }
+
+    private static DittoHeaders headers(final String correlationId) {
+        return DittoHeaders.newBuilder().correlationId(correlationId).build();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for the pipelined persist mode of {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorPipelinedPersistTest extends PersistenceActorTestBase {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("counter");
+    private static final int MODIFICATIONS = 20;
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.pipelined-persist { enabled = true, max-batch-size = 5 }"));
+    }
+
+    @Test
+    public void consecutiveModificationsAreAnsweredInOrderAfterPersisting() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(5)), CreateThingResponse.class);
+
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, JsonValue.of(i), dittoHeadersV2),
+                        getRef());
+            }
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                expectMsgClass(dilated(Duration.ofSeconds(5)), ModifyAttributeResponse.class);
+            }
+
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+            final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(1L + MODIFICATIONS));
+            assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE_POINTER)))
+                    .contains(JsonValue.of(MODIFICATIONS - 1));
+        }};
+    }
+
+    @Test
+    public void queriesWaitForPipelinedModifications() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(5)), CreateThingResponse.class);
+
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, JsonValue.of(i), dittoHeadersV2),
+                        getRef());
+            }
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+            // the query is only answered once all modifications before it are persisted
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                expectMsgClass(dilated(Duration.ofSeconds(5)), ModifyAttributeResponse.class);
+            }
+            final Thing retrievedThing =
+                    expectMsgClass(dilated(Duration.ofSeconds(5)), RetrieveThingResponse.class).getThing();
+            assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(1L + MODIFICATIONS));
+        }};
+    }
+
+    @Test
+    public void deletionWaitsForPipelinedModifications() {
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(5)), CreateThingResponse.class);
+
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, JsonValue.of(i), dittoHeadersV2),
+                        getRef());
+            }
+            underTest.tell(DeleteThing.of(thingId, dittoHeadersV2), getRef());
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                expectMsgClass(dilated(Duration.ofSeconds(5)), ModifyAttributeResponse.class);
+            }
+            expectMsgClass(dilated(Duration.ofSeconds(5)), DeleteThingResponse.class);
+            expectMsgClass(ThingNotAccessibleException.class);
+        }};
+    }
+
+}
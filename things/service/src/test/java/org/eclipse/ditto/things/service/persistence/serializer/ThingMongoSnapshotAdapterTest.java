@@ -29,6 +29,7 @@ import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.persistence.PersistenceLifecycle;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.persistence.mongo.BinarySnapshotPayload;
 import org.eclipse.ditto.things.api.ThingSnapshotTaken;
 import org.eclipse.ditto.things.model.TestConstants;
 import org.eclipse.ditto.things.model.Thing;
@@ -77,6 +78,24 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished(thingV2);
     }
 
+    @Test
+    public void compressedCborSnapshotIsReadableByPlainBsonAdapter() {
+        final var thingV2 = TestConstants.Thing.THING_V2;
+        final var binaryAdapter = new ThingMongoSnapshotAdapter(pubSubProbe.ref(), ConfigFactory.parseMap(Map.of(
+                ThingMongoSnapshotAdapter.THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED, false,
+                ThingMongoSnapshotAdapter.SNAPSHOT_PAYLOAD_FORMAT, "cbor-deflate")));
+
+        final Object rawSnapshotEntity = binaryAdapter.toSnapshotStore(thingV2);
+
+        softly.assertThat(rawSnapshotEntity)
+                .as("snapshot entity is BSON document with binary payload")
+                .isInstanceOfSatisfying(BsonDocument.class,
+                        document -> softly.assertThat(BinarySnapshotPayload.isBinary(document)).isTrue());
+        softly.assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity)))
+                .as("restored Thing")
+                .isEqualTo(thingV2);
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
 
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PartialAccessPathsState}.
+ */
+public final class PartialAccessPathsStateTest {
+
+    private static final PolicyId KNOWN_POLICY_ID = PolicyId.of("org.eclipse.ditto.test:policy");
+
+    private static final String SUBJECT_PARTIAL_ATTRIBUTES = "test:partial-attributes";
+    private static final String SUBJECT_PARTIAL_FEATURES = "test:partial-features";
+
+    private static final JsonObject THING_JSON = JsonObject.of("{" +
+            "\"thingId\":\"org.eclipse.ditto.test:thing\"," +
+            "\"attributes\":{\"public\":\"a\",\"private\":\"b\",\"shared\":{\"x\":1}}," +
+            "\"features\":{" +
+            "\"temperature\":{\"properties\":{\"value\":25.5,\"unit\":\"celsius\"}}," +
+            "\"humidity\":{\"properties\":{\"value\":60.0,\"unit\":\"percent\"}}" +
+            "}}");
+
+    @Test
+    public void calculateIsEquivalentToFullCalculation() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+
+        final PartialAccessPathsState state = calculate(enforcer, THING_JSON, 1L);
+
+        assertEquivalentToFullCalculation(state, enforcer, THING_JSON);
+    }
+
+    @Test
+    public void addedAttributeIsAppliedIncrementally() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+        final PartialAccessPathsState initial = calculate(enforcer, THING_JSON, 1L);
+
+        final JsonObject changedJson = THING_JSON.setValue(JsonPointer.of("/attributes/shared/y"), JsonValue.of(2));
+        final PartialAccessPathsState updated =
+                update(initial, enforcer, changedJson, 2L, JsonPointer.of("/attributes/shared/y"));
+
+        assertEquivalentToFullCalculation(updated, enforcer, changedJson);
+        assertThat(updated.getPartialAccessPaths().get(SUBJECT_PARTIAL_ATTRIBUTES))
+                .contains(JsonPointer.of("/attributes/shared"));
+    }
+
+    @Test
+    public void removedPropertiesLeavingEmptyObjectAreAppliedIncrementally() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+        final PartialAccessPathsState initial = calculate(enforcer, THING_JSON, 1L);
+
+        final JsonObject withoutValue = THING_JSON.remove(JsonPointer.of("/features/temperature/properties/value"));
+        final PartialAccessPathsState first = update(initial, enforcer, withoutValue, 2L,
+                JsonPointer.of("/features/temperature/properties/value"));
+        assertEquivalentToFullCalculation(first, enforcer, withoutValue);
+
+        final JsonObject withEmptyProperties =
+                withoutValue.remove(JsonPointer.of("/features/temperature/properties/unit"));
+        final PartialAccessPathsState second = update(first, enforcer, withEmptyProperties, 3L,
+                JsonPointer.of("/features/temperature/properties/unit"));
+        assertEquivalentToFullCalculation(second, enforcer, withEmptyProperties);
+    }
+
+    @Test
+    public void replacedScalarWithObjectIsAppliedIncrementally() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+        final PartialAccessPathsState initial = calculate(enforcer, THING_JSON, 1L);
+
+        final JsonObject changedJson = THING_JSON.setValue(JsonPointer.of("/attributes/public"),
+                JsonObject.of("{\"nested\":{\"a\":1,\"b\":2}}"));
+        final PartialAccessPathsState updated =
+                update(initial, enforcer, changedJson, 2L, JsonPointer.of("/attributes/public"));
+
+        assertEquivalentToFullCalculation(updated, enforcer, changedJson);
+    }
+
+    @Test
+    public void structuralChangeOnlyReevaluatesChangedSubtree() {
+        final Enforcer enforcer = spy(PolicyEnforcers.defaultEvaluator(createPolicy("/features/temperature")));
+        final PolicyEnforcer policyEnforcer = PolicyEnforcer.of(createPolicy("/features/temperature"), enforcer);
+        final PartialAccessPathsState initial = calculate(policyEnforcer, THING_JSON, 1L);
+        clearInvocations(enforcer);
+
+        final JsonObject changedJson =
+                THING_JSON.setValue(JsonPointer.of("/features/humidity/properties/min"), JsonValue.of(10));
+        final PartialAccessPathsState updated = update(initial, policyEnforcer, changedJson, 2L,
+                JsonPointer.of("/features/humidity/properties/min"));
+
+        verify(enforcer).getAccessiblePathsForSubjects(any(), eq(JsonObject.of(
+                        "{\"features\":{\"humidity\":{\"properties\":{\"min\":10}}}}")), any(), any());
+        assertEquivalentToFullCalculation(updated, policyEnforcer, changedJson);
+    }
+
+    @Test
+    public void nonConsecutiveRevisionFallsBackToFullCalculation() {
+        final Enforcer enforcer = spy(PolicyEnforcers.defaultEvaluator(createPolicy("/features/temperature")));
+        final PolicyEnforcer policyEnforcer = PolicyEnforcer.of(createPolicy("/features/temperature"), enforcer);
+        final PartialAccessPathsState initial = calculate(policyEnforcer, THING_JSON, 1L);
+        clearInvocations(enforcer);
+
+        final JsonObject changedJson = THING_JSON.setValue(JsonPointer.of("/attributes/new"), JsonValue.of(true));
+        final PartialAccessPathsState updated =
+                update(initial, policyEnforcer, changedJson, 5L, JsonPointer.of("/attributes/new"));
+
+        verify(enforcer).getAccessiblePathsForSubjects(any(), eq(changedJson), any(), any());
+        assertEquivalentToFullCalculation(updated, policyEnforcer, changedJson);
+    }
+
+    @Test
+    public void policyChangeOnlyReevaluatesSubjectsWithChangedGrants() {
+        final PolicyEnforcer oldEnforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+        final PartialAccessPathsState initial = calculate(oldEnforcer, THING_JSON, 1L);
+
+        final Policy newPolicy = createPolicy("/features/humidity");
+        final Enforcer enforcer = spy(PolicyEnforcers.defaultEvaluator(newPolicy));
+        final PolicyEnforcer newEnforcer = PolicyEnforcer.of(newPolicy, enforcer);
+        final PartialAccessPathsState updated = update(initial, newEnforcer, THING_JSON, 2L, null);
+
+        verify(enforcer).getAccessiblePathsForSubjects(any(), eq(THING_JSON),
+                eq(Set.of(AuthorizationSubject.newInstance(SUBJECT_PARTIAL_FEATURES))), any());
+        assertEquivalentToFullCalculation(updated, newEnforcer, THING_JSON);
+    }
+
+    @Test
+    public void policyAndStructureChangeAreAppliedTogether() {
+        final PolicyEnforcer oldEnforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+        final PartialAccessPathsState initial = calculate(oldEnforcer, THING_JSON, 1L);
+
+        final PolicyEnforcer newEnforcer = PolicyEnforcer.of(createPolicy("/features/humidity"));
+        final JsonObject changedJson = THING_JSON.remove(JsonPointer.of("/attributes/private"));
+        final PartialAccessPathsState updated =
+                update(initial, newEnforcer, changedJson, 2L, JsonPointer.of("/attributes/private"));
+
+        assertEquivalentToFullCalculation(updated, newEnforcer, changedJson);
+    }
+
+    @Test
+    public void unchangedStructureAndEnforcerReusesState() {
+        final PolicyEnforcer enforcer = PolicyEnforcer.of(createPolicy("/features/temperature"));
+        final PartialAccessPathsState initial = calculate(enforcer, THING_JSON, 1L);
+
+        final JsonObject changedJson = THING_JSON.setValue(JsonPointer.of("/attributes/public"), JsonValue.of("c"));
+        final PartialAccessPathsState updated =
+                update(initial, enforcer, changedJson, 2L, JsonPointer.of("/attributes/public"));
+
+        assertThat(updated.getPartialAccessPaths()).isSameAs(initial.getPartialAccessPaths());
+        assertThat(updated.isCalculatedFor(enforcer, PartialAccessPathCalculator.structureHash(changedJson)))
+                .isTrue();
+    }
+
+    private static PartialAccessPathsState calculate(final PolicyEnforcer enforcer, final JsonObject thingJson,
+            final long revision) {
+        return PartialAccessPathsState.calculate(enforcer, thingJson,
+                PartialAccessPathCalculator.structureHash(thingJson), revision);
+    }
+
+    private static PartialAccessPathsState update(final PartialAccessPathsState state,
+            final PolicyEnforcer enforcer, final JsonObject thingJson, final long revision,
+            final JsonPointer changedPointer) {
+        return state.update(enforcer, thingJson, PartialAccessPathCalculator.structureHash(thingJson), revision,
+                changedPointer);
+    }
+
+    private static void assertEquivalentToFullCalculation(final PartialAccessPathsState state,
+            final PolicyEnforcer enforcer, final JsonObject thingJson) {
+        final Map<String, List<JsonPointer>> expected = PartialAccessPathCalculator.calculatePartialAccessPaths(
+                ThingsModelFactory.newThing(thingJson), enforcer, thingJson);
+        assertThat(toSets(state.getPartialAccessPaths())).isEqualTo(toSets(expected));
+    }
+
+    private static Map<String, Set<JsonPointer>> toSets(final Map<String, List<JsonPointer>> paths) {
+        return paths.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new HashSet<>(entry.getValue())));
+    }
+
+    private static Policy createPolicy(final String featuresSubjectGrant) {
+        return Policy.newBuilder(KNOWN_POLICY_ID)
+                .setSubjectFor("partial-attributes", Subject.newInstance(
+                        SubjectId.newInstance(SUBJECT_PARTIAL_ATTRIBUTES), SubjectType.GENERATED))
+                .setGrantedPermissionsFor("partial-attributes",
+                        ResourceKey.newInstance("thing", "/attributes/public"), "READ")
+                .setGrantedPermissionsFor("partial-attributes",
+                        ResourceKey.newInstance("thing", "/attributes/shared"), "READ")
+                .setSubjectFor("partial-features", Subject.newInstance(
+                        SubjectId.newInstance(SUBJECT_PARTIAL_FEATURES), SubjectType.GENERATED))
+                .setGrantedPermissionsFor("partial-features",
+                        ResourceKey.newInstance("thing", featuresSubjectGrant), "READ")
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for pinning the index of search queries based on the observed performance of the
+ * query plans MongoDB chose for queries of the same shape.
+ */
+@Immutable
+public interface AdaptiveIndexHintsConfig {
+
+    /**
+     * Returns whether adaptive index hints are enabled.
+     *
+     * @return true if adaptive index hints are enabled, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the fraction of queries of not yet pinned shapes which are additionally explained in order to record
+     * the chosen index, the execution time and the number of examined index keys.
+     *
+     * @return the sample rate between 0 (never) and 1 (always).
+     */
+    double getSampleRate();
+
+    /**
+     * Returns the number of explained queries of a shape after which the best observed index is pinned.
+     *
+     * @return the minimum number of samples.
+     */
+    int getMinSamples();
+
+    /**
+     * Returns how long the index of a shape stays pinned before the observations of the shape are discarded and
+     * gathered anew.
+     *
+     * @return the re-evaluation interval.
+     */
+    Duration getReEvaluationInterval();
+
+    /**
+     * Returns the maximum number of query shapes to observe.
+     *
+     * @return the maximum number of shapes.
+     */
+    int getMaximumShapes();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * AdaptiveIndexHintsConfig.
+     */
+    enum AdaptiveIndexHintsConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether adaptive index hints are enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The fraction of queries of not yet pinned shapes to explain.
+         */
+        SAMPLE_RATE("sample-rate", 0.05),
+
+        /**
+         * The number of explained queries after which the index of a shape is pinned.
+         */
+        MIN_SAMPLES("min-samples", 20),
+
+        /**
+         * How long the index of a shape stays pinned.
+         */
+        RE_EVALUATION_INTERVAL("re-evaluation-interval", Duration.ofHours(1L)),
+
+        /**
+         * The maximum number of observed query shapes.
+         */
+        MAXIMUM_SHAPES("maximum-shapes", 1000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        AdaptiveIndexHintsConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
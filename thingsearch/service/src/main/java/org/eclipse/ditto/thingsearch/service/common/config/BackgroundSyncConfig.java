@@ -105,6 +105,13 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
      */
     Duration getRecovery();
 
+    /**
+     * How many ranges of thing IDs to synchronize in parallel. The throttle throughput is shared by all partitions.
+     *
+     * @return the number of partitions.
+     */
+    int getPartitions();
+
     /**
      * Enumeration of known config keys and default values for {@code PersistenceCleanupConfig}
      */
@@ -169,7 +176,12 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
         /**
          * Assume upstream healthy if no error happened for this long.
          */
-        RECOVERY("recovery", Duration.ofMinutes(4L));
+        RECOVERY("recovery", Duration.ofMinutes(4L)),
+
+        /**
+         * How many ranges of thing IDs to synchronize in parallel.
+         */
+        PARTITIONS("partitions", 1);
 
         private final String path;
         private final Object defaultValue;
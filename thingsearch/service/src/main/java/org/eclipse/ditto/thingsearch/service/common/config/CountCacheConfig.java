@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for caching the results of search count queries.
+ */
+@Immutable
+public interface CountCacheConfig {
+
+    /**
+     * Returns whether the results of count queries are cached.
+     *
+     * @return true if enabled, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the size and expiry settings of the count cache.
+     * The expiry bounds the staleness of cached counts in case an invalidation is missed.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * Returns how many search index documents are sampled to estimate counts requested in approximate mode.
+     *
+     * @return the sample size.
+     */
+    int getApproximateSampleSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * CountCacheConfig.
+     */
+    enum CountCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the results of count queries are cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of cached counts.
+         */
+        MAXIMUM_SIZE("maximum-size", 10_000L),
+
+        /**
+         * Duration after which a cached count expires.
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofSeconds(10L)),
+
+        /**
+         * Number of search index documents sampled for approximate counts.
+         */
+        APPROXIMATE_SAMPLE_SIZE("approximate-sample-size", 1000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        CountCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
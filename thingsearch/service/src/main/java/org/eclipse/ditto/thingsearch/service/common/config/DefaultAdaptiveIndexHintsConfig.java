@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link AdaptiveIndexHintsConfig}.
+ */
+@Immutable
+public final class DefaultAdaptiveIndexHintsConfig implements AdaptiveIndexHintsConfig {
+
+    /**
+     * Path where the adaptive index hints config values are expected.
+     */
+    static final String CONFIG_PATH = "adaptive-index-hints";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final int minSamples;
+    private final Duration reEvaluationInterval;
+    private final int maximumShapes;
+
+    private DefaultAdaptiveIndexHintsConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(AdaptiveIndexHintsConfigValue.ENABLED.getConfigPath());
+        final String sampleRatePath = AdaptiveIndexHintsConfigValue.SAMPLE_RATE.getConfigPath();
+        sampleRate = configWithFallback.getDouble(sampleRatePath);
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new DittoConfigError("The value for <" + configWithFallback.getConfigPath() + "." +
+                    sampleRatePath + "> must be between 0 and 1 but it was <" + sampleRate + ">!");
+        }
+        minSamples = configWithFallback.getPositiveIntOrThrow(AdaptiveIndexHintsConfigValue.MIN_SAMPLES);
+        reEvaluationInterval = configWithFallback.getNonNegativeAndNonZeroDurationOrThrow(
+                AdaptiveIndexHintsConfigValue.RE_EVALUATION_INTERVAL);
+        maximumShapes = configWithFallback.getPositiveIntOrThrow(AdaptiveIndexHintsConfigValue.MAXIMUM_SHAPES);
+    }
+
+    /**
+     * Returns an instance of DefaultAdaptiveIndexHintsConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the adaptive index hints config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultAdaptiveIndexHintsConfig of(final Config config) {
+        return new DefaultAdaptiveIndexHintsConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, AdaptiveIndexHintsConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    @Override
+    public Duration getReEvaluationInterval() {
+        return reEvaluationInterval;
+    }
+
+    @Override
+    public int getMaximumShapes() {
+        return maximumShapes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultAdaptiveIndexHintsConfig that = (DefaultAdaptiveIndexHintsConfig) o;
+        return enabled == that.enabled &&
+                Double.compare(sampleRate, that.sampleRate) == 0 &&
+                minSamples == that.minSamples &&
+                maximumShapes == that.maximumShapes &&
+                Objects.equals(reEvaluationInterval, that.reEvaluationInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, sampleRate, minSamples, reEvaluationInterval, maximumShapes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", sampleRate=" + sampleRate +
+                ", minSamples=" + minSamples +
+                ", reEvaluationInterval=" + reEvaluationInterval +
+                ", maximumShapes=" + maximumShapes +
+                "]";
+    }
+
+}
@@ -18,6 +18,7 @@ import java.util.Objects;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
 
 import com.typesafe.config.Config;
 
@@ -42,6 +43,7 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     private final Duration maxBackoff;
     private final int maxRestarts;
     private final Duration recovery;
+    private final int partitions;
 
     private DefaultBackgroundSyncConfig(final Config config) {
         this.config = config;
@@ -57,6 +59,11 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         this.maxBackoff = config.getDuration(ConfigValue.MAX_BACKOFF.getConfigPath());
         this.maxRestarts = config.getInt(ConfigValue.MAX_RESTARTS.getConfigPath());
         this.recovery = config.getDuration(ConfigValue.RECOVERY.getConfigPath());
+        partitions = config.getInt(ConfigValue.PARTITIONS.getConfigPath());
+        if (partitions <= 0) {
+            throw new DittoConfigError("The value for <" + ConfigValue.PARTITIONS.getConfigPath() +
+                    "> must be positive but it was <" + partitions + ">!");
+        }
     }
 
     /**
@@ -159,6 +166,11 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
         return recovery;
     }
 
+    @Override
+    public int getPartitions() {
+        return partitions;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultBackgroundSyncConfig) {
@@ -175,6 +187,7 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
                     Objects.equals(maxBackoff, that.maxBackoff) &&
                     maxRestarts == that.maxRestarts &&
                     Objects.equals(recovery, that.recovery) &&
+                    partitions == that.partitions &&
                     Objects.equals(config, that.config);
         } else {
             return false;
@@ -184,7 +197,7 @@ public final class DefaultBackgroundSyncConfig implements BackgroundSyncConfig {
     @Override
     public int hashCode() {
         return Objects.hash(enabled, quietPeriod, idleTimeout, keptEvents, toleranceWindow, policyAskTimeout,
-                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, config);
+                throttleThroughput, throttlePeriod, minBackoff, maxBackoff, maxRestarts, recovery, partitions, config);
     }
 
     @Override
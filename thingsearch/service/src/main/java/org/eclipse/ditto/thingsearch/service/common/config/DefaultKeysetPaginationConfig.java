@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link KeysetPaginationConfig}.
+ */
+@Immutable
+public final class DefaultKeysetPaginationConfig implements KeysetPaginationConfig {
+
+    /**
+     * Path where the keyset pagination config values are expected.
+     */
+    static final String CONFIG_PATH = "keyset-pagination";
+
+    private final boolean sortIndexHintsEnabled;
+    private final double explainSampleRate;
+
+    private DefaultKeysetPaginationConfig(final ConfigWithFallback configWithFallback) {
+        sortIndexHintsEnabled =
+                configWithFallback.getBoolean(KeysetPaginationConfigValue.SORT_INDEX_HINTS_ENABLED.getConfigPath());
+        final String explainSampleRatePath = KeysetPaginationConfigValue.EXPLAIN_SAMPLE_RATE.getConfigPath();
+        explainSampleRate = configWithFallback.getDouble(explainSampleRatePath);
+        if (explainSampleRate < 0.0 || explainSampleRate > 1.0) {
+            throw new DittoConfigError("The value for <" + configWithFallback.getConfigPath() + "." +
+                    explainSampleRatePath + "> must be between 0 and 1 but it was <" + explainSampleRate + ">!");
+        }
+    }
+
+    /**
+     * Returns an instance of DefaultKeysetPaginationConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the keyset pagination config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultKeysetPaginationConfig of(final Config config) {
+        return new DefaultKeysetPaginationConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, KeysetPaginationConfigValue.values()));
+    }
+
+    @Override
+    public boolean isSortIndexHintsEnabled() {
+        return sortIndexHintsEnabled;
+    }
+
+    @Override
+    public double getExplainSampleRate() {
+        return explainSampleRate;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultKeysetPaginationConfig that = (DefaultKeysetPaginationConfig) o;
+        return sortIndexHintsEnabled == that.sortIndexHintsEnabled &&
+                Double.compare(explainSampleRate, that.explainSampleRate) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortIndexHintsEnabled, explainSampleRate);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "sortIndexHintsEnabled=" + sortIndexHintsEnabled +
+                ", explainSampleRate=" + explainSampleRate +
+                "]";
+    }
+
+}
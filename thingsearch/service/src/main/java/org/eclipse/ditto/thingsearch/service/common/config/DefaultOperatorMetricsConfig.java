@@ -51,6 +51,9 @@ public final class DefaultOperatorMetricsConfig implements OperatorMetricsConfig
     private final Duration scrapeInterval;
     private final Map<String, CustomMetricConfig> customMetricConfigurations;
     private final Map<String, CustomAggregationMetricConfig> customAggregationMetricConfigs;
+    private final boolean incrementalAggregationEnabled;
+    private final Duration incrementalAggregationPropagationInterval;
+    private final Duration incrementalAggregationReconciliationInterval;
 
     private DefaultOperatorMetricsConfig(final ConfigWithFallback updaterScopedConfig) {
         enabled = updaterScopedConfig.getBoolean(OperatorMetricsConfigValue.ENABLED.getConfigPath());
@@ -59,6 +62,12 @@ public final class DefaultOperatorMetricsConfig implements OperatorMetricsConfig
                 OperatorMetricsConfigValue.CUSTOM_METRICS);
         customAggregationMetricConfigs = loadCustomAggregatedMetricConfigurations(updaterScopedConfig,
                 OperatorMetricsConfigValue.CUSTOM_AGGREGATION_METRIC);
+        incrementalAggregationEnabled = updaterScopedConfig.getBoolean(
+                OperatorMetricsConfigValue.INCREMENTAL_AGGREGATION_ENABLED.getConfigPath());
+        incrementalAggregationPropagationInterval = updaterScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                OperatorMetricsConfigValue.INCREMENTAL_AGGREGATION_PROPAGATION_INTERVAL);
+        incrementalAggregationReconciliationInterval = updaterScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                OperatorMetricsConfigValue.INCREMENTAL_AGGREGATION_RECONCILIATION_INTERVAL);
     }
 
     /**
@@ -99,12 +108,18 @@ public final class DefaultOperatorMetricsConfig implements OperatorMetricsConfig
         }
         final DefaultOperatorMetricsConfig that = (DefaultOperatorMetricsConfig) o;
         return enabled == that.enabled &&
-                Objects.equals(scrapeInterval, that.scrapeInterval);
+                incrementalAggregationEnabled == that.incrementalAggregationEnabled &&
+                Objects.equals(scrapeInterval, that.scrapeInterval) &&
+                Objects.equals(incrementalAggregationPropagationInterval,
+                        that.incrementalAggregationPropagationInterval) &&
+                Objects.equals(incrementalAggregationReconciliationInterval,
+                        that.incrementalAggregationReconciliationInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(enabled, scrapeInterval, customMetricConfigurations);
+        return Objects.hash(enabled, scrapeInterval, customMetricConfigurations, incrementalAggregationEnabled,
+                incrementalAggregationPropagationInterval, incrementalAggregationReconciliationInterval);
     }
 
     @Override
@@ -113,6 +128,9 @@ public final class DefaultOperatorMetricsConfig implements OperatorMetricsConfig
                 "enabled=" + enabled +
                 ", scrapeInterval=" + scrapeInterval +
                 ", customMetricConfigurations=" + customMetricConfigurations +
+                ", incrementalAggregationEnabled=" + incrementalAggregationEnabled +
+                ", incrementalAggregationPropagationInterval=" + incrementalAggregationPropagationInterval +
+                ", incrementalAggregationReconciliationInterval=" + incrementalAggregationReconciliationInterval +
                 "]";
     }
 
@@ -136,6 +154,21 @@ public final class DefaultOperatorMetricsConfig implements OperatorMetricsConfig
         return customAggregationMetricConfigs;
     }
 
+    @Override
+    public boolean isIncrementalAggregationEnabled() {
+        return incrementalAggregationEnabled;
+    }
+
+    @Override
+    public Duration getIncrementalAggregationPropagationInterval() {
+        return incrementalAggregationPropagationInterval;
+    }
+
+    @Override
+    public Duration getIncrementalAggregationReconciliationInterval() {
+        return incrementalAggregationReconciliationInterval;
+    }
+
     private static class CustomMetricConfigCollector
             implements
             Collector<Map.Entry<String, ConfigValue>, Map<String, CustomMetricConfig>, Map<String, CustomMetricConfig>> {
@@ -37,6 +37,7 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
 
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final UpdateLanesConfig updateLanesConfig;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -52,6 +53,7 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        updateLanesConfig = DefaultUpdateLanesConfig.of(persistenceStreamScopedConfig);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -78,6 +80,11 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public UpdateLanesConfig getUpdateLanesConfig() {
+        return updateLanesConfig;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -99,12 +106,13 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return Objects.equals(ackDelay, that.ackDelay) &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
+                Objects.equals(updateLanesConfig, that.updateLanesConfig) &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, updateLanesConfig, defaultStreamStageConfig);
     }
 
     @Override
@@ -112,6 +120,7 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return getClass().getSimpleName() + " [" +
                 "ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", updateLanesConfig=" + updateLanesConfig +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
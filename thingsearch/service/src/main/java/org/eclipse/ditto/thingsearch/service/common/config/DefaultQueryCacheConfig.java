@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link QueryCacheConfig}.
+ */
+@Immutable
+public final class DefaultQueryCacheConfig implements QueryCacheConfig {
+
+    /**
+     * Path where the query cache config values are expected.
+     */
+    static final String CONFIG_PATH = "query-cache";
+
+    private final boolean enabled;
+    private final CacheConfig cacheConfig;
+
+    private DefaultQueryCacheConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(QueryCacheConfigValue.ENABLED.getConfigPath());
+        cacheConfig = DefaultCacheConfig.of(configWithFallback.atKey(CONFIG_PATH), CONFIG_PATH);
+    }
+
+    /**
+     * Returns an instance of DefaultQueryCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query cache config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryCacheConfig of(final Config config) {
+        return new DefaultQueryCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public CacheConfig getCacheConfig() {
+        return cacheConfig;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryCacheConfig that = (DefaultQueryCacheConfig) o;
+        return enabled == that.enabled && Objects.equals(cacheConfig, that.cacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, cacheConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", cacheConfig=" + cacheConfig +
+                "]";
+    }
+
+}
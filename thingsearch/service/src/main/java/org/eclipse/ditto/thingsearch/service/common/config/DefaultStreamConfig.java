@@ -38,6 +38,7 @@ public final class DefaultStreamConfig implements StreamConfig {
     private static final String THING_CACHE_CONFIG_PATH = "thing-cache";
 
     private final int maxArraySize;
+    private final int incrementalDocumentMaxChangedPaths;
     private final Duration writeInterval;
     private final Duration thingDeletionTimeout;
     private final AskWithRetryConfig askWithRetryConfig;
@@ -48,6 +49,8 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     private DefaultStreamConfig(final ConfigWithFallback streamScopedConfig) {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
+        incrementalDocumentMaxChangedPaths =
+                streamScopedConfig.getNonNegativeIntOrThrow(StreamConfigValue.INCREMENTAL_DOCUMENT_MAX_CHANGED_PATHS);
         writeInterval = streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.WRITE_INTERVAL);
         thingDeletionTimeout =
                 streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.THING_DELETION_TIMEOUT);
@@ -74,6 +77,11 @@ public final class DefaultStreamConfig implements StreamConfig {
         return maxArraySize;
     }
 
+    @Override
+    public int getIncrementalDocumentMaxChangedPaths() {
+        return incrementalDocumentMaxChangedPaths;
+    }
+
     @Override
     public Duration getWriteInterval() {
         return writeInterval;
@@ -119,6 +127,7 @@ public final class DefaultStreamConfig implements StreamConfig {
         }
         final DefaultStreamConfig that = (DefaultStreamConfig) o;
         return maxArraySize == that.maxArraySize &&
+                incrementalDocumentMaxChangedPaths == that.incrementalDocumentMaxChangedPaths &&
                 writeInterval.equals(that.writeInterval) &&
                 thingDeletionTimeout.equals(that.thingDeletionTimeout) &&
                 askWithRetryConfig.equals(that.askWithRetryConfig) &&
@@ -130,14 +139,15 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askWithRetryConfig, retrievalConfig,
-                persistenceStreamConfig, policyCacheConfig, thingCacheConfig, thingDeletionTimeout);
+        return Objects.hash(maxArraySize, incrementalDocumentMaxChangedPaths, writeInterval, askWithRetryConfig,
+                retrievalConfig, persistenceStreamConfig, policyCacheConfig, thingCacheConfig, thingDeletionTimeout);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxArraySize=" + maxArraySize +
+                ", incrementalDocumentMaxChangedPaths=" + incrementalDocumentMaxChangedPaths +
                 ", writeInterval=" + writeInterval +
                 ", thingDeletionTimeout=" + thingDeletionTimeout +
                 ", askWithRetryConfig=" + askWithRetryConfig +
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link UpdateLanesConfig}.
+ */
+@Immutable
+public final class DefaultUpdateLanesConfig implements UpdateLanesConfig {
+
+    /**
+     * Path where the update lanes config values are expected.
+     */
+    static final String CONFIG_PATH = "lanes";
+
+    private final boolean enabled;
+    private final int priorityBulkSize;
+    private final int telemetryBulkSize;
+    private final int maxConsecutivePriorityBulks;
+    private final int maxBufferedUpdates;
+
+    private DefaultUpdateLanesConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(UpdateLanesConfigValue.ENABLED.getConfigPath());
+        priorityBulkSize = getPositiveIntOrThrow(configWithFallback, UpdateLanesConfigValue.PRIORITY_BULK_SIZE);
+        telemetryBulkSize = getPositiveIntOrThrow(configWithFallback, UpdateLanesConfigValue.TELEMETRY_BULK_SIZE);
+        maxConsecutivePriorityBulks =
+                getPositiveIntOrThrow(configWithFallback, UpdateLanesConfigValue.MAX_CONSECUTIVE_PRIORITY_BULKS);
+        maxBufferedUpdates = getPositiveIntOrThrow(configWithFallback, UpdateLanesConfigValue.MAX_BUFFERED_UPDATES);
+    }
+
+    /**
+     * Returns an instance of DefaultUpdateLanesConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the update lanes config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultUpdateLanesConfig of(final Config config) {
+        return new DefaultUpdateLanesConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, UpdateLanesConfigValue.values()));
+    }
+
+    private static int getPositiveIntOrThrow(final ConfigWithFallback configWithFallback,
+            final KnownConfigValue configValue) {
+
+        final int value = configWithFallback.getInt(configValue.getConfigPath());
+        if (value <= 0) {
+            throw new DittoConfigError("The value for <" + configWithFallback.getConfigPath() + "." +
+                    configValue.getConfigPath() + "> must be positive but it was <" + value + ">!");
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getPriorityBulkSize() {
+        return priorityBulkSize;
+    }
+
+    @Override
+    public int getTelemetryBulkSize() {
+        return telemetryBulkSize;
+    }
+
+    @Override
+    public int getMaxConsecutivePriorityBulks() {
+        return maxConsecutivePriorityBulks;
+    }
+
+    @Override
+    public int getMaxBufferedUpdates() {
+        return maxBufferedUpdates;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultUpdateLanesConfig that = (DefaultUpdateLanesConfig) o;
+        return enabled == that.enabled &&
+                priorityBulkSize == that.priorityBulkSize &&
+                telemetryBulkSize == that.telemetryBulkSize &&
+                maxConsecutivePriorityBulks == that.maxConsecutivePriorityBulks &&
+                maxBufferedUpdates == that.maxBufferedUpdates;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, priorityBulkSize, telemetryBulkSize, maxConsecutivePriorityBulks,
+                maxBufferedUpdates);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", priorityBulkSize=" + priorityBulkSize +
+                ", telemetryBulkSize=" + telemetryBulkSize +
+                ", maxConsecutivePriorityBulks=" + maxConsecutivePriorityBulks +
+                ", maxBufferedUpdates=" + maxBufferedUpdates +
+                "]";
+    }
+
+}
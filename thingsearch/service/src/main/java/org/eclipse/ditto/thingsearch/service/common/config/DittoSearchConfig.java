@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.thingsearch.service.common.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -85,6 +86,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final DefaultOperatorMetricsConfig operatorMetricsConfig;
     private final Map<String, CustomSearchIndexConfig> customIndexes;
     private final SlowQueryLogConfig slowQueryLogConfig;
+    private final CountCacheConfig countCacheConfig;
+    private final QueryCacheConfig queryCacheConfig;
+    private final KeysetPaginationConfig keysetPaginationConfig;
+    private final AdaptiveIndexHintsConfig adaptiveIndexHintsConfig;
+    private final Duration indexChangePropagationInterval;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -104,6 +110,12 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 : ConfigFactory.empty();
         queryPersistenceConfig = DefaultSearchPersistenceConfig.of(queryConfig);
         slowQueryLogConfig = DefaultSlowQueryLogConfig.of(queryConfig);
+        countCacheConfig = DefaultCountCacheConfig.of(queryConfig);
+        queryCacheConfig = DefaultQueryCacheConfig.of(queryConfig);
+        keysetPaginationConfig = DefaultKeysetPaginationConfig.of(queryConfig);
+        adaptiveIndexHintsConfig = DefaultAdaptiveIndexHintsConfig.of(queryConfig);
+        indexChangePropagationInterval = configWithFallback.getNonNegativeAndNonZeroDurationOrThrow(
+                SearchConfigValue.INDEX_CHANGE_PROPAGATION_INTERVAL);
         simpleFieldMappings =
                 convertToMap(configWithFallback.getConfig(SearchConfigValue.SIMPLE_FIELD_MAPPINGS.getConfigPath()));
         namespaceIndexedFields = loadNamespaceSearchIndexList(configWithFallback);
@@ -188,6 +200,31 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return slowQueryLogConfig;
     }
 
+    @Override
+    public CountCacheConfig getCountCacheConfig() {
+        return countCacheConfig;
+    }
+
+    @Override
+    public KeysetPaginationConfig getKeysetPaginationConfig() {
+        return keysetPaginationConfig;
+    }
+
+    @Override
+    public AdaptiveIndexHintsConfig getAdaptiveIndexHintsConfig() {
+        return adaptiveIndexHintsConfig;
+    }
+
+    @Override
+    public QueryCacheConfig getQueryCacheConfig() {
+        return queryCacheConfig;
+    }
+
+    @Override
+    public Duration getIndexChangePropagationInterval() {
+        return indexChangePropagationInterval;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -260,6 +297,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 Objects.equals(simpleFieldMappings, that.simpleFieldMappings) &&
                 Objects.equals(operatorMetricsConfig, that.operatorMetricsConfig) &&
                 Objects.equals(slowQueryLogConfig, that.slowQueryLogConfig) &&
+                Objects.equals(countCacheConfig, that.countCacheConfig) &&
+                Objects.equals(queryCacheConfig, that.queryCacheConfig) &&
+                Objects.equals(keysetPaginationConfig, that.keysetPaginationConfig) &&
+                Objects.equals(adaptiveIndexHintsConfig, that.adaptiveIndexHintsConfig) &&
+                Objects.equals(indexChangePropagationInterval, that.indexChangePropagationInterval) &&
                 Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields) &&
                 Objects.equals(customIndexes, that.customIndexes);
     }
@@ -269,7 +311,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return Objects.hash(mongoHintsByNamespace, mongoCountHintIndexName, updaterConfig, dittoServiceConfig,
                 healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig,
                 queryPersistenceConfig, simpleFieldMappings, operatorMetricsConfig, slowQueryLogConfig,
-                namespaceIndexedFields, customIndexes);
+                countCacheConfig, queryCacheConfig, keysetPaginationConfig, adaptiveIndexHintsConfig,
+                indexChangePropagationInterval, namespaceIndexedFields, customIndexes);
     }
 
     @Override
@@ -289,6 +332,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ", operatorMetricsConfig=" + operatorMetricsConfig +
                 ", customIndexes=" + customIndexes +
                 ", slowQueryLogConfig=" + slowQueryLogConfig +
+                ", countCacheConfig=" + countCacheConfig +
+                ", queryCacheConfig=" + queryCacheConfig +
+                ", keysetPaginationConfig=" + keysetPaginationConfig +
+                ", adaptiveIndexHintsConfig=" + adaptiveIndexHintsConfig +
+                ", indexChangePropagationInterval=" + indexChangePropagationInterval +
                 "]";
     }
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for paging through search results by cursor.
+ */
+@Immutable
+public interface KeysetPaginationConfig {
+
+    /**
+     * Returns whether sorted queries are hinted to use an activated compound index whose keys start with the sort
+     * keys of the query, if such an index exists and no namespace specific hint applies.
+     *
+     * @return true if sort index hints are enabled, false otherwise.
+     */
+    boolean isSortIndexHintsEnabled();
+
+    /**
+     * Returns the fraction of paged queries which are additionally explained in order to record how many index keys
+     * MongoDB examined per returned document.
+     *
+     * @return the sample rate between 0 (never) and 1 (always).
+     */
+    double getExplainSampleRate();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * KeysetPaginationConfig.
+     */
+    enum KeysetPaginationConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether sorted queries are hinted to use a compound index matching their sort keys.
+         */
+        SORT_INDEX_HINTS_ENABLED("sort-index-hints-enabled", false),
+
+        /**
+         * The fraction of paged queries to explain.
+         */
+        EXPLAIN_SAMPLE_RATE("explain-sample-rate", 0.0);
+
+        private final String path;
+        private final Object defaultValue;
+
+        KeysetPaginationConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -54,6 +54,29 @@ public interface OperatorMetricsConfig {
      */
     Map<String, CustomAggregationMetricConfig> getCustomAggregationMetricConfigs();
 
+    /**
+     * Returns whether the group-by bucket counts of custom aggregation metrics are maintained incrementally from the
+     * search index writes instead of being aggregated in the database every scrape interval.
+     *
+     * @return true if incremental aggregation is enabled.
+     */
+    boolean isIncrementalAggregationEnabled();
+
+    /**
+     * Returns how often each search instance publishes the bucket count changes caused by its search index writes.
+     *
+     * @return the propagation interval.
+     */
+    Duration getIncrementalAggregationPropagationInterval();
+
+    /**
+     * Returns how often incrementally maintained custom aggregation metrics are reconciled by a full aggregation in
+     * the database.
+     *
+     * @return the reconciliation interval.
+     */
+    Duration getIncrementalAggregationReconciliationInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * OperatorMetricsConfig.
@@ -78,7 +101,24 @@ public interface OperatorMetricsConfig {
         /**
          * All registered custom aggregation metrics with the key being the metric name to use.
          */
-        CUSTOM_AGGREGATION_METRIC("custom-aggregation-metrics", Collections.emptyMap());
+        CUSTOM_AGGREGATION_METRIC("custom-aggregation-metrics", Collections.emptyMap()),
+
+        /**
+         * Whether custom aggregation metrics are maintained incrementally from the search index writes.
+         */
+        INCREMENTAL_AGGREGATION_ENABLED("incremental-aggregation.enabled", false),
+
+        /**
+         * How often each search instance publishes the bucket count changes caused by its search index writes.
+         */
+        INCREMENTAL_AGGREGATION_PROPAGATION_INTERVAL("incremental-aggregation.propagation-interval",
+                Duration.ofSeconds(10L)),
+
+        /**
+         * How often incrementally maintained metrics are reconciled by a full aggregation in the database.
+         */
+        INCREMENTAL_AGGREGATION_RECONCILIATION_INTERVAL("incremental-aggregation.reconciliation-interval",
+                Duration.ofHours(6L));
 
         private final String path;
         private final Object defaultValue;
@@ -41,6 +41,13 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the configuration settings of the lanes by which writes into the persistence are prioritized.
+     *
+     * @return the config.
+     */
+    UpdateLanesConfig getUpdateLanesConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
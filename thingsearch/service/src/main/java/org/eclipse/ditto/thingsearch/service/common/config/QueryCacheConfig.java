@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for caching the results of search queries.
+ */
+@Immutable
+public interface QueryCacheConfig {
+
+    /**
+     * Returns whether the results of search queries are cached.
+     *
+     * @return true if enabled, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the size and expiry settings of the query cache.
+     * The expiry bounds the staleness of cached results in case an invalidation is missed.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * QueryCacheConfig.
+     */
+    enum QueryCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the results of search queries are cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of cached query results.
+         */
+        MAXIMUM_SIZE("maximum-size", 1_000L),
+
+        /**
+         * Duration after which a cached query result expires.
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofSeconds(2L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        QueryCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.thingsearch.service.common.config;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -98,6 +99,42 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     SlowQueryLogConfig getSlowQueryLogConfig();
 
+    /**
+     * Returns the configuration for caching the results of count queries.
+     *
+     * @return the count cache configuration.
+     */
+    CountCacheConfig getCountCacheConfig();
+
+    /**
+     * Returns the configuration for caching the results of search queries.
+     *
+     * @return the query cache configuration.
+     */
+    QueryCacheConfig getQueryCacheConfig();
+
+    /**
+     * Returns the configuration for paging through search results by cursor.
+     *
+     * @return the keyset pagination configuration.
+     */
+    KeysetPaginationConfig getKeysetPaginationConfig();
+
+    /**
+     * Returns the configuration for pinning query indexes based on observed query plan performance.
+     *
+     * @return the adaptive index hints configuration.
+     */
+    AdaptiveIndexHintsConfig getAdaptiveIndexHintsConfig();
+
+    /**
+     * Returns the interval in which namespaces changed by the local search updater are propagated to the other
+     * search instances in order to invalidate their cached query results.
+     *
+     * @return the interval.
+     */
+    Duration getIndexChangePropagationInterval();
+
     /**
      * Returns a map of fields scoped by namespaces that will be explicitly included in the search index.
      *
@@ -157,6 +194,11 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
                 )
         )),
 
+        /**
+         * Interval in which namespaces changed by the local search updater are propagated to other instances.
+         */
+        INDEX_CHANGE_PROPAGATION_INTERVAL("query.index-change-propagation-interval", Duration.ofSeconds(1L)),
+
         /**
          * Any fields to include in the search index, scoped by namespace.
          *
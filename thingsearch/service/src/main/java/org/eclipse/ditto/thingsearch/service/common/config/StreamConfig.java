@@ -32,6 +32,15 @@ public interface StreamConfig {
      */
     int getMaxArraySize();
 
+    /**
+     * Returns the maximum number of thing paths changed by the events of a search update for which the search
+     * document is computed incrementally from the previously written search document. Updates changing more paths
+     * convert the whole thing. A value of 0 disables the incremental computation.
+     *
+     * @return the maximum number of changed paths.
+     */
+    int getIncrementalDocumentMaxChangedPaths();
+
     /**
      * Returns the minimal delay between event dumps.
      *
@@ -90,6 +99,11 @@ public interface StreamConfig {
          */
         MAX_ARRAY_SIZE("max-array-size", 25),
 
+        /**
+         * The maximum number of changed thing paths for which the search document is computed incrementally.
+         */
+        INCREMENTAL_DOCUMENT_MAX_CHANGED_PATHS("incremental-document-max-changed-paths", 0),
+
         /**
          * The minimal delay between event dumps.
          */
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the lanes by which the search updater prioritizes its writes into the
+ * persistence.
+ */
+@Immutable
+public interface UpdateLanesConfig {
+
+    /**
+     * Returns whether search index updates are buffered in lanes and written in shared bulks instead of being
+     * written one by one.
+     *
+     * @return true if update lanes are enabled, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of updates written in one bulk of the priority lane, which carries user-visible
+     * updates like policy changes and the creation or deletion of things.
+     *
+     * @return the bulk size of the priority lane.
+     */
+    int getPriorityBulkSize();
+
+    /**
+     * Returns the maximum number of updates written in one bulk of the telemetry lane, which carries all other
+     * updates.
+     *
+     * @return the bulk size of the telemetry lane.
+     */
+    int getTelemetryBulkSize();
+
+    /**
+     * Returns how many bulks of the priority lane may be written in a row while updates of the telemetry lane are
+     * waiting.
+     *
+     * @return the maximum number of consecutive priority bulks.
+     */
+    int getMaxConsecutivePriorityBulks();
+
+    /**
+     * Returns the maximum number of distinct things buffered per lane. Updates exceeding it are rejected and retried
+     * by their thing updater.
+     *
+     * @return the maximum number of buffered updates per lane.
+     */
+    int getMaxBufferedUpdates();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * UpdateLanesConfig.
+     */
+    enum UpdateLanesConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether update lanes are enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The bulk size of the priority lane.
+         */
+        PRIORITY_BULK_SIZE("priority-bulk-size", 16),
+
+        /**
+         * The bulk size of the telemetry lane.
+         */
+        TELEMETRY_BULK_SIZE("telemetry-bulk-size", 256),
+
+        /**
+         * The maximum number of consecutive priority bulks while telemetry updates are waiting.
+         */
+        MAX_CONSECUTIVE_PRIORITY_BULKS("max-consecutive-priority-bulks", 4),
+
+        /**
+         * The maximum number of buffered updates per lane.
+         */
+        MAX_BUFFERED_UPDATES("max-buffered-updates", 10000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        UpdateLanesConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.model;
+
+/**
+ * Result of a count query which may be estimated from a sample of the search index.
+ *
+ * @param count the (estimated) count.
+ * @param errorBound half-width of the 95% confidence interval of the estimate, {@code 0} if the count is exact.
+ */
+public record ApproximateCount(long count, long errorBound) {
+
+    private static final double Z_95 = 1.96;
+    private static final double RULE_OF_THREE = 3.0;
+
+    /**
+     * Create an exact count.
+     *
+     * @param count the count.
+     * @return the count without error.
+     */
+    public static ApproximateCount exact(final long count) {
+        return new ApproximateCount(count, 0L);
+    }
+
+    /**
+     * Estimate a count from the number of matches in a uniform random sample of the search index.
+     *
+     * @param matches how many sampled documents matched the query.
+     * @param sampleSize how many documents were sampled.
+     * @param totalSize how many documents the search index contains.
+     * @return the estimated count with the bound of its error.
+     */
+    public static ApproximateCount fromSample(final long matches, final long sampleSize, final long totalSize) {
+        if (sampleSize >= totalSize) {
+            return exact(matches);
+        }
+        final double ratio = (double) matches / sampleSize;
+        final long estimate = Math.round(ratio * totalSize);
+        final double relativeError;
+        if (matches == 0L || matches == sampleSize) {
+            // the normal approximation degenerates at the edges; use the "rule of three" bound instead
+            relativeError = RULE_OF_THREE / sampleSize;
+        } else {
+            final double finitePopulationCorrection =
+                    Math.sqrt((double) (totalSize - sampleSize) / (totalSize - 1L));
+            relativeError = Z_95 * Math.sqrt(ratio * (1.0 - ratio) / sampleSize) * finitePopulationCorrection;
+        }
+        return new ApproximateCount(estimate, (long) Math.ceil(relativeError * totalSize));
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.japi.Pair;
+import org.eclipse.ditto.base.model.common.LikeHelper;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseOptions;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.thingsearch.service.common.config.NamespaceSearchIndexConfig;
+
+/**
+ * The namespace scoped allow-list of JSON pointers which are written to the search index.
+ * The first configured namespace pattern matching the namespace of a thing determines its indexed fields;
+ * things in namespaces without a matching pattern are indexed completely.
+ */
+@Immutable
+public final class NamespaceIndexedFields {
+
+    private static final List<JsonFieldDefinition<?>> REQUIRED_INDEXED_FIELDS = List.of(
+            Thing.JsonFields.ID,
+            Thing.JsonFields.POLICY_ID,
+            Thing.JsonFields.NAMESPACE,
+            Thing.JsonFields.REVISION,
+            Thing.JsonFields.MODIFIED,
+            Thing.JsonFields.CREATED);
+
+    private static final String WILDCARD = "*";
+
+    private final List<Entry> entries;
+
+    private NamespaceIndexedFields(final List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Creates the indexed fields from the configured namespace allow-lists.
+     * Configurations without indexed fields are ignored.
+     *
+     * @param namespaceConfigs the configured namespace allow-lists in order of precedence.
+     * @return the indexed fields.
+     * @throws NullPointerException if {@code namespaceConfigs} is {@code null}.
+     */
+    public static NamespaceIndexedFields of(final Collection<NamespaceSearchIndexConfig> namespaceConfigs) {
+        final List<Entry> entries = new ArrayList<>();
+        for (final NamespaceSearchIndexConfig namespaceConfig : namespaceConfigs) {
+            if (!namespaceConfig.getIndexedFields().isEmpty()) {
+                entries.add(Entry.of(namespaceConfig));
+            }
+        }
+        return new NamespaceIndexedFields(entries);
+    }
+
+    /**
+     * @return whether every namespace is indexed completely.
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * @return the field selectors to index together with the namespace patterns they apply to, in order of
+     * precedence.
+     */
+    public List<Pair<Pattern, JsonFieldSelector>> getFieldSelectorsByNamespacePattern() {
+        return entries.stream()
+                .map(entry -> Pair.create(entry.namespacePattern(), entry.fieldSelector()))
+                .toList();
+    }
+
+    /**
+     * Returns the fields to index for a namespace.
+     *
+     * @param namespace the namespace.
+     * @return the field selector to index or an empty Optional if the namespace is indexed completely.
+     */
+    public Optional<JsonFieldSelector> getIndexedFields(final String namespace) {
+        return findEntry(namespace).map(Entry::fieldSelector);
+    }
+
+    /**
+     * Projects a thing to the fields indexed for its namespace.
+     *
+     * @param namespace the namespace of the thing.
+     * @param thing the thing JSON.
+     * @return the JSON to write into the search index.
+     */
+    public JsonObject project(final String namespace, final JsonObject thing) {
+        return getIndexedFields(namespace).map(thing::get).orElse(thing);
+    }
+
+    /**
+     * Checks whether a path of the thing JSON is indexed in at least one of the given namespaces.
+     * A path is considered indexed if it lies within an indexed field or if an indexed field lies within it.
+     * The feature ID {@code *} matches any feature.
+     *
+     * @param path the path of the thing JSON.
+     * @param namespaces the namespaces in scope or {@code null} for all namespaces.
+     * @return whether the path can match anything in the search index.
+     */
+    public boolean isIndexedInAnyOf(final JsonPointer path, @Nullable final Collection<String> namespaces) {
+        if (entries.isEmpty()) {
+            return true;
+        } else if (null == namespaces) {
+            return isIndexedInAnyNamespace(path);
+        } else {
+            return namespaces.stream()
+                    .map(this::findEntry)
+                    .anyMatch(entry -> entry.map(e -> e.covers(path)).orElse(true));
+        }
+    }
+
+    private boolean isIndexedInAnyNamespace(final JsonPointer path) {
+        // Namespaces not matching any pattern before a catch-all pattern are indexed according to the catch-all;
+        // without a catch-all some namespace is indexed completely.
+        for (final Entry entry : entries) {
+            if (entry.covers(path)) {
+                return true;
+            } else if (entry.isCatchAll()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<Entry> findEntry(final String namespace) {
+        return entries.stream()
+                .filter(entry -> entry.namespacePattern().matcher(namespace).matches())
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final NamespaceIndexedFields that = (NamespaceIndexedFields) o;
+        return Objects.equals(entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entries=" + entries +
+                "]";
+    }
+
+    private record Entry(String namespacePatternString, Pattern namespacePattern, JsonFieldSelector fieldSelector) {
+
+        private static Entry of(final NamespaceSearchIndexConfig namespaceConfig) {
+
+            // Ensure the constructed JsonFieldSelector has the required fields needed for the search to work.
+            final Set<String> fields = new LinkedHashSet<>();
+            REQUIRED_INDEXED_FIELDS.stream()
+                    .map(JsonFieldDefinition::getPointer)
+                    .map(JsonPointer::toString)
+                    .forEach(fields::add);
+            fields.addAll(namespaceConfig.getIndexedFields());
+            final JsonFieldSelector fieldSelector =
+                    JsonFactory.newFieldSelector(fields, JsonParseOptions.newBuilder().build());
+
+            final String namespacePattern = namespaceConfig.getNamespacePattern();
+            return new Entry(namespacePattern,
+                    Pattern.compile(Objects.requireNonNull(LikeHelper.convertToRegexSyntax(namespacePattern))),
+                    fieldSelector);
+        }
+
+        private boolean isCatchAll() {
+            return WILDCARD.equals(namespacePatternString);
+        }
+
+        private boolean covers(final JsonPointer path) {
+            return fieldSelector.getPointers().stream().anyMatch(indexed -> isPrefixOrExtension(indexed, path));
+        }
+
+        private static boolean isPrefixOrExtension(final JsonPointer indexed, final JsonPointer path) {
+            final int commonLevels = Math.min(indexed.getLevelCount(), path.getLevelCount());
+            for (int level = 0; level < commonLevels; level++) {
+                final JsonKey indexedKey = indexed.get(level).orElseThrow();
+                final JsonKey pathKey = path.get(level).orElseThrow();
+                if (!indexedKey.equals(pathKey) && !isFeatureIdWildcard(path, level)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isFeatureIdWildcard(final JsonPointer path, final int level) {
+            return level == 1 &&
+                    path.getRoot().equals(Thing.JsonFields.FEATURES.getPointer().getRoot()) &&
+                    path.get(level).map(JsonKey::toString).filter(WILDCARD::equals).isPresent();
+        }
+
+        // Patterns do not implement equals.
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Entry that = (Entry) o;
+            return Objects.equals(namespacePatternString, that.namespacePatternString) &&
+                    Objects.equals(fieldSelector, that.fieldSelector);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespacePatternString, fieldSelector);
+        }
+    }
+}
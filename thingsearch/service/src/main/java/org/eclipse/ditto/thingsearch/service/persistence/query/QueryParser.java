@@ -34,6 +34,8 @@ import org.eclipse.ditto.thingsearch.api.query.filter.ParameterOptionVisitor;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.persistence.NamespaceIndexedFields;
+import org.eclipse.ditto.thingsearch.service.persistence.query.validation.IndexedFieldsValidator;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 
 /**
@@ -46,16 +48,19 @@ public final class QueryParser {
     private final QueryBuilderFactory queryBuilderFactory;
     private final RqlOptionParser rqlOptionParser;
     private final QueryCriteriaValidator queryCriteriaValidator;
+    private final IndexedFieldsValidator indexedFieldsValidator;
 
     private QueryParser(final ThingsFieldExpressionFactory fieldExpressionFactory,
             final PredicateParser predicateParser,
             final QueryBuilderFactory queryBuilderFactory,
-            final QueryCriteriaValidator queryCriteriaValidator) {
+            final QueryCriteriaValidator queryCriteriaValidator,
+            final IndexedFieldsValidator indexedFieldsValidator) {
 
         this.queryFilterCriteriaFactory = QueryFilterCriteriaFactory.of(fieldExpressionFactory, predicateParser);
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
         this.queryCriteriaValidator = queryCriteriaValidator;
+        this.indexedFieldsValidator = indexedFieldsValidator;
         rqlOptionParser = new RqlOptionParser();
     }
 
@@ -65,14 +70,16 @@ public final class QueryParser {
      * @param fieldExpressionFactory a factory to retrieve things field expressions.
      * @param queryBuilderFactory a factory to create a query builder.
      * @param queryCriteriaValidator a validator for queries.
+     * @param namespaceIndexedFields the fields written to the search index per namespace.
      * @return the query factory.
      */
     public static QueryParser of(final ThingsFieldExpressionFactory fieldExpressionFactory,
             final QueryBuilderFactory queryBuilderFactory,
-            final QueryCriteriaValidator queryCriteriaValidator) {
+            final QueryCriteriaValidator queryCriteriaValidator,
+            final NamespaceIndexedFields namespaceIndexedFields) {
 
         return new QueryParser(fieldExpressionFactory, RqlPredicateParser.getInstance(), queryBuilderFactory,
-                queryCriteriaValidator);
+                queryCriteriaValidator, IndexedFieldsValidator.of(namespaceIndexedFields));
     }
 
     /**
@@ -80,6 +87,8 @@ public final class QueryParser {
      *
      * @param command the search command.
      * @return the query.
+     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the query refers to a field
+     * which is not indexed in the searched namespaces.
      */
     public CompletionStage<Query> parse(final ThingSearchQueryCommand<?> command) {
         final Criteria criteria = parseCriteria(command);
@@ -97,6 +106,7 @@ public final class QueryParser {
         } else {
             query = queryBuilderFactory.newUnlimitedBuilder(criteria).build();
         }
+        indexedFieldsValidator.validate(query, command.getNamespaces().orElse(null), command.getDittoHeaders());
         return queryCriteriaValidator.validateQuery(command, query);
     }
 
@@ -129,7 +139,9 @@ public final class QueryParser {
         } else {
             criteria = queryFilterCriteriaFactory.filterCriteria(filters, headers);
         }
-        return CompletableFuture.completedFuture(queryBuilderFactory.newUnlimitedBuilder(criteria).build());
+        final Query query = queryBuilderFactory.newUnlimitedBuilder(criteria).build();
+        indexedFieldsValidator.validate(query, namespaces, headers);
+        return CompletableFuture.completedFuture(query);
     }
 
     /**
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.query.validation;
+
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.DESIRED_PROPERTIES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_ATTRIBUTES_PATH;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_DEFINITION;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_DESIRED_PROPERTIES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURES_PATH;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_METADATA_PATH;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_PROPERTIES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.PROPERTIES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.SLASH;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.criteria.Predicate;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.FieldExpressionVisitor;
+import org.eclipse.ditto.thingsearch.service.persistence.NamespaceIndexedFields;
+
+/**
+ * Rejects queries which filter or sort on paths not written to the search index for any of the searched namespaces.
+ * Such queries could never match, so they fail fast instead of silently returning incomplete results.
+ */
+public final class IndexedFieldsValidator {
+
+    private final NamespaceIndexedFields namespaceIndexedFields;
+
+    private IndexedFieldsValidator(final NamespaceIndexedFields namespaceIndexedFields) {
+        this.namespaceIndexedFields = namespaceIndexedFields;
+    }
+
+    /**
+     * Creates a validator for the given indexed fields.
+     *
+     * @param namespaceIndexedFields the fields written to the search index per namespace.
+     * @return the validator.
+     */
+    public static IndexedFieldsValidator of(final NamespaceIndexedFields namespaceIndexedFields) {
+        return new IndexedFieldsValidator(namespaceIndexedFields);
+    }
+
+    /**
+     * Validates that all paths a query filters or sorts on are indexed in at least one of the searched namespaces.
+     *
+     * @param query the query.
+     * @param namespaces the searched namespaces or {@code null} if the search is not restricted by namespaces.
+     * @param dittoHeaders the headers of the search command.
+     * @throws InvalidRqlExpressionException if the query refers to a path which is not indexed.
+     */
+    public void validate(final Query query, @Nullable final Collection<String> namespaces,
+            final DittoHeaders dittoHeaders) {
+
+        if (!namespaceIndexedFields.isEmpty()) {
+            final Stream<JsonPointer> sortPaths = query.getSortOptions()
+                    .stream()
+                    .map(SortOption::getSortExpression)
+                    .flatMap(expression -> expression.accept(FieldPathVisitor.INSTANCE).stream());
+            Stream.concat(query.getCriteria().accept(new CriteriaPathsVisitor()), sortPaths)
+                    .filter(path -> !namespaceIndexedFields.isIndexedInAnyOf(path, namespaces))
+                    .findFirst()
+                    .ifPresent(path -> {
+                        throw InvalidRqlExpressionException.newBuilder()
+                                .message("The field <" + path + "> is not indexed in the searched namespaces.")
+                                .description("Only fields configured to be indexed for a namespace may be used " +
+                                        "in search filters and sort options.")
+                                .dittoHeaders(dittoHeaders)
+                                .build();
+                    });
+        }
+    }
+
+    /**
+     * Collects the paths of the thing JSON referred to by criteria.
+     */
+    private static final class CriteriaPathsVisitor implements CriteriaVisitor<Stream<JsonPointer>> {
+
+        @Override
+        public Stream<JsonPointer> visitAnd(final List<Stream<JsonPointer>> conjuncts) {
+            return conjuncts.stream().flatMap(stream -> stream);
+        }
+
+        @Override
+        public Stream<JsonPointer> visitAny() {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<JsonPointer> visitExists(final ExistsFieldExpression fieldExpression) {
+            return fieldExpression.acceptExistsVisitor(FieldPathVisitor.INSTANCE).stream();
+        }
+
+        @Override
+        public Stream<JsonPointer> visitEmpty(final ExistsFieldExpression fieldExpression) {
+            return fieldExpression.acceptExistsVisitor(FieldPathVisitor.INSTANCE).stream();
+        }
+
+        @Override
+        public Stream<JsonPointer> visitField(final FilterFieldExpression fieldExpression,
+                final Predicate predicate) {
+            return fieldExpression.acceptFilterVisitor(FieldPathVisitor.INSTANCE).stream();
+        }
+
+        @Override
+        public Stream<JsonPointer> visitNor(final List<Stream<JsonPointer>> negativeDisjoints) {
+            return negativeDisjoints.stream().flatMap(stream -> stream);
+        }
+
+        @Override
+        public Stream<JsonPointer> visitOr(final List<Stream<JsonPointer>> disjoints) {
+            return disjoints.stream().flatMap(stream -> stream);
+        }
+    }
+
+    /**
+     * Maps field expressions to the path of the thing JSON they refer to.
+     * Root level fields outside the thing JSON, e.g. the thing ID, are always indexed and yield no path.
+     */
+    private static final class FieldPathVisitor implements FieldExpressionVisitor<Optional<JsonPointer>> {
+
+        private static final FieldPathVisitor INSTANCE = new FieldPathVisitor();
+
+        @Override
+        public Optional<JsonPointer> visitAttribute(final String key) {
+            return toPath(FIELD_ATTRIBUTES_PATH + key);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitFeature(final String featureId) {
+            return toPath(FIELD_FEATURES_PATH + featureId);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitFeatureDefinition(final String featureId) {
+            return toPath(FIELD_FEATURES_PATH + featureId + SLASH + FIELD_DEFINITION);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitFeatureProperties(final CharSequence featureId) {
+            return toPath(FIELD_FEATURES_PATH + featureId + SLASH + FIELD_PROPERTIES);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitFeatureDesiredProperties(final CharSequence featureId) {
+            return toPath(FIELD_FEATURES_PATH + featureId + SLASH + FIELD_DESIRED_PROPERTIES);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitFeatureIdProperty(final String featureId, final String property) {
+            return toPath(FIELD_FEATURES_PATH + featureId + PROPERTIES + property);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence property) {
+            return toPath(FIELD_FEATURES_PATH + featureId + DESIRED_PROPERTIES + property);
+        }
+
+        @Override
+        public Optional<JsonPointer> visitSimple(final String fieldName) {
+            return fieldName.startsWith(SLASH) ? toPath(fieldName) : Optional.empty();
+        }
+
+        @Override
+        public Optional<JsonPointer> visitMetadata(final String key) {
+            return toPath(FIELD_METADATA_PATH + key);
+        }
+
+        private static Optional<JsonPointer> toPath(final String path) {
+            return Optional.of(JsonPointer.of(path));
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.thingsearch.service.common.config.AdaptiveIndexHintsConfig;
+
+/**
+ * Package-private selection of the index to hint to a query based on the observed performance of the plans MongoDB
+ * chose for earlier queries of the same shape. A shape consists of the fields and operators of the filter and of the
+ * sort of a query without the compared values.
+ * <p>
+ * A fraction of the queries of each shape is explained. Once enough explanations were gathered, the index with the
+ * lowest mean execution time is pinned for the shape, which prevents MongoDB from switching between plans of very
+ * different performance, e.g. between the wildcard index and the sort index. After the re-evaluation interval or a
+ * failure of a query using the pinned index, the observations of the shape are discarded and gathered anew.
+ */
+@ThreadSafe
+final class AdaptiveIndexHints {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(AdaptiveIndexHints.class);
+
+    private static final BsonString VALUE_PLACEHOLDER = new BsonString("?");
+    private static final String NO_INDEX = "";
+
+    @Nullable private final AdaptiveIndexHintsConfig config;
+    private final Clock clock;
+    private final Map<String, ShapeObservations> observationsByShape;
+
+    AdaptiveIndexHints(@Nullable final AdaptiveIndexHintsConfig config, final Clock clock) {
+        this.config = config;
+        this.clock = clock;
+        observationsByShape = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return adaptive index hints never hinting any index.
+     */
+    static AdaptiveIndexHints disabled() {
+        return new AdaptiveIndexHints(null, Clock.systemUTC());
+    }
+
+    /**
+     * Creates adaptive index hints according to the given config.
+     *
+     * @param config the config.
+     * @return the adaptive index hints.
+     */
+    static AdaptiveIndexHints of(final AdaptiveIndexHintsConfig config) {
+        return config.isEnabled() ? new AdaptiveIndexHints(config, Clock.systemUTC()) : disabled();
+    }
+
+    /**
+     * @return whether queries are hinted adaptively.
+     */
+    boolean isEnabled() {
+        return null != config;
+    }
+
+    /**
+     * Determine the shape of a query.
+     *
+     * @param filter the filter of the query.
+     * @param sort the sort of the query.
+     * @return the shape.
+     */
+    static String getShape(final BsonDocument filter, final BsonDocument sort) {
+        return normalize(filter).toJson() + sort.toJson();
+    }
+
+    /**
+     * Get the index pinned for a query shape.
+     *
+     * @param shape the query shape.
+     * @return the name of the pinned index if any.
+     */
+    Optional<String> getPinnedIndex(final String shape) {
+        if (null == config) {
+            return Optional.empty();
+        }
+        final ShapeObservations observations = observationsByShape.get(shape);
+        return null == observations
+                ? Optional.empty()
+                : observations.getPinnedIndex(clock.instant(), config.getReEvaluationInterval());
+    }
+
+    /**
+     * Decide whether a query of a shape should be explained in order to learn the best index of the shape.
+     *
+     * @param shape the query shape.
+     * @return whether to explain the query and pass its explanation to
+     * {@link #record(String, QueryExplainer.Explanation)}.
+     */
+    boolean isSampled(final String shape) {
+        if (null == config || config.getSampleRate() <= 0.0 ||
+                ThreadLocalRandom.current().nextDouble() >= config.getSampleRate()) {
+            return false;
+        }
+        final ShapeObservations observations = observationsByShape.size() < config.getMaximumShapes()
+                ? observationsByShape.computeIfAbsent(shape, s -> new ShapeObservations())
+                : observationsByShape.get(shape);
+        return null != observations && observations.isLearning();
+    }
+
+    /**
+     * Record the explanation of a query.
+     *
+     * @param shape the shape of the query.
+     * @param explanation the explanation.
+     */
+    void record(final String shape, final QueryExplainer.Explanation explanation) {
+        final ShapeObservations observations = observationsByShape.get(shape);
+        if (null != config && null != observations) {
+            observations.record(shape, explanation, clock.instant(), config.getMinSamples());
+        }
+    }
+
+    /**
+     * Discard the observations of a shape, e.g. because a query using its pinned index failed.
+     *
+     * @param shape the query shape.
+     */
+    void reset(final String shape) {
+        final ShapeObservations observations = observationsByShape.get(shape);
+        if (null != observations) {
+            LOGGER.info("Unpinning index of query shape <{}> after failed query.", shape);
+            observations.reset();
+        }
+    }
+
+    private static BsonValue normalize(final BsonValue value) {
+        if (value.isDocument()) {
+            final BsonDocument normalized = new BsonDocument();
+            value.asDocument().forEach((key, child) -> normalized.append(key, normalize(child)));
+            return normalized;
+        } else if (value.isArray() && !value.asArray().isEmpty() &&
+                value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            // clauses of logical operators
+            final BsonArray normalized = new BsonArray();
+            value.asArray().forEach(element -> normalized.add(normalize(element)));
+            return normalized;
+        } else {
+            return VALUE_PLACEHOLDER;
+        }
+    }
+
+    private static final class ShapeObservations {
+
+        @GuardedBy("this") private final Map<String, IndexObservations> observationsByIndex = new HashMap<>();
+        @GuardedBy("this") private int samples = 0;
+        @GuardedBy("this") @Nullable private Instant decidedAt = null;
+        @GuardedBy("this") @Nullable private String pinnedIndex = null;
+
+        private synchronized Optional<String> getPinnedIndex(final Instant now, final Duration reEvaluationInterval) {
+            if (null != decidedAt && now.isAfter(decidedAt.plus(reEvaluationInterval))) {
+                reset();
+            }
+            return Optional.ofNullable(pinnedIndex);
+        }
+
+        private synchronized boolean isLearning() {
+            return null == decidedAt;
+        }
+
+        private synchronized void record(final String shape, final QueryExplainer.Explanation explanation,
+                final Instant now, final int minSamples) {
+
+            if (null != decidedAt) {
+                return;
+            }
+            final String index = null != explanation.indexName() ? explanation.indexName() : NO_INDEX;
+            observationsByIndex.computeIfAbsent(index, i -> new IndexObservations()).add(explanation);
+            if (++samples >= minSamples) {
+                final String bestIndex = observationsByIndex.entrySet()
+                        .stream()
+                        .min(Map.Entry.comparingByValue(Comparator.comparingDouble(IndexObservations::meanMillis)
+                                .thenComparingDouble(IndexObservations::meanKeysExaminedPerReturned)))
+                        .map(Map.Entry::getKey)
+                        .orElse(NO_INDEX);
+                pinnedIndex = NO_INDEX.equals(bestIndex) ? null : bestIndex;
+                decidedAt = now;
+                LOGGER.info("Pinning index <{}> for query shape <{}> based on observations <{}>.", pinnedIndex,
+                        shape, observationsByIndex);
+            }
+        }
+
+        private synchronized void reset() {
+            observationsByIndex.clear();
+            samples = 0;
+            decidedAt = null;
+            pinnedIndex = null;
+        }
+    }
+
+    private static final class IndexObservations {
+
+        private long count = 0L;
+        private long totalMillis = 0L;
+        private long totalKeysExamined = 0L;
+        private long totalReturned = 0L;
+
+        private void add(final QueryExplainer.Explanation explanation) {
+            count++;
+            totalMillis += explanation.executionTimeMillis();
+            totalKeysExamined += explanation.keysExamined();
+            totalReturned += explanation.returned();
+        }
+
+        private double meanMillis() {
+            return (double) totalMillis / count;
+        }
+
+        private double meanKeysExaminedPerReturned() {
+            return (double) totalKeysExamined / Math.max(1L, totalReturned);
+        }
+
+        @Override
+        public String toString() {
+            return "[count=" + count + ", meanMillis=" + meanMillis() +
+                    ", meanKeysExaminedPerReturned=" + meanKeysExaminedPerReturned() + "]";
+        }
+    }
+
+}
@@ -62,6 +62,7 @@ import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceResultEntry;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ApproximateCount;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
@@ -78,6 +79,7 @@ import org.mongodb.scala.MongoClient;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
@@ -96,6 +98,10 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
 
     private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(MongoThingsSearchPersistence.class);
 
+    private static final String NAMESPACE_HINT_TAG = "namespace";
+    private static final String NO_HINT_TAG = "none";
+    private static final String ADAPTIVE_HINT_TAG = "adaptive";
+
     private final MongoCollection<Document> collection;
 
     private final IndexInitializer indexInitializer;
@@ -104,6 +110,9 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     private final MongoHints hints;
     @Nullable private final String countHintIndexName;
     private final List<Index> customIndexes;
+    private final SortIndexHints sortIndexHints;
+    private final QueryExplainer queryExplainer;
+    private final AdaptiveIndexHints adaptiveIndexHints;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -133,6 +142,15 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 .orElseGet(MongoHints::empty);
         countHintIndexName = searchConfig.getMongoCountHintIndexName().orElse(null);
         customIndexes = searchConfig.getCustomIndexesAsIndices();
+        final var keysetPaginationConfig = searchConfig.getKeysetPaginationConfig();
+        if (keysetPaginationConfig.isSortIndexHintsEnabled()) {
+            sortIndexHints = SortIndexHints.of(getActivatedIndexes(searchConfig.getIndexInitializationConfig()));
+        } else {
+            sortIndexHints = SortIndexHints.disabled();
+        }
+        queryExplainer = new QueryExplainer(keysetPaginationConfig.getExplainSampleRate(),
+                SystemMaterializer.get(actorSystem).materializer());
+        adaptiveIndexHints = AdaptiveIndexHints.of(searchConfig.getAdaptiveIndexHintsConfig());
         LOGGER.info("Query readConcern=<{}> readPreference=<{}>", readConcern, readPreference);
         if (!customIndexes.isEmpty()) {
             LOGGER.info("Configured custom search indexes: {}", customIndexes);
@@ -141,23 +159,36 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
 
     @Override
     public CompletionStage<Void> initializeIndices(final IndexInitializationConfig indexInitializationConfig) {
-        final List<Index> allIndices = Stream.concat(
+        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME,
+                        getAllIndexes(),
+                        getActivatedIndexNames(indexInitializationConfig)
+                )
+                .exceptionally(t -> {
+                    LOGGER.error("Index-Initialization failed: {}", t.getMessage(), t);
+                    return null;
+                });
+    }
+
+    private List<Index> getAllIndexes() {
+        return Stream.concat(
                 Indices.all(documentDbCompatibilityMode).stream(),
                 customIndexes.stream()
         ).toList();
+    }
+
+    private Set<String> getActivatedIndexNames(final IndexInitializationConfig indexInitializationConfig) {
         // Custom indexes are automatically activated - combine configured activated names with custom index names
-        final Set<String> activatedIndexNames = Stream.concat(
+        return Stream.concat(
                 indexInitializationConfig.getActivatedIndexNames().stream(),
                 customIndexes.stream().map(Index::getName)
         ).collect(Collectors.toSet());
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME,
-                        allIndices,
-                        activatedIndexNames
-                )
-                .exceptionally(t -> {
-                    LOGGER.error("Index-Initialization failed: {}", t.getMessage(), t);
-                    return null;
-                });
+    }
+
+    private List<Index> getActivatedIndexes(final IndexInitializationConfig indexInitializationConfig) {
+        final Set<String> activatedIndexNames = getActivatedIndexNames(indexInitializationConfig);
+        return getAllIndexes().stream()
+                .filter(index -> activatedIndexNames.contains(index.getName()))
+                .toList();
     }
 
     @Override
@@ -207,6 +238,39 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 .log("count");
     }
 
+    @Override
+    public Source<ApproximateCount, NotUsed> approximateCount(final Query query,
+            final List<String> authorizationSubjectIds,
+            final int sampleSize,
+            final DittoHeaders dittoHeaders) {
+
+        checkNotNull(query, "query");
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        LOGGER.withCorrelationId(dittoHeaders)
+                .debug("approximateCount with query filter <{}> and sample size <{}>.", queryFilter, sampleSize);
+
+        return Source.fromPublisher(collection.estimatedDocumentCount())
+                .flatMapConcat(totalSize -> {
+                    if (totalSize <= sampleSize) {
+                        // sampling would read the whole collection anyway
+                        return count(query, authorizationSubjectIds, dittoHeaders).map(ApproximateCount::exact);
+                    }
+                    final List<Bson> pipeline = List.of(
+                            Aggregates.sample(sampleSize),
+                            Aggregates.match(queryFilter),
+                            Aggregates.count(PersistenceConstants.FIELD_COUNT)
+                    );
+                    return Source.fromPublisher(collection.aggregate(pipeline)
+                                    .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                            .map(document -> ((Number) document.get(PersistenceConstants.FIELD_COUNT)).longValue())
+                            .orElse(Source.single(0L))
+                            .map(matches -> ApproximateCount.fromSample(matches, sampleSize, totalSize));
+                })
+                .mapError(handleMongoExecutionTimeExceededException(dittoHeaders))
+                .log("approximateCount");
+    }
+
     @Override
     public Source<Long, NotUsed> sudoCount(final Query query, final DittoHeaders dittoHeaders) {
         return sudoCount(query, dittoHeaders, null);
@@ -256,7 +320,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, dittoHeaders)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, true,
+                dittoHeaders)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
                 .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(), dittoHeaders))
@@ -280,7 +345,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             @Nullable final Set<String> namespaces, final DittoHeaders headers) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, headers)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, false, headers)
                 .map(MongoThingsSearchPersistence::toThingId)
                 .idleTimeout(maxQueryTime);
     }
@@ -307,6 +372,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
             @Nullable final Duration maxQueryTime,
+            final boolean explainIfSampled,
             final DittoHeaders dittoHeaders) {
 
         checkNotNull(query, "query");
@@ -320,9 +386,19 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
 
         final int skip = query.getSkip();
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        final Optional<Bson> namespaceHint = hints.getHint(namespaces);
+        @Nullable final String queryShape = namespaceHint.isEmpty() && adaptiveIndexHints.isEnabled()
+                ? AdaptiveIndexHints.getShape(queryFilter, BsonUtil.toBsonDocument(sortOptions))
+                : null;
+        final Optional<String> adaptiveIndex = Optional.ofNullable(queryShape)
+                .flatMap(adaptiveIndexHints::getPinnedIndex);
+        final Optional<Index> sortIndex = namespaceHint.isPresent() || adaptiveIndex.isPresent()
+                ? Optional.empty()
+                : sortIndexHints.getIndex(BsonUtil.toBsonDocument(sortOptions));
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(namespaceHint.or(() -> sortIndex.map(Index::getKeys)).orElse(null))
+                        .hintString(adaptiveIndex.orElse(null))
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -339,7 +415,33 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 ? findPublisherWithLimit.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)
                 : findPublisherWithLimit;
 
-        return Source.fromPublisher(findPublisherWithMaxQueryTime);
+        if (explainIfSampled) {
+            final String hintTag;
+            if (namespaceHint.isPresent()) {
+                hintTag = NAMESPACE_HINT_TAG;
+            } else if (adaptiveIndex.isPresent()) {
+                hintTag = ADAPTIVE_HINT_TAG;
+            } else {
+                hintTag = sortIndex.map(Index::getName).orElse(NO_HINT_TAG);
+            }
+            final boolean learnIndexOfShape =
+                    null != queryShape && adaptiveIndex.isEmpty() && adaptiveIndexHints.isSampled(queryShape);
+            queryExplainer.explainIfSampled(findPublisherWithMaxQueryTime, hintTag, learnIndexOfShape
+                    ? explanation -> adaptiveIndexHints.record(queryShape, explanation)
+                    : null);
+        }
+        final Source<Document, NotUsed> documents = Source.fromPublisher(findPublisherWithMaxQueryTime);
+        if (null != queryShape && adaptiveIndex.isPresent()) {
+            // a failing or timed-out query may be caused by the pinned index: observe the shape anew
+            return documents.watchTermination((notUsed, done) -> {
+                done.exceptionally(error -> {
+                    adaptiveIndexHints.reset(queryShape);
+                    return null;
+                });
+                return notUsed;
+            });
+        }
+        return documents;
     }
 
     @Override
@@ -359,6 +461,18 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
+    @Override
+    public Source<ThingId, NotUsed> sudoSampleThingIds(final int sampleSize) {
+        // $sample must be the first stage in order to select documents by a random cursor instead of a collection scan
+        final List<Bson> pipeline = List.of(
+                Aggregates.sample(sampleSize),
+                Aggregates.match(Filters.exists(PersistenceConstants.FIELD_DELETE_AT, false)),
+                Aggregates.project(Projections.include(PersistenceConstants.FIELD_ID))
+        );
+        return Source.fromPublisher(collection.aggregate(pipeline))
+                .map(document -> ThingId.of(document.getString(PersistenceConstants.FIELD_ID)));
+    }
+
     private ResultList<TimestampedThingId> toResultList(final List<Document> resultsPlus0ne, final int skip,
             final int limit,
             final List<SortOption> sortOptions,
@@ -471,6 +585,6 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     private static AbstractWriteModel documentToWriteModel(final Document document) {
         final var bsonDocument = document.toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY());
         final Metadata actualMetadata = readAsMetadata(document);
-        return ThingWriteModel.of(actualMetadata, bsonDocument);
+        return ThingWriteModel.ofRecovered(actualMetadata, bsonDocument);
     }
 }
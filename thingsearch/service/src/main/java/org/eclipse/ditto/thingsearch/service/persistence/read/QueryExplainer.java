@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.Document;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.reactivestreams.client.FindPublisher;
+
+/**
+ * Package-private sampler explaining a fraction of the executed find queries in order to record how many index keys
+ * MongoDB examined per returned document. Values close to 1 indicate that the query is served by a tight index
+ * range; growing values indicate scans over keys filtered out afterwards, e.g. by the position of a cursor.
+ * The explanations are also passed on to {@link AdaptiveIndexHints} learning the best index per query shape.
+ */
+final class QueryExplainer {
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(QueryExplainer.class);
+
+    private static final String KEYS_EXAMINED_PER_RETURNED = "search_query_keys_examined_per_returned";
+    private static final String HINT_TAG = "hint";
+
+    private static final String EXECUTION_STATS = "executionStats";
+    private static final String N_RETURNED = "nReturned";
+    private static final String TOTAL_KEYS_EXAMINED = "totalKeysExamined";
+    private static final String EXECUTION_TIME_MILLIS = "executionTimeMillis";
+    private static final String QUERY_PLANNER = "queryPlanner";
+    private static final String WINNING_PLAN = "winningPlan";
+    private static final String INDEX_NAME = "indexName";
+
+    private final double sampleRate;
+    private final Materializer materializer;
+
+    QueryExplainer(final double sampleRate, final Materializer materializer) {
+        this.sampleRate = sampleRate;
+        this.materializer = materializer;
+    }
+
+    /**
+     * Explain a query in the background if it is sampled or if an observer requests its explanation.
+     *
+     * @param findPublisher the query to explain; it is executed once more.
+     * @param hintTag describes how the index of the query was chosen, e.g. the name of a hinted index.
+     * @param observer receives the explanation of the query if not {@code null}.
+     */
+    void explainIfSampled(final FindPublisher<Document> findPublisher, final String hintTag,
+            @Nullable final Consumer<Explanation> observer) {
+
+        final boolean sampled = sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        if (sampled || null != observer) {
+            Source.fromPublisher(findPublisher.explain(Document.class, ExplainVerbosity.EXECUTION_STATS))
+                    .runWith(Sink.head(), materializer)
+                    .thenAccept(document -> Explanation.of(document).ifPresent(explanation -> {
+                        if (sampled) {
+                            DittoMetrics.histogram(KEYS_EXAMINED_PER_RETURNED)
+                                    .tag(HINT_TAG, hintTag)
+                                    .record(ceilDiv(explanation.keysExamined(),
+                                            Math.max(1L, explanation.returned())));
+                        }
+                        if (null != observer) {
+                            observer.accept(explanation);
+                        }
+                    }))
+                    .exceptionally(error -> {
+                        LOGGER.debug("Failed to explain query: <{}>", error.getMessage());
+                        return null;
+                    });
+        }
+    }
+
+    private static long ceilDiv(final long dividend, final long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * Execution statistics of an explained query.
+     *
+     * @param indexName the name of the only index used by the winning plan, or {@code null} if the plan used no
+     * index or several indexes.
+     * @param executionTimeMillis the execution time of the query.
+     * @param keysExamined the number of examined index keys.
+     * @param returned the number of returned documents.
+     */
+    record Explanation(@Nullable String indexName, long executionTimeMillis, long keysExamined, long returned) {
+
+        static Optional<Explanation> of(final Document explanation) {
+            final Document executionStats = explanation.get(EXECUTION_STATS, Document.class);
+            if (executionStats == null) {
+                return Optional.empty();
+            }
+            final Set<String> indexNames = new HashSet<>();
+            final Document queryPlanner = explanation.get(QUERY_PLANNER, Document.class);
+            if (queryPlanner != null) {
+                collectIndexNames(queryPlanner.get(WINNING_PLAN), indexNames);
+            }
+            return Optional.of(new Explanation(indexNames.size() == 1 ? indexNames.iterator().next() : null,
+                    executionStats.get(EXECUTION_TIME_MILLIS, Number.class).longValue(),
+                    executionStats.get(TOTAL_KEYS_EXAMINED, Number.class).longValue(),
+                    executionStats.get(N_RETURNED, Number.class).longValue()));
+        }
+
+        private static void collectIndexNames(@Nullable final Object planStage, final Set<String> indexNames) {
+            if (planStage instanceof Document document) {
+                if (document.get(INDEX_NAME) instanceof String indexName) {
+                    indexNames.add(indexName);
+                }
+                document.values().forEach(value -> collectIndexNames(value, indexNames));
+            } else if (planStage instanceof List<?> list) {
+                list.forEach(element -> collectIndexNames(element, indexNames));
+            }
+        }
+    }
+
+}
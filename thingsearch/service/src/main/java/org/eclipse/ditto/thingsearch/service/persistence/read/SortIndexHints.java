@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+
+/**
+ * Package-private selection of compound indexes serving the sort keys of a query.
+ * An index serves a sort if its keys start with the sort keys in the same order and either all with the same or all
+ * with the opposite directions, so that MongoDB can return the sorted documents by a single index range scan.
+ */
+final class SortIndexHints {
+
+    private final List<Index> candidates;
+
+    private SortIndexHints(final List<Index> candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * @return sort index hints never selecting any index.
+     */
+    static SortIndexHints disabled() {
+        return new SortIndexHints(List.of());
+    }
+
+    /**
+     * Creates sort index hints selecting among the given indexes.
+     *
+     * @param activeIndexes indexes existing in the search collection.
+     * @return the sort index hints.
+     */
+    static SortIndexHints of(final Collection<Index> activeIndexes) {
+        return new SortIndexHints(List.copyOf(activeIndexes));
+    }
+
+    /**
+     * Find the first index serving a sort.
+     *
+     * @param sort the sort document mapping field names to directions.
+     * @return the index if any serves the sort.
+     */
+    Optional<Index> getIndex(final BsonDocument sort) {
+        if (sort.isEmpty()) {
+            return Optional.empty();
+        }
+        return candidates.stream().filter(index -> serves(index.getKeys(), sort)).findFirst();
+    }
+
+    private static boolean serves(final BsonDocument indexKeys, final BsonDocument sort) {
+        if (indexKeys.size() < sort.size()) {
+            return false;
+        }
+        final Iterator<Map.Entry<String, BsonValue>> indexKeyIterator = indexKeys.entrySet().iterator();
+        Boolean reversed = null;
+        for (final Map.Entry<String, BsonValue> sortKey : sort.entrySet()) {
+            final Map.Entry<String, BsonValue> indexKey = indexKeyIterator.next();
+            if (!indexKey.getKey().equals(sortKey.getKey()) ||
+                    !indexKey.getValue().isNumber() || !sortKey.getValue().isNumber()) {
+                return false;
+            }
+            final boolean sameDirection = Integer.signum(indexKey.getValue().asNumber().intValue()) ==
+                    Integer.signum(sortKey.getValue().asNumber().intValue());
+            if (reversed == null) {
+                reversed = !sameDirection;
+            } else if (reversed == sameDirection) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
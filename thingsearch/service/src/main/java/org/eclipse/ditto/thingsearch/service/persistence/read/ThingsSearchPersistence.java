@@ -27,6 +27,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.IndexInitializa
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
+import org.eclipse.ditto.thingsearch.service.common.model.ApproximateCount;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
@@ -65,6 +66,25 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds, DittoHeaders dittoHeaders);
 
+    /**
+     * Returns an estimate of the count of documents found by the given {@code query}, computed by matching a random
+     * sample of the search index instead of counting all matching documents.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param sampleSize how many documents to sample.
+     * @param dittoHeaders the headers of the request.
+     * @return an {@link Source} which emits the estimated count and its error bound.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    default Source<ApproximateCount, NotUsed> approximateCount(final Query query,
+            final List<String> authorizationSubjectIds,
+            final int sampleSize,
+            final DittoHeaders dittoHeaders) {
+
+        return count(query, authorizationSubjectIds, dittoHeaders).map(ApproximateCount::exact);
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
@@ -128,6 +148,17 @@ public interface ThingsSearchPersistence {
      */
     Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound);
 
+    /**
+     * Sample IDs of search index entries not marked for deletion at random, e.g. to split the thing ID space into
+     * ranges of similar size. Do not consider authorization.
+     *
+     * @param sampleSize the maximum number of thing IDs to sample.
+     * @return source of the sampled thing IDs in no particular order, which is empty if sampling is not supported.
+     */
+    default Source<ThingId, NotUsed> sudoSampleThingIds(final int sampleSize) {
+        return Source.empty();
+    }
+
     /**
      * Returns the IDs for all found documents.
      *
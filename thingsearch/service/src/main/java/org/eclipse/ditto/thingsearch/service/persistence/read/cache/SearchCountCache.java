@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.rql.query.Query;
+
+/**
+ * Cache of the results of count queries keyed by the parsed query (which contains the normalized filter and the
+ * namespace restriction), the namespaces and the authorization subjects of the requester.
+ * A cached count is used only as long as none of its namespaces was written to the search index since its database
+ * read started; the expiry of the cache bounds the staleness of counts whose invalidation did not arrive.
+ */
+public final class SearchCountCache {
+
+    private static final String CACHE_NAME = "search_count_cache";
+    private static final String LOOKUPS_METRIC_NAME = "search_count_cache_lookups";
+    private static final String RESULT_TAG = "result";
+
+    private static final Counter HITS = DittoMetrics.counter(LOOKUPS_METRIC_NAME).tag(RESULT_TAG, "hit");
+    private static final Counter MISSES = DittoMetrics.counter(LOOKUPS_METRIC_NAME).tag(RESULT_TAG, "miss");
+    private static final Counter OUTDATED = DittoMetrics.counter(LOOKUPS_METRIC_NAME).tag(RESULT_TAG, "outdated");
+
+    private final Cache<CountKey, CachedCount> cache;
+    private final SearchIndexChangeTracker changeTracker;
+
+    private SearchCountCache(final Cache<CountKey, CachedCount> cache, final SearchIndexChangeTracker changeTracker) {
+        this.cache = cache;
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Create a count cache.
+     *
+     * @param cacheConfig the size and expiry of the cache.
+     * @param changeTracker the tracker of search index changes invalidating cached counts.
+     * @param executor the executor of the cache.
+     * @return the count cache.
+     */
+    public static SearchCountCache of(final CacheConfig cacheConfig, final SearchIndexChangeTracker changeTracker,
+            final Executor executor) {
+
+        return new SearchCountCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor), changeTracker);
+    }
+
+    /**
+     * Returns the cached count of a query if it is still valid, or counts and caches the result otherwise.
+     *
+     * @param query the parsed count query.
+     * @param authorizationSubjectIds the authorization subjects of the requester.
+     * @param namespaces the namespaces the query is restricted to, or {@code null} for all namespaces.
+     * @param count supplier of the source performing the count in the database.
+     * @return source of the count.
+     */
+    public Source<Long, NotUsed> getOrCount(final Query query, final Collection<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces, final Supplier<Source<Long, NotUsed>> count) {
+
+        final CountKey key = new CountKey(query, Set.copyOf(authorizationSubjectIds), namespaces);
+        return Source.completionStage(cache.getIfPresent(key))
+                .flatMapConcat(cachedCount -> {
+                    if (cachedCount.isPresent()) {
+                        if (!changeTracker.hasChangedSince(namespaces, cachedCount.get().readStartedAt())) {
+                            HITS.increment();
+                            return Source.single(cachedCount.get().count());
+                        }
+                        OUTDATED.increment();
+                    } else {
+                        MISSES.increment();
+                    }
+                    final long readStartedAt = changeTracker.now();
+                    return count.get().map(result -> {
+                        cache.put(key, new CachedCount(result, readStartedAt));
+                        return result;
+                    });
+                });
+    }
+
+    private record CountKey(Query query, Set<String> authorizationSubjectIds, @Nullable Set<String> namespaces) {}
+
+    private record CachedCount(long count, long readStartedAt) {}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+
+/**
+ * Actor which periodically publishes the namespaces changed by the local search updater to all search instances and
+ * records the namespaces changed by the other instances in the {@link SearchIndexChangeTracker}, so that cached query
+ * results are invalidated cluster-wide.
+ */
+public final class SearchIndexChangePropagator extends AbstractActorWithTimers {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "searchIndexChangePropagator";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef pubSubMediator;
+    private final SearchIndexChangeTracker changeTracker;
+
+    @SuppressWarnings("unused")
+    private SearchIndexChangePropagator(final ActorRef pubSubMediator, final Duration propagationInterval) {
+        this.pubSubMediator = pubSubMediator;
+        changeTracker = SearchIndexChangeTracker.get(getContext().getSystem());
+        pubSubMediator.tell(DistPubSubAccess.subscribe(SearchIndexChanged.PUB_SUB_TOPIC, getSelf()), getSelf());
+        getTimers().startTimerAtFixedRate(Control.PROPAGATE, Control.PROPAGATE, propagationInterval);
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param pubSubMediator the pub/sub mediator.
+     * @param propagationInterval how often to publish the locally changed namespaces.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final Duration propagationInterval) {
+        return Props.create(SearchIndexChangePropagator.class, pubSubMediator, propagationInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.PROPAGATE, this::propagate)
+                .match(SearchIndexChanged.class, this::recordRemoteChanges)
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack -> log.debug("Got <{}>", ack))
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void propagate(final Control propagate) {
+        final Set<String> namespaces = changeTracker.drainUnpropagatedChanges();
+        if (!namespaces.isEmpty()) {
+            pubSubMediator.tell(DistPubSubAccess.publish(SearchIndexChanged.PUB_SUB_TOPIC,
+                    new SearchIndexChanged(namespaces)), getSelf());
+        }
+    }
+
+    private void recordRemoteChanges(final SearchIndexChanged searchIndexChanged) {
+        // changes published by this instance were recorded when they were written
+        if (!getSelf().equals(getSender())) {
+            changeTracker.recordRemoteChanges(searchIndexChanged.namespaces());
+        }
+    }
+
+    private enum Control {
+        PROPAGATE
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+
+/**
+ * Node-local record of when the search index was last written per namespace.
+ * Cached query results remember the instant at which their database read started and are discarded if a namespace
+ * they cover was changed at or after that instant.
+ * <p>
+ * Changes written by the local search updater are collected until they are propagated to the other search instances
+ * by the {@link SearchIndexChangePropagator}; changes propagated by other instances are recorded at the instant of
+ * their arrival so that no clock synchronization between instances is required.
+ */
+@ThreadSafe
+public final class SearchIndexChangeTracker implements Extension {
+
+    private final LongSupplier clock;
+    private final Map<String, Long> lastChangeByNamespace;
+    private final AtomicLong lastChange;
+    private final Set<String> unpropagatedNamespaces;
+
+    SearchIndexChangeTracker(final LongSupplier clock) {
+        this.clock = clock;
+        lastChangeByNamespace = new ConcurrentHashMap<>();
+        lastChange = new AtomicLong(clock.getAsLong() - 1L);
+        unpropagatedNamespaces = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Load the {@code SearchIndexChangeTracker}.
+     *
+     * @param actorSystem the actor system in which to load the tracker.
+     * @return the tracker.
+     */
+    public static SearchIndexChangeTracker get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Returns the current instant of the tracker's monotonic clock. To be taken before a database read whose result
+     * is to be cached.
+     *
+     * @return the current instant.
+     */
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Records that the local search updater wrote a search index document of the given namespace.
+     *
+     * @param namespace the namespace of the written thing.
+     */
+    public void recordLocalChange(final String namespace) {
+        record(namespace, clock.getAsLong());
+        unpropagatedNamespaces.add(namespace);
+    }
+
+    /**
+     * Records that another search instance wrote search index documents of the given namespaces.
+     *
+     * @param namespaces the changed namespaces.
+     */
+    public void recordRemoteChanges(final Collection<String> namespaces) {
+        final long timestamp = clock.getAsLong();
+        namespaces.forEach(namespace -> record(namespace, timestamp));
+    }
+
+    /**
+     * Checks whether any of the given namespaces was changed at or after the given instant.
+     *
+     * @param namespaces the namespaces covered by a cached result, or {@code null} if it covers all namespaces.
+     * @param timestamp the instant at which the database read of the cached result started.
+     * @return whether the cached result may be outdated.
+     */
+    public boolean hasChangedSince(@Nullable final Collection<String> namespaces, final long timestamp) {
+        if (null == namespaces) {
+            return isAtOrAfter(lastChange.get(), timestamp);
+        }
+        for (final String namespace : namespaces) {
+            final Long lastChangeOfNamespace = lastChangeByNamespace.get(namespace);
+            if (null != lastChangeOfNamespace && isAtOrAfter(lastChangeOfNamespace, timestamp)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes and returns the namespaces changed locally since the last call.
+     *
+     * @return the changed namespaces.
+     */
+    Set<String> drainUnpropagatedChanges() {
+        final Set<String> drained = new HashSet<>();
+        final Iterator<String> iterator = unpropagatedNamespaces.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private void record(final String namespace, final long timestamp) {
+        lastChangeByNamespace.merge(namespace, timestamp, SearchIndexChangeTracker::latest);
+        lastChange.accumulateAndGet(timestamp, SearchIndexChangeTracker::latest);
+    }
+
+    private static long latest(final long instant1, final long instant2) {
+        return isAtOrAfter(instant1, instant2) ? instant1 : instant2;
+    }
+
+    private static boolean isAtOrAfter(final long instant, final long reference) {
+        // nano time values may overflow; only their difference is meaningful
+        return instant - reference >= 0L;
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<SearchIndexChangeTracker> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public SearchIndexChangeTracker createExtension(final ExtendedActorSystem system) {
+            return new SearchIndexChangeTracker(System::nanoTime);
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.Set;
+
+import org.eclipse.ditto.internal.utils.cluster.PekkoJacksonCborSerializable;
+
+/**
+ * Notification about namespaces whose search index documents were written by the search updater of one instance.
+ *
+ * @param namespaces the changed namespaces.
+ */
+public record SearchIndexChanged(Set<String> namespaces) implements PekkoJacksonCborSerializable {
+
+    /**
+     * Pub/sub topic of the notifications.
+     */
+    public static final String PUB_SUB_TOPIC = "search-index-changed";
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
+import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
+
+/**
+ * Cache of the result pages of search queries keyed by the parsed query (which contains the normalized filter, the
+ * sort options, the page limit and the cursor position), the namespaces and the authorization subjects of the
+ * requester.
+ * A cached page is used only as long as none of its namespaces was written to the search index since its database
+ * read started; the expiry of the cache bounds the staleness of pages whose invalidation did not arrive.
+ */
+public final class SearchQueryCache {
+
+    private static final String CACHE_NAME = "search_query_cache";
+    private static final String LOOKUPS_METRIC_NAME = "search_query_cache_lookups";
+    private static final String HIT_AGE_METRIC_NAME = "search_query_cache_hit_age_millis";
+    private static final String RESULT_TAG = "result";
+
+    private static final Counter HITS = DittoMetrics.counter(LOOKUPS_METRIC_NAME).tag(RESULT_TAG, "hit");
+    private static final Counter MISSES = DittoMetrics.counter(LOOKUPS_METRIC_NAME).tag(RESULT_TAG, "miss");
+    private static final Counter OUTDATED = DittoMetrics.counter(LOOKUPS_METRIC_NAME).tag(RESULT_TAG, "outdated");
+    private static final Histogram HIT_AGE = DittoMetrics.histogram(HIT_AGE_METRIC_NAME);
+
+    private final Cache<QueryKey, CachedPage> cache;
+    private final SearchIndexChangeTracker changeTracker;
+
+    private SearchQueryCache(final Cache<QueryKey, CachedPage> cache, final SearchIndexChangeTracker changeTracker) {
+        this.cache = cache;
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Create a query cache.
+     *
+     * @param cacheConfig the size and expiry of the cache.
+     * @param changeTracker the tracker of search index changes invalidating cached pages.
+     * @param executor the executor of the cache.
+     * @return the query cache.
+     */
+    public static SearchQueryCache of(final CacheConfig cacheConfig, final SearchIndexChangeTracker changeTracker,
+            final Executor executor) {
+
+        return new SearchQueryCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor), changeTracker);
+    }
+
+    /**
+     * Returns the cached result page of a query if it is still valid, or finds and caches the page otherwise.
+     * The age of the served pages is recorded as an upper bound of their staleness.
+     *
+     * @param query the parsed query adjusted to the cursor of the requested page.
+     * @param authorizationSubjectIds the authorization subjects of the requester, or {@code null} for sudo queries.
+     * @param namespaces the namespaces the query is restricted to, or {@code null} for all namespaces.
+     * @param findAll supplier of the source finding the result page in the database.
+     * @return source of the result page.
+     */
+    public Source<ResultList<TimestampedThingId>, NotUsed> getOrFind(final Query query,
+            @Nullable final Collection<String> authorizationSubjectIds, @Nullable final Set<String> namespaces,
+            final Supplier<Source<ResultList<TimestampedThingId>, NotUsed>> findAll) {
+
+        final QueryKey key = new QueryKey(query,
+                null != authorizationSubjectIds ? Set.copyOf(authorizationSubjectIds) : null, namespaces);
+        return Source.completionStage(cache.getIfPresent(key))
+                .flatMapConcat(cachedPage -> {
+                    if (cachedPage.isPresent()) {
+                        final long readStartedAt = cachedPage.get().readStartedAt();
+                        if (!changeTracker.hasChangedSince(namespaces, readStartedAt)) {
+                            HITS.increment();
+                            HIT_AGE.record(TimeUnit.NANOSECONDS.toMillis(changeTracker.now() - readStartedAt));
+                            return Source.single(cachedPage.get().resultList());
+                        }
+                        OUTDATED.increment();
+                    } else {
+                        MISSES.increment();
+                    }
+                    final long readStartedAt = changeTracker.now();
+                    return findAll.get().map(resultList -> {
+                        cache.put(key, new CachedPage(resultList, readStartedAt));
+                        return resultList;
+                    });
+                });
+    }
+
+    private record QueryKey(Query query, @Nullable Set<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces) {}
+
+    private record CachedPage(ResultList<TimestampedThingId> resultList, long readStartedAt) {}
+
+}
@@ -47,6 +47,7 @@ import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.UpdateReason;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
 
@@ -77,6 +78,32 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             @Nullable final Metadata oldMetadata, final int maxArraySize) {
 
+        return toWriteModel(thing, policy, referencedPolicies, policyRevision, oldMetadata, maxArraySize, null, 0);
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model. If the thing events in the old metadata cover all changes since
+     * the last write model and change at most {@code maxChangedPaths} attribute or feature paths, only the changed
+     * paths are converted and the rest of the search document is taken over from the last write model.
+     *
+     * @param thing the Thing in JSON format.
+     * @param policy the policy-enforcer of the Thing.
+     * @param policyRevision revision of the policy for a policy enforcer.
+     * @param referencedPolicies all policies referenced by the policy.
+     * @param oldMetadata the metadata that triggered the search update, possibly containing sender information.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param lastWriteModel the last write model written into the search index, if known.
+     * @param maxChangedPaths the maximum number of changed paths to compute the search document incrementally for.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Policy policy,
+            final Set<PolicyTag> referencedPolicies,
+            final long policyRevision,
+            @Nullable final Metadata oldMetadata, final int maxArraySize,
+            @Nullable final AbstractWriteModel lastWriteModel, final int maxChangedPaths) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final var thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -108,7 +135,13 @@ public final class EnforcedThingMapper {
                                 .orElse(List.of(UpdateReason.UNKNOWN))
                 );
 
-        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize));
+        final BsonDocument document = null == oldMetadata
+                ? toBsonDocument(thing, policy, metadata, maxArraySize)
+                : IncrementalThingDocument.of(thing, oldMetadata, lastWriteModel, maxChangedPaths)
+                        .map(incremental -> toBsonDocument(thing, policy, metadata, maxArraySize, incremental))
+                        .orElseGet(() -> toBsonDocument(thing, policy, metadata, maxArraySize));
+
+        return ThingWriteModel.of(metadata, document);
     }
 
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata) {
@@ -119,13 +152,30 @@ public final class EnforcedThingMapper {
             final int maxArraySize) {
 
         final var enforced = IndexLengthRestrictionEnforcerVisitor.enforce(thing, maxArraySize);
+        final var thingBson = DittoBsonJson.getInstance().parse(enforced);
+        final var evaluatedPolicy = EvaluatedPolicy.of(policy, thing, metadata.getThingId().getNamespace());
+        final var featureArray = getFeatureArray(thing, evaluatedPolicy);
+
+        return toBsonDocument(metadata, thingBson, evaluatedPolicy, featureArray);
+    }
+
+    static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata,
+            final int maxArraySize, final IncrementalThingDocument incrementalThingDocument) {
+
+        final var thingBson = incrementalThingDocument.getThingDocument(maxArraySize);
+        final var evaluatedPolicy = EvaluatedPolicy.of(policy, thing, metadata.getThingId().getNamespace());
+        final var featureArray = incrementalThingDocument.getFeatureArray(evaluatedPolicy);
+
+        return toBsonDocument(metadata, thingBson, evaluatedPolicy, featureArray);
+    }
+
+    private static BsonDocument toBsonDocument(final Metadata metadata, final BsonDocument thingBson,
+            final EvaluatedPolicy evaluatedPolicy, final BsonArray featureArray) {
+
         final var thingId = metadata.getThingId();
         final var thingRevision = metadata.getThingRevision();
         final var policyRevision =
                 metadata.getThingPolicyTag().map(AbstractEntityIdWithRevision::getRevision).orElse(0L);
-        final var thingBson = DittoBsonJson.getInstance().parse(enforced);
-        final var evaluatedPolicy = EvaluatedPolicy.of(policy, thing, thingId.getNamespace());
-        final var featureArray = getFeatureArray(thing, evaluatedPolicy);
         final BsonArray referencedPolicies = getReferencedPolicies(metadata.getAllReferencedPolicyTags());
 
         return new BsonDocument().append(PersistenceConstants.FIELD_ID, new BsonString(thingId.toString()))
@@ -161,7 +211,7 @@ public final class EnforcedThingMapper {
         return array;
     }
 
-    private static BsonDocument getFeatureArrayElement(final JsonField featureField,
+    static BsonDocument getFeatureArrayElement(final JsonField featureField,
             final EvaluatedPolicy evaluatedPolicy) {
 
         final BsonDocument doc = new BsonDocument();
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_ATTRIBUTES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURE_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_F_ARRAY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.KeyNameReviser;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+
+/**
+ * Computes the thing part and the feature array of a search document from the previously written search document by
+ * converting only the attributes and features changed by the thing events since then. All other fields of the thing
+ * are small and converted entirely.
+ */
+final class IncrementalThingDocument {
+
+    private static final KeyNameReviser KEY_NAME_REVISER = KeyNameReviser.escapeProblematicPlainChars();
+
+    private final JsonObject thing;
+    private final BsonDocument previousDocument;
+    private final Set<JsonPointer> changedPaths;
+
+    private IncrementalThingDocument(final JsonObject thing, final BsonDocument previousDocument,
+            final Set<JsonPointer> changedPaths) {
+
+        this.thing = thing;
+        this.previousDocument = previousDocument;
+        this.changedPaths = changedPaths;
+    }
+
+    /**
+     * Determine whether the search document of a thing can be computed incrementally. That is the case if the events
+     * of the metadata contain every revision since the last written search document and change at most
+     * {@code maxChangedPaths} attribute or feature paths.
+     *
+     * @param thing the thing in JSON format.
+     * @param metadata the metadata of the search update.
+     * @param lastWriteModel the last write model written to the search index.
+     * @param maxChangedPaths the maximum number of changed paths.
+     * @return the incremental search document if possible.
+     */
+    static Optional<IncrementalThingDocument> of(final JsonObject thing, final Metadata metadata,
+            @Nullable final AbstractWriteModel lastWriteModel, final int maxChangedPaths) {
+
+        if (maxChangedPaths <= 0 || metadata.shouldInvalidateThing() ||
+                !(lastWriteModel instanceof ThingWriteModel thingWriteModel)) {
+            return Optional.empty();
+        }
+        final BsonDocument previousDocument = thingWriteModel.getThingDocument();
+        final BsonValue previousRevision = previousDocument.get(FIELD_REVISION);
+        final BsonValue previousThing = previousDocument.get(FIELD_THING);
+        if (null == previousRevision || !previousRevision.isNumber() || null == previousThing ||
+                !previousThing.isDocument() || previousThing.asDocument().isEmpty() ||
+                !previousDocument.isArray(FIELD_F_ARRAY)) {
+            // no search document or an emptied out one
+            return Optional.empty();
+        }
+        final long fromRevision = previousRevision.asNumber().longValue();
+        final long toRevision = thing.getValue(Thing.JsonFields.REVISION).orElse(fromRevision);
+        return getChangedPaths(metadata.getEvents(), fromRevision, toRevision, maxChangedPaths)
+                .map(changedPaths -> new IncrementalThingDocument(thing, previousDocument, changedPaths));
+    }
+
+    /**
+     * Compute the thing part of the search document.
+     *
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @return the thing part of the search document.
+     */
+    BsonDocument getThingDocument(final int maxArraySize) {
+        final String thingId = thing.getValueOrThrow(Thing.JsonFields.ID);
+        final BsonDocument previousThing = previousDocument.getDocument(FIELD_THING);
+        final BsonDocument convertedThing = new BsonDocument();
+        for (final JsonField field : thing) {
+            final String key = field.getKeyName();
+            final String bsonKey = toBsonKey(field.getKey());
+            final BsonValue previousValue = previousThing.get(bsonKey);
+            if (isChangedByPaths(key) && null != previousValue) {
+                convertedThing.put(bsonKey, previousValue);
+            } else {
+                convert(thingId, JsonPointer.of(field.getKey()), field.getValue(), maxArraySize)
+                        .ifPresent(value -> convertedThing.put(bsonKey, value));
+            }
+        }
+        BsonDocument thingDocument = convertedThing;
+        for (final JsonPointer changedPath : changedPaths) {
+            final BsonValue newValue = thing.getValue(changedPath)
+                    .flatMap(value -> convert(thingId, changedPath, value, maxArraySize))
+                    .orElse(null);
+            if (thingDocument.containsKey(toBsonKey(changedPath.getRoot().orElseThrow()))) {
+                thingDocument = update(thingDocument, changedPath, 0, newValue);
+            }
+        }
+        return thingDocument;
+    }
+
+    /**
+     * Compute the feature array of the search document. Elements of unchanged features are taken over with their
+     * permissions evaluated anew.
+     *
+     * @param evaluatedPolicy the policy evaluated for the thing.
+     * @return the feature array.
+     */
+    BsonArray getFeatureArray(final EvaluatedPolicy evaluatedPolicy) {
+        final Set<String> changedFeatureIds = new HashSet<>();
+        boolean allFeaturesChanged = false;
+        for (final JsonPointer changedPath : changedPaths) {
+            if (isFeaturesPath(changedPath)) {
+                final Optional<JsonKey> featureId = changedPath.get(1);
+                featureId.ifPresent(key -> changedFeatureIds.add(key.toString()));
+                allFeaturesChanged |= featureId.isEmpty();
+            }
+        }
+        final Map<String, BsonDocument> previousElements = new HashMap<>();
+        for (final BsonValue element : previousDocument.getArray(FIELD_F_ARRAY)) {
+            if (element.isDocument() && element.asDocument().isString(FIELD_FEATURE_ID)) {
+                previousElements.put(element.asDocument().getString(FIELD_FEATURE_ID).getValue(),
+                        element.asDocument());
+            }
+        }
+        final JsonObject features = thing.getValue(FIELD_FEATURES)
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .orElse(JsonObject.empty());
+        final BsonArray array = new BsonArray();
+        for (final JsonField feature : features) {
+            final String featureId = feature.getKeyName();
+            final BsonDocument previousElement = previousElements.get(featureId);
+            if (allFeaturesChanged || changedFeatureIds.contains(featureId) || null == previousElement) {
+                array.add(EnforcedThingMapper.getFeatureArrayElement(feature, evaluatedPolicy));
+            } else {
+                final BsonDocument element = copy(previousElement);
+                element.put(FIELD_POLICY, evaluatedPolicy.forFeature(featureId));
+                array.add(element);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * @return the attribute and feature paths changed since the previous search document.
+     */
+    Set<JsonPointer> getChangedPaths() {
+        return changedPaths;
+    }
+
+    private static Optional<Set<JsonPointer>> getChangedPaths(final List<ThingEvent<?>> events,
+            final long fromRevision, final long toRevision, final int maxChangedPaths) {
+
+        if (toRevision <= fromRevision) {
+            return Optional.empty();
+        }
+        final Set<Long> revisions = new HashSet<>();
+        final List<JsonPointer> paths = new ArrayList<>();
+        for (final ThingEvent<?> event : events) {
+            if (event.getRevision() > fromRevision && event.getRevision() <= toRevision) {
+                final JsonPointer path = event.getResourcePath();
+                if (path.isEmpty()) {
+                    // the whole thing changed
+                    return Optional.empty();
+                }
+                revisions.add(event.getRevision());
+                if (isChangedByPaths(path.getRoot().orElseThrow().toString())) {
+                    paths.add(path);
+                }
+            }
+        }
+        if (revisions.size() != toRevision - fromRevision) {
+            // events are missing
+            return Optional.empty();
+        }
+        paths.sort(Comparator.comparingInt(JsonPointer::getLevelCount));
+        final Set<JsonPointer> changedPaths = new HashSet<>();
+        for (final JsonPointer path : paths) {
+            if (changedPaths.stream().noneMatch(changedPath -> isPrefix(changedPath, path))) {
+                changedPaths.add(path);
+                if (changedPaths.size() > maxChangedPaths) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(changedPaths);
+    }
+
+    private static boolean isChangedByPaths(final String topLevelKey) {
+        return FIELD_ATTRIBUTES.equals(topLevelKey) || FIELD_FEATURES.equals(topLevelKey);
+    }
+
+    private static boolean isFeaturesPath(final JsonPointer path) {
+        return path.getRoot().filter(key -> FIELD_FEATURES.equals(key.toString())).isPresent();
+    }
+
+    private static boolean isPrefix(final JsonPointer prefix, final JsonPointer path) {
+        if (prefix.getLevelCount() > path.getLevelCount()) {
+            return false;
+        }
+        for (int level = 0; level < prefix.getLevelCount(); level++) {
+            if (!prefix.get(level).equals(path.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<BsonValue> convert(final String thingId, final JsonPointer pointer, final JsonValue value,
+            final int maxArraySize) {
+
+        return IndexLengthRestrictionEnforcerVisitor.enforce(thingId, pointer, value, maxArraySize)
+                .map(enforced -> DittoBsonJson.getInstance().parseValue(enforced));
+    }
+
+    /**
+     * Set or remove the value at a path without modifying the given document, which may be part of the previous
+     * search document. Only the documents along the path are copied.
+     */
+    private static BsonDocument update(final BsonDocument document, final JsonPointer path, final int level,
+            @Nullable final BsonValue value) {
+
+        final String key = toBsonKey(path.get(level).orElseThrow());
+        final BsonValue child = document.get(key);
+        final BsonDocument result = copy(document);
+        if (level == path.getLevelCount() - 1) {
+            if (null == value) {
+                result.remove(key);
+            } else {
+                result.put(key, value);
+            }
+        } else if (null != child && child.isDocument()) {
+            result.put(key, update(child.asDocument(), path, level + 1, value));
+        } else if (null != value) {
+            result.put(key, update(new BsonDocument(), path, level + 1, value));
+        }
+        return result;
+    }
+
+    private static BsonDocument copy(final BsonDocument document) {
+        final BsonDocument copy = new BsonDocument();
+        copy.putAll(document);
+        return copy;
+    }
+
+    private static String toBsonKey(final JsonKey key) {
+        return KEY_NAME_REVISER.apply(key.toString());
+    }
+
+}
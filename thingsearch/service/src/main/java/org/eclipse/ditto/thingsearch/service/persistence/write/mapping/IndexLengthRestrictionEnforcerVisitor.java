@@ -44,6 +44,21 @@ final class IndexLengthRestrictionEnforcerVisitor implements JsonObjectVisitor<J
                 .orElseThrow();
     }
 
+    /**
+     * Enforce the limits on a part of a thing.
+     *
+     * @param thingId the ID of the thing.
+     * @param pointer the location of the part in the thing.
+     * @param value the part of the thing.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @return the part with enforced limits, or an empty optional if it is not indexed at all.
+     */
+    static Optional<JsonValue> enforce(final String thingId, final JsonPointer pointer, final JsonValue value,
+            final int maxArraySize) {
+
+        return new IndexLengthRestrictionEnforcerVisitor(thingId, maxArraySize).value(pointer, value);
+    }
+
     @Override
     public Optional<JsonValue> nullValue(final JsonPointer key) {
         return singleton(key, JsonValue.nullLiteral());
@@ -66,13 +66,15 @@ public final class ThingWriteModel extends AbstractWriteModel {
     private final BsonDocument thingDocument;
     private final boolean isPatchUpdate;
     private final long previousRevision;
+    private final boolean recovered;
 
     private ThingWriteModel(final Metadata metadata, final BsonDocument thingDocument, final boolean isPatchUpdate,
-            final long previousRevision) {
+            final long previousRevision, final boolean recovered) {
         super(metadata);
         this.thingDocument = thingDocument;
         this.isPatchUpdate = isPatchUpdate;
         this.previousRevision = previousRevision;
+        this.recovered = recovered;
     }
 
     /**
@@ -83,7 +85,19 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel of(final Metadata metadata, final BsonDocument thingDocument) {
-        return new ThingWriteModel(metadata, thingDocument, false, 0L);
+        return new ThingWriteModel(metadata, thingDocument, false, 0L, false);
+    }
+
+    /**
+     * Create a Thing write model of a search document read from the search index. As the document may have been
+     * written with another projection of the thing, it is not used to compute the next search document incrementally.
+     *
+     * @param metadata the metadata.
+     * @param thingDocument the document read from the search index.
+     * @return a Thing write model.
+     */
+    public static ThingWriteModel ofRecovered(final Metadata metadata, final BsonDocument thingDocument) {
+        return new ThingWriteModel(metadata, thingDocument, false, 0L, true);
     }
 
     /**
@@ -112,7 +126,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
                 .append(FIELD_THING, new BsonDocument())
                 .append(FIELD_POLICY, new BsonDocument())
                 .append(FIELD_F_ARRAY, new BsonArray());
-        return new ThingWriteModel(metadata, emptiedOutThingDocument, false, 0L);
+        return new ThingWriteModel(metadata, emptiedOutThingDocument, false, 0L, false);
     }
 
     /**
@@ -122,7 +136,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return a Thing write model.
      */
     public static ThingWriteModel noopWriteModel(final Metadata metadata) {
-        return new ThingWriteModel(metadata, new BsonDocument(), false, 0L);
+        return new ThingWriteModel(metadata, new BsonDocument(), false, 0L, false);
     }
 
     @Override
@@ -143,7 +157,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return The patch update.
      */
     public ThingWriteModel asPatchUpdate(final long previousRevision) {
-        return new ThingWriteModel(getMetadata(), thingDocument, true, previousRevision);
+        return new ThingWriteModel(getMetadata(), thingDocument, true, previousRevision, recovered);
     }
 
     @Override
@@ -153,7 +167,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
 
     @Override
     public ThingWriteModel setMetadata(final Metadata metadata) {
-        return new ThingWriteModel(metadata, thingDocument, isPatchUpdate, previousRevision);
+        return new ThingWriteModel(metadata, thingDocument, isPatchUpdate, previousRevision, recovered);
     }
 
     /**
@@ -163,6 +177,13 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return thingDocument;
     }
 
+    /**
+     * @return whether the Thing document was read from the persistence instead of computed by this service instance.
+     */
+    public boolean isRecovered() {
+        return recovered;
+    }
+
     @Override
     public Bson getFilter() {
         if (isPatchUpdate) {
@@ -193,12 +214,13 @@ public final class ThingWriteModel extends AbstractWriteModel {
         final ThingWriteModel that = (ThingWriteModel) o;
         return thingDocument.equals(that.thingDocument) &&
                 isPatchUpdate == that.isPatchUpdate &&
-                previousRevision == that.previousRevision;
+                previousRevision == that.previousRevision &&
+                recovered == that.recovered;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), thingDocument, isPatchUpdate, previousRevision);
+        return Objects.hash(super.hashCode(), thingDocument, isPatchUpdate, previousRevision, recovered);
     }
 
     @Override
@@ -207,6 +229,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
                 ", thingDocument=" + thingDocument +
                 ", isPatchUpdate=" + isPatchUpdate +
                 ", previousRevision=" + previousRevision +
+                ", recovered=" + recovered +
                 "]";
     }
 
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -27,6 +28,7 @@ import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 
 /**
  * Data structure containing requested write models, write results and errors for reliable search index update.
@@ -39,6 +41,7 @@ public final class WriteResultAndErrors {
     private final List<BulkWriteError> bulkWriteErrors;
     @Nullable private final Throwable unexpectedError;
     private final String bulkWriteCorrelationId;
+    private final boolean superseded;
 
     private WriteResultAndErrors(
             final Collection<MongoWriteModel> writeModels,
@@ -46,11 +49,22 @@ public final class WriteResultAndErrors {
             final List<BulkWriteError> bulkWriteErrors,
             @Nullable final Throwable unexpectedError,
             final String bulkWriteCorrelationId) {
+        this(writeModels, bulkWriteResult, bulkWriteErrors, unexpectedError, bulkWriteCorrelationId, false);
+    }
+
+    private WriteResultAndErrors(
+            final Collection<MongoWriteModel> writeModels,
+            final BulkWriteResult bulkWriteResult,
+            final List<BulkWriteError> bulkWriteErrors,
+            @Nullable final Throwable unexpectedError,
+            final String bulkWriteCorrelationId,
+            final boolean superseded) {
         this.writeModels = writeModels.stream().toList();
         this.bulkWriteResult = bulkWriteResult;
         this.bulkWriteErrors = bulkWriteErrors;
         this.unexpectedError = unexpectedError;
         this.bulkWriteCorrelationId = bulkWriteCorrelationId;
+        this.superseded = superseded;
     }
 
     /**
@@ -148,6 +162,72 @@ public final class WriteResultAndErrors {
         return bulkWriteCorrelationId;
     }
 
+    /**
+     * Check whether the requested write models were not written themselves because a newer write model of the same
+     * thing superseded them before they were written. The result is then the one of the newer write model.
+     *
+     * @return whether the write models were superseded.
+     */
+    public boolean isSuperseded() {
+        return superseded;
+    }
+
+    /**
+     * Mark this result as the result of write models which were superseded by a newer write model before they were
+     * written.
+     *
+     * @return the result of the superseded write models.
+     */
+    public WriteResultAndErrors asSuperseded() {
+        return new WriteResultAndErrors(writeModels, bulkWriteResult, bulkWriteErrors, unexpectedError,
+                bulkWriteCorrelationId, true);
+    }
+
+    /**
+     * Extract the result of the write model at the given index of the bulk write and report it for the given write
+     * model, which is either the write model at the index or a write model superseded by it.
+     * Errors and upserts are attributed by their index. Since MongoDB reports matched documents per bulk only, all
+     * patch updates of a bulk with missing updates are reported as unmatched so that they are retried.
+     *
+     * @param index the index of the write model in the bulk write.
+     * @param reportedWriteModel the write model to report the result for.
+     * @return the result of the single write model.
+     * @throws IndexOutOfBoundsException if the index is not within the requested write models.
+     */
+    public WriteResultAndErrors forWriteModelAt(final int index, final MongoWriteModel reportedWriteModel) {
+        final MongoWriteModel writeModel = writeModels.get(index);
+        final List<BulkWriteError> errors = bulkWriteErrors.stream()
+                .filter(error -> error.getIndex() == index)
+                .map(error -> new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(), 0))
+                .toList();
+        final BulkWriteResult result;
+        if (unexpectedError != null || !bulkWriteResult.wasAcknowledged()) {
+            result = bulkWriteResult;
+        } else {
+            final List<BulkWriteUpsert> upserts = bulkWriteResult.getUpserts().stream()
+                    .filter(upsert -> upsert.getIndex() == index)
+                    .map(upsert -> new BulkWriteUpsert(0, upsert.getId()))
+                    .toList();
+            final boolean isDeletion = writeModel.getDitto() instanceof ThingDeleteModel;
+            final boolean matched = !isDeletion && errors.isEmpty() && upserts.isEmpty() &&
+                    !(writeModel.isPatchUpdate() && areUpdatesMissing());
+            final boolean deleted = isDeletion && errors.isEmpty() && bulkWriteResult.getDeletedCount() > 0;
+            result = BulkWriteResult.acknowledged(0, matched ? 1 : 0, deleted ? 1 : 0, matched ? 1 : 0, upserts,
+                    List.of());
+        }
+        return new WriteResultAndErrors(List.of(reportedWriteModel), result, errors, unexpectedError,
+                bulkWriteCorrelationId);
+    }
+
+    private boolean areUpdatesMissing() {
+        final long updatesWithoutErrors = IntStream.range(0, writeModels.size())
+                .filter(i -> !(writeModels.get(i).getDitto() instanceof ThingDeleteModel))
+                .filter(i -> bulkWriteErrors.stream().noneMatch(error -> error.getIndex() == i))
+                .count();
+
+        return bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() < updatesWithoutErrors;
+    }
+
     /**
      * Check if the error is a namespace-blocked exception.
      *
@@ -164,7 +244,8 @@ public final class WriteResultAndErrors {
                     Objects.equals(bulkWriteResult, that.bulkWriteResult) &&
                     Objects.equals(bulkWriteErrors, that.bulkWriteErrors) &&
                     Objects.equals(unexpectedError, that.unexpectedError) &&
-                    Objects.equals(bulkWriteCorrelationId, that.bulkWriteCorrelationId);
+                    Objects.equals(bulkWriteCorrelationId, that.bulkWriteCorrelationId) &&
+                    superseded == that.superseded;
         } else {
             return false;
         }
@@ -172,7 +253,8 @@ public final class WriteResultAndErrors {
 
     @Override
     public int hashCode() {
-        return Objects.hash(writeModels, bulkWriteResult, bulkWriteErrors, unexpectedError, bulkWriteCorrelationId);
+        return Objects.hash(writeModels, bulkWriteResult, bulkWriteErrors, unexpectedError, bulkWriteCorrelationId,
+                superseded);
     }
 
     @Override
@@ -183,6 +265,7 @@ public final class WriteResultAndErrors {
                 ",bulkWriteErrors=" + bulkWriteErrors +
                 ",unexpectedError=" + unexpectedError +
                 ",bulkWriteCorrelationId=" + bulkWriteCorrelationId +
+                ",superseded=" + superseded +
                 "]";
     }
 }
@@ -104,6 +104,19 @@ public final class BackgroundSyncStream {
                 throttlePeriod, namespacePoliciesConfig);
     }
 
+    /**
+     * Create a background sync stream for one of several partitions synchronized in parallel. Each partition receives
+     * an equal share of the throttle throughput.
+     *
+     * @param numberOfPartitions the number of partitions synchronized in parallel.
+     * @return the background sync stream of one partition.
+     */
+    public BackgroundSyncStream withThroughputShareOf(final int numberOfPartitions) {
+        return new BackgroundSyncStream(policiesShardRegion, policiesAskTimeout, toleranceWindow,
+                Math.max(1, throttleThroughput / Math.max(1, numberOfPartitions)), throttlePeriod,
+                namespacePoliciesConfig);
+    }
+
     /**
      * Discover inconsistencies between the persisted and indexed metadata and emit extra/nonexistent/mismatched
      * entries of the search index.
@@ -61,6 +61,7 @@ import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.StreamCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.StreamConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.NamespaceIndexedFields;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
@@ -85,6 +86,8 @@ final class EnforcementFlow {
     private final Duration cacheRetryDelay;
     private final SearchUpdateObserver searchUpdateObserver;
     private final int maxArraySize;
+    private final int incrementalDocumentMaxChangedPaths;
+    private final NamespaceIndexedFields namespaceIndexedFields;
 
     private EnforcementFlow(final ActorSystem actorSystem,
             final ActorRef thingsShardRegion,
@@ -102,6 +105,9 @@ final class EnforcementFlow {
         final SearchConfig searchConfig =
                 DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
         maxArraySize = searchConfig.getUpdaterConfig().getStreamConfig().getMaxArraySize();
+        incrementalDocumentMaxChangedPaths =
+                searchConfig.getUpdaterConfig().getStreamConfig().getIncrementalDocumentMaxChangedPaths();
+        namespaceIndexedFields = NamespaceIndexedFields.of(searchConfig.getNamespaceIndexedFields());
     }
 
     /**
@@ -190,7 +196,7 @@ final class EnforcementFlow {
                                         .flatMapConcat(pair -> {
                                             final JsonObject thing = pair.second();
                                             searchUpdateObserver.process(changedMetadata, thing);
-                                            return computeWriteModel(changedMetadata, thing);
+                                            return computeWriteModel(changedMetadata, thing, null);
                                         })
                         )
                         .grouped(maxBulkSize))
@@ -209,7 +215,7 @@ final class EnforcementFlow {
                         .flatMapConcat(pair -> {
                             final JsonObject thing = pair.second();
                             searchUpdateObserver.process(data.metadata(), thing);
-                            return computeWriteModel(data.metadata(), thing);
+                            return computeWriteModel(data.metadata(), thing, data.lastWriteModel());
                         })
                         .flatMapConcat(writeModel -> mapper.processWriteModel(writeModel, data.lastWriteModel())
                                 .orElse(Source.lazySource(() -> {
@@ -259,7 +265,7 @@ final class EnforcementFlow {
     }
 
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final JsonObject thing) {
+            @Nullable final JsonObject thing, @Nullable final AbstractWriteModel lastWriteModel) {
 
         ConsistencyLag.startS4GetEnforcer(metadata);
         final ThingEvent<?> latestEvent = metadata.getEvents()
@@ -277,8 +283,13 @@ final class EnforcementFlow {
                         if (entry.exists()) {
                             try {
                                 final Pair<Policy, Set<PolicyTag>> pair = entry.getValueOrThrow();
-                                return EnforcedThingMapper.toWriteModel(thing, pair.first(), pair.second(),
-                                        entry.getRevision(), metadata, maxArraySize);
+                                final JsonObject indexedThing =
+                                        namespaceIndexedFields.project(metadata.getThingId().getNamespace(), thing);
+                                return EnforcedThingMapper.toWriteModel(indexedThing, pair.first(), pair.second(),
+                                        entry.getRevision(), metadata, maxArraySize,
+                                        getIncrementalBase(lastWriteModel, pair.first(), pair.second(),
+                                                entry.getRevision()),
+                                        incrementalDocumentMaxChangedPaths);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 log.info(
@@ -309,6 +320,34 @@ final class EnforcementFlow {
         }
     }
 
+    /**
+     * Returns the last write model if the next search document may be computed incrementally from it. That requires
+     * the same projection of the thing, which only write models computed by this instance are known to have, and the
+     * same policy revisions, as permissions of unchanged features are taken over otherwise.
+     *
+     * @param lastWriteModel the last write model written into the search index.
+     * @param policy the policy of the thing.
+     * @param referencedPolicies the policies referenced by the policy.
+     * @param policyRevision the revision of the policy.
+     * @return the last write model or {@code null} if the thing has to be converted entirely.
+     */
+    @Nullable
+    static AbstractWriteModel getIncrementalBase(@Nullable final AbstractWriteModel lastWriteModel,
+            final Policy policy, final Set<PolicyTag> referencedPolicies, final long policyRevision) {
+
+        if (lastWriteModel instanceof ThingWriteModel thingWriteModel && !thingWriteModel.isRecovered()) {
+            final Metadata lastMetadata = thingWriteModel.getMetadata();
+            final boolean samePolicyRevision = lastMetadata.getThingPolicyTag()
+                    .filter(policyTag -> policyTag.getRevision() == policyRevision)
+                    .filter(policyTag -> policy.getEntityId().filter(policyTag.getEntityId()::equals).isPresent())
+                    .isPresent();
+            if (samePolicyRevision && lastMetadata.getAllReferencedPolicyTags().equals(referencedPolicies)) {
+                return thingWriteModel;
+            }
+        }
+        return null;
+    }
+
     /**
      * Get the enforcer of a thing or an empty source if it does not exist.
      *
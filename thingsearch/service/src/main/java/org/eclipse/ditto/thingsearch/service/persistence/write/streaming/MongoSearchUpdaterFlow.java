@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonDocument;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
@@ -24,6 +26,7 @@ import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.thingsearch.service.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
@@ -40,8 +43,10 @@ import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.japi.pf.PFBuilder;
 import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
 
 /**
@@ -57,13 +62,26 @@ final class MongoSearchUpdaterFlow {
             DittoLoggerFactory.getThreadSafeLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<BsonDocument> collection;
+    @Nullable private final SearchIndexChangeTracker changeTracker;
+    @Nullable private final UpdateLaneBuffer updateLaneBuffer;
 
     private MongoSearchUpdaterFlow(final MongoCollection<BsonDocument> collection,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            @Nullable final SearchIndexChangeTracker changeTracker,
+            @Nullable final Materializer materializer) {
 
         final var writeConcern = persistenceConfig.getWithAcknowledgementsWriteConcern();
         LOGGER.info("Update writeConcern=<{}>", writeConcern);
         this.collection = collection.withWriteConcern(writeConcern);
+        this.changeTracker = changeTracker;
+        final var updateLanesConfig = persistenceConfig.getUpdateLanesConfig();
+        if (materializer != null && updateLanesConfig.isEnabled()) {
+            LOGGER.info("Writing search index updates in lanes: <{}>", updateLanesConfig);
+            updateLaneBuffer = UpdateLaneBuffer.of(updateLanesConfig, persistenceConfig.getParallelism(),
+                    writeModels -> executeBulkWrite(writeModels).runWith(Sink.head(), materializer));
+        } else {
+            updateLaneBuffer = null;
+        }
     }
 
     /**
@@ -71,14 +89,39 @@ final class MongoSearchUpdaterFlow {
      *
      * @param database the MongoDB database.
      * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param changeTracker the tracker to notify about written namespaces in order to invalidate cached queries or
+     * {@code null} if no query results are cached.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            @Nullable final SearchIndexChangeTracker changeTracker) {
+
+        return of(database, persistenceConfig, changeTracker, null);
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which writes updates in shared bulks of the update lanes if they are
+     * enabled in the persistence configuration.
+     *
+     * @param database the MongoDB database.
+     * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param changeTracker the tracker to notify about written namespaces in order to invalidate cached queries or
+     * {@code null} if no query results are cached.
+     * @param materializer the materializer to run the bulk writes of the update lanes with or {@code null} to write
+     * each update on its own.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            @Nullable final SearchIndexChangeTracker changeTracker,
+            @Nullable final Materializer materializer) {
 
         return new MongoSearchUpdaterFlow(
                 database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
-                persistenceConfig
+                persistenceConfig,
+                changeTracker,
+                materializer
         );
     }
 
@@ -88,6 +131,11 @@ final class MongoSearchUpdaterFlow {
      * @return The flow.
      */
     public Flow<MongoWriteModel, ThingUpdater.Result, NotUsed> create() {
+        if (updateLaneBuffer != null) {
+            return Flow.<MongoWriteModel>create()
+                    .mapAsync(1, writeModel -> updateLaneBuffer.submit(writeModel)
+                            .thenApply(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
+        }
         return Flow.<MongoWriteModel>create()
                 .flatMapConcat(writeModel -> executeBulkWrite(List.of(writeModel))
                         .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
@@ -135,9 +183,14 @@ final class MongoSearchUpdaterFlow {
                 )
                 .map(resultAndErrors -> {
                     stopBulkWriteTimer(bulkWriteTimer);
-                    writeModels.forEach(writeModel ->
-                            ConsistencyLag.startS6Acknowledge(writeModel.getDitto().getMetadata())
-                    );
+                    writeModels.forEach(writeModel -> {
+                        if (changeTracker != null) {
+                            // also on failure, as a bulk write may be partially applied
+                            changeTracker.recordLocalChange(
+                                    writeModel.getDitto().getMetadata().getThingId().getNamespace());
+                        }
+                        ConsistencyLag.startS6Acknowledge(writeModel.getDitto().getMetadata());
+                    });
                     return resultAndErrors;
                 });
     }
@@ -16,9 +16,12 @@ import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.model.namespaces.NamespaceBlockedException;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -26,6 +29,7 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.Source;
 
@@ -59,6 +63,8 @@ public final class SearchUpdaterStream {
      * @param policiesShard shard region proxy of policies.
      * @param database MongoDB database.
      * @param searchUpdateMapper a custom listener for search updates.
+     * @param changeTracker the tracker to notify about written namespaces in order to invalidate cached queries or
+     * {@code null} if no query results are cached.
      * @return a SearchUpdaterStream object.
      */
     public static SearchUpdaterStream of(final UpdaterConfig updaterConfig,
@@ -67,7 +73,8 @@ public final class SearchUpdaterStream {
             final ActorRef policiesShard,
             final MongoDatabase database,
             final BlockedNamespaces blockedNamespaces,
-            final SearchUpdateMapper searchUpdateMapper) {
+            final SearchUpdateMapper searchUpdateMapper,
+            @Nullable final SearchIndexChangeTracker changeTracker) {
 
         final var streamConfig = updaterConfig.getStreamConfig();
 
@@ -75,7 +82,8 @@ public final class SearchUpdaterStream {
                 EnforcementFlow.of(actorSystem, streamConfig, thingsShard, policiesShard, actorSystem.getScheduler());
 
         final var mongoSearchUpdaterFlow =
-                MongoSearchUpdaterFlow.of(database, streamConfig.getPersistenceConfig());
+                MongoSearchUpdaterFlow.of(database, streamConfig.getPersistenceConfig(), changeTracker,
+                        SystemMaterializer.get(actorSystem).materializer());
 
         return new SearchUpdaterStream(enforcementFlow, mongoSearchUpdaterFlow, blockedNamespaces, searchUpdateMapper);
     }
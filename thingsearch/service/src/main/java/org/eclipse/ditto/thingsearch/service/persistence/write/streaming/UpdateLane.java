@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.ditto.things.model.signals.events.PolicyIdModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.thingsearch.api.UpdateReason;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+
+/**
+ * Lanes in which search index updates wait to be written into the persistence.
+ */
+enum UpdateLane {
+
+    /**
+     * Updates visible to users: policy changes, creation and deletion of things, manual re-indexing and updates
+     * whose {@code "search-persisted"} acknowledgement is awaited.
+     */
+    PRIORITY,
+
+    /**
+     * All other updates, typically changes of attributes or feature properties.
+     */
+    TELEMETRY;
+
+    private static final Set<UpdateReason> PRIORITY_UPDATE_REASONS =
+            EnumSet.of(UpdateReason.POLICY_UPDATE, UpdateReason.MANUAL_REINDEXING);
+
+    /**
+     * Determine the lane of a write model.
+     *
+     * @param writeModel the write model.
+     * @return the lane in which the write model is written.
+     */
+    static UpdateLane of(final AbstractWriteModel writeModel) {
+        final Metadata metadata = writeModel.getMetadata();
+        if (writeModel instanceof ThingDeleteModel ||
+                metadata.isShouldAcknowledge() ||
+                metadata.getCausingPolicyTag().isPresent() ||
+                metadata.getUpdateReasons().stream().anyMatch(PRIORITY_UPDATE_REASONS::contains) ||
+                metadata.getEvents().stream().anyMatch(UpdateLane::isUserVisible)) {
+            return PRIORITY;
+        } else {
+            return TELEMETRY;
+        }
+    }
+
+    /**
+     * Returns the higher priority of this and another lane.
+     *
+     * @param other the other lane.
+     * @return the lane with the higher priority.
+     */
+    UpdateLane max(final UpdateLane other) {
+        return ordinal() <= other.ordinal() ? this : other;
+    }
+
+    /**
+     * Returns the value of the lane tag in metrics.
+     *
+     * @return the tag value.
+     */
+    String getTagValue() {
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static boolean isUserVisible(final ThingEvent<?> event) {
+        return event instanceof ThingCreated || event instanceof ThingDeleted || event instanceof PolicyIdModified;
+    }
+
+}
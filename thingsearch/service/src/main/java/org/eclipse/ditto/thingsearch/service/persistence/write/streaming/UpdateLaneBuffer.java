@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.UpdateLanesConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+
+/**
+ * Buffer of search index updates waiting for a bulk write, shared by all thing updaters of an instance.
+ * <ul>
+ * <li>Updates are assigned to an {@link UpdateLane}; bulks of the priority lane are written first, but after
+ * a configured number of consecutive priority bulks a bulk of the telemetry lane is written if it has waiting
+ * updates.</li>
+ * <li>A pending update of a thing is superseded by a newer update of the same thing: the newer update keeps the
+ * position of the pending one and the pending one completes with the result of the newer update, marked as
+ * {@link WriteResultAndErrors#isSuperseded() superseded} since its own write model was never written.</li>
+ * <li>At most one update of a thing is in flight at any time, so that unordered bulk writes never reorder the
+ * updates of a thing.</li>
+ * </ul>
+ */
+@ThreadSafe
+final class UpdateLaneBuffer {
+
+    private static final String BUFFERED_UPDATES = "search_updater_lane_buffered_updates";
+    private static final String COALESCED_UPDATES = "search_updater_lane_coalesced_updates";
+    private static final String REJECTED_UPDATES = "search_updater_lane_rejected_updates";
+    private static final String WAIT_TIME = "search_updater_lane_wait_time";
+    private static final String LANE_TAG = "lane";
+
+    private final UpdateLanesConfig config;
+    private final int parallelism;
+    private final Function<List<MongoWriteModel>, CompletionStage<WriteResultAndErrors>> bulkWriter;
+    private final Map<UpdateLane, LinkedHashMap<ThingId, PendingUpdate>> lanes;
+    private final Map<UpdateLane, Gauge> bufferedUpdatesGauges;
+    private final Set<ThingId> inFlightThings;
+    private int inFlightBulks;
+    private int consecutivePriorityBulks;
+
+    private UpdateLaneBuffer(final UpdateLanesConfig config,
+            final int parallelism,
+            final Function<List<MongoWriteModel>, CompletionStage<WriteResultAndErrors>> bulkWriter) {
+
+        this.config = config;
+        this.parallelism = parallelism;
+        this.bulkWriter = bulkWriter;
+        lanes = new EnumMap<>(UpdateLane.class);
+        bufferedUpdatesGauges = new EnumMap<>(UpdateLane.class);
+        for (final UpdateLane lane : UpdateLane.values()) {
+            lanes.put(lane, new LinkedHashMap<>());
+            bufferedUpdatesGauges.put(lane, DittoMetrics.gauge(BUFFERED_UPDATES).tag(LANE_TAG, lane.getTagValue()));
+        }
+        inFlightThings = new HashSet<>();
+        inFlightBulks = 0;
+        consecutivePriorityBulks = 0;
+    }
+
+    /**
+     * Create a buffer of search index updates.
+     *
+     * @param config the configuration of the lanes.
+     * @param parallelism the maximum number of bulk writes in flight.
+     * @param bulkWriter the function performing an unordered bulk write.
+     * @return the buffer.
+     */
+    static UpdateLaneBuffer of(final UpdateLanesConfig config,
+            final int parallelism,
+            final Function<List<MongoWriteModel>, CompletionStage<WriteResultAndErrors>> bulkWriter) {
+
+        return new UpdateLaneBuffer(config, Math.max(1, parallelism), bulkWriter);
+    }
+
+    /**
+     * Add a write model to the buffer.
+     *
+     * @param writeModel the write model.
+     * @return future of the result of the write model, which never fails exceptionally.
+     */
+    CompletionStage<WriteResultAndErrors> submit(final MongoWriteModel writeModel) {
+        final ThingId thingId = writeModel.getDitto().getMetadata().getThingId();
+        final UpdateLane lane = UpdateLane.of(writeModel.getDitto());
+        final CompletableFuture<WriteResultAndErrors> future = new CompletableFuture<>();
+        final boolean accepted;
+        synchronized (this) {
+            accepted = enqueue(thingId, lane, new PendingUpdate(writeModel, future, System.nanoTime()));
+        }
+        if (accepted) {
+            dispatch();
+        } else {
+            DittoMetrics.counter(REJECTED_UPDATES).tag(LANE_TAG, lane.getTagValue()).increment();
+            future.complete(WriteResultAndErrors.failure(new IllegalStateException(
+                    "Too many search index updates are waiting in lane <" + lane + ">.")));
+        }
+        return future;
+    }
+
+    private boolean enqueue(final ThingId thingId, final UpdateLane lane, final PendingUpdate update) {
+        for (final Map.Entry<UpdateLane, LinkedHashMap<ThingId, PendingUpdate>> entry : lanes.entrySet()) {
+            final PendingUpdate superseded = entry.getValue().get(thingId);
+            if (superseded != null) {
+                update.supersede(superseded);
+                DittoMetrics.counter(COALESCED_UPDATES).tag(LANE_TAG, entry.getKey().getTagValue()).increment();
+                final UpdateLane mergedLane = lane.max(entry.getKey());
+                if (mergedLane == entry.getKey()) {
+                    // replacing the value of an existing key keeps its position in the lane
+                    entry.getValue().put(thingId, update);
+                } else {
+                    entry.getValue().remove(thingId);
+                    lanes.get(mergedLane).put(thingId, update);
+                }
+                updateGauges();
+                return true;
+            }
+        }
+        final LinkedHashMap<ThingId, PendingUpdate> updates = lanes.get(lane);
+        if (updates.size() >= config.getMaxBufferedUpdates()) {
+            return false;
+        }
+        updates.put(thingId, update);
+        updateGauges();
+        return true;
+    }
+
+    private void dispatch() {
+        final List<Bulk> bulks = new ArrayList<>();
+        synchronized (this) {
+            while (inFlightBulks < parallelism) {
+                final Optional<Bulk> bulk = pollBulk();
+                if (bulk.isEmpty()) {
+                    break;
+                }
+                inFlightBulks++;
+                bulks.add(bulk.get());
+            }
+            updateGauges();
+        }
+        bulks.forEach(this::write);
+    }
+
+    private Optional<Bulk> pollBulk() {
+        final List<UpdateLane> order = consecutivePriorityBulks >= config.getMaxConsecutivePriorityBulks()
+                ? List.of(UpdateLane.TELEMETRY, UpdateLane.PRIORITY)
+                : List.of(UpdateLane.PRIORITY, UpdateLane.TELEMETRY);
+        for (final UpdateLane lane : order) {
+            final List<PendingUpdate> updates = pollUpdates(lane);
+            if (!updates.isEmpty()) {
+                consecutivePriorityBulks = lane == UpdateLane.PRIORITY ? consecutivePriorityBulks + 1 : 0;
+                return Optional.of(new Bulk(lane, updates));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<PendingUpdate> pollUpdates(final UpdateLane lane) {
+        final int bulkSize = lane == UpdateLane.PRIORITY ? config.getPriorityBulkSize() : config.getTelemetryBulkSize();
+        final List<PendingUpdate> updates = new ArrayList<>(bulkSize);
+        final Iterator<Map.Entry<ThingId, PendingUpdate>> iterator = lanes.get(lane).entrySet().iterator();
+        while (updates.size() < bulkSize && iterator.hasNext()) {
+            final Map.Entry<ThingId, PendingUpdate> entry = iterator.next();
+            // updates of a thing with a bulk write in flight wait for its completion
+            if (inFlightThings.add(entry.getKey())) {
+                iterator.remove();
+                updates.add(entry.getValue());
+            }
+        }
+        return updates;
+    }
+
+    private void write(final Bulk bulk) {
+        final long now = System.nanoTime();
+        bulk.updates().forEach(update -> DittoMetrics.timer(WAIT_TIME)
+                .tag(LANE_TAG, bulk.lane().getTagValue())
+                .record(now - update.enqueuedNanos(), TimeUnit.NANOSECONDS));
+        final List<MongoWriteModel> writeModels = bulk.updates().stream().map(PendingUpdate::writeModel).toList();
+        CompletableFuture.completedFuture(writeModels)
+                .thenCompose(bulkWriter)
+                .handle((result, error) -> result != null
+                        ? result
+                        : WriteResultAndErrors.unexpectedError(writeModels, error, ""))
+                .thenAccept(result -> onBulkWritten(bulk, result));
+    }
+
+    private void onBulkWritten(final Bulk bulk, final WriteResultAndErrors result) {
+        synchronized (this) {
+            inFlightBulks--;
+            bulk.updates().forEach(update -> inFlightThings.remove(update.getThingId()));
+        }
+        for (int i = 0; i < bulk.updates().size(); i++) {
+            bulk.updates().get(i).complete(result, i);
+        }
+        dispatch();
+    }
+
+    private void updateGauges() {
+        lanes.forEach((lane, updates) -> bufferedUpdatesGauges.get(lane).set((long) updates.size()));
+    }
+
+    private record Bulk(UpdateLane lane, List<PendingUpdate> updates) {}
+
+    private record PendingUpdate(MongoWriteModel writeModel,
+                                 CompletableFuture<WriteResultAndErrors> future,
+                                 long enqueuedNanos,
+                                 List<PendingUpdate> superseded) {
+
+        private PendingUpdate(final MongoWriteModel writeModel,
+                final CompletableFuture<WriteResultAndErrors> future,
+                final long enqueuedNanos) {
+
+            this(writeModel, future, enqueuedNanos, new ArrayList<>());
+        }
+
+        private ThingId getThingId() {
+            return writeModel.getDitto().getMetadata().getThingId();
+        }
+
+        private void supersede(final PendingUpdate pendingUpdate) {
+            superseded.add(pendingUpdate);
+            superseded.addAll(pendingUpdate.superseded());
+        }
+
+        private void complete(final WriteResultAndErrors bulkResult, final int index) {
+            future.complete(forWriteModelAt(bulkResult, index, writeModel));
+            for (final PendingUpdate update : superseded) {
+                ConsistencyLag.startS6Acknowledge(update.writeModel().getDitto().getMetadata());
+                update.future().complete(forWriteModelAt(bulkResult, index, update.writeModel()).asSuperseded());
+            }
+        }
+
+        private static WriteResultAndErrors forWriteModelAt(final WriteResultAndErrors bulkResult, final int index,
+                final MongoWriteModel writeModel) {
+
+            if (bulkResult.getWriteModels().isEmpty()) {
+                return bulkResult;
+            }
+            return bulkResult.forWriteModelAt(index, writeModel);
+        }
+
+    }
+
+}
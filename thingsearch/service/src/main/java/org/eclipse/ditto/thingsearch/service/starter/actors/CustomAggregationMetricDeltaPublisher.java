@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+
+/**
+ * Actor which periodically publishes the custom aggregation metric bucket count changes recorded by the local
+ * {@link CustomAggregationMetricDeltaTracker} to the {@link OperatorAggregateMetricsProviderActor}.
+ */
+public final class CustomAggregationMetricDeltaPublisher extends AbstractActorWithTimers {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "customAggregationMetricDeltaPublisher";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef pubSubMediator;
+    private final CustomAggregationMetricDeltaTracker deltaTracker;
+
+    @SuppressWarnings("unused")
+    private CustomAggregationMetricDeltaPublisher(final ActorRef pubSubMediator, final Duration publishInterval) {
+        this.pubSubMediator = pubSubMediator;
+        deltaTracker = CustomAggregationMetricDeltaTracker.get(getContext().getSystem());
+        getTimers().startTimerAtFixedRate(Control.PUBLISH, Control.PUBLISH, publishInterval);
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param pubSubMediator the pub/sub mediator.
+     * @param publishInterval how often to publish the recorded bucket count changes.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final Duration publishInterval) {
+        return Props.create(CustomAggregationMetricDeltaPublisher.class, pubSubMediator, publishInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.PUBLISH, this::publish)
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void publish(final Control publish) {
+        final Map<String, List<CustomAggregationMetricDeltas.BucketDelta>> deltas = deltaTracker.drainDeltas();
+        if (!deltas.isEmpty()) {
+            log.debug("Publishing bucket count changes of custom aggregation metrics <{}>", deltas.keySet());
+            pubSubMediator.tell(DistPubSubAccess.publish(CustomAggregationMetricDeltas.PUB_SUB_TOPIC,
+                    new CustomAggregationMetricDeltas(deltas)), getSelf());
+        }
+    }
+
+    private enum Control {
+        PUBLISH
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_NAMESPACE;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.CustomAggregationMetricConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.OperatorMetricsConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+
+/**
+ * Node-local accumulator of the changes of the group-by bucket counts of custom aggregation metrics caused by the
+ * search index writes of the local search updater. A write moves a thing from the bucket of its previously indexed
+ * document to the bucket of its newly indexed document; the accumulated changes are periodically published to the
+ * {@link OperatorAggregateMetricsProviderActor} by the {@link CustomAggregationMetricDeltaPublisher}.
+ * <p>
+ * Writes whose previously indexed document is unknown cannot be tracked; the resulting deviation is corrected by the
+ * periodic full aggregation of the metrics.
+ */
+@ThreadSafe
+public final class CustomAggregationMetricDeltaTracker implements Extension {
+
+    private static final Counter UNTRACKED_WRITES =
+            DittoMetrics.counter("custom_aggregation_metrics_untracked_writes");
+
+    private final List<CustomAggregationMetricMatcher> matchers;
+    private final Map<String, Map<Map<String, String>, AtomicLong>> deltas;
+
+    CustomAggregationMetricDeltaTracker(final Collection<CustomAggregationMetricConfig> metricConfigs) {
+        matchers = metricConfigs.stream()
+                .filter(CustomAggregationMetricConfig::isEnabled)
+                .map(CustomAggregationMetricMatcher::of)
+                .flatMap(Optional::stream)
+                .toList();
+        deltas = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Load the {@code CustomAggregationMetricDeltaTracker}.
+     *
+     * @param actorSystem the actor system in which to load the tracker.
+     * @return the tracker.
+     */
+    public static CustomAggregationMetricDeltaTracker get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Records that the search index document of a thing was replaced. Must only be called for acknowledged writes of
+     * the write model itself, not for write models which were superseded by a newer one before being written.
+     *
+     * @param previousWriteModel the write model of the previously indexed document or {@code null} if that document
+     * is unknown, e.g. because the previous write failed.
+     * @param writeModel the write model of the newly indexed document.
+     */
+    public void recordWrite(@Nullable final AbstractWriteModel previousWriteModel,
+            final AbstractWriteModel writeModel) {
+        if (matchers.isEmpty() || isNoop(writeModel)) {
+            return;
+        }
+        if (null == previousWriteModel || isNoop(previousWriteModel)) {
+            UNTRACKED_WRITES.increment();
+            return;
+        }
+        @Nullable final BsonDocument previousDocument = getDocumentOrNull(previousWriteModel);
+        @Nullable final BsonDocument document = getDocumentOrNull(writeModel);
+        if (null != previousDocument && null != document &&
+                Objects.equals(previousDocument.get(FIELD_THING), document.get(FIELD_THING))) {
+            // the indexed thing is unchanged, e.g. only its policy was updated
+            return;
+        }
+        try {
+            @Nullable final IndexedThing previousThing = IndexedThing.ofNullable(previousDocument);
+            @Nullable final IndexedThing thing = IndexedThing.ofNullable(document);
+            for (final CustomAggregationMetricMatcher matcher : matchers) {
+                final Optional<Map<String, String>> previousBucket = getBucket(matcher, previousThing);
+                final Optional<Map<String, String>> bucket = getBucket(matcher, thing);
+                if (!previousBucket.equals(bucket)) {
+                    previousBucket.ifPresent(b -> add(matcher.getMetricName(), b, -1L));
+                    bucket.ifPresent(b -> add(matcher.getMetricName(), b, 1L));
+                }
+            }
+        } catch (final RuntimeException e) {
+            // the indexed JSON could not be evaluated as thing
+            UNTRACKED_WRITES.increment();
+        }
+    }
+
+    /**
+     * Removes and returns the bucket count changes recorded since the last call.
+     *
+     * @return the non-zero bucket count changes by metric name.
+     */
+    Map<String, List<CustomAggregationMetricDeltas.BucketDelta>> drainDeltas() {
+        final Map<String, List<CustomAggregationMetricDeltas.BucketDelta>> drained = new HashMap<>();
+        deltas.forEach((metricName, bucketDeltas) -> {
+            final List<CustomAggregationMetricDeltas.BucketDelta> drainedBucketDeltas = new ArrayList<>();
+            bucketDeltas.forEach((bucket, delta) -> {
+                final long drainedDelta = delta.getAndSet(0L);
+                if (drainedDelta != 0L) {
+                    drainedBucketDeltas.add(new CustomAggregationMetricDeltas.BucketDelta(bucket, drainedDelta));
+                }
+            });
+            if (!drainedBucketDeltas.isEmpty()) {
+                drained.put(metricName, drainedBucketDeltas);
+            }
+        });
+        return drained;
+    }
+
+    private void add(final String metricName, final Map<String, String> bucket, final long delta) {
+        deltas.computeIfAbsent(metricName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(bucket, b -> new AtomicLong())
+                .addAndGet(delta);
+    }
+
+    private static Optional<Map<String, String>> getBucket(final CustomAggregationMetricMatcher matcher,
+            @Nullable final IndexedThing indexedThing) {
+
+        return null == indexedThing
+                ? Optional.empty()
+                : matcher.getBucket(indexedThing.namespace(), indexedThing.json(), indexedThing.thing());
+    }
+
+    private static boolean isNoop(final AbstractWriteModel writeModel) {
+        return writeModel instanceof ThingWriteModel thingWriteModel && thingWriteModel.getThingDocument().isEmpty();
+    }
+
+    @Nullable
+    private static BsonDocument getDocumentOrNull(final AbstractWriteModel writeModel) {
+        // delete models stand for things absent from the search index
+        return writeModel instanceof ThingWriteModel thingWriteModel ? thingWriteModel.getThingDocument() : null;
+    }
+
+    private record IndexedThing(String namespace, JsonObject json, Thing thing) {
+
+        @Nullable
+        private static IndexedThing ofNullable(@Nullable final BsonDocument document) {
+            if (null == document) {
+                return null;
+            }
+            final JsonObject json = DittoBsonJson.getInstance()
+                    .serialize(document.getDocument(FIELD_THING, new BsonDocument()));
+            return new IndexedThing(document.getString(FIELD_NAMESPACE).getValue(), json,
+                    ThingsModelFactory.newThing(json));
+        }
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<CustomAggregationMetricDeltaTracker> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public CustomAggregationMetricDeltaTracker createExtension(final ExtendedActorSystem system) {
+            final OperatorMetricsConfig operatorMetricsConfig =
+                    DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()))
+                            .getOperatorMetricsConfig();
+            return new CustomAggregationMetricDeltaTracker(
+                    operatorMetricsConfig.isEnabled() && operatorMetricsConfig.isIncrementalAggregationEnabled()
+                            ? operatorMetricsConfig.getCustomAggregationMetricConfigs().values()
+                            : List.of());
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.internal.utils.cluster.PekkoJacksonCborSerializable;
+
+/**
+ * Changes of the group-by bucket counts of custom aggregation metrics caused by the search index writes of one
+ * search instance, published to the {@link OperatorAggregateMetricsProviderActor}.
+ *
+ * @param deltasByMetricName the bucket count changes by metric name.
+ */
+public record CustomAggregationMetricDeltas(Map<String, List<BucketDelta>> deltasByMetricName)
+        implements PekkoJacksonCborSerializable {
+
+    /**
+     * Pub/sub topic of the deltas.
+     */
+    public static final String PUB_SUB_TOPIC = "custom-aggregation-metric-deltas";
+
+    /**
+     * Change of the count of a single group-by bucket.
+     *
+     * @param groupedBy the values of the group-by fields identifying the bucket.
+     * @param delta the change of the count.
+     */
+    public record BucketDelta(Map<String, String> groupedBy, long delta) {}
+
+}
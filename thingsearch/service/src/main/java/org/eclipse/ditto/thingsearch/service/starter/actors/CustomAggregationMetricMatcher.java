@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.thingsearch.service.common.config.CustomAggregationMetricConfig;
+
+/**
+ * Evaluates the namespaces, filter and group-by fields of a custom aggregation metric in memory, yielding the
+ * group-by bucket a thing is counted in, in the same format as
+ * {@link org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThingsMetricsResponse#getGroupedBy()}.
+ */
+@Immutable
+final class CustomAggregationMetricMatcher {
+
+    private static final String TIME_PLACEHOLDER_PREFIX = TimePlaceholder.PREFIX + ":";
+    private static final String FEATURE_WILDCARD = "features/*";
+
+    private final String metricName;
+    private final List<String> namespaces;
+    private final Predicate<Thing> filter;
+    private final Map<String, JsonPointer> groupBy;
+
+    private CustomAggregationMetricMatcher(final CustomAggregationMetricConfig config) {
+        metricName = config.getMetricName();
+        namespaces = config.getNamespaces();
+        filter = config.getFilter()
+                .map(rqlFilter -> QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance())
+                        .filterCriteria(rqlFilter, DittoHeaders.empty()))
+                .map(ThingPredicateVisitor::apply)
+                .orElse(thing -> true);
+        groupBy = new HashMap<>();
+        config.getGroupBy().forEach((name, pointer) -> groupBy.put(name, JsonPointer.of(pointer)));
+    }
+
+    /**
+     * Creates a matcher for the given metric if its result can be maintained incrementally. This is not the case for
+     * filters on time placeholders, whose result changes without any write to the search index, and for filters on
+     * feature wildcards, which are only supported by the database query.
+     *
+     * @param config the config of the custom aggregation metric.
+     * @return the matcher or an empty optional if the metric must be aggregated in the database.
+     */
+    static Optional<CustomAggregationMetricMatcher> of(final CustomAggregationMetricConfig config) {
+        final boolean incrementallyTrackable = config.getFilter()
+                .filter(rqlFilter -> rqlFilter.contains(TIME_PLACEHOLDER_PREFIX) ||
+                        rqlFilter.contains(FEATURE_WILDCARD))
+                .isEmpty();
+        return incrementallyTrackable ? Optional.of(new CustomAggregationMetricMatcher(config)) : Optional.empty();
+    }
+
+    /**
+     * Returns the name of the metric.
+     *
+     * @return the metric name.
+     */
+    String getMetricName() {
+        return metricName;
+    }
+
+    /**
+     * Returns the group-by bucket of a thing in the search index.
+     *
+     * @param namespace the namespace of the thing.
+     * @param thingJson the indexed JSON of the thing.
+     * @param thing the thing created from {@code thingJson}.
+     * @return the values of the group-by fields present in the thing, or an empty optional if the thing is not
+     * counted by the metric.
+     */
+    Optional<Map<String, String>> getBucket(final String namespace, final JsonObject thingJson, final Thing thing) {
+        if ((!namespaces.isEmpty() && !namespaces.contains(namespace)) || !filter.test(thing)) {
+            return Optional.empty();
+        }
+        final Map<String, String> bucket = new HashMap<>();
+        groupBy.forEach((name, pointer) ->
+                thingJson.getValue(pointer).ifPresent(value -> bucket.put(name, value.formatAsString())));
+        return Optional.of(bucket);
+    }
+
+}
@@ -31,9 +31,11 @@ import org.apache.pekko.actor.AbstractActorWithTimers;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.Status;
+import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.internal.utils.cluster.ClusterUtil;
+import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.KamonGauge;
 import org.eclipse.ditto.internal.utils.metrics.instruments.tag.KamonTagSetConverter;
@@ -57,6 +59,12 @@ import kamon.Kamon;
 /**
  * Actor which is started as singleton for "search" role and is responsible for querying for extended operator defined
  * "custom metrics" (configured via Ditto search service configuration) to expose as {@link Gauge} via Prometheus.
+ * <p>
+ * If incremental aggregation is enabled, the group-by bucket counts of a metric are aggregated in the database only
+ * initially and every reconciliation interval; in between they are updated with the
+ * {@link CustomAggregationMetricDeltas} published by the search updaters of all instances. Changes which arrive while
+ * the aggregation runs or within one propagation interval after its result may already be contained in the result;
+ * they are dropped instead of being counted twice, the next reconciliation corrects the counts.
  */
 public final class OperatorAggregateMetricsProviderActor extends AbstractActorWithTimers {
 
@@ -74,28 +82,48 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
     private final Map<String, CustomAggregationMetricConfig> customSearchMetricConfigMap;
     private final Map<GageIdentifier, TimestampedGauge> metricsGauges;
     private final Gauge customSearchMetricsGauge;
+    private final Set<String> incrementalMetricNames;
+    private final Map<String, Map<Map<String, String>, Long>> incrementalBucketCounts;
+    private final Duration deltaPropagationInterval;
+    private final Set<String> reconcilingMetricNames;
+    private final Map<String, Long> reconciledAtNanos;
 
     @SuppressWarnings("unused")
-    private OperatorAggregateMetricsProviderActor(final SearchConfig searchConfig) {
+    private OperatorAggregateMetricsProviderActor(final SearchConfig searchConfig, final ActorRef pubSubMediator) {
+        final OperatorMetricsConfig operatorMetricsConfig = searchConfig.getOperatorMetricsConfig();
         this.aggregateThingsMetricsActorSingletonProxy = initializeAggregationThingsMetricsActor(searchConfig);
-        this.customSearchMetricConfigMap = searchConfig.getOperatorMetricsConfig().getCustomAggregationMetricConfigs();
+        this.customSearchMetricConfigMap = operatorMetricsConfig.getCustomAggregationMetricConfigs();
         this.metricsGauges = new HashMap<>();
         this.customSearchMetricsGauge = KamonGauge.newGauge("custom-aggregation-metrics-count-of-instruments");
+        this.incrementalMetricNames = operatorMetricsConfig.isIncrementalAggregationEnabled()
+                ? customSearchMetricConfigMap.values().stream()
+                .filter(config -> CustomAggregationMetricMatcher.of(config).isPresent())
+                .map(CustomAggregationMetricConfig::getMetricName)
+                .collect(Collectors.toSet())
+                : Set.of();
+        this.incrementalBucketCounts = new HashMap<>();
+        this.deltaPropagationInterval = operatorMetricsConfig.getIncrementalAggregationPropagationInterval();
+        this.reconcilingMetricNames = new HashSet<>();
+        this.reconciledAtNanos = new HashMap<>();
         this.customSearchMetricConfigMap.forEach(
                 (metricName, customSearchMetricConfig) -> initializeCustomMetricTimer(metricName,
-                        customSearchMetricConfig,
-                        searchConfig.getOperatorMetricsConfig().getScrapeInterval()));
-        initializeCustomMetricsCleanupTimers(searchConfig.getOperatorMetricsConfig());
+                        customSearchMetricConfig, operatorMetricsConfig));
+        initializeCustomMetricsCleanupTimers(operatorMetricsConfig);
+        if (!incrementalMetricNames.isEmpty()) {
+            pubSubMediator.tell(DistPubSubAccess.subscribe(CustomAggregationMetricDeltas.PUB_SUB_TOPIC, getSelf()),
+                    getSelf());
+        }
     }
 
     /**
      * Create Props for this actor.
      *
      * @param searchConfig the searchConfig to use
+     * @param pubSubMediator the pub/sub mediator to receive the bucket count changes of incremental aggregation from.
      * @return the Props object.
      */
-    public static Props props(final SearchConfig searchConfig) {
-        return Props.create(OperatorAggregateMetricsProviderActor.class, searchConfig);
+    public static Props props(final SearchConfig searchConfig, final ActorRef pubSubMediator) {
+        return Props.create(OperatorAggregateMetricsProviderActor.class, searchConfig, pubSubMediator);
     }
 
     @Override
@@ -103,6 +131,9 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
         return ReceiveBuilder.create()
                 .match(GatherMetricsCommand.class, this::handleGatheringMetrics)
                 .match(AggregateThingsMetricsBatch.class, this::handleAggregateThingsBatch)
+                .match(CustomAggregationMetricDeltas.class, this::handleDeltas)
+                .match(PublishBucketCountsCommand.class, this::handlePublishBucketCounts)
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack -> log.debug("Got <{}>", ack))
                 .match(CleanupUnusedMetricsCommand.class, this::handleCleanupUnusedMetrics)
                 .match(Status.Failure.class, f -> log.error(f.cause(), "Got failure: {}", f))
                 .matchAny(m -> {
@@ -135,31 +166,102 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
         final AggregateThingsMetrics
                 aggregateThingsMetrics = AggregateThingsMetrics.of(metricName, config.getGroupBy(), config.getFilter().orElse(null),
                 config.getNamespaces(), config.getIndexHint().orElse(null), dittoHeaders);
+        if (incrementalMetricNames.contains(metricName)) {
+            reconcilingMetricNames.add(metricName);
+        }
         aggregateThingsMetricsActorSingletonProxy.tell(aggregateThingsMetrics, getSelf());
     }
 
 
     private void handleAggregateThingsBatch(final AggregateThingsMetricsBatch batch) {
         final String metricName = batch.metricName();
-        final Set<GageIdentifier> seenInBatch = new HashSet<>();
+        final Map<Map<String, String>, Long> bucketCounts = new HashMap<>();
 
         for (final AggregateThingsMetricsResponse response : batch.responses()) {
             final Optional<Long> result = response.getResult();
             result.ifPresentOrElse(value -> {
-                final CustomAggregationMetricConfig config = customSearchMetricConfigMap.get(metricName);
-                final TagSet tagSet = resolveTags(config, response);
                 log.withCorrelationId(response)
-                        .debug("Received aggregate things response for metric name <{} : {}>: {}, " +
+                        .debug("Received aggregate things response for metric name <{}>: {}, " +
                                         "extracted result: <{}> - in thread: {}",
-                                metricName, tagSet, response, result, Thread.currentThread().getName());
-                recordMetric(metricName, tagSet, value);
-                seenInBatch.add(new GageIdentifier(metricName, tagSet));
+                                metricName, response, result, Thread.currentThread().getName());
+                bucketCounts.put(response.getGroupedBy(), value);
             }, () -> log.withCorrelationId(response)
                     .info("No result for metric name <{}> in aggregate things response: {}. " +
                                     "Should not happen, at least 0 is expected in each result",
                             metricName, response));
         }
 
+        if (incrementalMetricNames.contains(metricName)) {
+            log.info("Reconciled <{}> buckets of incrementally aggregated metric <{}>", bucketCounts.size(),
+                    metricName);
+            incrementalBucketCounts.put(metricName, new HashMap<>(bucketCounts));
+            reconcilingMetricNames.remove(metricName);
+            reconciledAtNanos.put(metricName, System.nanoTime());
+        }
+        recordBucketCounts(metricName, bucketCounts);
+    }
+
+    private void handleDeltas(final CustomAggregationMetricDeltas deltas) {
+        deltas.deltasByMetricName().forEach((metricName, bucketDeltas) -> {
+            final Map<Map<String, String>, Long> bucketCounts = incrementalBucketCounts.get(metricName);
+            if (null == bucketCounts) {
+                log.debug("Dropping bucket count changes of metric <{}> which was not aggregated yet", metricName);
+            } else if (isReconciling(metricName)) {
+                // changes of writes before or during the aggregation are contained in its result
+                log.debug("Dropping bucket count changes of metric <{}> which is being reconciled", metricName);
+            } else {
+                bucketDeltas.forEach(bucketDelta -> bucketCounts.merge(bucketDelta.groupedBy(), bucketDelta.delta(),
+                        (count, delta) -> count + delta == 0L ? null : count + delta));
+                recordIncrementalBucketCounts(metricName, bucketCounts);
+            }
+        });
+    }
+
+    private boolean isReconciling(final String metricName) {
+        if (reconcilingMetricNames.contains(metricName)) {
+            return true;
+        }
+        final Long reconciledAt = reconciledAtNanos.get(metricName);
+        if (null != reconciledAt && System.nanoTime() - reconciledAt < deltaPropagationInterval.toNanos()) {
+            // changes recorded before the aggregation finished may still be published within a propagation interval
+            return true;
+        }
+        reconciledAtNanos.remove(metricName);
+        return false;
+    }
+
+    private void handlePublishBucketCounts(final PublishBucketCountsCommand publishCommand) {
+        final Map<Map<String, String>, Long> bucketCounts = incrementalBucketCounts.get(publishCommand.metricName());
+        if (null == bucketCounts) {
+            // no full aggregation yet or it failed: aggregate in the database
+            handleGatheringMetrics(new GatherMetricsCommand(publishCommand.config()));
+        } else {
+            recordIncrementalBucketCounts(publishCommand.metricName(), bucketCounts);
+        }
+    }
+
+    private void recordIncrementalBucketCounts(final String metricName,
+            final Map<Map<String, String>, Long> bucketCounts) {
+
+        // buckets can become negative temporarily if a thing's previous bucket was not tracked
+        final Map<Map<String, String>, Long> positiveBucketCounts = new HashMap<>();
+        bucketCounts.forEach((bucket, count) -> {
+            if (count > 0L) {
+                positiveBucketCounts.put(bucket, count);
+            }
+        });
+        recordBucketCounts(metricName, positiveBucketCounts);
+    }
+
+    private void recordBucketCounts(final String metricName, final Map<Map<String, String>, Long> bucketCounts) {
+        final CustomAggregationMetricConfig config = customSearchMetricConfigMap.get(metricName);
+        final Set<GageIdentifier> seenInBatch = new HashSet<>();
+        bucketCounts.forEach((groupedBy, count) -> {
+            final TagSet tagSet = resolveTags(config, groupedBy);
+            recordMetric(metricName, tagSet, count);
+            seenInBatch.add(new GageIdentifier(metricName, tagSet));
+        });
+
         reconcileVanishedBuckets(metricName, seenInBatch);
     }
 
@@ -200,7 +302,7 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
     }
 
     private TagSet resolveTags(final CustomAggregationMetricConfig customAggregationMetricConfig,
-            final AggregateThingsMetricsResponse response) {
+            final Map<String, String> groupedBy) {
         return TagSet.ofTagCollection(customAggregationMetricConfig.getTags().entrySet().stream().map(tagEntry -> {
             if (!isPlaceHolder(tagEntry.getValue())) {
                 return Tag.of(tagEntry.getKey(), tagEntry.getValue());
@@ -209,7 +311,7 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
                 final ExpressionResolver expressionResolver =
                         PlaceholderFactory.newExpressionResolver(List.of(
                                 new GroupByPlaceholderResolver(customAggregationMetricConfig.getGroupBy().keySet(),
-                                        response.getGroupedBy())));
+                                        groupedBy)));
                 return expressionResolver.resolve(tagEntry.getValue())
                         .findFirst()
                         .map(resolvedValue -> Tag.of(tagEntry.getKey(), resolvedValue))
@@ -250,17 +352,29 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
     }
 
     private void initializeCustomMetricTimer(final String metricName, final CustomAggregationMetricConfig config,
-            final Duration defaultScrapeInterval) {
+            final OperatorMetricsConfig operatorMetricsConfig) {
         if (!config.isEnabled()) {
             log.info("Custom search metric Gauge for metric <{}> is DISABLED. Skipping init.", metricName);
             return;
         }
         final Duration scrapeInterval = config.getScrapeInterval()
-                .orElse(defaultScrapeInterval);
+                .orElse(operatorMetricsConfig.getScrapeInterval());
         // start each custom metric provider with a random initialDelay
         final Duration initialDelay = Duration.ofSeconds(
                 ThreadLocalRandom.current().nextInt(MIN_INITIAL_DELAY_SECONDS, MAX_INITIAL_DELAY_SECONDS)
         );
+        if (incrementalMetricNames.contains(metricName)) {
+            final Duration reconciliationInterval =
+                    operatorMetricsConfig.getIncrementalAggregationReconciliationInterval();
+            log.info("Initializing incremental custom metric timers for metric <{}> with initialDelay <{}>, " +
+                    "reconciliationInterval <{}> and scrapeInterval <{}>", metricName, initialDelay,
+                    reconciliationInterval, scrapeInterval);
+            getTimers().startTimerAtFixedRate(metricName, new GatherMetricsCommand(config), initialDelay,
+                    reconciliationInterval);
+            getTimers().startTimerAtFixedRate("publish-" + metricName, new PublishBucketCountsCommand(config),
+                    initialDelay.plus(scrapeInterval), scrapeInterval);
+            return;
+        }
         log.info("Initializing custom metric timer for metric <{}> with initialDelay <{}> and scrapeInterval <{}>",
                 metricName,
                 initialDelay, scrapeInterval);
@@ -343,6 +457,13 @@ public final class OperatorAggregateMetricsProviderActor extends AbstractActorWi
 
     private record GatherMetricsCommand(CustomAggregationMetricConfig config) {}
 
+    private record PublishBucketCountsCommand(CustomAggregationMetricConfig config) {
+
+        private String metricName() {
+            return config.getMetricName();
+        }
+    }
+
     private record CleanupUnusedMetricsCommand(String metricName, Duration scrapeInterval) {}
 
     private record GageIdentifier(String metricName, TagSet tags) {}
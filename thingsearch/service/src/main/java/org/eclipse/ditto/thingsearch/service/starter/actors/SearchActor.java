@@ -86,11 +86,17 @@ import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsRes
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SlowQueryLogConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ApproximateCount;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchCountCache;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchQueryCache;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
 
 import com.typesafe.config.Config;
@@ -123,6 +129,22 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private static final String DATABASE_ACCESS_SEGMENT_NAME = "database_access";
     private static final String QUERY_TYPE_TAG = "query_type";
 
+    /**
+     * Header with which a {@link CountThings} command requests an estimated count by setting it to
+     * {@value #APPROXIMATE_COUNT_MODE}.
+     */
+    static final String COUNT_MODE_HEADER = "count-mode";
+
+    /**
+     * Value of the {@value #COUNT_MODE_HEADER} header requesting an estimated count.
+     */
+    static final String APPROXIMATE_COUNT_MODE = "approximate";
+
+    /**
+     * Header of the response to an approximate count containing the half-width of the 95% confidence interval.
+     */
+    static final String COUNT_ERROR_BOUND_HEADER = "count-error-bound";
+
     private static final Map<String, ThreadSafeDittoLogger> NAMESPACE_INSPECTION_LOGGERS = new HashMap<>();
 
     private static final ThreadSafeDittoLogger SLOW_QUERY_LOGGER =
@@ -138,16 +160,29 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private final SignalTransformer signalTransformer;
     private final ActorRef pubSubMediator;
     private final SlowQueryLogConfig slowQueryLogConfig;
+    private final int approximateCountSampleSize;
+    @Nullable private final SearchCountCache countCache;
+    @Nullable private final SearchQueryCache queryCache;
 
     @SuppressWarnings("unused")
     private SearchActor(final QueryParser queryParser, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig) {
+            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig,
+            final CountCacheConfig countCacheConfig, final QueryCacheConfig queryCacheConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         this.pubSubMediator = pubSubMediator;
         this.slowQueryLogConfig = slowQueryLogConfig;
+        approximateCountSampleSize = countCacheConfig.getApproximateSampleSize();
         final var system = getSystem();
+        countCache = countCacheConfig.isEnabled()
+                ? SearchCountCache.of(countCacheConfig.getCacheConfig(), SearchIndexChangeTracker.get(system),
+                getContext().getDispatcher())
+                : null;
+        queryCache = queryCacheConfig.isEnabled()
+                ? SearchQueryCache.of(queryCacheConfig.getCacheConfig(), SearchIndexChangeTracker.get(system),
+                getContext().getDispatcher())
+                : null;
         final Config config = system.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
         preEnforcer = PreEnforcerProvider.get(system, dittoExtensionsConfig);
@@ -170,12 +205,16 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
      * to use in order to execute queries.
      * @param pubSubMediator the Pekko pub-sub mediator.
      * @param slowQueryLogConfig the configuration for slow query logging.
+     * @param countCacheConfig the configuration for caching and estimating counts.
+     * @param queryCacheConfig the configuration for caching query results.
      * @return the Pekko configuration Props object.
      */
     static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig) {
+            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig,
+            final CountCacheConfig countCacheConfig, final QueryCacheConfig queryCacheConfig) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator, slowQueryLogConfig)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator, slowQueryLogConfig,
+                        countCacheConfig, queryCacheConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -322,18 +361,18 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                             final StartedTimer databaseAccessTimer =
                                     countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                            final Source<Long, NotUsed> countResultSource =
+                            final Source<ApproximateCount, NotUsed> countResultSource =
                                     DittoJsonException.wrapJsonRuntimeException(query, tracedCountCommand.getDittoHeaders(),
                                             (theQuery, headers) -> {
                                                 if (isSudo && tracedCountCommand instanceof SudoCountThings sudoCmd) {
                                                     return searchPersistence.sudoCount(theQuery, headers,
-                                                            sudoCmd.getIndexHint().orElse(null));
+                                                                    sudoCmd.getIndexHint().orElse(null))
+                                                            .map(ApproximateCount::exact);
                                                 } else if (isSudo) {
-                                                    return searchPersistence.sudoCount(theQuery, headers);
+                                                    return searchPersistence.sudoCount(theQuery, headers)
+                                                            .map(ApproximateCount::exact);
                                                 } else {
-                                                    return searchPersistence.count(theQuery,
-                                                            headers.getAuthorizationContext().getAuthorizationSubjectIds(),
-                                                            headers);
+                                                    return count(theQuery, (CountThings) tracedCountCommand, headers);
                                                 }
                                             }
                                     );
@@ -343,7 +382,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                         stopTimer(databaseAccessTimer);
                                         return result;
                                     }))
-                                    .map(count -> CountThingsResponse.of(count, dittoHeaders));
+                                    .map(count -> CountThingsResponse.of(count.count(),
+                                            getCountResponseHeaders(count, dittoHeaders)));
                         });
 
         final Source<Object, ?> replySourceWithErrorHandling =
@@ -355,6 +395,37 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
     }
 
+    private Source<ApproximateCount, NotUsed> count(final Query query, final CountThings countThings,
+            final DittoHeaders headers) {
+
+        final List<String> authorizationSubjectIds = headers.getAuthorizationContext().getAuthorizationSubjectIds();
+        if (isApproximateCountRequested(headers)) {
+            return searchPersistence.approximateCount(query, authorizationSubjectIds, approximateCountSampleSize,
+                    headers);
+        } else if (null != countCache) {
+            return countCache.getOrCount(query, authorizationSubjectIds, countThings.getNamespaces().orElse(null),
+                            () -> searchPersistence.count(query, authorizationSubjectIds, headers))
+                    .map(ApproximateCount::exact);
+        } else {
+            return searchPersistence.count(query, authorizationSubjectIds, headers).map(ApproximateCount::exact);
+        }
+    }
+
+    private static DittoHeaders getCountResponseHeaders(final ApproximateCount count,
+            final DittoHeaders dittoHeaders) {
+
+        if (isApproximateCountRequested(dittoHeaders)) {
+            return dittoHeaders.toBuilder()
+                    .putHeader(COUNT_ERROR_BOUND_HEADER, String.valueOf(count.errorBound()))
+                    .build();
+        }
+        return dittoHeaders;
+    }
+
+    private static boolean isApproximateCountRequested(final DittoHeaders dittoHeaders) {
+        return APPROXIMATE_COUNT_MODE.equalsIgnoreCase(dittoHeaders.get(COUNT_MODE_HEADER));
+    }
+
     private CompletionStage<Object> performStream(final StreamThings streamThings, final ActorRef sender,
             final ThreadSafeDittoLoggingAdapter l) {
 
@@ -514,7 +585,7 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                                 .getAuthorizationSubjectIds();
                                 final Source<ResultList<TimestampedThingId>, NotUsed> findAllResult =
                                         DittoJsonException.wrapJsonRuntimeException(query, dittoHeaders, (theQuery, headers) ->
-                                            searchPersistence.findAll(theQuery, subjectIds, namespaces, headers)
+                                            findAll(theQuery, subjectIds, namespaces, headers)
                                 );
 
                                 return processSearchPersistenceResult(findAllResult, dittoHeaders)
@@ -535,6 +606,17 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
     }
 
+    private Source<ResultList<TimestampedThingId>, NotUsed> findAll(final Query query,
+            @Nullable final List<String> subjectIds, @Nullable final Set<String> namespaces,
+            final DittoHeaders headers) {
+
+        if (null != queryCache) {
+            return queryCache.getOrFind(query, subjectIds, namespaces,
+                    () -> searchPersistence.findAll(query, subjectIds, namespaces, headers));
+        }
+        return searchPersistence.findAll(query, subjectIds, namespaces, headers);
+    }
+
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
             final ResultList<TimestampedThingId> thingIds) {
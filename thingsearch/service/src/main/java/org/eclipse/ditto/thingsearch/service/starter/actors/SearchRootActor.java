@@ -31,10 +31,12 @@ import org.eclipse.ditto.rql.query.QueryBuilderFactory;
 import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.NamespaceIndexedFields;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangePropagator;
 import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
 import org.eclipse.ditto.thingsearch.service.updater.actors.SearchUpdaterRootActor;
 
@@ -86,7 +88,9 @@ public final class SearchRootActor extends DittoRootActor {
         final QueryBuilderFactory queryBuilderFactory = new MongoQueryBuilderFactory(limitsConfig);
         final var queryCriteriaValidator =
                 QueryCriteriaValidator.get(actorSystem, ScopedConfig.dittoExtension(actorSystem.settings().config()));
-        return QueryParser.of(fieldExpressionFactory, queryBuilderFactory, queryCriteriaValidator);
+        final var namespaceIndexedFields = NamespaceIndexedFields.of(searchConfig.getNamespaceIndexedFields());
+        return QueryParser.of(fieldExpressionFactory, queryBuilderFactory, queryCriteriaValidator,
+                namespaceIndexedFields);
     }
 
     private MongoThingsSearchPersistence getThingsSearchPersistence(final SearchConfig searchConfig,
@@ -132,7 +136,14 @@ public final class SearchRootActor extends DittoRootActor {
             final ThingsSearchPersistence thingsSearchPersistence, final ActorRef pubSubMediator) {
         final var queryParser = getQueryParser(searchConfig, getContext().getSystem());
         final var slowQueryLogConfig = searchConfig.getSlowQueryLogConfig();
-        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator, slowQueryLogConfig);
+        final var countCacheConfig = searchConfig.getCountCacheConfig();
+        final var queryCacheConfig = searchConfig.getQueryCacheConfig();
+        if (countCacheConfig.isEnabled() || queryCacheConfig.isEnabled()) {
+            startChildActor(SearchIndexChangePropagator.ACTOR_NAME, SearchIndexChangePropagator.props(pubSubMediator,
+                    searchConfig.getIndexChangePropagationInterval()));
+        }
+        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator, slowQueryLogConfig,
+                countCacheConfig, queryCacheConfig);
         return startChildActor(SearchActor.ACTOR_NAME, props);
     }
 
@@ -684,7 +684,37 @@ final class ThingsSearchCursor {
             // this should not happen.
             throw invalidCursorBuilder().build();
         }
-        return getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
+        final Criteria nextPageFilter = getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
+        return getLeadingDimensionBound(sortOptions.get(0), previousValues.get(0).orElse(JsonFactory.nullLiteral()),
+                cf)
+                .map(bound -> cf.and(Arrays.asList(bound, nextPageFilter)))
+                .orElse(nextPageFilter);
+    }
+
+    /**
+     * Generate a criteria bounding the first sort dimension by a single range starting at the cursor's position.
+     * The bound is implied by the filter for the next page. It is added nevertheless because MongoDB cannot derive
+     * tight index bounds from the disjunction over all sort dimensions, whereas the single range on the leading
+     * index key restricts the index scan to the keys after the cursor's position.
+     *
+     * @param sortOption the sort option of the first dimension.
+     * @param previousValue value of the first dimension marking the position of the cursor.
+     * @param cf a criteria factory.
+     * @return the bound or an empty Optional if the previous value is null, whose criteria are a single range already.
+     */
+    private static Optional<Criteria> getLeadingDimensionBound(final org.eclipse.ditto.rql.query.SortOption sortOption,
+            final JsonValue previousValue, final CriteriaFactory cf) {
+
+        if (previousValue.isNull()) {
+            return Optional.empty();
+        } else if (sortOption.getSortDirection() == SortDirection.ASC) {
+            return Optional.of(cf.fieldCriteria(sortOption.getSortExpression(),
+                    cf.ge(JsonToBson.convert(previousValue))));
+        } else {
+            // DESC: null values come last and must not be excluded
+            return Optional.of(cf.nor(cf.fieldCriteria(sortOption.getSortExpression(),
+                    cf.gt(JsonToBson.convert(previousValue)))));
+        }
     }
 
     /**
@@ -14,9 +14,12 @@ package org.eclipse.ditto.thingsearch.service.updater.actors;
 
 import java.time.Instant;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.eclipse.ditto.base.api.common.Shutdown;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -68,6 +71,7 @@ public final class BackgroundSyncActor
     private static final String INVALIDATE_THING_HEADER = "invalidate-thing";
     private static final String INVALIDATE_POLICY_HEADER = "invalidate-policy";
     private static final String NAMESPACES_FILTER_HEADER = "namespaces";
+    private static final int SAMPLED_THING_IDS_PER_PARTITION = 100;
 
     private final ThingsMetadataSource thingsMetadataSource;
     private final ThingsSearchPersistence thingsSearchPersistence;
@@ -81,6 +85,10 @@ public final class BackgroundSyncActor
     private ThingId progressPersisted = EMPTY_THING_ID;
     private ThingId progressIndexed = EMPTY_THING_ID;
 
+    private List<BackgroundSyncPartition> partitions = List.of();
+    private final Map<Integer, ThingId> partitionProgressPersisted = new HashMap<>();
+    private final Map<Integer, ThingId> partitionProgressIndexed = new HashMap<>();
+
     private boolean forceUpdateThings = false;
     private boolean forceInvalidateThing = false;
     private boolean forceInvalidatePolicy = false;
@@ -149,6 +157,7 @@ public final class BackgroundSyncActor
     @Override
     protected void preEnhanceStreamingBehavior(final ReceiveBuilder streamingReceiveBuilder) {
         streamingReceiveBuilder.match(ProgressReport.class, this::setProgress)
+                .match(PartitionProgressReport.class, this::setPartitionProgress)
                 .matchEquals(Control.BOOKMARK_THING_ID, this::bookmarkThingId);
     }
 
@@ -156,6 +165,9 @@ public final class BackgroundSyncActor
     protected void postEnhanceStatusReport(final JsonObjectBuilder statusReportBuilder) {
         statusReportBuilder.set("progressPersisted", progressPersisted.toString());
         statusReportBuilder.set("progressIndexed", progressIndexed.toString());
+        if (!partitions.isEmpty()) {
+            statusReportBuilder.set("partitions", BackgroundSyncPartition.toJsonArray(getRemainingPartitions()));
+        }
     }
 
     @Override
@@ -169,6 +181,9 @@ public final class BackgroundSyncActor
         // reset progress for the next round
         progressPersisted = EMPTY_THING_ID;
         progressIndexed = EMPTY_THING_ID;
+        partitions = List.of();
+        partitionProgressPersisted.clear();
+        partitionProgressIndexed.clear();
         forceUpdateThings = false;
         forceInvalidateThing = false;
         forceInvalidatePolicy = false;
@@ -212,8 +227,18 @@ public final class BackgroundSyncActor
 
     @Override
     protected Source<?, ?> getSource() {
-        return getLowerBoundSource()
-                .flatMapConcat(lowerBound -> streamMetadataFromLowerBound(lowerBound, namespacesFilter))
+        final Source<Metadata, NotUsed> metadataToUpdate;
+        if (config.getPartitions() > 1) {
+            final List<String> partitionNamespacesFilter = namespacesFilter;
+            final boolean forceUpdatePartitions = forceUpdateThings;
+            metadataToUpdate = getPartitionsSource(config.getPartitions(), forceUpdatePartitions)
+                    .flatMapConcat(partitionsToSync -> streamPartitions(partitionsToSync, partitionNamespacesFilter,
+                            forceUpdatePartitions));
+        } else {
+            metadataToUpdate = getLowerBoundSource()
+                    .flatMapConcat(lowerBound -> streamMetadataFromLowerBound(lowerBound, namespacesFilter));
+        }
+        return metadataToUpdate
                 .wireTap(handleInconsistency(forceUpdateThings, forceInvalidateThing, forceInvalidatePolicy));
     }
 
@@ -251,6 +276,104 @@ public final class BackgroundSyncActor
 
     }
 
+    private Source<List<BackgroundSyncPartition>, NotUsed> getPartitionsSource(final int numberOfPartitions,
+            final boolean forceUpdate) {
+
+        final Source<Optional<String>, NotUsed> bookmarkSource = forceUpdate
+                ? Source.single(Optional.empty())
+                : backgroundSyncPersistence.getTaggedTimestamp()
+                        .map(optional -> optional.map(Pair::second).filter(bookmark -> !bookmark.isEmpty()));
+
+        return bookmarkSource.flatMapConcat(bookmark -> {
+            final Optional<List<BackgroundSyncPartition>> bookmarkedPartitions =
+                    bookmark.flatMap(BackgroundSyncPartition::fromBookmark);
+            if (bookmarkedPartitions.isPresent()) {
+                return Source.single(bookmarkedPartitions.get());
+            }
+            // no partitions bookmarked: split the thing IDs after the bookmark of an unpartitioned sync if any
+            final ThingId resumeFrom = bookmark.map(ThingId::of).orElse(EMPTY_THING_ID);
+            final int sampleSize = numberOfPartitions * SAMPLED_THING_IDS_PER_PARTITION;
+            return thingsSearchPersistence.sudoSampleThingIds(sampleSize)
+                    .grouped(sampleSize)
+                    .orElse(Source.single(List.of()))
+                    .map(sample -> BackgroundSyncPartition.resumeFrom(
+                            BackgroundSyncPartition.fromSample(sample, numberOfPartitions), resumeFrom));
+        });
+    }
+
+    private Source<Metadata, NotUsed> streamPartitions(final List<BackgroundSyncPartition> partitionsToSync,
+            final List<String> namespacesFilter, final boolean forceUpdate) {
+
+        final BackgroundSyncStream partitionSyncStream =
+                backgroundSyncStream.withThroughputShareOf(partitionsToSync.size());
+
+        return Source.from(IntStream.range(0, partitionsToSync.size()).boxed().toList())
+                .flatMapMerge(Math.max(1, partitionsToSync.size()), index -> streamPartition(partitionsToSync, index,
+                        partitionSyncStream, namespacesFilter, forceUpdate));
+    }
+
+    private Source<Metadata, NotUsed> streamPartition(final List<BackgroundSyncPartition> partitionsToSync,
+            final int index,
+            final BackgroundSyncStream partitionSyncStream,
+            final List<String> namespacesFilter,
+            final boolean forceUpdate) {
+
+        final BackgroundSyncPartition partition = partitionsToSync.get(index);
+        final Source<Metadata, NotUsed> persistedMetadata = wrapAsResumeSource(partition.lowerBound(),
+                lowerBound -> thingsMetadataSource.createSource(lowerBound, namespacesFilter))
+                .takeWhile(persisted -> partition.isNotAfterUpperBound(persisted.getThingId()))
+                .wireTap(persisted -> {
+                    streamedSnapshots.increment();
+                    getSelf().tell(new PartitionProgressReport(partitionsToSync, index, persisted.getThingId(), true),
+                            ActorRef.noSender());
+                });
+
+        if (forceUpdate) {
+            return persistedMetadata;
+        }
+
+        final Source<Metadata, NotUsed> indexedMetadata =
+                wrapAsResumeSource(partition.lowerBound(), thingsSearchPersistence::sudoStreamMetadata)
+                        .takeWhile(indexed -> partition.isNotAfterUpperBound(indexed.getThingId()))
+                        .wireTap(indexed -> {
+                            scannedIndexDocs.increment();
+                            getSelf().tell(new PartitionProgressReport(partitionsToSync, index, indexed.getThingId(),
+                                    false), ActorRef.noSender());
+                        });
+
+        return partitionSyncStream.filterForInconsistencies(persistedMetadata, indexedMetadata);
+    }
+
+    private void setPartitionProgress(final PartitionProgressReport progress) {
+        // all reports of one sync iteration share the same list instance
+        if (progress.partitions() != partitions) {
+            partitions = progress.partitions();
+            partitionProgressPersisted.clear();
+            partitionProgressIndexed.clear();
+        }
+        if (progress.persisted()) {
+            partitionProgressPersisted.put(progress.index(), progress.thingId());
+        } else {
+            partitionProgressIndexed.put(progress.index(), progress.thingId());
+        }
+    }
+
+    private List<BackgroundSyncPartition> getRemainingPartitions() {
+        return IntStream.range(0, partitions.size())
+                .mapToObj(index -> {
+                    final ThingId persisted = partitionProgressPersisted.getOrDefault(index, EMPTY_THING_ID);
+                    final ThingId indexed = partitionProgressIndexed.getOrDefault(index, EMPTY_THING_ID);
+                    // same choice of the smaller ID as for the bookmark of an unpartitioned sync
+                    final ThingId progress = BackgroundSyncStream.compareThingIds(indexed, persisted) <= 0
+                            ? indexed
+                            : persisted;
+                    return progress.equals(EMPTY_THING_ID)
+                            ? partitions.get(index)
+                            : partitions.get(index).withLowerBound(progress);
+                })
+                .toList();
+    }
+
     private void setProgress(final ProgressReport progress) {
         if (progress.persisted) {
             progressPersisted = progress.thingId;
@@ -260,6 +383,10 @@ public final class BackgroundSyncActor
     }
 
     private void bookmarkThingId(final Control bookmarkRequest) {
+        if (!partitions.isEmpty()) {
+            doBookmarkThingId(BackgroundSyncPartition.toBookmark(getRemainingPartitions()));
+            return;
+        }
         // bookmark the smaller ID between progressed and indexed according to background sync stream processing order
         final ThingId thingIdToBookmark = BackgroundSyncStream.compareThingIds(progressIndexed, progressPersisted) <= 0
                 ? progressIndexed
@@ -347,6 +474,9 @@ public final class BackgroundSyncActor
 
     private record ProgressReport(ThingId thingId, boolean persisted) {}
 
+    private record PartitionProgressReport(List<BackgroundSyncPartition> partitions, int index, ThingId thingId,
+                                           boolean persisted) {}
+
     private enum Control {
         BOOKMARK_THING_ID
     }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.BackgroundSyncStream;
+
+/**
+ * A range of thing IDs synchronized by one stream of the background sync. Thing IDs greater than the lower bound
+ * and not greater than the upper bound belong to the partition; the last partition has no upper bound.
+ *
+ * @param lowerBound the exclusive lower bound, which is the empty thing ID for the first partition.
+ * @param upperBound the inclusive upper bound or {@code null} for the last partition.
+ */
+record BackgroundSyncPartition(ThingId lowerBound, @Nullable ThingId upperBound) {
+
+    static final ThingId EMPTY_THING_ID = ThingId.of(LowerBound.emptyEntityId(ThingConstants.ENTITY_TYPE));
+
+    private static final String LOWER_BOUND = "lowerBound";
+    private static final String UPPER_BOUND = "upperBound";
+
+    /**
+     * Split the thing ID space into partitions of roughly equal size according to a random sample of thing IDs.
+     * Fewer partitions are returned if the sample contains too few distinct thing IDs.
+     *
+     * @param sample the sampled thing IDs in any order.
+     * @param numberOfPartitions the requested number of partitions.
+     * @return the partitions in ascending order.
+     */
+    static List<BackgroundSyncPartition> fromSample(final Collection<ThingId> sample, final int numberOfPartitions) {
+        final TreeSet<ThingId> sortedSample = new TreeSet<>(BackgroundSyncStream::compareThingIds);
+        sortedSample.addAll(sample);
+        sortedSample.remove(EMPTY_THING_ID);
+        final List<ThingId> sortedIds = new ArrayList<>(sortedSample);
+        final List<ThingId> boundaries = new ArrayList<>();
+        for (int i = 1; i < numberOfPartitions && !sortedIds.isEmpty(); i++) {
+            final ThingId boundary = sortedIds.get(i * sortedIds.size() / numberOfPartitions);
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        final List<BackgroundSyncPartition> partitions = new ArrayList<>(boundaries.size() + 1);
+        ThingId lowerBound = EMPTY_THING_ID;
+        for (final ThingId boundary : boundaries) {
+            partitions.add(new BackgroundSyncPartition(lowerBound, boundary));
+            lowerBound = boundary;
+        }
+        partitions.add(new BackgroundSyncPartition(lowerBound, null));
+        return List.copyOf(partitions);
+    }
+
+    /**
+     * Skip all thing IDs up to a bookmarked thing ID, e.g. one left behind by an unpartitioned background sync.
+     *
+     * @param partitions the partitions in ascending order.
+     * @param bookmark the thing ID up to which the background sync progressed.
+     * @return the partitions which are not yet exhausted.
+     */
+    static List<BackgroundSyncPartition> resumeFrom(final List<BackgroundSyncPartition> partitions,
+            final ThingId bookmark) {
+
+        if (bookmark.equals(EMPTY_THING_ID)) {
+            return partitions;
+        }
+        return partitions.stream()
+                .map(partition -> partition.contains(bookmark) ? partition.withLowerBound(bookmark) : partition)
+                .filter(partition -> partition.upperBound() == null ||
+                        BackgroundSyncStream.compareThingIds(partition.upperBound(), bookmark) > 0)
+                .toList();
+    }
+
+    /**
+     * Serialize partitions and their progress into a bookmark of the background sync.
+     *
+     * @param partitions the partitions.
+     * @return the bookmark.
+     */
+    static String toBookmark(final List<BackgroundSyncPartition> partitions) {
+        return toJsonArray(partitions).toString();
+    }
+
+    /**
+     * Serialize partitions into a JSON array, e.g. for status reports.
+     *
+     * @param partitions the partitions.
+     * @return the JSON array.
+     */
+    static JsonArray toJsonArray(final List<BackgroundSyncPartition> partitions) {
+        return partitions.stream()
+                .map(BackgroundSyncPartition::toJson)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    /**
+     * Deserialize partitions from a bookmark of the background sync.
+     *
+     * @param bookmark the bookmark.
+     * @return the partitions, or an empty optional if the bookmark is a thing ID or not parsable.
+     */
+    static Optional<List<BackgroundSyncPartition>> fromBookmark(final String bookmark) {
+        if (!bookmark.startsWith("[")) {
+            return Optional.empty();
+        }
+        try {
+            final List<BackgroundSyncPartition> partitions = JsonArray.of(bookmark)
+                    .stream()
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .map(BackgroundSyncPartition::fromJson)
+                    .toList();
+            return partitions.isEmpty() ? Optional.empty() : Optional.of(partitions);
+        } catch (final JsonRuntimeException | DittoRuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check whether a thing ID belongs to this partition.
+     *
+     * @param thingId the thing ID.
+     * @return whether the thing ID is greater than the lower bound and not greater than the upper bound.
+     */
+    boolean contains(final ThingId thingId) {
+        return BackgroundSyncStream.compareThingIds(lowerBound, thingId) < 0 && isNotAfterUpperBound(thingId);
+    }
+
+    /**
+     * Check whether a thing ID is not greater than the upper bound of this partition.
+     *
+     * @param thingId the thing ID.
+     * @return whether the thing ID does not exceed the upper bound.
+     */
+    boolean isNotAfterUpperBound(final ThingId thingId) {
+        return upperBound == null || BackgroundSyncStream.compareThingIds(thingId, upperBound) <= 0;
+    }
+
+    /**
+     * Move the lower bound of this partition after its synchronization progressed.
+     *
+     * @param progress the thing ID up to which this partition was synchronized.
+     * @return the remaining partition.
+     */
+    BackgroundSyncPartition withLowerBound(final ThingId progress) {
+        return new BackgroundSyncPartition(progress, upperBound);
+    }
+
+    private JsonObject toJson() {
+        final var builder = JsonFactory.newObjectBuilder();
+        if (!lowerBound.equals(EMPTY_THING_ID)) {
+            builder.set(LOWER_BOUND, lowerBound.toString());
+        }
+        if (upperBound != null) {
+            builder.set(UPPER_BOUND, upperBound.toString());
+        }
+        return builder.build();
+    }
+
+    private static BackgroundSyncPartition fromJson(final JsonObject jsonObject) {
+        final ThingId lowerBound = jsonObject.getValue(LOWER_BOUND)
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .map(ThingId::of)
+                .orElse(EMPTY_THING_ID);
+        final ThingId upperBound = jsonObject.getValue(UPPER_BOUND)
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .map(ThingId::of)
+                .orElse(null);
+        return new BackgroundSyncPartition(lowerBound, upperBound);
+    }
+
+}
@@ -32,12 +32,15 @@ import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.policies.enforcement.config.DefaultNamespacePoliciesConfig;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
+import org.eclipse.ditto.thingsearch.service.common.config.OperatorMetricsConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.util.RootSupervisorStrategyFactory;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.SearchUpdateMapper;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.SearchUpdaterStream;
+import org.eclipse.ditto.thingsearch.service.starter.actors.CustomAggregationMetricDeltaPublisher;
 import org.eclipse.ditto.thingsearch.service.starter.actors.MongoClientExtension;
 import org.eclipse.ditto.thingsearch.service.starter.actors.OperatorMetricsProviderActor;
 import org.eclipse.ditto.thingsearch.service.starter.actors.OperatorAggregateMetricsProviderActor;
@@ -93,10 +96,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(actorSystem.settings().config());
         final var searchUpdateMapper = SearchUpdateMapper.get(actorSystem, dittoExtensionsConfig);
+        // changes only need to be tracked (and propagated by the search root actor) if query results are cached
+        final var changeTracker =
+                searchConfig.getCountCacheConfig().isEnabled() || searchConfig.getQueryCacheConfig().isEnabled()
+                        ? SearchIndexChangeTracker.get(actorSystem)
+                        : null;
         final SearchUpdaterStream searchUpdaterStream =
                 SearchUpdaterStream.of(updaterConfig, actorSystem, thingsShard, policiesShard,
                         dittoMongoClient.getDefaultDatabase(), blockedNamespaces,
-                        searchUpdateMapper);
+                        searchUpdateMapper, changeTracker);
 
         final var thingUpdaterProps =
                 ThingUpdater.props(searchUpdaterStream.flow(), thingsSearchPersistence::recoverLastWriteModel,
@@ -133,13 +141,19 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 ClusterUtil.startSingletonProxy(getContext(), CLUSTER_ROLE,
                         startClusterSingletonActor(BackgroundSyncActor.ACTOR_NAME, backgroundSyncActorProps)
                 );
-        if (searchConfig.getOperatorMetricsConfig().isEnabled()) {
+        final OperatorMetricsConfig operatorMetricsConfig = searchConfig.getOperatorMetricsConfig();
+        if (operatorMetricsConfig.isEnabled()) {
             startClusterSingletonActor(OperatorMetricsProviderActor.ACTOR_NAME,
-                    OperatorMetricsProviderActor.props(searchConfig.getOperatorMetricsConfig(), searchActor)
+                    OperatorMetricsProviderActor.props(operatorMetricsConfig, searchActor)
             );
             startClusterSingletonActor(OperatorAggregateMetricsProviderActor.ACTOR_NAME,
-                    OperatorAggregateMetricsProviderActor.props(searchConfig)
+                    OperatorAggregateMetricsProviderActor.props(searchConfig, pubSubMediator)
             );
+            if (operatorMetricsConfig.isIncrementalAggregationEnabled()) {
+                startChildActor(CustomAggregationMetricDeltaPublisher.ACTOR_NAME,
+                        CustomAggregationMetricDeltaPublisher.props(pubSubMediator,
+                                operatorMetricsConfig.getIncrementalAggregationPropagationInterval()));
+            }
         }
 
         startChildActor(ThingsSearchPersistenceOperationsActor.ACTOR_NAME,
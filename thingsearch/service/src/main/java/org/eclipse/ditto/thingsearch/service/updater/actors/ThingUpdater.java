@@ -75,6 +75,7 @@ import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDelete
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.BulkWriteResultAckFlow;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.ConsistencyLag;
+import org.eclipse.ditto.thingsearch.service.starter.actors.CustomAggregationMetricDeltaTracker;
 
 import com.mongodb.client.model.DeleteOneModel;
 
@@ -108,6 +109,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private final Duration writeInterval;
     private final Duration thingDeletionTimeout;
     private final Duration maxIdleTime;
+    @Nullable private final CustomAggregationMetricDeltaTracker customAggregationMetricDeltaTracker;
     private ExponentialBackOff backOff;
     private boolean shuttingDown = false;
     @Nullable private UniqueKillSwitch killSwitch;
@@ -117,8 +119,21 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
      *
      * @param metadata The most up-to-date metadata known to this actor.
      * @param lastWriteModel The last write model confirmed to be written to the persistence.
+     * @param lastWriteModelUnknown Whether the document in the persistence is unknown, e.g. after a failed write or
+     * when forced to update, so that {@code lastWriteModel} is only a placeholder causing a complete update.
      */
-    public record Data(Metadata metadata, AbstractWriteModel lastWriteModel) {}
+    public record Data(Metadata metadata, AbstractWriteModel lastWriteModel, boolean lastWriteModelUnknown) {
+
+        /**
+         * Creates the data of a thing-updater whose last write model is known.
+         *
+         * @param metadata The most up-to-date metadata known to this actor.
+         * @param lastWriteModel The last write model confirmed to be written to the persistence.
+         */
+        public Data(final Metadata metadata, final AbstractWriteModel lastWriteModel) {
+            this(metadata, lastWriteModel, false);
+        }
+    }
 
     /**
      * The result of a persistence operation.
@@ -168,6 +183,11 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                 config.getUpdaterConfig().getStreamConfig().getPersistenceConfig().getExponentialBackOffConfig());
         thingDeletionTimeout = config.getUpdaterConfig().getStreamConfig().getThingDeletionTimeout();
         maxIdleTime = config.getUpdaterConfig().getMaxIdleTime();
+        final var operatorMetricsConfig = config.getOperatorMetricsConfig();
+        customAggregationMetricDeltaTracker =
+                operatorMetricsConfig.isEnabled() && operatorMetricsConfig.isIncrementalAggregationEnabled()
+                        ? CustomAggregationMetricDeltaTracker.get(getContext().getSystem())
+                        : null;
 
         startWith(State.RECOVERING, getInitialData(thingId));
         when(State.RECOVERING, recovering());
@@ -332,10 +352,22 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         return switch (pair.first()) {
             case UNACKNOWLEDGED, CONSISTENCY_ERROR, INCORRECT_PATCH, WRITE_ERROR -> {
                 final var metadata = data.metadata().export();
-                yield goTo(State.RETRYING).using(new Data(metadata, ThingDeleteModel.of(Metadata.ofDeleted(thingId))));
+                yield goTo(State.RETRYING)
+                        .using(new Data(metadata, ThingDeleteModel.of(Metadata.ofDeleted(thingId)), true));
             }
             case OK -> {
                 final var writeModel = result.mongoWriteModel().getDitto();
+                if (writeResultAndErrors.isSuperseded()) {
+                    // a newer write model was written in place of this one: the indexed document is not known
+                    log.debug("Update was superseded by a newer update of the same thing");
+                    yield goTo(State.READY)
+                            .using(new Data(writeModel.getMetadata().export(), data.lastWriteModel(), true));
+                }
+                if (customAggregationMetricDeltaTracker != null) {
+                    // the write model itself was acknowledged, so the indexed document changed from the last one
+                    customAggregationMetricDeltaTracker.recordWrite(
+                            data.lastWriteModelUnknown() ? null : data.lastWriteModel(), writeModel);
+                }
                 final var nextMetadata = writeModel.getMetadata().export();
                 yield goTo(State.READY).using(new Data(nextMetadata, writeModel));
             }
@@ -352,7 +384,8 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
             log.info("Initial update was skipped - stopping thing updater for <{}>.", thingId);
             return stop();
         } else {
-            return goTo(State.READY).using(new Data(nextMetadata, data.lastWriteModel()));
+            return goTo(State.READY)
+                    .using(new Data(nextMetadata, data.lastWriteModel(), data.lastWriteModelUnknown()));
         }
     }
 
@@ -409,10 +442,13 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         log.withCorrelationId(sudoUpdateThing)
                 .info("Requested to update search index <{}> by <{}>", sudoUpdateThing, getSender());
         final AbstractWriteModel lastWriteModel;
+        final boolean lastWriteModelUnknown;
         if (sudoUpdateThing.getDittoHeaders().containsKey(FORCE_UPDATE)) {
             lastWriteModel = ThingDeleteModel.of(data.metadata());
+            lastWriteModelUnknown = true;
         } else {
             lastWriteModel = data.lastWriteModel();
+            lastWriteModelUnknown = data.lastWriteModelUnknown();
         }
 
         final Metadata metadata = data.metadata()
@@ -424,7 +460,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                         : metadata;
         ensureTickTimer();
 
-        return stay().using(new Data(data.metadata().append(nextMetadata), lastWriteModel));
+        return stay().using(new Data(data.metadata().append(nextMetadata), lastWriteModel, lastWriteModelUnknown));
     }
 
     private FSM.State<State, Data> onPolicyReferenceTag(final PolicyReferenceTag policyReferenceTag, final Data data) {
@@ -559,7 +595,8 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private FSM.State<State, Data> enqueue(final Metadata newMetadata, final Data data) {
         ensureTickTimer();
 
-        return stay().using(new Data(data.metadata().append(newMetadata), data.lastWriteModel()));
+        return stay().using(new Data(data.metadata().append(newMetadata), data.lastWriteModel(),
+                data.lastWriteModelUnknown()));
     }
 
     private FSM.State<State, Data> recoveryComplete(final AbstractWriteModel lastWriteModel, final Data initialData) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultAdaptiveIndexHintsConfig}.
+ */
+public final class DefaultAdaptiveIndexHintsConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("adaptive-index-hints-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultAdaptiveIndexHintsConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final AdaptiveIndexHintsConfig underTest = DefaultAdaptiveIndexHintsConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getSampleRate())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.SAMPLE_RATE.getConfigPath())
+                .isEqualTo(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.SAMPLE_RATE.getDefaultValue());
+        softly.assertThat(underTest.getMinSamples())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.MIN_SAMPLES.getConfigPath())
+                .isEqualTo(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.MIN_SAMPLES.getDefaultValue());
+        softly.assertThat(underTest.getReEvaluationInterval())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.RE_EVALUATION_INTERVAL.getConfigPath())
+                .isEqualTo(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.RE_EVALUATION_INTERVAL
+                        .getDefaultValue());
+        softly.assertThat(underTest.getMaximumShapes())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.MAXIMUM_SHAPES.getConfigPath())
+                .isEqualTo(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.MAXIMUM_SHAPES.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final AdaptiveIndexHintsConfig underTest = DefaultAdaptiveIndexHintsConfig.of(config);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getSampleRate())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.SAMPLE_RATE.getConfigPath())
+                .isEqualTo(0.5);
+        softly.assertThat(underTest.getMinSamples())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.MIN_SAMPLES.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getReEvaluationInterval())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.RE_EVALUATION_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(15L));
+        softly.assertThat(underTest.getMaximumShapes())
+                .as(AdaptiveIndexHintsConfig.AdaptiveIndexHintsConfigValue.MAXIMUM_SHAPES.getConfigPath())
+                .isEqualTo(42);
+    }
+
+    @Test
+    public void sampleRateAboveOneIsRejected() {
+        final Config invalidConfig = ConfigFactory.parseMap(Map.of("adaptive-index-hints.sample-rate", 1.5));
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultAdaptiveIndexHintsConfig.of(invalidConfig));
+    }
+
+}
@@ -86,5 +86,8 @@ public final class DefaultBackgroundSyncConfigTest {
         softly.assertThat(underTest.getPolicyAskTimeout())
                 .as(BackgroundSyncConfig.ConfigValue.POLICY_ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofHours(11L));
+        softly.assertThat(underTest.getPartitions())
+                .as(BackgroundSyncConfig.ConfigValue.PARTITIONS.getConfigPath())
+                .isEqualTo(12);
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultCountCacheConfig}.
+ */
+public final class DefaultCountCacheConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("count-cache-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final CountCacheConfig underTest = DefaultCountCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CountCacheConfig.CountCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CountCacheConfig.CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(CountCacheConfig.CountCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
+
+        softly.assertThat(underTest.getApproximateSampleSize())
+                .as(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_SAMPLE_SIZE.getConfigPath())
+                .isEqualTo(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_SAMPLE_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final CountCacheConfig underTest = DefaultCountCacheConfig.of(config);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CountCacheConfig.CountCacheConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CountCacheConfig.CountCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(42L);
+
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(CountCacheConfig.CountCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+
+        softly.assertThat(underTest.getApproximateSampleSize())
+                .as(CountCacheConfig.CountCacheConfigValue.APPROXIMATE_SAMPLE_SIZE.getConfigPath())
+                .isEqualTo(250);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultKeysetPaginationConfig}.
+ */
+public final class DefaultKeysetPaginationConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("keyset-pagination-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultKeysetPaginationConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final KeysetPaginationConfig underTest = DefaultKeysetPaginationConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isSortIndexHintsEnabled())
+                .as(KeysetPaginationConfig.KeysetPaginationConfigValue.SORT_INDEX_HINTS_ENABLED.getConfigPath())
+                .isEqualTo(KeysetPaginationConfig.KeysetPaginationConfigValue.SORT_INDEX_HINTS_ENABLED
+                        .getDefaultValue());
+
+        softly.assertThat(underTest.getExplainSampleRate())
+                .as(KeysetPaginationConfig.KeysetPaginationConfigValue.EXPLAIN_SAMPLE_RATE.getConfigPath())
+                .isEqualTo(KeysetPaginationConfig.KeysetPaginationConfigValue.EXPLAIN_SAMPLE_RATE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final KeysetPaginationConfig underTest = DefaultKeysetPaginationConfig.of(config);
+
+        softly.assertThat(underTest.isSortIndexHintsEnabled())
+                .as(KeysetPaginationConfig.KeysetPaginationConfigValue.SORT_INDEX_HINTS_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getExplainSampleRate())
+                .as(KeysetPaginationConfig.KeysetPaginationConfigValue.EXPLAIN_SAMPLE_RATE.getConfigPath())
+                .isEqualTo(0.25);
+    }
+
+    @Test
+    public void explainSampleRateAboveOneIsRejected() {
+        final Config invalidConfig = ConfigFactory.parseMap(Map.of("keyset-pagination.explain-sample-rate", 1.5));
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultKeysetPaginationConfig.of(invalidConfig));
+    }
+
+}
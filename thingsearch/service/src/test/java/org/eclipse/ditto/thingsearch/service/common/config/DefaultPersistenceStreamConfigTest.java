@@ -70,6 +70,10 @@ public final class DefaultPersistenceStreamConfigTest {
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.valueOf(
                         (String) PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getDefaultValue()));
+
+        softly.assertThat(underTest.getUpdateLanesConfig())
+                .as(DefaultUpdateLanesConfig.CONFIG_PATH)
+                .isEqualTo(DefaultUpdateLanesConfig.of(ConfigFactory.empty()));
     }
 
     @Test
@@ -92,6 +96,10 @@ public final class DefaultPersistenceStreamConfigTest {
         softly.assertThat(underTest.getWithAcknowledgementsWriteConcern())
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.MAJORITY);
+
+        softly.assertThat(underTest.getUpdateLanesConfig().isEnabled())
+                .as(DefaultUpdateLanesConfig.CONFIG_PATH)
+                .isTrue();
     }
 
 }
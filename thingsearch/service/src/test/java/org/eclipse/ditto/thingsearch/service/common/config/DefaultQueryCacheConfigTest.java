@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultQueryCacheConfig}.
+ */
+public final class DefaultQueryCacheConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("query-cache-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final QueryCacheConfig underTest = DefaultQueryCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryCacheConfig.QueryCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryCacheConfig.QueryCacheConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(QueryCacheConfig.QueryCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(QueryCacheConfig.QueryCacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(QueryCacheConfig.QueryCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(QueryCacheConfig.QueryCacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final QueryCacheConfig underTest = DefaultQueryCacheConfig.of(config);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryCacheConfig.QueryCacheConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(QueryCacheConfig.QueryCacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(17L);
+
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(QueryCacheConfig.QueryCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMillis(500L));
+    }
+
+}
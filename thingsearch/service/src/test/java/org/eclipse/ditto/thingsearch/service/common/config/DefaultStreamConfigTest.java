@@ -57,6 +57,10 @@ public final class DefaultStreamConfigTest {
                 .as(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath())
                 .isEqualTo(StreamConfigValue.MAX_ARRAY_SIZE.getDefaultValue());
 
+        softly.assertThat(underTest.getIncrementalDocumentMaxChangedPaths())
+                .as(StreamConfigValue.INCREMENTAL_DOCUMENT_MAX_CHANGED_PATHS.getConfigPath())
+                .isEqualTo(StreamConfigValue.INCREMENTAL_DOCUMENT_MAX_CHANGED_PATHS.getDefaultValue());
+
         softly.assertThat(underTest.getWriteInterval())
                 .as(StreamConfigValue.WRITE_INTERVAL.getConfigPath())
                 .isEqualTo(StreamConfigValue.WRITE_INTERVAL.getDefaultValue());
@@ -74,6 +78,10 @@ public final class DefaultStreamConfigTest {
                 .as(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath())
                 .isEqualTo(1);
 
+        softly.assertThat(underTest.getIncrementalDocumentMaxChangedPaths())
+                .as(StreamConfigValue.INCREMENTAL_DOCUMENT_MAX_CHANGED_PATHS.getConfigPath())
+                .isEqualTo(4);
+
         softly.assertThat(underTest.getWriteInterval())
                 .as(StreamConfigValue.WRITE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(2));
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.thingsearch.service.common.config.UpdateLanesConfig.UpdateLanesConfigValue;
+
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultUpdateLanesConfig}.
+ */
+public final class DefaultUpdateLanesConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("update-lanes-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultUpdateLanesConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final UpdateLanesConfig underTest = DefaultUpdateLanesConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(UpdateLanesConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(UpdateLanesConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getPriorityBulkSize())
+                .as(UpdateLanesConfigValue.PRIORITY_BULK_SIZE.getConfigPath())
+                .isEqualTo(UpdateLanesConfigValue.PRIORITY_BULK_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getTelemetryBulkSize())
+                .as(UpdateLanesConfigValue.TELEMETRY_BULK_SIZE.getConfigPath())
+                .isEqualTo(UpdateLanesConfigValue.TELEMETRY_BULK_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxConsecutivePriorityBulks())
+                .as(UpdateLanesConfigValue.MAX_CONSECUTIVE_PRIORITY_BULKS.getConfigPath())
+                .isEqualTo(UpdateLanesConfigValue.MAX_CONSECUTIVE_PRIORITY_BULKS.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxBufferedUpdates())
+                .as(UpdateLanesConfigValue.MAX_BUFFERED_UPDATES.getConfigPath())
+                .isEqualTo(UpdateLanesConfigValue.MAX_BUFFERED_UPDATES.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final UpdateLanesConfig underTest = DefaultUpdateLanesConfig.of(config);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(UpdateLanesConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getPriorityBulkSize())
+                .as(UpdateLanesConfigValue.PRIORITY_BULK_SIZE.getConfigPath())
+                .isEqualTo(8);
+
+        softly.assertThat(underTest.getTelemetryBulkSize())
+                .as(UpdateLanesConfigValue.TELEMETRY_BULK_SIZE.getConfigPath())
+                .isEqualTo(512);
+
+        softly.assertThat(underTest.getMaxConsecutivePriorityBulks())
+                .as(UpdateLanesConfigValue.MAX_CONSECUTIVE_PRIORITY_BULKS.getConfigPath())
+                .isEqualTo(3);
+
+        softly.assertThat(underTest.getMaxBufferedUpdates())
+                .as(UpdateLanesConfigValue.MAX_BUFFERED_UPDATES.getConfigPath())
+                .isEqualTo(2000);
+    }
+
+    @Test
+    public void nonPositiveBulkSizeIsRejected() {
+        final Config invalidConfig = ConfigFactory.parseMap(Map.of("lanes.priority-bulk-size", 0));
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultUpdateLanesConfig.of(invalidConfig));
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ApproximateCount}.
+ */
+public final class ApproximateCountTest {
+
+    @Test
+    public void sampleOfWholeIndexIsExact() {
+        assertThat(ApproximateCount.fromSample(42L, 100L, 100L)).isEqualTo(ApproximateCount.exact(42L));
+    }
+
+    @Test
+    public void estimateIsScaledToIndexSize() {
+        final ApproximateCount underTest = ApproximateCount.fromSample(250L, 1000L, 1_000_000L);
+
+        assertThat(underTest.count()).isEqualTo(250_000L);
+        // 1.96 * sqrt(0.25 * 0.75 / 1000) * 1_000_000
+        assertThat(underTest.errorBound()).isBetween(26_800L, 26_900L);
+    }
+
+    @Test
+    public void noMatchesAreBoundedByRuleOfThree() {
+        final ApproximateCount underTest = ApproximateCount.fromSample(0L, 1000L, 1_000_000L);
+
+        assertThat(underTest.count()).isZero();
+        assertThat(underTest.errorBound()).isEqualTo(3000L);
+    }
+
+}
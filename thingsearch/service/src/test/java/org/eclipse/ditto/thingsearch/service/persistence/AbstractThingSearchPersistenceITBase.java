@@ -49,6 +49,7 @@ import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.SearchUpdateMapper;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.TestSearchUpdaterStream;
 import org.junit.After;
@@ -125,7 +126,8 @@ public abstract class AbstractThingSearchPersistenceITBase {
     private TestSearchUpdaterStream provideWritePersistence() {
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(actorSystem.settings().config());
         return TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase(),
-                SearchUpdateMapper.get(actorSystem, dittoExtensionsConfig));
+                SearchUpdateMapper.get(actorSystem, dittoExtensionsConfig),
+                SearchIndexChangeTracker.get(actorSystem));
     }
 
     private static DittoMongoClient provideClientWrapper() {
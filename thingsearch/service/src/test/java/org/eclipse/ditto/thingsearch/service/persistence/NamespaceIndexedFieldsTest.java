@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultNamespaceSearchIndexConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.NamespaceSearchIndexConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link NamespaceIndexedFields}.
+ */
+public final class NamespaceIndexedFieldsTest {
+
+    private static final NamespaceIndexedFields UNDERTEST = NamespaceIndexedFields.of(List.of(
+            config("org.eclipse.telemetry", "attributes/location", "features/env/properties/status"),
+            config("org.eclipse.*", "attributes", "features/info")));
+
+    @Test
+    public void projectsThingToIndexedFieldsOfFirstMatchingNamespacePattern() {
+        final JsonObject thing = JsonObject.of("""
+                {
+                  "thingId": "org.eclipse.telemetry:sensor",
+                  "policyId": "org.eclipse.telemetry:sensor",
+                  "_namespace": "org.eclipse.telemetry",
+                  "_revision": 3,
+                  "_modified": "2026-10-19T08:00:00Z",
+                  "_created": "2026-10-18T08:00:00Z",
+                  "attributes": {"location": "hall", "serial": "123"},
+                  "features": {"info": {"properties": {"samples": [1, 2, 3]}}}
+                }""");
+
+        final JsonObject projected = UNDERTEST.project("org.eclipse.telemetry", thing);
+
+        assertThat(projected).isEqualTo(JsonObject.of("""
+                {
+                  "thingId": "org.eclipse.telemetry:sensor",
+                  "policyId": "org.eclipse.telemetry:sensor",
+                  "_namespace": "org.eclipse.telemetry",
+                  "_revision": 3,
+                  "_modified": "2026-10-19T08:00:00Z",
+                  "_created": "2026-10-18T08:00:00Z",
+                  "attributes": {"location": "hall"}
+                }"""));
+    }
+
+    @Test
+    public void doesNotProjectThingInNamespaceWithoutMatchingPattern() {
+        final JsonObject thing = JsonObject.of("{\"thingId\":\"com.acme:thing\",\"attributes\":{\"a\":1}}");
+
+        assertThat(UNDERTEST.project("com.acme", thing)).isSameAs(thing);
+        assertThat(UNDERTEST.getIndexedFields("com.acme")).isEmpty();
+    }
+
+    @Test
+    public void pathsWithinOrAboveIndexedFieldsAreIndexed() {
+        final Set<String> namespaces = Set.of("org.eclipse.telemetry");
+
+        assertThat(UNDERTEST.isIndexedInAnyOf(JsonPointer.of("/attributes/location/hall"), namespaces)).isTrue();
+        assertThat(UNDERTEST.isIndexedInAnyOf(JsonPointer.of("/attributes"), namespaces)).isTrue();
+        assertThat(UNDERTEST.isIndexedInAnyOf(JsonPointer.of("/attributes/serial"), namespaces)).isFalse();
+        assertThat(UNDERTEST.isIndexedInAnyOf(JsonPointer.of("/features/*/properties/status"), namespaces))
+                .isTrue();
+        assertThat(UNDERTEST.isIndexedInAnyOf(JsonPointer.of("/features/info/properties/samples"), namespaces))
+                .isFalse();
+    }
+
+    @Test
+    public void pathIsIndexedIfIndexedInAnySearchedNamespace() {
+        final JsonPointer serial = JsonPointer.of("/attributes/serial");
+
+        assertThat(UNDERTEST.isIndexedInAnyOf(serial, Set.of("org.eclipse.telemetry", "org.eclipse.ditto")))
+                .isTrue();
+        assertThat(UNDERTEST.isIndexedInAnyOf(serial, Set.of("org.eclipse.telemetry", "com.acme"))).isTrue();
+    }
+
+    @Test
+    public void pathIsIndexedForUnrestrictedSearchUnlessExcludedByCatchAllPattern() {
+        final NamespaceIndexedFields withCatchAll = NamespaceIndexedFields.of(List.of(
+                config("org.eclipse.telemetry", "attributes/location"),
+                config("*", "attributes")));
+
+        assertThat(UNDERTEST.isIndexedInAnyOf(JsonPointer.of("/features/info/properties/x"), null)).isTrue();
+        assertThat(withCatchAll.isIndexedInAnyOf(JsonPointer.of("/attributes/serial"), null)).isTrue();
+        assertThat(withCatchAll.isIndexedInAnyOf(JsonPointer.of("/features/info/properties/x"), null)).isFalse();
+    }
+
+    @Test
+    public void everythingIsIndexedWithoutConfiguration() {
+        final NamespaceIndexedFields empty = NamespaceIndexedFields.of(List.of());
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.isIndexedInAnyOf(JsonPointer.of("/features/info"), Set.of("org.eclipse"))).isTrue();
+    }
+
+    private static NamespaceSearchIndexConfig config(final String namespacePattern, final String... indexedFields) {
+        return DefaultNamespaceSearchIndexConfig.of(ConfigFactory.parseMap(Map.of(
+                "namespace-pattern", namespacePattern,
+                "indexed-fields", List.of(indexedFields))));
+    }
+}
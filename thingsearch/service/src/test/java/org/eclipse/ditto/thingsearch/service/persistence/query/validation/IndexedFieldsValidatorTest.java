@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.query.validation;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultNamespaceSearchIndexConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.NamespaceIndexedFields;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link IndexedFieldsValidator}.
+ */
+public final class IndexedFieldsValidatorTest {
+
+    private static final Set<String> NAMESPACES = Set.of("org.eclipse.telemetry");
+
+    private static final ThingsFieldExpressionFactory FIELD_EXPRESSION_FACTORY =
+            ThingsFieldExpressionFactory.of(Map.of("thingId", "_id", "_modified", "/_modified",
+                    "definition", "/definition"));
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.of(FIELD_EXPRESSION_FACTORY, RqlPredicateParser.getInstance());
+
+    private static final IndexedFieldsValidator UNDERTEST = IndexedFieldsValidator.of(NamespaceIndexedFields.of(
+            List.of(DefaultNamespaceSearchIndexConfig.of(ConfigFactory.parseMap(Map.of(
+                    "namespace-pattern", "org.eclipse.telemetry",
+                    "indexed-fields", List.of("attributes/location", "features/env/properties")))))));
+
+    @Test
+    public void acceptsFilterOnIndexedFields() {
+        final Query query = query("and(eq(attributes/location,\"hall\"),exists(features/*/properties/temp)," +
+                "eq(thingId,\"org.eclipse.telemetry:sensor\"))");
+
+        assertThatCode(() -> UNDERTEST.validate(query, NAMESPACES, DittoHeaders.empty())).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void rejectsFilterOnNonIndexedField() {
+        final Query query = query("or(eq(attributes/location,\"hall\"),gt(features/env/desiredProperties/x,1))");
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> UNDERTEST.validate(query, NAMESPACES, DittoHeaders.empty()))
+                .withMessageContaining("/features/env/desiredProperties/x");
+    }
+
+    @Test
+    public void rejectsSortOnNonIndexedField() {
+        final Query query = new MongoQuery(CRITERIA_FACTORY.filterCriteria(null, DittoHeaders.empty()),
+                List.of(new SortOption(FIELD_EXPRESSION_FACTORY.sortBy("definition"), SortDirection.DESC)),
+                Integer.MAX_VALUE, 0);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> UNDERTEST.validate(query, NAMESPACES, DittoHeaders.empty()))
+                .withMessageContaining("/definition");
+    }
+
+    @Test
+    public void acceptsFilterAndSortOnModifiedInAllowListedNamespace() {
+        final Query query = new MongoQuery(
+                CRITERIA_FACTORY.filterCriteria("gt(_modified,\"2026-01-01T00:00:00Z\")", DittoHeaders.empty()),
+                List.of(new SortOption(FIELD_EXPRESSION_FACTORY.sortBy("_modified"), SortDirection.DESC)),
+                Integer.MAX_VALUE, 0);
+
+        assertThatCode(() -> UNDERTEST.validate(query, NAMESPACES, DittoHeaders.empty())).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void acceptsFilterOnFieldIndexedInOtherNamespace() {
+        final Query query = query("eq(attributes/serial,\"123\")");
+
+        assertThatCode(() -> UNDERTEST.validate(query, Set.of("org.eclipse.telemetry", "com.acme"),
+                DittoHeaders.empty())).doesNotThrowAnyException();
+    }
+
+    private static Query query(final String filter) {
+        return new MongoQuery(CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty()), List.of(),
+                Integer.MAX_VALUE, 0);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultAdaptiveIndexHintsConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link AdaptiveIndexHints}.
+ */
+public final class AdaptiveIndexHintsTest {
+
+    private static final String SHAPE = AdaptiveIndexHints.getShape(
+            BsonDocument.parse("{\"t.attributes.region\":\"EU\"}"), BsonDocument.parse("{\"_id\":1}"));
+
+    private MutableClock clock;
+    private AdaptiveIndexHints underTest;
+
+    @Before
+    public void setUp() {
+        clock = new MutableClock();
+        underTest = new AdaptiveIndexHints(DefaultAdaptiveIndexHintsConfig.of(ConfigFactory.parseMap(Map.of(
+                "adaptive-index-hints.enabled", true,
+                "adaptive-index-hints.sample-rate", 1.0,
+                "adaptive-index-hints.min-samples", 3,
+                "adaptive-index-hints.re-evaluation-interval", "1h",
+                "adaptive-index-hints.maximum-shapes", 2
+        ))), clock);
+    }
+
+    @Test
+    public void shapeIgnoresComparedValues() {
+        final String shape = AdaptiveIndexHints.getShape(
+                BsonDocument.parse("{\"$and\":[{\"t.attributes.region\":\"US\"},{\"gr\":{\"$in\":[\"a\",\"b\"]}}]}"),
+                BsonDocument.parse("{\"_id\":1}"));
+        final String shapeWithOtherValues = AdaptiveIndexHints.getShape(
+                BsonDocument.parse("{\"$and\":[{\"t.attributes.region\":\"EU\"},{\"gr\":{\"$in\":[\"c\"]}}]}"),
+                BsonDocument.parse("{\"_id\":1}"));
+        final String shapeWithOtherField = AdaptiveIndexHints.getShape(
+                BsonDocument.parse("{\"$and\":[{\"t.attributes.color\":\"EU\"},{\"gr\":{\"$in\":[\"c\"]}}]}"),
+                BsonDocument.parse("{\"_id\":1}"));
+
+        assertThat(shape).isEqualTo(shapeWithOtherValues).isNotEqualTo(shapeWithOtherField);
+    }
+
+    @Test
+    public void pinsIndexWithLowestMeanExecutionTimeAfterMinSamples() {
+        assertThat(underTest.isSampled(SHAPE)).isTrue();
+        underTest.record(SHAPE, new QueryExplainer.Explanation("v_wildcard", 2000L, 50000L, 10L));
+        underTest.record(SHAPE, new QueryExplainer.Explanation("region_id", 20L, 10L, 10L));
+        assertThat(underTest.getPinnedIndex(SHAPE)).isEmpty();
+
+        underTest.record(SHAPE, new QueryExplainer.Explanation("v_wildcard", 10L, 50L, 10L));
+
+        assertThat(underTest.getPinnedIndex(SHAPE)).contains("region_id");
+        assertThat(underTest.isSampled(SHAPE)).isFalse();
+    }
+
+    @Test
+    public void doesNotPinIfCollectionScanIsFastest() {
+        underTest.isSampled(SHAPE);
+        underTest.record(SHAPE, new QueryExplainer.Explanation(null, 1L, 0L, 10L));
+        underTest.record(SHAPE, new QueryExplainer.Explanation(null, 1L, 0L, 10L));
+        underTest.record(SHAPE, new QueryExplainer.Explanation("v_wildcard", 5L, 10L, 10L));
+
+        assertThat(underTest.getPinnedIndex(SHAPE)).isEmpty();
+        assertThat(underTest.isSampled(SHAPE)).isFalse();
+    }
+
+    @Test
+    public void reEvaluatesAfterInterval() {
+        pinRegionIndex();
+
+        clock.advance(Duration.ofMinutes(61L));
+
+        assertThat(underTest.getPinnedIndex(SHAPE)).isEmpty();
+        assertThat(underTest.isSampled(SHAPE)).isTrue();
+    }
+
+    @Test
+    public void resetUnpinsIndex() {
+        pinRegionIndex();
+
+        underTest.reset(SHAPE);
+
+        assertThat(underTest.getPinnedIndex(SHAPE)).isEmpty();
+    }
+
+    @Test
+    public void observesAtMostMaximumShapes() {
+        final BsonDocument sort = new BsonDocument();
+        assertThat(underTest.isSampled(AdaptiveIndexHints.getShape(BsonDocument.parse("{\"a\":1}"), sort))).isTrue();
+        assertThat(underTest.isSampled(AdaptiveIndexHints.getShape(BsonDocument.parse("{\"b\":1}"), sort))).isTrue();
+
+        assertThat(underTest.isSampled(AdaptiveIndexHints.getShape(BsonDocument.parse("{\"c\":1}"), sort))).isFalse();
+    }
+
+    @Test
+    public void disabledNeverPins() {
+        final AdaptiveIndexHints disabled = AdaptiveIndexHints.disabled();
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.isSampled(SHAPE)).isFalse();
+        assertThat(disabled.getPinnedIndex(SHAPE)).isEmpty();
+    }
+
+    @Test
+    public void explanationContainsIndexOfWinningPlan() {
+        final Document explain = Document.parse("{" +
+                "\"queryPlanner\":{\"winningPlan\":{\"stage\":\"FETCH\",\"inputStage\":" +
+                "{\"stage\":\"IXSCAN\",\"indexName\":\"region_id\"}}}," +
+                "\"executionStats\":{\"executionTimeMillis\":12,\"totalKeysExamined\":40,\"nReturned\":20}}");
+
+        assertThat(QueryExplainer.Explanation.of(explain))
+                .contains(new QueryExplainer.Explanation("region_id", 12L, 40L, 20L));
+    }
+
+    private void pinRegionIndex() {
+        underTest.isSampled(SHAPE);
+        for (int i = 0; i < 3; i++) {
+            underTest.record(SHAPE, new QueryExplainer.Explanation("region_id", 20L, 10L, 10L));
+        }
+        assertThat(underTest.getPinnedIndex(SHAPE)).contains("region_id");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.DefaultIndexKey;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexDirection;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SortIndexHints}.
+ */
+public final class SortIndexHintsTest {
+
+    private static final Index REGION_ID = IndexFactory.newInstanceWithCustomKeys("region_id", List.of(
+            DefaultIndexKey.of("t.attributes.region", IndexDirection.ASCENDING),
+            DefaultIndexKey.of("_id", IndexDirection.ASCENDING)), false);
+
+    private static final Index REGION_TIMESTAMP_ID = IndexFactory.newInstanceWithCustomKeys("region_timestamp_id",
+            List.of(DefaultIndexKey.of("t.attributes.region", IndexDirection.ASCENDING),
+                    DefaultIndexKey.of("t.attributes.timestamp", IndexDirection.DESCENDING),
+                    DefaultIndexKey.of("_id", IndexDirection.ASCENDING)), false);
+
+    private static final SortIndexHints UNDERTEST = SortIndexHints.of(List.of(REGION_ID, REGION_TIMESTAMP_ID));
+
+    @Test
+    public void selectsIndexStartingWithSortKeys() {
+        assertThat(UNDERTEST.getIndex(BsonDocument.parse("{\"t.attributes.region\":1,\"_id\":1}")))
+                .contains(REGION_ID);
+        assertThat(UNDERTEST.getIndex(BsonDocument.parse("{\"t.attributes.region\":1}")))
+                .contains(REGION_ID);
+        assertThat(UNDERTEST.getIndex(
+                BsonDocument.parse("{\"t.attributes.region\":1,\"t.attributes.timestamp\":-1,\"_id\":1}")))
+                .contains(REGION_TIMESTAMP_ID);
+    }
+
+    @Test
+    public void selectsIndexWithAllDirectionsReversed() {
+        assertThat(UNDERTEST.getIndex(
+                BsonDocument.parse("{\"t.attributes.region\":-1,\"t.attributes.timestamp\":1,\"_id\":-1}")))
+                .contains(REGION_TIMESTAMP_ID);
+    }
+
+    @Test
+    public void doesNotSelectIndexWithPartlyReversedDirections() {
+        assertThat(UNDERTEST.getIndex(BsonDocument.parse("{\"t.attributes.region\":1,\"_id\":-1}"))).isEmpty();
+    }
+
+    @Test
+    public void doesNotSelectIndexWithDifferentKeyOrder() {
+        assertThat(UNDERTEST.getIndex(BsonDocument.parse("{\"_id\":1,\"t.attributes.region\":1}"))).isEmpty();
+    }
+
+    @Test
+    public void disabledHintsSelectNothing() {
+        assertThat(SortIndexHints.disabled().getIndex(BsonDocument.parse("{\"t.attributes.region\":1,\"_id\":1}")))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link SearchCountCache}.
+ */
+public final class SearchCountCacheTest {
+
+    @ClassRule
+    public static final ActorSystemResource ACTOR_SYSTEM_RESOURCE = ActorSystemResource.newInstance();
+
+    private static final Query QUERY =
+            new MongoQuery(CriteriaFactory.getInstance().any(), List.of(), Integer.MAX_VALUE, 0);
+    private static final List<String> AUTH_SUBJECTS = List.of("ditto:ditto", "ditto:other");
+    private static final Set<String> NAMESPACES = Set.of("org.eclipse.ditto");
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger counts = new AtomicInteger();
+    private SearchIndexChangeTracker changeTracker;
+    private SearchCountCache underTest;
+
+    @Before
+    public void setUp() {
+        changeTracker = new SearchIndexChangeTracker(clock::incrementAndGet);
+        underTest = SearchCountCache.of(
+                DefaultCacheConfig.of(ConfigFactory.parseString("c.expire-after-write=1h"), "c"),
+                changeTracker, Runnable::run);
+    }
+
+    @Test
+    public void secondCountIsAnsweredFromCache() {
+        assertThat(count(NAMESPACES)).isEqualTo(1L);
+        assertThat(count(NAMESPACES)).isEqualTo(1L);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    public void authorizationSubjectsArePartOfTheKey() {
+        count(NAMESPACES);
+        run(underTest.getOrCount(QUERY, List.of("ditto:other"), NAMESPACES, this::countInDatabase));
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    public void changeOfCoveredNamespaceInvalidatesCount() {
+        count(NAMESPACES);
+        changeTracker.recordLocalChange("org.eclipse.ditto");
+        assertThat(count(NAMESPACES)).isEqualTo(2L);
+        assertThat(counts).hasValue(2);
+        assertThat(changeTracker.drainUnpropagatedChanges()).containsExactly("org.eclipse.ditto");
+        assertThat(changeTracker.drainUnpropagatedChanges()).isEmpty();
+    }
+
+    @Test
+    public void changeOfOtherNamespaceKeepsCount() {
+        count(NAMESPACES);
+        changeTracker.recordRemoteChanges(Set.of("org.eclipse.other"));
+        assertThat(count(NAMESPACES)).isEqualTo(1L);
+        assertThat(changeTracker.drainUnpropagatedChanges()).isEmpty();
+    }
+
+    @Test
+    public void changeOfAnyNamespaceInvalidatesUnrestrictedCount() {
+        count(null);
+        changeTracker.recordRemoteChanges(Set.of("org.eclipse.other"));
+        assertThat(count(null)).isEqualTo(2L);
+    }
+
+    @Test
+    public void changeDuringCountInvalidatesResult() {
+        run(underTest.getOrCount(QUERY, AUTH_SUBJECTS, NAMESPACES, () -> {
+            changeTracker.recordLocalChange("org.eclipse.ditto");
+            return countInDatabase();
+        }));
+        assertThat(count(NAMESPACES)).isEqualTo(2L);
+    }
+
+    private long count(@Nullable final Set<String> namespaces) {
+        return run(underTest.getOrCount(QUERY, AUTH_SUBJECTS, namespaces, this::countInDatabase));
+    }
+
+    private Source<Long, NotUsed> countInDatabase() {
+        return Source.lazySingle(() -> (long) counts.incrementAndGet());
+    }
+
+    private static long run(final Source<Long, NotUsed> source) {
+        return source.runWith(Sink.head(), ACTOR_SYSTEM_RESOURCE.getActorSystem())
+                .toCompletableFuture()
+                .join();
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
+import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
+import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link SearchQueryCache}.
+ */
+public final class SearchQueryCacheTest {
+
+    @ClassRule
+    public static final ActorSystemResource ACTOR_SYSTEM_RESOURCE = ActorSystemResource.newInstance();
+
+    private static final Query FIRST_PAGE = new MongoQuery(CriteriaFactory.getInstance().any(), List.of(), 25, 0);
+    private static final Query SECOND_PAGE = new MongoQuery(CriteriaFactory.getInstance().any(), List.of(), 25, 25);
+    private static final List<String> AUTH_SUBJECTS = List.of("ditto:ditto", "ditto:other");
+    private static final Set<String> NAMESPACES = Set.of("org.eclipse.ditto");
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger finds = new AtomicInteger();
+    private SearchIndexChangeTracker changeTracker;
+    private SearchQueryCache underTest;
+
+    @Before
+    public void setUp() {
+        changeTracker = new SearchIndexChangeTracker(clock::incrementAndGet);
+        underTest = SearchQueryCache.of(
+                DefaultCacheConfig.of(ConfigFactory.parseString("c.expire-after-write=1h"), "c"),
+                changeTracker, Runnable::run);
+    }
+
+    @Test
+    public void secondQueryIsAnsweredFromCache() {
+        final ResultList<TimestampedThingId> firstResult = find(FIRST_PAGE, AUTH_SUBJECTS);
+        assertThat(find(FIRST_PAGE, AUTH_SUBJECTS)).isEqualTo(firstResult);
+        assertThat(finds).hasValue(1);
+    }
+
+    @Test
+    public void pagesAreCachedSeparately() {
+        find(FIRST_PAGE, AUTH_SUBJECTS);
+        find(SECOND_PAGE, AUTH_SUBJECTS);
+        assertThat(finds).hasValue(2);
+    }
+
+    @Test
+    public void authorizationSubjectsArePartOfTheKey() {
+        find(FIRST_PAGE, AUTH_SUBJECTS);
+        find(FIRST_PAGE, List.of("ditto:other"));
+        find(FIRST_PAGE, null);
+        find(FIRST_PAGE, List.of("ditto:other", "ditto:ditto"));
+        assertThat(finds).hasValue(3);
+    }
+
+    @Test
+    public void changeOfCoveredNamespaceInvalidatesPage() {
+        find(FIRST_PAGE, AUTH_SUBJECTS);
+        changeTracker.recordRemoteChanges(Set.of("org.eclipse.ditto"));
+        find(FIRST_PAGE, AUTH_SUBJECTS);
+        assertThat(finds).hasValue(2);
+    }
+
+    @Test
+    public void changeOfOtherNamespaceKeepsPage() {
+        find(FIRST_PAGE, AUTH_SUBJECTS);
+        changeTracker.recordLocalChange("org.eclipse.other");
+        find(FIRST_PAGE, AUTH_SUBJECTS);
+        assertThat(finds).hasValue(1);
+    }
+
+    private ResultList<TimestampedThingId> find(final Query query, @Nullable final List<String> authSubjects) {
+        return underTest.getOrFind(query, authSubjects, NAMESPACES, this::findInDatabase)
+                .runWith(Sink.head(), ACTOR_SYSTEM_RESOURCE.getActorSystem())
+                .toCompletableFuture()
+                .join();
+    }
+
+    private Source<ResultList<TimestampedThingId>, NotUsed> findInDatabase() {
+        return Source.lazySingle(() -> {
+            final ThingId thingId = ThingId.of("org.eclipse.ditto", "thing-" + finds.incrementAndGet());
+            return new ResultListImpl<>(List.of(new TimestampedThingId(thingId, Optional.empty())),
+                    ResultList.NO_NEXT_PAGE);
+        });
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.policies.model.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.junit.Test;
+
+/**
+ * Tests {@link IncrementalThingDocument} against the full conversion of {@link EnforcedThingMapper}.
+ */
+public final class IncrementalThingDocumentTest {
+
+    private static final ThingId THING_ID = ThingId.of("hello:world");
+
+    private static final JsonObject PREVIOUS_THING = JsonFactory.newObject("""
+            {
+              "thingId": "hello:world",
+              "policyId": "hello:world",
+              "_revision": 1,
+              "_modified": "2019-01-02T03:04:05.006Z",
+              "attributes": {
+                "manufacturer": "ACME",
+                "location": { "latitude": 44.673856, "longitude": 8.261719 },
+                "tags": [ "a", "b", "c" ]
+              },
+              "features": {
+                "accelerometer": {
+                  "definition": [ "org.eclipse.ditto:accelerometer:1.0.0" ],
+                  "properties": { "x": 3.141, "y": 2.718 }
+                },
+                "distance": {
+                  "properties": { "d": 0.5 }
+                }
+              }
+            }""");
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello:world"))
+            .forLabel("grant-root")
+            .setSubject("g:0", SubjectType.GENERATED)
+            .setGrantedPermissions(THING, "/", Permission.READ)
+            .forLabel("grant-location")
+            .setSubject("g:1", SubjectType.GENERATED)
+            .setGrantedPermissions(THING, "/attributes/location", Permission.READ)
+            .setGrantedPermissions(THING, "/features/distance", Permission.READ)
+            .setRevokedPermissions(THING, "/features/distance/properties/d", Permission.READ)
+            .build();
+
+    @Test
+    public void modifiedAttributesAndPropertiesEqualFullConversion() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 4)
+                .setValue("_modified", "2019-01-02T03:04:06.006Z")
+                .setValue(JsonPointer.of("/attributes/location/latitude"), 45.0)
+                .setValue(JsonPointer.of("/attributes/serial.number"), "1.2.3")
+                .setValue(JsonPointer.of("/features/accelerometer/properties/x"), 1.0);
+        final List<ThingEvent<?>> events = List.of(
+                AttributeModified.of(THING_ID, JsonPointer.of("location/latitude"), JsonValue.of(45.0), 2L, null,
+                        DittoHeaders.empty(), null),
+                AttributeModified.of(THING_ID, JsonPointer.of("serial.number"), JsonValue.of("1.2.3"), 3L, null,
+                        DittoHeaders.empty(), null),
+                FeaturePropertyModified.of(THING_ID, "accelerometer", JsonPointer.of("x"), JsonValue.of(1.0), 4L,
+                        null, DittoHeaders.empty(), null)
+        );
+
+        assertIncrementalEqualsFullConversion(thing, events, -1);
+    }
+
+    @Test
+    public void deletedAttributesAndFeaturesEqualFullConversion() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 3)
+                .remove(JsonPointer.of("/attributes/location"))
+                .remove(JsonPointer.of("/features/distance"));
+        final List<ThingEvent<?>> events = List.of(
+                AttributeDeleted.of(THING_ID, JsonPointer.of("location"), 2L, null, DittoHeaders.empty(), null),
+                FeatureDeleted.of(THING_ID, "distance", 3L, null, DittoHeaders.empty(), null)
+        );
+
+        assertIncrementalEqualsFullConversion(thing, events, -1);
+    }
+
+    @Test
+    public void restrictedArraysEqualFullConversion() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 2)
+                .setValue(JsonPointer.of("/attributes/tags"), JsonFactory.newArrayBuilder().add("x", "y").build());
+        final List<ThingEvent<?>> events = List.of(
+                AttributeModified.of(THING_ID, JsonPointer.of("tags"), thing.getValue("attributes/tags").orElseThrow(),
+                        2L, null, DittoHeaders.empty(), null)
+        );
+
+        assertIncrementalEqualsFullConversion(thing, events, 1);
+    }
+
+    @Test
+    public void changedPathsContainOnlyOutermostPaths() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 3);
+        final List<ThingEvent<?>> events = List.of(
+                AttributeModified.of(THING_ID, JsonPointer.of("location/latitude"), JsonValue.of(45.0), 2L, null,
+                        DittoHeaders.empty(), null),
+                AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonObject.empty(), 3L, null,
+                        DittoHeaders.empty(), null)
+        );
+
+        assertThat(IncrementalThingDocument.of(thing, metadata(3L, events), fullWriteModel(-1), 1))
+                .map(IncrementalThingDocument::getChangedPaths)
+                .contains(Set.of(JsonPointer.of("/attributes/location")));
+    }
+
+    @Test
+    public void fallsBackIfEventsAreMissing() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 3);
+        final List<ThingEvent<?>> events = List.of(
+                AttributeModified.of(THING_ID, JsonPointer.of("manufacturer"), JsonValue.of("ACME"), 3L, null,
+                        DittoHeaders.empty(), null)
+        );
+
+        assertThat(IncrementalThingDocument.of(thing, metadata(3L, events), fullWriteModel(-1), 16)).isEmpty();
+    }
+
+    @Test
+    public void fallsBackIfWholeThingChanged() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 2);
+        final List<ThingEvent<?>> events = List.of(
+                ThingModified.of(ThingsModelFactory.newThing(thing), 2L, null, DittoHeaders.empty(), null)
+        );
+
+        assertThat(IncrementalThingDocument.of(thing, metadata(2L, events), fullWriteModel(-1), 16)).isEmpty();
+    }
+
+    @Test
+    public void fallsBackIfTooManyPathsChanged() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 3);
+        final List<ThingEvent<?>> events = List.of(
+                AttributeModified.of(THING_ID, JsonPointer.of("manufacturer"), JsonValue.of("ACME"), 2L, null,
+                        DittoHeaders.empty(), null),
+                FeaturePropertyModified.of(THING_ID, "accelerometer", JsonPointer.of("x"), JsonValue.of(1.0), 3L,
+                        null, DittoHeaders.empty(), null)
+        );
+
+        assertThat(IncrementalThingDocument.of(thing, metadata(3L, events), fullWriteModel(-1), 1)).isEmpty();
+    }
+
+    @Test
+    public void fallsBackWithoutPreviousSearchDocument() {
+        final JsonObject thing = PREVIOUS_THING.setValue("_revision", 2);
+        final Metadata metadata = metadata(2L, List.of(
+                AttributeModified.of(THING_ID, JsonPointer.of("manufacturer"), JsonValue.of("ACME"), 2L, null,
+                        DittoHeaders.empty(), null)
+        ));
+
+        assertThat(IncrementalThingDocument.of(thing, metadata, null, 16)).isEmpty();
+        assertThat(IncrementalThingDocument.of(thing, metadata, ThingDeleteModel.of(metadata(1L, List.of())), 16))
+                .isEmpty();
+        assertThat(IncrementalThingDocument.of(thing, metadata, ThingWriteModel.ofEmptiedOut(metadata(1L, List.of())),
+                16)).isEmpty();
+    }
+
+    private static void assertIncrementalEqualsFullConversion(final JsonObject thing,
+            final List<ThingEvent<?>> events, final int maxArraySize) {
+
+        final long revision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
+        final Metadata metadata = metadata(revision, events);
+        final ThingWriteModel lastWriteModel = fullWriteModel(maxArraySize);
+
+        assertThat(IncrementalThingDocument.of(thing, metadata, lastWriteModel, 16)).isPresent();
+
+        final BsonDocument incremental = EnforcedThingMapper.toWriteModel(thing, POLICY, Set.of(), 1L, metadata,
+                maxArraySize, lastWriteModel, 16).getThingDocument();
+        final BsonDocument full =
+                EnforcedThingMapper.toWriteModel(thing, POLICY, Set.of(), 1L, metadata, maxArraySize)
+                        .getThingDocument();
+
+        assertThat(incremental).isEqualTo(full);
+        assertThat(lastWriteModel).isEqualTo(fullWriteModel(maxArraySize));
+    }
+
+    private static ThingWriteModel fullWriteModel(final int maxArraySize) {
+        return EnforcedThingMapper.toWriteModel(PREVIOUS_THING, POLICY, Set.of(), 1L, metadata(1L, List.of()),
+                maxArraySize);
+    }
+
+    private static Metadata metadata(final long revision, final List<ThingEvent<?>> events) {
+        return Metadata.of(THING_ID, revision, null, null, Set.of(), events, null, null);
+    }
+
+}
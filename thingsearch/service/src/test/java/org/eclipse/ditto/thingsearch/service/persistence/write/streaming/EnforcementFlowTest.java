@@ -33,6 +33,7 @@ import org.apache.pekko.stream.testkit.javadsl.TestSource;
 import org.apache.pekko.testkit.TestActor;
 import org.apache.pekko.testkit.TestProbe;
 import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
@@ -877,6 +878,37 @@ public final class EnforcementFlowTest {
     }
 
 
+    @Test
+    public void incrementalBaseIsLastWriteModelWithSamePolicyRevisions() {
+        final PolicyId policyId = PolicyId.of("policy:id");
+        final Set<PolicyTag> referencedPolicies = Set.of(PolicyTag.of(PolicyId.of("policy:imported"), 3L));
+        final ThingWriteModel lastWriteModel = ThingWriteModel.of(
+                Metadata.of(ThingId.of("thing:id"), 1L, PolicyTag.of(policyId, 2L), null, referencedPolicies, null),
+                new BsonDocument());
+        final Policy policy = Policy.newBuilder(policyId).setRevision(2L).build();
+
+        assertThat(EnforcementFlow.getIncrementalBase(lastWriteModel, policy, referencedPolicies, 2L))
+                .isEqualTo(lastWriteModel);
+        assertThat(EnforcementFlow.getIncrementalBase(lastWriteModel, policy, referencedPolicies, 5L)).isNull();
+        assertThat(EnforcementFlow.getIncrementalBase(lastWriteModel, policy,
+                Set.of(PolicyTag.of(PolicyId.of("policy:imported"), 4L)), 2L)).isNull();
+        assertThat(EnforcementFlow.getIncrementalBase(lastWriteModel,
+                Policy.newBuilder(PolicyId.of("policy:other")).setRevision(2L).build(), referencedPolicies, 2L))
+                .isNull();
+    }
+
+    @Test
+    public void recoveredWriteModelIsNoIncrementalBase() {
+        final PolicyId policyId = PolicyId.of("policy:id");
+        final ThingWriteModel recoveredWriteModel = ThingWriteModel.ofRecovered(
+                Metadata.of(ThingId.of("thing:id"), 1L, PolicyTag.of(policyId, 2L), null, Set.of(), null),
+                new BsonDocument());
+        final Policy policy = Policy.newBuilder(policyId).setRevision(2L).build();
+
+        assertThat(EnforcementFlow.getIncrementalBase(recoveredWriteModel, policy, Set.of(), 2L)).isNull();
+        assertThat(EnforcementFlow.getIncrementalBase(null, policy, Set.of(), 2L)).isNull();
+    }
+
     private void materializeTestProbes(final EnforcementFlow enforcementFlow, final int parallelism,
             final int bulkSize) {
         final var source = TestSource.<Collection<Metadata>>probe(system);
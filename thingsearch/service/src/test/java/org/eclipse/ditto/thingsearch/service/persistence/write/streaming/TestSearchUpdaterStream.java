@@ -26,6 +26,7 @@ import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultPersistenceStreamConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
@@ -51,13 +52,16 @@ public final class TestSearchUpdaterStream {
      * Create a test stream.
      *
      * @param database the MongoDB database.
+     * @param changeTracker the tracker of search index changes.
      * @return the test stream.
      */
     public static TestSearchUpdaterStream of(final MongoDatabase database,
-            final SearchUpdateMapper searchUpdateMapper) {
+            final SearchUpdateMapper searchUpdateMapper,
+            final SearchIndexChangeTracker changeTracker) {
 
         final var mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
-                DefaultPersistenceStreamConfig.of(ConfigFactory.empty())
+                DefaultPersistenceStreamConfig.of(ConfigFactory.empty()),
+                changeTracker
         );
         return new TestSearchUpdaterStream(mongoSearchUpdaterFlow);
     }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultUpdateLanesConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.UpdateLanesConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+import org.junit.Test;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link UpdateLaneBuffer}.
+ */
+public final class UpdateLaneBufferTest {
+
+    private final List<List<MongoWriteModel>> bulks = new ArrayList<>();
+    private final List<CompletableFuture<WriteResultAndErrors>> bulkResults = new ArrayList<>();
+
+    @Test
+    public void priorityUpdatesAreWrittenBeforeTelemetryUpdates() {
+        final UpdateLaneBuffer underTest = UpdateLaneBuffer.of(lanesConfig(10, 4), 1, this::write);
+        final MongoWriteModel telemetry1 = telemetryUpdate("thing:1");
+        final MongoWriteModel telemetry2 = telemetryUpdate("thing:2");
+        final MongoWriteModel deletion = deletion("thing:3");
+
+        underTest.submit(telemetry1);
+        underTest.submit(telemetry2);
+        underTest.submit(deletion);
+        completeBulk(0);
+        completeBulk(1);
+
+        assertThat(bulks).containsExactly(List.of(telemetry1), List.of(deletion), List.of(telemetry2));
+    }
+
+    @Test
+    public void telemetryUpdatesAreNotStarved() {
+        final UpdateLaneBuffer underTest = UpdateLaneBuffer.of(lanesConfig(10, 1), 1, this::write);
+        final MongoWriteModel deletion1 = deletion("thing:1");
+        final MongoWriteModel telemetry = telemetryUpdate("thing:2");
+        final MongoWriteModel deletion3 = deletion("thing:3");
+
+        underTest.submit(deletion1);
+        underTest.submit(telemetry);
+        underTest.submit(deletion3);
+        completeBulk(0);
+        completeBulk(1);
+
+        assertThat(bulks).containsExactly(List.of(deletion1), List.of(telemetry), List.of(deletion3));
+    }
+
+    @Test
+    public void pendingUpdatesOfTheSameThingAreCoalesced() {
+        final UpdateLaneBuffer underTest = UpdateLaneBuffer.of(lanesConfig(10, 4), 1, this::write);
+        final MongoWriteModel blocker = telemetryUpdate("thing:0");
+        final MongoWriteModel older = telemetryUpdate("thing:1");
+        final MongoWriteModel newer = telemetryUpdate("thing:1");
+        final MongoWriteModel other = telemetryUpdate("thing:2");
+
+        underTest.submit(blocker);
+        final CompletionStage<WriteResultAndErrors> olderResult = underTest.submit(older);
+        underTest.submit(other);
+        final CompletionStage<WriteResultAndErrors> newerResult = underTest.submit(newer);
+        completeBulk(0);
+        completeBulk(1);
+
+        assertThat(bulks).containsExactly(List.of(blocker), List.of(newer, other));
+        assertThat(olderResult.toCompletableFuture().join().getWriteModels()).containsExactly(older);
+        assertThat(newerResult.toCompletableFuture().join().getWriteModels()).containsExactly(newer);
+    }
+
+    @Test
+    public void supersededUpdatesCompleteAsSuperseded() {
+        final UpdateLaneBuffer underTest = UpdateLaneBuffer.of(lanesConfig(10, 4), 1, this::write);
+        final MongoWriteModel blocker = telemetryUpdate("thing:0");
+        final MongoWriteModel oldest = telemetryUpdate("thing:1");
+        final MongoWriteModel older = telemetryUpdate("thing:1");
+        final MongoWriteModel newest = telemetryUpdate("thing:1");
+
+        underTest.submit(blocker);
+        final CompletionStage<WriteResultAndErrors> oldestResult = underTest.submit(oldest);
+        final CompletionStage<WriteResultAndErrors> olderResult = underTest.submit(older);
+        final CompletionStage<WriteResultAndErrors> newestResult = underTest.submit(newest);
+        completeBulk(0);
+        completeBulk(1);
+
+        assertThat(bulks).containsExactly(List.of(blocker), List.of(newest));
+        assertThat(oldestResult.toCompletableFuture().join().isSuperseded()).isTrue();
+        assertThat(olderResult.toCompletableFuture().join().isSuperseded()).isTrue();
+        assertThat(newestResult.toCompletableFuture().join().isSuperseded()).isFalse();
+    }
+
+    @Test
+    public void updatesOfAThingInFlightWaitForItsCompletion() {
+        final UpdateLaneBuffer underTest = UpdateLaneBuffer.of(lanesConfig(10, 4), 2, this::write);
+        final MongoWriteModel first = telemetryUpdate("thing:1");
+        final MongoWriteModel second = telemetryUpdate("thing:1");
+
+        underTest.submit(first);
+        underTest.submit(second);
+        assertThat(bulks).containsExactly(List.of(first));
+
+        completeBulk(0);
+        assertThat(bulks).containsExactly(List.of(first), List.of(second));
+    }
+
+    @Test
+    public void updatesExceedingTheBufferAreRejected() {
+        final UpdateLaneBuffer underTest = UpdateLaneBuffer.of(lanesConfig(1, 4), 1, this::write);
+
+        underTest.submit(telemetryUpdate("thing:1"));
+        underTest.submit(telemetryUpdate("thing:2"));
+        final WriteResultAndErrors rejected = underTest.submit(telemetryUpdate("thing:3"))
+                .toCompletableFuture()
+                .join();
+
+        assertThat(rejected.getUnexpectedError()).isPresent();
+        assertThat(bulks).hasSize(1);
+    }
+
+    @Test
+    public void laneOfWriteModels() {
+        assertThat(UpdateLane.of(telemetryUpdate("thing:1").getDitto())).isEqualTo(UpdateLane.TELEMETRY);
+        assertThat(UpdateLane.of(deletion("thing:1").getDitto())).isEqualTo(UpdateLane.PRIORITY);
+    }
+
+    private CompletionStage<WriteResultAndErrors> write(final List<MongoWriteModel> writeModels) {
+        final CompletableFuture<WriteResultAndErrors> result = new CompletableFuture<>();
+        bulks.add(writeModels);
+        bulkResults.add(result);
+        return result;
+    }
+
+    private void completeBulk(final int index) {
+        final List<MongoWriteModel> writeModels = bulks.get(index);
+        final int matched = (int) writeModels.stream()
+                .filter(writeModel -> !(writeModel.getDitto() instanceof ThingDeleteModel))
+                .count();
+        bulkResults.get(index).complete(WriteResultAndErrors.success(writeModels,
+                BulkWriteResult.acknowledged(0, matched, writeModels.size() - matched, matched, List.of(), List.of()),
+                "correlation-" + index));
+    }
+
+    private static UpdateLanesConfig lanesConfig(final int maxBufferedUpdates,
+            final int maxConsecutivePriorityBulks) {
+
+        return DefaultUpdateLanesConfig.of(ConfigFactory.parseMap(Map.of(
+                "lanes.enabled", true,
+                "lanes.max-buffered-updates", maxBufferedUpdates,
+                "lanes.max-consecutive-priority-bulks", maxConsecutivePriorityBulks)));
+    }
+
+    private static MongoWriteModel telemetryUpdate(final String thingId) {
+        final Metadata metadata = Metadata.of(ThingId.of(thingId), 1L, null, null, Set.of(), null);
+        return MongoWriteModel.of(ThingWriteModel.of(metadata, new BsonDocument()),
+                new ReplaceOneModel<>(new BsonDocument(), new BsonDocument()), false);
+    }
+
+    private static MongoWriteModel deletion(final String thingId) {
+        return MongoWriteModel.of(ThingDeleteModel.of(Metadata.ofDeleted(ThingId.of(thingId))),
+                new DeleteOneModel<>(new BsonDocument()), false);
+    }
+
+}
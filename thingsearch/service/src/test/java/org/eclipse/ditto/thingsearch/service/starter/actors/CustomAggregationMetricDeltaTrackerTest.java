@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultCustomAggregationMetricConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link CustomAggregationMetricDeltaTracker}.
+ */
+public final class CustomAggregationMetricDeltaTrackerTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "sensor");
+
+    private CustomAggregationMetricDeltaTracker underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new CustomAggregationMetricDeltaTracker(List.of(
+                DefaultCustomAggregationMetricConfig.of("sensors_by_location", ConfigFactory.parseString("""
+                        enabled = true
+                        namespaces = []
+                        filter = "eq(attributes/type,\\"sensor\\")"
+                        group-by { "location" = "attributes/location" }
+                        tags { "location" = "{{ group-by:location }}" }
+                        """)),
+                DefaultCustomAggregationMetricConfig.of("online_since", ConfigFactory.parseString("""
+                        enabled = true
+                        namespaces = []
+                        filter = "lt(features/ConnectionStatus/properties/status/readySince,time:now)"
+                        group-by {}
+                        tags {}
+                        """))
+        ));
+    }
+
+    @Test
+    public void creationIncrementsNewBucket() {
+        underTest.recordWrite(ThingDeleteModel.of(Metadata.ofDeleted(THING_ID)), writeModel(2L, "sensor", "kitchen"));
+
+        assertThat(underTest.drainDeltas()).containsExactly(Map.entry("sensors_by_location",
+                List.of(new CustomAggregationMetricDeltas.BucketDelta(Map.of("location", "kitchen"), 1L))));
+    }
+
+    @Test
+    public void updateMovesThingBetweenBuckets() {
+        underTest.recordWrite(writeModel(2L, "sensor", "kitchen"), writeModel(3L, "sensor", "garage"));
+
+        assertThat(underTest.drainDeltas().get("sensors_by_location")).containsExactlyInAnyOrder(
+                new CustomAggregationMetricDeltas.BucketDelta(Map.of("location", "kitchen"), -1L),
+                new CustomAggregationMetricDeltas.BucketDelta(Map.of("location", "garage"), 1L));
+    }
+
+    @Test
+    public void updateNoLongerMatchingFilterDecrementsBucket() {
+        underTest.recordWrite(writeModel(2L, "sensor", "kitchen"), writeModel(3L, "actuator", "kitchen"));
+        underTest.recordWrite(writeModel(3L, "actuator", "kitchen"), ThingDeleteModel.of(metadata(4L)));
+
+        assertThat(underTest.drainDeltas()).containsExactly(Map.entry("sensors_by_location",
+                List.of(new CustomAggregationMetricDeltas.BucketDelta(Map.of("location", "kitchen"), -1L))));
+    }
+
+    @Test
+    public void changesCancellingEachOtherOutAreNotDrained() {
+        underTest.recordWrite(writeModel(2L, "sensor", "kitchen"), writeModel(3L, "sensor", "garage"));
+        underTest.recordWrite(writeModel(3L, "sensor", "garage"), writeModel(4L, "sensor", "kitchen"));
+
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void unknownPreviousDocumentIsNotTracked() {
+        underTest.recordWrite(ThingWriteModel.noopWriteModel(metadata(2L)), writeModel(3L, "sensor", "kitchen"));
+
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void writeAfterFailedWriteOrForcedUpdateIsNotTracked() {
+        // the thing updater does not know the indexed document after a failed write or when forced to update
+        underTest.recordWrite(null, writeModel(3L, "sensor", "kitchen"));
+
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void drainingResetsDeltas() {
+        underTest.recordWrite(ThingDeleteModel.of(Metadata.ofDeleted(THING_ID)), writeModel(2L, "sensor", "kitchen"));
+        underTest.drainDeltas();
+
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    private static AbstractWriteModel writeModel(final long revision, final String type, final String location) {
+        final BsonDocument thing = new BsonDocument()
+                .append("thingId", new BsonString(THING_ID.toString()))
+                .append("attributes", new BsonDocument()
+                        .append("type", new BsonString(type))
+                        .append("location", new BsonString(location)));
+        final BsonDocument document = new BsonDocument()
+                .append(PersistenceConstants.FIELD_ID, new BsonString(THING_ID.toString()))
+                .append(PersistenceConstants.FIELD_NAMESPACE, new BsonString(THING_ID.getNamespace()))
+                .append(PersistenceConstants.FIELD_THING, thing);
+        return ThingWriteModel.of(metadata(revision), document);
+    }
+
+    private static Metadata metadata(final long revision) {
+        return Metadata.of(THING_ID, revision, null, null, Set.of(), null);
+    }
+
+}
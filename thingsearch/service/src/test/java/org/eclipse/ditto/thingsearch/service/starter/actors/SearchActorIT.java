@@ -62,12 +62,15 @@ import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SlowQueryLogConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchIndexChangeTracker;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.SearchUpdateMapper;
 import org.eclipse.ditto.thingsearch.service.persistence.write.streaming.TestSearchUpdaterStream;
 import org.junit.After;
@@ -102,6 +105,8 @@ public final class SearchActorIT {
     private static Config actorsTestConfig;
     private static QueryParser queryParser;
     private static SlowQueryLogConfig slowQueryLogConfig;
+    private static CountCacheConfig countCacheConfig;
+    private static QueryCacheConfig queryCacheConfig;
 
     private ActorSystem actorSystem;
     private MongoThingsSearchPersistence readPersistence;
@@ -115,6 +120,8 @@ public final class SearchActorIT {
         queryParser = SearchRootActor.getQueryParser(searchConfig,
                 ActorSystem.create(SearchActorIT.class.getSimpleName(), actorsTestConfig));
         slowQueryLogConfig = searchConfig.getSlowQueryLogConfig();
+        countCacheConfig = searchConfig.getCountCacheConfig();
+        queryCacheConfig = searchConfig.getQueryCacheConfig();
         mongoClient = provideClientWrapper();
         policy = createPolicy();
     }
@@ -140,7 +147,8 @@ public final class SearchActorIT {
     private static TestSearchUpdaterStream provideWritePersistence(final ActorSystem system) {
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(system.settings().config());
         return TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase(),
-                SearchUpdateMapper.get(system, dittoExtensionsConfig));
+                SearchUpdateMapper.get(system, dittoExtensionsConfig),
+                SearchIndexChangeTracker.get(system));
     }
 
     private static DittoMongoClient provideClientWrapper() {
@@ -176,7 +184,7 @@ public final class SearchActorIT {
     public void testSearch() {
         new TestKit(actorSystem) {{
             final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence,
-                    actorSystem.deadLetters(), slowQueryLogConfig));
+                    actorSystem.deadLetters(), slowQueryLogConfig, countCacheConfig, queryCacheConfig));
 
             insertTestThings();
 
@@ -192,7 +200,7 @@ public final class SearchActorIT {
     public void testStream() {
         new TestKit(actorSystem) {{
             final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence,
-                    actorSystem.deadLetters(), slowQueryLogConfig));
+                    actorSystem.deadLetters(), slowQueryLogConfig, countCacheConfig, queryCacheConfig));
 
             insertTestThings();
 
@@ -215,7 +223,7 @@ public final class SearchActorIT {
     public void testCursorSearch() {
         new TestKit(actorSystem) {{
             final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence,
-                    actorSystem.deadLetters(), slowQueryLogConfig));
+                    actorSystem.deadLetters(), slowQueryLogConfig, countCacheConfig, queryCacheConfig));
             final Supplier<AssertionError> noCursor =
                     () -> new AssertionError("No cursor where a cursor is expected");
 
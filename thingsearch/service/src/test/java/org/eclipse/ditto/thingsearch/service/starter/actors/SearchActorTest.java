@@ -42,6 +42,8 @@ import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SlowQueryLogConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
@@ -73,18 +75,23 @@ public final class SearchActorTest {
     private final ThingsSearchPersistence persistence = Mockito.mock(ThingsSearchPersistence.class);
     private QueryParser queryParser;
     private SlowQueryLogConfig slowQueryLogConfig;
+    private CountCacheConfig countCacheConfig;
+    private QueryCacheConfig queryCacheConfig;
 
     @Before
     public void init() {
         final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(CONFIG));
         queryParser = SearchRootActor.getQueryParser(searchConfig, actorSystemResource.getActorSystem());
         slowQueryLogConfig = searchConfig.getSlowQueryLogConfig();
+        countCacheConfig = searchConfig.getCountCacheConfig();
+        queryCacheConfig = searchConfig.getQueryCacheConfig();
     }
 
     @Test
     public void unbindAndStopWithoutQuery() {
         new TestKit(actorSystemResource.getActorSystem()) {{
-            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig);
+            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig,
+                    countCacheConfig, queryCacheConfig);
             final var underTest = childActorOf(props, SearchActor.ACTOR_NAME);
 
             final var expectedSubscribe =
@@ -111,7 +118,8 @@ public final class SearchActorTest {
     @Test
     public void waitForQueries() {
         new TestKit(actorSystemResource.getActorSystem()) {{
-            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig);
+            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig,
+                    countCacheConfig, queryCacheConfig);
             final var underTest = childActorOf(props, SearchActor.ACTOR_NAME);
 
             final var expectedSubscribe =
@@ -40,6 +40,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mongodb.scala.MongoClient;
 
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import org.apache.pekko.actor.ActorSystem;
@@ -146,6 +147,40 @@ public final class ThingsSearchCursorTest {
         }
     }
 
+    @Test
+    public void nextPageFilterBoundsLeadingSortKeyBySingleRange() {
+        final var config = ConfigFactory.load("actors-test");
+        final ActorSystem actorSystem = ActorSystem.create("nextPageFilterBoundsLeadingSortKey", config);
+        try {
+            final var ascending =
+                    JsonObject.of("{\"S\": \"sort(+attributes/sortKey,+thingId)\", \"V\": [5,\"x:1\"]}");
+            final var descending =
+                    JsonObject.of("{\"S\": \"sort(-attributes/sortKey,+thingId)\", \"V\": [5,\"x:1\"]}");
+
+            assertThat(nextPageFilterJson(ascending, config, actorSystem))
+                    .contains("{\"t.attributes.sortKey\":{\"$gte\":5}}");
+            assertThat(nextPageFilterJson(descending, config, actorSystem))
+                    .contains("{\"$nor\":[{\"t.attributes.sortKey\":{\"$gt\":5}}]}");
+        } finally {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    private static String nextPageFilterJson(final JsonObject cursorJson, final Config config,
+            final ActorSystem actorSystem) {
+
+        final var underTest = ThingsSearchCursor.fromJson(cursorJson);
+        final var command = ThingsSearchCursor.adjust(Optional.of(underTest), QueryThings.of(DittoHeaders.empty()));
+        final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config));
+        final var parser = SearchRootActor.getQueryParser(searchConfig, actorSystem);
+        final Query query = parser.parse(command).toCompletableFuture().join();
+        final Query result = ThingsSearchCursor.adjust(Optional.of(underTest), query, parser.getCriteriaFactory());
+        return CreateBsonVisitor.sudoApply(result.getCriteria())
+                .toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY())
+                .toJson()
+                .replaceAll("\\s", "");
+    }
+
     private static ThingsSearchCursor randomCursor() {
         return new ThingsSearchCursor(
                 new HashSet<>(Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link BackgroundSyncPartition}.
+ */
+public final class BackgroundSyncPartitionTest {
+
+    @Test
+    public void splitSampleIntoPartitionsOfEqualSize() {
+        final List<ThingId> sample = IntStream.range(0, 9)
+                .mapToObj(i -> ThingId.of("ns", "thing" + (8 - i)))
+                .toList();
+
+        final List<BackgroundSyncPartition> partitions = BackgroundSyncPartition.fromSample(sample, 3);
+
+        assertThat(partitions).containsExactly(
+                new BackgroundSyncPartition(BackgroundSyncPartition.EMPTY_THING_ID, ThingId.of("ns:thing3")),
+                new BackgroundSyncPartition(ThingId.of("ns:thing3"), ThingId.of("ns:thing6")),
+                new BackgroundSyncPartition(ThingId.of("ns:thing6"), null)
+        );
+    }
+
+    @Test
+    public void emptySampleResultsInSinglePartition() {
+        assertThat(BackgroundSyncPartition.fromSample(List.of(), 4))
+                .containsExactly(new BackgroundSyncPartition(BackgroundSyncPartition.EMPTY_THING_ID, null));
+    }
+
+    @Test
+    public void partitionContainsThingIdsAfterLowerBoundUpToUpperBound() {
+        final BackgroundSyncPartition underTest =
+                new BackgroundSyncPartition(ThingId.of("ns:b"), ThingId.of("ns:d"));
+
+        assertThat(underTest.contains(ThingId.of("ns:b"))).isFalse();
+        assertThat(underTest.contains(ThingId.of("ns:c"))).isTrue();
+        assertThat(underTest.contains(ThingId.of("ns:d"))).isTrue();
+        assertThat(underTest.contains(ThingId.of("ns:e"))).isFalse();
+    }
+
+    @Test
+    public void resumeFromBookmarkOfUnpartitionedSync() {
+        final List<BackgroundSyncPartition> partitions = List.of(
+                new BackgroundSyncPartition(BackgroundSyncPartition.EMPTY_THING_ID, ThingId.of("ns:c")),
+                new BackgroundSyncPartition(ThingId.of("ns:c"), ThingId.of("ns:f")),
+                new BackgroundSyncPartition(ThingId.of("ns:f"), null)
+        );
+
+        assertThat(BackgroundSyncPartition.resumeFrom(partitions, ThingId.of("ns:d"))).containsExactly(
+                new BackgroundSyncPartition(ThingId.of("ns:d"), ThingId.of("ns:f")),
+                new BackgroundSyncPartition(ThingId.of("ns:f"), null)
+        );
+    }
+
+    @Test
+    public void bookmarkRoundTrip() {
+        final List<BackgroundSyncPartition> partitions = List.of(
+                new BackgroundSyncPartition(BackgroundSyncPartition.EMPTY_THING_ID, ThingId.of("ns:c")),
+                new BackgroundSyncPartition(ThingId.of("ns:e"), null)
+        );
+
+        final String bookmark = BackgroundSyncPartition.toBookmark(partitions);
+
+        assertThat(BackgroundSyncPartition.fromBookmark(bookmark)).contains(partitions);
+    }
+
+    @Test
+    public void thingIdBookmarkIsNoPartitionBookmark() {
+        assertThat(BackgroundSyncPartition.fromBookmark("ns:thing")).isEmpty();
+    }
+
+}
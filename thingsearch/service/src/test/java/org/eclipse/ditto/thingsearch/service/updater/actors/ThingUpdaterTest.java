@@ -505,6 +505,64 @@ public final class ThingUpdaterTest {
             assertThat(data.metadata().export()).isEqualTo(expectedMetadata);
             assertThat(data.metadata().getTimers()).isEmpty();
             assertThat(data.lastWriteModel()).isEqualTo(ThingDeleteModel.of(expectedMetadata));
+            assertThat(data.lastWriteModelUnknown()).isTrue();
+        }};
+    }
+
+    @Test
+    public void lastWriteModelIsUnknownAfterFailedWrite() {
+        new TestKit(system) {{
+            // GIVEN: ThingUpdater recovers with a write model of revision 1234
+            final Props props =
+                    ThingUpdater.props(flow, id -> Source.single(getThingWriteModel()), SEARCH_CONFIG, getTestActor());
+            final ActorRef underTest = watch(childActorOf(props, ACTOR_NAME));
+
+            // WHEN: writing the update triggered by an event fails
+            underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(6), REVISION + 1, null,
+                    DittoHeaders.empty(), null), ActorRef.noSender());
+            inletProbe.ensureSubscription();
+            inletProbe.request(16);
+            final var data = inletProbe.expectNext();
+            assertThat(data.lastWriteModelUnknown()).isFalse();
+            outletProbe.ensureSubscription();
+            outletProbe.expectRequest();
+            outletProbe.sendNext(ThingUpdater.Result.fromError(data.metadata(), new IllegalStateException("failed")));
+
+            // THEN: the retry does not know the indexed document
+            final var retryData = inletProbe.expectNext(TEN_SECONDS);
+            assertThat(retryData.metadata().export())
+                    .isEqualTo(Metadata.of(THING_ID, REVISION + 1, null, null, Set.of(), null));
+            assertThat(retryData.lastWriteModel()).isInstanceOf(ThingDeleteModel.class);
+            assertThat(retryData.lastWriteModelUnknown()).isTrue();
+        }};
+    }
+
+    @Test
+    public void supersededWriteModelIsNotConsideredWritten() {
+        new TestKit(system) {{
+            // GIVEN: ThingUpdater recovers with a write model of revision 1234
+            final Props props =
+                    ThingUpdater.props(flow, id -> Source.single(getThingWriteModel()), SEARCH_CONFIG, getTestActor());
+            final ActorRef underTest = watch(childActorOf(props, ACTOR_NAME));
+
+            // WHEN: the update triggered by an event is superseded by a newer update of the same thing
+            underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(6), REVISION + 1, null,
+                    DittoHeaders.empty(), null), ActorRef.noSender());
+            inletProbe.ensureSubscription();
+            inletProbe.request(16);
+            inletProbe.expectNext();
+            outletProbe.ensureSubscription();
+            outletProbe.expectRequest();
+            final var okResult = getOKResult(REVISION + 1);
+            outletProbe.sendNext(new ThingUpdater.Result(okResult.mongoWriteModel(),
+                    okResult.resultAndErrors().asSuperseded()));
+
+            // THEN: the superseded write model does not become the last write model
+            final var nextData = inletProbe.expectNext(TEN_SECONDS);
+            assertThat(nextData.metadata().export())
+                    .isEqualTo(Metadata.of(THING_ID, REVISION + 1, null, null, Set.of(), null));
+            assertThat(nextData.lastWriteModel()).isEqualTo(getThingWriteModel());
+            assertThat(nextData.lastWriteModelUnknown()).isTrue();
         }};
     }
 